@@ -0,0 +1,51 @@
+package com.rsupport.board.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 만료 전에 미리 다시 읽어올 수 있도록 캐시 값과 함께 저장하는 정보
+ *
+ * - loadMillis: 값을 만드는 데 걸린 시간 (오래 걸리는 값일수록 일찍 갱신)
+ * - expiresAt: 만료 시각 (epoch millis), redis TTL 도 이 값 기준 (JitteredTtlFunction)
+ * - loadedAt: 값을 읽기 시작한 시각 (epoch millis, 모르면 0) -> 이 시각 이후에 커밋된 변경은 값에 들어있을 수 있음
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedValue<T> {
+    private T value;
+    private long loadMillis;
+    private long expiresAt;
+    private long loadedAt;
+
+    /**
+     * occurredAt(변경이 일어난 시각) 보다 확실히 먼저 읽은 값인지 (노드간 시각 차이 skewMillis 만큼 여유)
+     * - 읽은 시각을 모르면 false
+     */
+    public boolean loadedBefore(long occurredAt, long skewMillis) {
+        return loadedAt > 0 && loadedAt < occurredAt - skewMillis;
+    }
+
+    /**
+     * occurredAt 보다 확실히 나중에 읽은 값인지 (노드간 시각 차이 skewMillis 만큼 여유)
+     * - 읽은 시각을 모르면 false
+     */
+    public boolean loadedAfter(long occurredAt, long skewMillis) {
+        return loadedAt > 0 && loadedAt > occurredAt + skewMillis;
+    }
+
+    /**
+     * 확률적 조기 갱신 (XFetch) 여부
+     * now - loadMillis * beta * ln(rand) >= expiresAt 이면 갱신
+     * -> 만료가 가까울수록, 값을 만드는 데 오래 걸릴수록 갱신 확률이 올라가서
+     *    요청이 많은 키는 만료 전에 한 요청만 미리 갱신하고, 만료 순간에 몰리지 않음
+     */
+    public boolean shouldRefreshEarly(long now, double beta) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        return now - loadMillis * beta * Math.log(random) >= expiresAt;
+    }
+}
@@ -0,0 +1,33 @@
+package com.rsupport.board.common.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * redis 캐시 TTL
+ *
+ * - 같은 시각에 저장된 키들이 한꺼번에 만료되지 않도록 기본 TTL 에 0 ~ jitter 만큼 랜덤하게 더함
+ * - 값이 CachedValue 면 값에 들어있는 만료 시각을 그대로 사용 (조기 갱신 판단과 실제 만료를 맞추기 위해)
+ */
+public class JitteredTtlFunction implements RedisCacheWriter.TtlFunction {
+    private static final long MIN_TTL_MILLIS = 1_000L;
+
+    private final long ttlMillis;
+    private final long jitterMillis;
+
+    public JitteredTtlFunction(Duration ttl, Duration jitter) {
+        this.ttlMillis = ttl.toMillis();
+        this.jitterMillis = jitter.toMillis();
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, @Nullable Object value) {
+        if (value instanceof CachedValue<?> cached) {
+            return Duration.ofMillis(Math.max(cached.getExpiresAt() - System.currentTimeMillis(), MIN_TTL_MILLIS));
+        }
+        return Duration.ofMillis(ttlMillis + ThreadLocalRandom.current().nextLong(jitterMillis + 1));
+    }
+}
@@ -0,0 +1,101 @@
+package com.rsupport.board.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * redis 캐시 매니저 앞에 노드별 로컬 캐시(caffeine)를 붙인 캐시 매니저
+ *
+ * - 캐시마다 TwoLevelCache 로 감싸서 반환
+ * - 캐시 삭제 시 redis pub/sub 채널로 "노드id|캐시이름|키" 메세지를 보내고,
+ *   다른 노드는 메세지를 받아 자기 L1 에서만 삭제 (자기가 보낸 메세지는 무시)
+ * - pub/sub 은 유실될 수 있으므로 L1 은 짧은 TTL 로 한번 더 제한
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    private static final String DELIMITER = "|";
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, StringRedisTemplate stringRedisTemplate,
+                                long localMaxSize, Duration localTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            throw new IllegalStateException("redis 캐시를 찾을 수 없습니다: " + name);
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+        return new TwoLevelCache(name, local, remote, this);
+    }
+
+    /**
+     * 다른 노드에 L1 삭제 요청 (key 가 null 이면 캐시 전체)
+     * 전파에 실패해도 L2 는 이미 지워졌고 L1 은 TTL 로 만료되므로 로그만 남김
+     */
+    void publishEviction(String cacheName, String key) {
+        String message = nodeId + DELIMITER + cacheName + ((key != null) ? DELIMITER + key : "");
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        }
+        catch (RuntimeException e) {
+            log.warn("[TwoLevelCache] 캐시 삭제 전파 실패: cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    /**
+     * 다른 노드에서 보낸 삭제 메세지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + DELIMITER, 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal((parts.length == 3) ? parts[2] : null);
+        }
+    }
+}
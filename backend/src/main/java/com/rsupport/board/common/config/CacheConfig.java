@@ -1,29 +1,53 @@
 package com.rsupport.board.common.config;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rsupport.board.common.cache.CachedValue;
+import com.rsupport.board.common.cache.JitteredTtlFunction;
+import com.rsupport.board.common.cache.TwoLevelCacheManager;
+import com.rsupport.board.member.infra.cache.MemberLookupCache;
+import com.rsupport.board.notice.api.dto.NoticeListResDTO;
+import com.rsupport.board.notice.api.dto.NoticeResponseDTO;
+import com.rsupport.board.notice.infra.cache.NoticeDetailCache;
+import com.rsupport.board.notice.infra.cache.NoticeListCache;
+import com.rsupport.board.notice.infra.read.NoticeReadTracker;
+import com.rsupport.board.notice.infra.search.NoticeSearchIndexEventListener;
+import com.rsupport.board.notice.infra.viewcount.ViewCountFlushHistory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.time.Duration;
 
 /**
  * Redis 기반 Spring Cache 설정
  * (spring cache 가 redis 에 저장되도록 하는 역할)
+ *
+ * 실제로 사용하는 캐시 매니저는 redis 앞에 로컬 캐시(caffeine)를 붙인 2단계 캐시 매니저
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
     @Bean
-    public RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory,
+                                               @Value("${cache.remote.ttl:5m}") Duration ttl,
+                                               @Value("${cache.remote.ttl-jitter:30s}") Duration ttlJitter) {
         ObjectMapper om = new ObjectMapper().registerModule(new JavaTimeModule()) // JavaTimeModule 등록
                 .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS); // LocalDateTime 을 ISO 문자열로 직렬화하기 위해 타임스탬프 비활성화..
 
@@ -35,13 +59,78 @@ public class CacheConfig {
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 // 캐시 값 직렬화 설정: JSON
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jacksonSerializer))
-                // 캐시 기본 만료시간 설정: 5분
-                .entryTtl(Duration.ofMinutes(5))
+                // 캐시 기본 만료시간 설정: 5분 + 0~30초 랜덤 (같이 저장된 키들이 한꺼번에 만료되지 않도록)
+                .entryTtl(new JitteredTtlFunction(ttl, ttlJitter))
                 // null인 경우 캐시 x
                 .disableCachingNullValues();
 
+        // 공지 목록 캐시: 타입 정보 없이 저장된 json 이 Map 으로 읽히지 않도록 타입 고정
+        // (조기 갱신 판단용 정보와 함께 CachedValue 로 감싸서 저장)
+        JavaType noticeListType = om.getTypeFactory().constructParametricType(CachedValue.class, NoticeListResDTO.class);
+        RedisCacheConfiguration noticeListCacheConfig = defaultCacheConfig
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(om, noticeListType)));
+
+        // 공지 상세 캐시
+        RedisCacheConfiguration noticeDetailCacheConfig = defaultCacheConfig
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(om, NoticeResponseDTO.class)));
+
         return RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(defaultCacheConfig)
+                .withCacheConfiguration(NoticeListCache.CACHE_NAME, noticeListCacheConfig)
+                .withCacheConfiguration(NoticeDetailCache.CACHE_NAME, noticeDetailCacheConfig)
                 .build();
     }
+
+    /**
+     * 2단계 캐시 매니저 (L1: 노드 로컬 caffeine, L2: redis)
+     */
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             @Value("${cache.local.max-size:1000}") long localMaxSize,
+                                             @Value("${cache.local.ttl:30s}") Duration localTtl) {
+        return new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate, localMaxSize, localTtl);
+    }
+
+    /**
+     * 공지 목록 캐시 백그라운드 갱신용 스레드
+     * 갱신은 다음 요청이 해도 되므로 큐가 차면 거절 (요청 스레드에서 대신 실행하지 않음)
+     */
+    @Bean(name = NoticeListCache.REFRESH_EXECUTOR)
+    public ThreadPoolTaskExecutor noticeListRefreshExecutor(@Value("${notice.list-cache.refresh.pool-size:2}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("notice-list-refresh-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * 노드간 캐시 무효화 메세지 구독 (L1 삭제, 목록 캐시 generation 변경, 회원 변경, 읽음 기록 공지 삭제, 조회수 반영 기록, lucene 색인 변경)
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                             TwoLevelCacheManager cacheManager,
+                                                                             NoticeListCache noticeListCache,
+                                                                             MemberLookupCache memberLookupCache,
+                                                                             NoticeReadTracker noticeReadTracker,
+                                                                             ViewCountFlushHistory viewCountFlushHistory,
+                                                                             ObjectProvider<NoticeSearchIndexEventListener> noticeSearchIndexEventListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        container.addMessageListener(noticeListCache, new ChannelTopic(NoticeListCache.GENERATION_CHANNEL));
+        container.addMessageListener(memberLookupCache, new ChannelTopic(MemberLookupCache.CHANGED_CHANNEL));
+        container.addMessageListener(noticeReadTracker, new ChannelTopic(NoticeReadTracker.DELETED_CHANNEL));
+        container.addMessageListener(viewCountFlushHistory, new ChannelTopic(ViewCountFlushHistory.FLUSHED_CHANNEL));
+        // lucene 검색 전략일 때만 있음
+        noticeSearchIndexEventListener.ifAvailable(listener ->
+                container.addMessageListener(listener, new ChannelTopic(NoticeSearchIndexEventListener.CHANGED_CHANNEL)));
+        return container;
+    }
 }
@@ -1,9 +1,10 @@
 package com.rsupport.board.common.config;
 
 import com.rsupport.board.common.utils.KoreanTitleUtil;
+import com.rsupport.board.notice.domain.entity.Attachment;
+import com.rsupport.board.notice.infra.FileStorageService;
 import lombok.RequiredArgsConstructor;
 import net.datafaker.Faker;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
@@ -13,14 +14,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.sql.Timestamp;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 /**
@@ -29,18 +25,16 @@ import java.util.*;
  * 더미 데이터 내용
  * - member 테이블: 100,000건
  * - notice 테이블: 500,000건
- * - notice_attachment 테이블: 공지당 0~3개 랜덤 첨부파일 (샘플 파일을 upload.path 아래로 복사..)
+ * - notice_attachment 테이블: 공지당 0~3개 랜덤 첨부파일 (샘플 파일은 저장소에 한 번씩만 저장하고 같은 url 을 참조)
  */
 @Component
 @RequiredArgsConstructor
 public class DummyDataLoader implements CommandLineRunner {
 
     private final JdbcTemplate jdbcTemplate;
+    private final FileStorageService fileStorageService;
     private final PathMatchingResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
 
-    @Value("${upload.path}") // properties 에 설정한 로컬 폴더 경로
-    private String uploadPath;
-
     @Override
     @Transactional
     public void run(String... args) throws Exception {
@@ -211,7 +205,7 @@ public class DummyDataLoader implements CommandLineRunner {
         System.out.println(">>> [DummyDataLoader] 공지 100,000건 생성 완료!");
     }
 
-    // 3) attachment 테이블에 공지당 0~3개 랜덤으로 batch insert + 실제파일복사
+    // 3) attachment 테이블에 공지당 0~3개 랜덤으로 batch insert (샘플 파일은 저장소에 한 번씩만 저장)
     private void insertDummyAttachments(List<Long> existingNoticeIds, Resource[] sampleResources) throws IOException {
         System.out.println(">>> [DummyDataLoader] 첨부파일 생성 시작 (공지당 0~3개 랜덤)...");
 
@@ -219,52 +213,38 @@ public class DummyDataLoader implements CommandLineRunner {
         List<Object[]> batchParams = new ArrayList<>(batchSize);
         Random rnd = new Random();
 
-        // 날짜별 폴더 생성용 포맷 (ex. 2025/06/02)
-        DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy/MM/dd");
-        String today = LocalDate.now().format(dtf);
-        Path baseUploadDir = Paths.get(uploadPath, today);
-        Files.createDirectories(baseUploadDir); // 디렉토리가 없으면 생성
+        // 샘플 파일은 저장소에 한 번씩만 저장하고, 첨부파일 행들은 같은 url 을 가리킴
+        // (공지마다 복사하면 같은 파일 수십만 개가 한 폴더에 쌓임)
+        Map<Resource, String[]> storedSamples = new HashMap<>();
+        for (Resource sample : sampleResources) {
+            try (InputStream is = sample.getInputStream()) {
+                Attachment stored = fileStorageService.store(sample.getFilename(), is);
+                storedSamples.put(sample, new String[]{stored.getFilename(), stored.getUrl(), stored.getStorageKey()});
+            }
+        }
 
         for (long noticeId : existingNoticeIds) {
             int attCnt = rnd.nextInt(4); // 0~3개 랜덤
             for (int k = 0; k < attCnt; k++) {
                 // sampleResources 중 랜덤으로 파일 하나 선택
-                Resource sample = sampleResources[rnd.nextInt(sampleResources.length)];
-                String originalFilename = sample.getFilename();
-
-                // 확장자만 추출
-                String ext = "";
-                if (originalFilename != null && originalFilename.contains(".")) {
-                    ext = originalFilename.substring(originalFilename.lastIndexOf("."));
-                }
-                String storedFilename = UUID.randomUUID().toString() + ext; // 실제 저장할 UUID 파일명
-                Path destFile = baseUploadDir.resolve(storedFilename); // 저장할 경로
-
-                // 실제 파일 복사(classpath:/dummy-files -> 로컬 디스크 destFile)
-                try (InputStream is = sample.getInputStream()) {
-                    Files.copy(is, destFile);
-                }
-
-                // 파일 메타정보 추출
-                long fileSize = Files.size(destFile);
-                String contentType = Files.probeContentType(destFile);  // "image/jpeg" 같은..
-                String uploadPathUrl = "/uploads/" + today + "/" + storedFilename;
+                String[] sample = storedSamples.get(sampleResources[rnd.nextInt(sampleResources.length)]);
+                String originalFilename = sample[0];
+                String uploadPathUrl = sample[1];
+                String storageKey = sample[2];
 
                 Timestamp now = Timestamp.valueOf(java.time.LocalDateTime.now());
 
                 batchParams.add(new Object[]{
                         (long) noticeId,
                         originalFilename,
-//                        storedFilename,
-//                        contentType,
-//                        fileSize,
                         uploadPathUrl,
+                        storageKey,
                         now
                 });
 
                 if (batchParams.size() >= batchSize) {
                     jdbcTemplate.batchUpdate(
-                            "INSERT INTO attachment (notice_id, filename, url, uploaded_at) VALUES (?, ?, ?, ?)",
+                            "INSERT INTO attachment (notice_id, filename, url, storage_key, uploaded_at) VALUES (?, ?, ?, ?, ?)",
                             batchParams
                     );
                     batchParams.clear();
@@ -276,7 +256,7 @@ public class DummyDataLoader implements CommandLineRunner {
         // 남아 있는 파라미터 처리
         if (!batchParams.isEmpty()) {
             jdbcTemplate.batchUpdate(
-                    "INSERT INTO attachment (notice_id, filename, url, uploaded_at) VALUES (?, ?, ?, ?)",
+                    "INSERT INTO attachment (notice_id, filename, url, storage_key, uploaded_at) VALUES (?, ?, ?, ?, ?)",
                     batchParams
             );
         }
@@ -0,0 +1,82 @@
+package com.rsupport.board.common.config;
+
+import com.rsupport.board.notice.infra.AttachmentUploader;
+import com.rsupport.board.notice.infra.OrphanFileCollector;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 멀티파트 업로드 설정
+ *
+ * - 컨테이너가 업로드 파일을 임시로 쓰는 폴더를 업로드 폴더 안(upload.path/.incoming)으로 지정
+ *   -> 같은 파일시스템이라 저장 시 다시 복사하지 않고 rename 한 번으로 최종 위치로 옮김 (디스크에 한 번만 씀)
+ * - 상대경로면 tomcat 임시폴더 기준이 되므로 절대경로로 바꿔서 설정
+ * - spring.servlet.multipart.location 을 직접 설정했으면 그 값을 그대로 사용
+ * - 첨부파일 여러개는 전용 스레드에서 동시에 저장 (AttachmentUploader)
+ * - 참조 없는 파일 정리도 스케줄러 스레드가 아닌 전용 스레드에서 실행 (OrphanFileCollector)
+ */
+@Configuration
+@EnableConfigurationProperties(MultipartProperties.class)
+public class MultipartConfig {
+    public static final String INCOMING_DIR = ".incoming";
+
+    @Bean
+    public MultipartConfigElement multipartConfigElement(MultipartProperties multipartProperties,
+                                                         @Value("${upload.path}") String uploadPath) throws IOException {
+        if (!StringUtils.hasText(multipartProperties.getLocation())) {
+            Path incoming = Paths.get(uploadPath, INCOMING_DIR).toAbsolutePath().normalize();
+            Files.createDirectories(incoming);
+            multipartProperties.setLocation(incoming.toString());
+        }
+        return multipartProperties.createMultipartConfig();
+    }
+
+    /**
+     * 첨부파일 동시 저장용 스레드
+     * 디스크 쓰기가 몰려도 스레드 수는 고정, 큐가 차면 요청 스레드에서 직접 저장 (느려질 뿐 실패하지 않음)
+     */
+    @Bean(name = AttachmentUploader.STORE_EXECUTOR)
+    public ThreadPoolTaskExecutor attachmentStoreExecutor(@Value("${upload.store.pool-size:4}") int poolSize,
+                                                          @Value("${upload.store.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("attachment-store-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // 종료 중에도 진행 중인 업로드 요청은 마무리 (server.shutdown=graceful)
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 참조 없는 업로드 파일 정리용 스레드 (1개)
+     * 큐 없이 바로 넘기므로 이전 실행이 진행 중이면 거절 -> 그 주기는 건너뜀
+     * 종료 시 기다리지 않음 (다음 실행에서 이어서 확인)
+     */
+    @Bean(name = OrphanFileCollector.GC_EXECUTOR)
+    public ThreadPoolTaskExecutor uploadGcExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("upload-gc-");
+        executor.setDaemon(true);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
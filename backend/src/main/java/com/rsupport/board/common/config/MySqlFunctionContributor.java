@@ -0,0 +1,22 @@
+package com.rsupport.board.common.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL/QueryDSL 에서 쓸 MySQL 전용 함수 등록
+ * (META-INF/services/org.hibernate.boot.model.FunctionContributor 로 hibernate 가 로딩)
+ *
+ * - match_against(col1, col2, keyword): MATCH(col1, col2) AGAINST(keyword IN BOOLEAN MODE), 관련도(double) 반환
+ */
+public class MySqlFunctionContributor implements FunctionContributor {
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "match_against",
+                "match(?1, ?2) against (?3 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
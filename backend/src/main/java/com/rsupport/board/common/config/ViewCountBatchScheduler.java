@@ -1,61 +1,164 @@
 package com.rsupport.board.common.config;
 
-import com.rsupport.board.notice.domain.repository.NoticeRepository;
+import com.rsupport.board.common.leader.LeaderLease;
+import com.rsupport.board.common.leader.LeaderOnly;
+import com.rsupport.board.notice.domain.event.ViewCountFlushedEvent;
+import com.rsupport.board.notice.infra.stats.NoticeViewStatRepository;
+import com.rsupport.board.notice.infra.stats.ViewStatGranularity;
+import com.rsupport.board.notice.infra.viewcount.ViewCountBatch;
+import com.rsupport.board.notice.infra.viewcount.ViewCountFlushLog;
+import com.rsupport.board.notice.infra.viewcount.ViewCountStore;
+import com.rsupport.board.notice.infra.viewcount.ViewCountWriter;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * Redis에 캐싱된 조회수 카운트를 모아서 주기적으로 DB 반영하는 스케줄러
+ * 노드가 여러개여도 리더 한 곳에서만 실행 (@LeaderOnly)
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ViewCountBatchScheduler {
+    private static final String VIEW_COUNT_FLUSH_LEASE = "view-count-flush";
 
-    private final RedisTemplate<String, Long> redisTemplate;
-    private final NoticeRepository noticeRepository;
+    private final ViewCountStore viewCountStore;
+    private final ViewCountWriter viewCountWriter;
+    private final ViewCountFlushLog viewCountFlushLog;
+    private final NoticeViewStatRepository noticeViewStatRepository;
+    private final LeaderLease leaderLease;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${notice.view-count.flush.log-retention-days:7}") // 반영 기록 보관 기간
+    private int logRetentionDays;
+
+    @Value("${notice.view-stat.retention.minute:2d}") // 통계 보관 기간 (분 버킷)
+    private Duration minuteRetention;
+
+    @Value("${notice.view-stat.retention.hour:35d}") // 통계 보관 기간 (시간 버킷)
+    private Duration hourRetention;
+
+    @Value("${notice.view-stat.retention.day:400d}") // 통계 보관 기간 (일 버킷)
+    private Duration dayRetention;
+
+    /**
+     * 기동 시 이전 실행에서 ack 되지 않고 남은 inflight 배치를 바로 반영
+     * (반영 기록으로 이미 커밋된 청크는 건너뜀)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @LeaderOnly(VIEW_COUNT_FLUSH_LEASE)
+    public void recoverOnStartup() {
+        try {
+            flushViewCountsToDB();
+        }
+        catch (Exception e) {
+            log.warn("[ViewCountBatchScheduler] 기동 시 미반영 조회수 복구 실패 -> 다음 주기에 재시도", e);
+        }
+    }
 
     /**
-     * 1분마다 실행
-     * - redis에 남아있는 모든 notice:view:{noticeId} 키 조회
-     * - 조회수의 delta값 가져오고나서
-     * - redis 키 삭제 or 초기화
-     * - DB에 배치 UPDATE로 한번에 반영
+     * 1분마다 실행 (2단계 반영)
+     * - redis 의 미반영 조회수 해시를 통째로 inflight 로 옮기고 가져옴 (KEYS 스캔 없이, 변경된 공지 수만큼만)
+     * - DB에 청크 단위 배치 UPDATE로 반영 (청크마다 반영 기록을 같은 트랜잭션에 남김)
+     * - 청크마다 시작 시점의 펜싱 토큰을 DB 에서 확인 (그 사이 lease 를 잃고 새 리더가 썼으면 중단)
+     * - 청크가 커밋된 후에 inflight 에서 해당 공지 삭제(ack)
+     * - 중간에 실패하거나 죽으면 남은 공지는 inflight 에 같은 배치 id 로 남아 다음 주기(또는 기동 시)에 다시 반영
+     * - 반영된 공지들의 상세 캐시 삭제, 반영 기록 저장 (목록 캐시는 읽은 이후의 반영분을 더해서 응답)
      */
     @Scheduled(fixedDelay = 60_000)
-    @Transactional
+    @LeaderOnly(VIEW_COUNT_FLUSH_LEASE)
     public void flushViewCountsToDB() {
-        // 1. 남아 있는 키들 전체 조회
-        Set<String> keys = redisTemplate.keys("notice:view:*");
-        if (keys == null || keys.isEmpty()) {
+        // 1. 미반영 조회수 가져오기 (pending -> inflight)
+        ViewCountBatch batch = viewCountStore.drain();
+        if (batch == null) {
             return;
         }
+        if (batch.isEmpty()) {
+            viewCountStore.ack(); // 0 이나 배치 id 만 남은 inflight 정리
+            return;
+        }
+
+        Map<Long, Long> flushed = new HashMap<>();
+        long startedAt = System.currentTimeMillis();
+        try {
+            // 2. DB에 청크 단위로 반영, 커밋된 청크는 바로 ack
+            long fencingToken = leaderLease.currentToken(VIEW_COUNT_FLUSH_LEASE);
+            viewCountWriter.write(batch, VIEW_COUNT_FLUSH_LEASE, fencingToken, chunkIds -> {
+                viewCountStore.ack(chunkIds);
+                chunkIds.forEach(id -> flushed.put(id, batch.getDeltas().get(id)));
+            });
 
-        // 2. 각 키 별로 저장된 delta 값 가져옴
-        Map<Long, Long> viewIncrementCnt = new HashMap<>();
-        for (String key : keys) {
-            Long delta = redisTemplate.opsForValue().get(key);
-            if (delta != null && delta > 0) {
-                Long noticeId = Long.parseLong(key.substring("notice:view:".length()));
-                viewIncrementCnt.put(noticeId, delta);
+            // 3. 전부 반영 완료 -> inflight 삭제
+            viewCountStore.ack();
+        }
+        finally {
+            // 4. 반영된 공지만 상세 캐시 삭제, 목록 캐시 보정용 반영 기록 저장
+            if (!flushed.isEmpty()) {
+                eventPublisher.publishEvent(new ViewCountFlushedEvent(flushed, startedAt));
             }
         }
+    }
 
-        if (viewIncrementCnt.isEmpty()) {
-            return;
+    /**
+     * 1분마다 지난 분 버킷 조회수를 통계 테이블로 옮김 (분 + 시간, 일 롤업)
+     * - 노드간 시각 차이로 늦게 들어오는 조회를 위해 직전 분은 다음 주기에 처리
+     * - 분 버킷을 세대 번호와 함께 가져가서 반영 후 redis 삭제, 중간에 죽어도 (분, 세대) 반영 표시가 있어서 다시 더해지지 않음
+     * - 그보다 더 늦게 들어온 조회는 같은 분의 다음 세대로 다음 주기에 기존 버킷에 더해짐
+     */
+    @Scheduled(fixedDelay = 60_000)
+    @LeaderOnly(VIEW_COUNT_FLUSH_LEASE)
+    public void rollupViewStats() {
+        long currentMinute = System.currentTimeMillis() / 60_000;
+        for (Long minute : viewCountStore.findMinutesBefore(currentMinute - 1)) {
+            ViewCountBatch bucket = viewCountStore.claimMinute(minute);
+            if (bucket != null && !bucket.isEmpty()) {
+                LocalDateTime bucketStart = LocalDateTime.ofInstant(Instant.ofEpochSecond(minute * 60), ZoneId.systemDefault());
+                if (!noticeViewStatRepository.applyMinute(bucketStart, bucket.getBatchId(), bucket.getDeltas())) {
+                    log.info("[ViewCountBatchScheduler] 이미 반영된 분 버킷 건너뜀: minute={}, generation={}", minute, bucket.getBatchId());
+                }
+            }
+            if (!viewCountStore.ackMinute(minute)) {
+                log.info("[ViewCountBatchScheduler] 늦게 들어온 조회 -> 다음 주기에 추가 반영: minute={}", minute);
+            }
         }
+    }
 
-        // 3. 해당 키들 삭제
-        redisTemplate.delete(keys);
+    /**
+     * 매일 새벽 4시, 보관 기간이 지난 반영 기록 삭제
+     * (inflight 는 길어야 몇 분 안에 처리되므로 오래된 배치 기록은 다시 쓰이지 않음)
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    @LeaderOnly(VIEW_COUNT_FLUSH_LEASE)
+    public void pruneFlushLog() {
+        int deleted = viewCountFlushLog.deleteOlderThan(LocalDateTime.now().minusDays(logRetentionDays));
+        log.info("[ViewCountBatchScheduler] 조회수 반영 기록 정리: {}건", deleted);
+    }
 
-        // 4. DB에 배치 UPDATE로 반영
-        noticeRepository.batchIncreaseViewCount(viewIncrementCnt);
+    /**
+     * 매일 새벽 4시 10분, 보관 기간이 지난 조회수 통계 버킷 삭제 (저장 공간 유지)
+     */
+    @Scheduled(cron = "0 10 4 * * *")
+    @LeaderOnly(VIEW_COUNT_FLUSH_LEASE)
+    public void pruneViewStats() {
+        LocalDateTime now = LocalDateTime.now();
+        int minutes = noticeViewStatRepository.deleteOlderThan(ViewStatGranularity.MINUTE, now.minus(minuteRetention));
+        int hours = noticeViewStatRepository.deleteOlderThan(ViewStatGranularity.HOUR, now.minus(hourRetention));
+        int days = noticeViewStatRepository.deleteOlderThan(ViewStatGranularity.DAY, now.minus(dayRetention));
+        int applied = noticeViewStatRepository.deleteAppliedOlderThan(now.minus(minuteRetention));
+        log.info("[ViewCountBatchScheduler] 조회수 통계 정리: minute={}, hour={}, day={}, applied={}", minutes, hours, days, applied);
     }
 }
@@ -21,6 +21,7 @@ public enum ErrorCode {
     // Notice 관련 에러
     NOTICE_NOT_FOUND(HttpStatus.NOT_FOUND, "N0001", "해당 공지를 찾을 수 없습니다."),
     INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "N0002", "시작일과 종료일이 올바르지 않습니다."), // 시작일<종료일
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "N0003", "잘못된 커서 값입니다."), // 커서 디코딩 실패, 지원하지 않는 정렬
 
     // Attachment 관련 에러
     ATTACHMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "A0001", "첨부파일을 찾을 수 없습니다."),
@@ -1,6 +1,7 @@
 package com.rsupport.board.common.exception;
 
 import com.rsupport.board.common.dto.ResponseDTO;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -66,6 +67,19 @@ public class GlobalExceptionHandler {
                 .body(body);
     }
 
+    /**
+     * @RequestParam 등 메서드 파라미터 검증 실패 시 발생하는 예외 처리 (@Min, @Max 등..)
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    protected ResponseEntity<ResponseDTO<?>> handleConstraintViolationException(ConstraintViolationException e) {
+        log.error("handleConstraintViolationException", e);
+
+        ResponseDTO<?> body = ResponseDTO.error(ErrorCode.INVALID_INPUT_VALUE.getCode(), e.getMessage());
+        return ResponseEntity
+                .status(ErrorCode.INVALID_INPUT_VALUE.getStatus())
+                .body(body);
+    }
+
     /**
      * 바인딩 실패 시 발생하는 예외 처리
      */
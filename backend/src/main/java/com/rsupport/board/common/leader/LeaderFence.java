@@ -0,0 +1,44 @@
+package com.rsupport.board.common.leader;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 펜싱 토큰 확인 (DB 쪽, LeaderLease 참고)
+ *
+ * - leader_fence(name, token): lease 별로 DB 에 쓴 적 있는 가장 큰 펜싱 토큰
+ * - 리더 작업이 DB 에 쓰는 트랜잭션 안에서 check() 호출 -> 더 큰 토큰이 이미 썼으면 예외 (트랜잭션 롤백)
+ *   GC 멈춤 등으로 lease 가 만료된 줄 모르는 예전 리더가, 새 리더가 쓴 뒤에 늦게 쓰는 것을 막음
+ * - 같은 행을 UPDATE 하므로 커밋 전까지 다른 노드의 확인은 대기 (확인과 쓰기 사이에 끼어들 수 없음)
+ * - 테이블 정의는 LeaderFenceEntry (db/schema/leader_fence.sql)
+ */
+@Component
+@RequiredArgsConstructor
+public class LeaderFence {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 토큰이 지금까지 쓴 토큰 이상이면 기록하고 통과, 아니면 예외 (트랜잭션 안에서 호출)
+     *
+     * @throws IllegalStateException lease 를 잃은 노드의 토큰 (토큰이 없거나 더 큰 토큰이 이미 씀)
+     */
+    public void check(String name, long token) {
+        if (token < 0) {
+            throw new IllegalStateException("lease 를 보유하고 있지 않습니다: " + name);
+        }
+
+        int updated = jdbcTemplate.update("UPDATE leader_fence SET token = ? WHERE name = ? AND token <= ?", token, name, token);
+        if (updated > 0) {
+            return;
+        }
+
+        try { // 처음 쓰는 lease
+            jdbcTemplate.update("INSERT INTO leader_fence (name, token) VALUES (?, ?)", name, token);
+        }
+        catch (DuplicateKeyException e) { // 행이 있는데 갱신이 안 됨 = 더 큰 토큰이 이미 씀 (또는 동시에 처음 씀)
+            throw new IllegalStateException("lease 가 다른 노드로 넘어갔습니다: name=" + name + ", token=" + token, e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.rsupport.board.common.leader;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * leader_fence 테이블 정의 (ddl-auto=validate 로 스키마 확인용, 읽기/쓰기는 LeaderFence 의 jdbc)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "leader_fence")
+public class LeaderFenceEntry {
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "token", nullable = false)
+    private Long token;
+}
@@ -0,0 +1,187 @@
+package com.rsupport.board.common.leader;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * redis 기반 리더 lease (@LeaderOnly 에서 사용)
+ *
+ * - {leader:이름} 키를 SET NX PX 로 잡은 노드가 리더, 값은 "노드id:펜싱토큰"
+ * - 펜싱 토큰은 {leader:이름}:fence 를 INCR 한 값 -> lease 를 새로 잡을 때마다 증가
+ *   갱신/반납은 값(노드id:토큰)이 같을 때만 하므로, lease 를 잃은 노드가 새 리더의 lease 를 건드리지 못함
+ *   리더 작업이 DB 에 쓸 때는 LeaderFence 로 토큰을 확인해서, lease 를 잃은 줄 모르는 노드의 늦은 쓰기를 막음
+ * - 보유 중인 lease 는 주기적으로 갱신 (ttl 30초, 10초마다), 갱신에 실패하거나 로컬 유효 시간이 지나면 잃은 것으로 처리
+ * - 메트릭
+ *   - leader.lease.acquired: lease 획득 횟수 (tag: lease)
+ *   - leader.lease.lost: 보유 중이던 lease 를 잃은 횟수 (tag: lease)
+ */
+@Slf4j
+@Component
+public class LeaderLease {
+    private static final String KEY_PREFIX = "{leader:";
+
+    // lease 가 비어 있으면 펜싱 토큰을 발급하고 획득, 아니면 -1
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return -1 end " +
+            "local token = redis.call('INCR', KEYS[2]) " +
+            "redis.call('SET', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2]) " +
+            "return token",
+            Long.class
+    );
+
+    // 내 lease 일 때만 만료 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 0",
+            Long.class
+    );
+
+    // 내 lease 일 때만 삭제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 보유 중인 lease (이름 -> 토큰, 로컬 유효 시각)
+    private final Map<String, Held> held = new ConcurrentHashMap<>();
+
+    public LeaderLease(StringRedisTemplate stringRedisTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${scheduler.leader.lease-ttl:30s}") Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 리더인지 확인, lease 가 비어 있으면 획득 시도
+     *
+     * @return 리더면 펜싱 토큰, 아니면 -1
+     */
+    public long acquire(String name) {
+        Held current = held.get(name);
+        if (current != null) {
+            if (current.isValid()) {
+                return current.token;
+            }
+            lost(name, current);
+        }
+
+        long startedAt = System.nanoTime();
+        Long token = stringRedisTemplate.execute(
+                ACQUIRE_SCRIPT, List.of(key(name), fenceKey(name)), nodeId, String.valueOf(ttl.toMillis())
+        );
+        if (token == null || token < 0) {
+            return -1L;
+        }
+
+        held.put(name, new Held(token, startedAt + ttl.toNanos()));
+        Counter.builder("leader.lease.acquired").tag("lease", name).register(meterRegistry).increment();
+        log.info("[LeaderLease] lease 획득: name={}, token={}", name, token);
+        return token;
+    }
+
+    /**
+     * 보유 중인 lease 펜싱 토큰 (없으면 -1)
+     */
+    public long currentToken(String name) {
+        Held current = held.get(name);
+        return (current != null && current.isValid()) ? current.token : -1L;
+    }
+
+    /**
+     * 보유 중인 lease 만료 연장 (ttl 보다 충분히 짧게, 기본 10초)
+     * 오래 걸리는 작업에 막히지 않도록 scheduling pool 을 2개 이상으로 둠 (spring.task.scheduling.pool.size)
+     */
+    @Scheduled(fixedDelayString = "${scheduler.leader.renew-interval-millis:10000}")
+    public void renew() {
+        held.forEach((name, current) -> {
+            long startedAt = System.nanoTime();
+            try {
+                Long renewed = stringRedisTemplate.execute(
+                        RENEW_SCRIPT, List.of(key(name)), value(current.token), String.valueOf(ttl.toMillis())
+                );
+                if (renewed != null && renewed == 1L) {
+                    current.validUntil = startedAt + ttl.toNanos();
+                    return;
+                }
+                lost(name, current);
+            }
+            catch (Exception e) { // redis 장애 -> 로컬 유효 시간이 지나면 잃은 것으로 처리
+                log.warn("[LeaderLease] lease 갱신 실패: name={}", name, e);
+                if (!current.isValid()) {
+                    lost(name, current);
+                }
+            }
+        });
+    }
+
+    /**
+     * 종료 시 보유 중인 lease 반납 (다른 노드가 ttl 을 기다리지 않고 바로 이어받도록)
+     */
+    @PreDestroy
+    public void releaseAll() {
+        held.forEach((name, current) -> {
+            try {
+                stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key(name)), value(current.token));
+            }
+            catch (Exception e) {
+                log.warn("[LeaderLease] lease 반납 실패: name={}", name, e);
+            }
+        });
+        held.clear();
+    }
+
+    private void lost(String name, Held current) {
+        if (held.remove(name, current)) {
+            Counter.builder("leader.lease.lost").tag("lease", name).register(meterRegistry).increment();
+            log.warn("[LeaderLease] lease 잃음: name={}, token={}", name, current.token);
+        }
+    }
+
+    private String key(String name) {
+        return KEY_PREFIX + name + "}";
+    }
+
+    private String fenceKey(String name) {
+        return key(name) + ":fence";
+    }
+
+    private String value(long token) {
+        return nodeId + ":" + token;
+    }
+
+    private static class Held {
+        private final long token;
+        private volatile long validUntil; // System.nanoTime 기준, 갱신 요청 전 시각으로 잡아서 redis 만료보다 먼저 끝남
+
+        private Held(long token, long validUntil) {
+            this.token = token;
+            this.validUntil = validUntil;
+        }
+
+        private boolean isValid() {
+            return System.nanoTime() - validUntil < 0;
+        }
+    }
+}
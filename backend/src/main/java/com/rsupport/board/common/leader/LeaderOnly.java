@@ -0,0 +1,21 @@
+package com.rsupport.board.common.leader;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 노드 중 리더(lease 보유 노드) 한 곳에서만 실행할 메서드에 붙임 (주로 @Scheduled)
+ *
+ * - value: lease 이름, 같은 이름을 쓰는 메서드들은 같은 리더에서만 실행됨
+ * - 리더가 아니면 메서드를 실행하지 않고 바로 반환 (반환 타입은 void 만 사용)
+ * - 노드마다 따로 돌아야 하는 작업(로컬 캐시/인덱스 갱신 등)에는 붙이지 말 것
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface LeaderOnly {
+    String value();
+}
@@ -0,0 +1,45 @@
+package com.rsupport.board.common.leader;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * @LeaderOnly 메서드는 lease 를 가진 노드에서만 실행
+ *
+ * - lease 획득에 실패하거나 redis 장애로 확인할 수 없으면 실행하지 않음 (중복 실행보다 한 주기 건너뛰는 쪽이 안전)
+ * - 건너뛴 횟수: leader.lease.skipped (tag: lease)
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class LeaderOnlyAspect {
+    private final LeaderLease leaderLease;
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(leaderOnly)")
+    public Object runIfLeader(ProceedingJoinPoint joinPoint, LeaderOnly leaderOnly) throws Throwable {
+        String name = leaderOnly.value();
+
+        long token;
+        try {
+            token = leaderLease.acquire(name);
+        }
+        catch (Exception e) {
+            log.warn("[LeaderOnly] lease 확인 실패 -> 실행 건너뜀: {}", joinPoint.getSignature().toShortString(), e);
+            token = -1L;
+        }
+
+        if (token < 0) {
+            Counter.builder("leader.lease.skipped").tag("lease", name).register(meterRegistry).increment();
+            return null;
+        }
+        return joinPoint.proceed();
+    }
+}
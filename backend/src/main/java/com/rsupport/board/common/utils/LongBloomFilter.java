@@ -0,0 +1,62 @@
+package com.rsupport.board.common.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * long 값(ex. PK) 전용 블룸 필터
+ *
+ * - mightContain 이 false 면 절대 없는 값, true 면 있을 수도 있는 값 (오탐률 fpp)
+ * - 삭제는 지원하지 않음 (삭제된 값은 오탐으로 남음)
+ * - 비트 배열은 AtomicLongArray 라서 여러 스레드에서 동시에 put/mightContain 해도 됨
+ */
+public class LongBloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int numHashFunctions;
+
+    /**
+     * @param expectedInsertions 예상 원소 개수
+     * @param fpp 허용 오탐률 (ex. 0.01)
+     */
+    public LongBloomFilter(long expectedInsertions, double fpp) {
+        long n = Math.max(1L, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1L, (m + 63) / 64);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.numHashFunctions = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    public void put(long value) {
+        long h1 = mix64(value);
+        long h2 = mix64(h1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < numHashFunctions; i++) {
+            long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            long mask = 1L << index;
+            bits.accumulateAndGet((int) (index >>> 6), mask, (current, m) -> current | m);
+        }
+    }
+
+    public boolean mightContain(long value) {
+        long h1 = mix64(value);
+        long h2 = mix64(h1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < numHashFunctions; i++) {
+            long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // murmur3 fmix64 (연속된 id 도 비트가 고르게 퍼지도록)
+    private static long mix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,6 +1,7 @@
 package com.rsupport.board.member.domain.entity;
 
 import com.rsupport.board.common.entity.BaseTimeEntity;
+import com.rsupport.board.member.infra.cache.MemberCacheEntityListener;
 
 import jakarta.persistence.*;
 import lombok.*;
@@ -11,6 +12,7 @@ import lombok.*;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@EntityListeners(MemberCacheEntityListener.class) // 회원 조회 캐시 무효화
 @Table(name = "member")
 public class Member extends BaseTimeEntity  {
     @Id
@@ -0,0 +1,32 @@
+package com.rsupport.board.member.infra.cache;
+
+import com.rsupport.board.member.domain.entity.Member;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 회원 엔티티가 저장/수정/삭제되면 회원 조회 캐시에 알림
+ *
+ * hibernate 가 스프링 빈 컨테이너로 생성하므로 생성자 주입 가능
+ * (@DataJpaTest 처럼 캐시 빈이 없는 환경에서도 뜰 수 있도록 ObjectProvider 로 주입)
+ */
+public class MemberCacheEntityListener {
+    private final ObjectProvider<MemberLookupCache> memberLookupCacheProvider;
+
+    public MemberCacheEntityListener(ObjectProvider<MemberLookupCache> memberLookupCacheProvider) {
+        this.memberLookupCacheProvider = memberLookupCacheProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onMemberChanged(Member member) {
+        MemberLookupCache memberLookupCache = memberLookupCacheProvider.getIfAvailable();
+        if (memberLookupCache != null) {
+            memberLookupCache.onMemberChanged(member.getId());
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.rsupport.board.member.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rsupport.board.common.utils.LongBloomFilter;
+import com.rsupport.board.member.domain.repository.MemberRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 조회 캐시 (공지 API 마다 하는 회원 확인용)
+ *
+ * - 블룸 필터: 없는 회원 id 는 DB 조회 없이 바로 거절 (기동 시 + 30분마다 전체 id 로 다시 생성)
+ *   생성 이후 다른 노드에서 가입한 회원은 전파 메세지를 놓치면 필터에 없으므로,
+ *   생성 시 본 가장 큰 id 보다 큰 id 는 거절하지 않고 DB 확인 (id 는 auto increment)
+ * - LRU 캐시(caffeine): id -> 이름
+ * - 회원이 저장/수정/삭제되면 (엔티티 리스너) 커밋 후 LRU 에서 삭제하고, 다른 노드에도 pub/sub 으로 전파
+ * - hit/miss/거절 횟수는 member.lookup 메트릭으로 확인 (/actuator/metrics/member.lookup)
+ */
+@Slf4j
+@Component
+public class MemberLookupCache implements MessageListener {
+    public static final String CHANGED_CHANNEL = "member:changed";
+    private static final String DELIMITER = "|";
+    private static final double BLOOM_FPP = 0.01;
+    private static final long MIN_BLOOM_INSERTIONS = 10_000L;
+    private static final int PUBLISH_CHUNK_SIZE = 1_000;
+
+    private final MemberRepository memberRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<Long, MemberSummary> members;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter rejectedCounter;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile LongBloomFilter bloomFilter; // null 이면 아직 생성 전 -> 전부 DB 확인
+    private volatile long bloomMaxId; // 필터 생성 시 본 가장 큰 회원 id, bloomFilter 교체 후에 기록
+    private volatile LongBloomFilter buildingFilter; // 재생성 중에 추가된 회원도 반영하기 위해
+
+    public MemberLookupCache(MemberRepository memberRepository,
+                             JdbcTemplate jdbcTemplate,
+                             StringRedisTemplate stringRedisTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${member.cache.max-size:100000}") long maxSize,
+                             @Value("${member.cache.ttl:10m}") Duration ttl) {
+        this.memberRepository = memberRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.members = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        this.rejectedCounter = lookupCounter(meterRegistry, "rejected");
+    }
+
+    /**
+     * 회원 조회 (없으면 empty)
+     */
+    public Optional<MemberSummary> find(Long memberId) {
+        if (memberId == null) {
+            return Optional.empty();
+        }
+
+        // 블룸 필터에 없으면 확실히 없는 회원 (생성 이후의 id 는 제외)
+        // maxId 를 먼저 읽어야 새 maxId 와 예전 필터를 같이 보는 일이 없음
+        long maxId = bloomMaxId;
+        LongBloomFilter filter = bloomFilter;
+        if (filter != null && memberId <= maxId && !filter.mightContain(memberId)) {
+            rejectedCounter.increment();
+            return Optional.empty();
+        }
+
+        MemberSummary cached = members.getIfPresent(memberId);
+        if (cached != null) {
+            hitCounter.increment();
+            return Optional.of(cached);
+        }
+
+        missCounter.increment();
+        Optional<MemberSummary> loaded = memberRepository.findById(memberId).map(MemberSummary::from);
+        loaded.ifPresent(member -> {
+            members.put(memberId, member);
+            putToBloomFilter(memberId); // 전파를 놓친 회원이면 다음부터는 필터에 있음
+        });
+        return loaded;
+    }
+
+    /**
+     * 회원 저장/수정/삭제 시 호출 (엔티티 리스너)
+     * - 블룸 필터에는 바로 추가 (롤백돼도 오탐만 하나 늘어남)
+     * - LRU 삭제 + 다른 노드 전파는 커밋 후에 트랜잭션 단위로 모아서 (회원 10만건 deleteAll 이어도 메세지는 1,000건 단위)
+     */
+    public void onMemberChanged(Long memberId) {
+        putToBloomFilter(memberId);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateAndPublish(List.of(memberId));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Long> changedIds = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, changedIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(MemberLookupCache.this);
+                    if (status == STATUS_COMMITTED) {
+                        invalidateAndPublish(changedIds);
+                    }
+                }
+            });
+            pending = changedIds;
+        }
+        pending.add(memberId);
+    }
+
+    /**
+     * 다른 노드에서 변경된 회원 id 수신 ("노드id|1,2,3")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + DELIMITER, 2);
+        if (parts.length < 2 || nodeId.equals(parts[0]) || parts[1].isEmpty()) {
+            return;
+        }
+
+        for (String id : parts[1].split(",")) {
+            try {
+                long memberId = Long.parseLong(id);
+                putToBloomFilter(memberId);
+                members.invalidate(memberId);
+            }
+            catch (NumberFormatException e) {
+                log.warn("[MemberLookupCache] 잘못된 회원 변경 메세지: {}", body);
+            }
+        }
+    }
+
+    /**
+     * 더미 데이터 적재(CommandLineRunner)까지 끝난 뒤 블룸 필터 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildBloomFilter();
+    }
+
+    /**
+     * 삭제된 회원(오탐)을 걸러내고, 놓친 전파가 있으면 맞추기 위해 주기적으로 다시 생성
+     */
+    @Scheduled(initialDelay = 30, fixedDelay = 30, timeUnit = TimeUnit.MINUTES)
+    public void rebuildBloomFilter() {
+        try {
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member", Long.class);
+            long expected = Math.max(MIN_BLOOM_INSERTIONS, (count != null ? count : 0L) * 2);
+
+            LongBloomFilter next = new LongBloomFilter(expected, BLOOM_FPP);
+            long[] maxId = {0L};
+            buildingFilter = next;
+            jdbcTemplate.query("SELECT id FROM member", (RowCallbackHandler) rs -> {
+                long id = rs.getLong(1);
+                next.put(id);
+                maxId[0] = Math.max(maxId[0], id);
+            });
+            bloomFilter = next;
+            bloomMaxId = maxId[0];
+
+            log.info("[MemberLookupCache] 블룸 필터 생성 완료: members={}, expectedInsertions={}", count, expected);
+        }
+        catch (RuntimeException e) {
+            // 실패하면 이전 필터 유지 (처음이면 필터 없이 DB 확인)
+            log.error("[MemberLookupCache] 블룸 필터 생성 실패", e);
+        }
+        finally {
+            buildingFilter = null;
+        }
+    }
+
+    // 재생성 중인 필터를 먼저 확인 (교체 직후에도 새 필터에 반드시 들어가도록)
+    private void putToBloomFilter(long memberId) {
+        LongBloomFilter building = buildingFilter;
+        if (building != null) {
+            building.put(memberId);
+        }
+        LongBloomFilter filter = bloomFilter;
+        if (filter != null) {
+            filter.put(memberId);
+        }
+    }
+
+    private void invalidateAndPublish(Collection<Long> memberIds) {
+        // 커밋 전에 시작된 재생성이 새 회원을 못 읽었을 수 있으므로 커밋 후 한번 더 추가
+        memberIds.forEach(this::putToBloomFilter);
+        members.invalidateAll(memberIds);
+
+        List<Long> ids = new ArrayList<>(memberIds);
+        try {
+            for (int from = 0; from < ids.size(); from += PUBLISH_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + PUBLISH_CHUNK_SIZE, ids.size()));
+                StringBuilder message = new StringBuilder(nodeId).append(DELIMITER);
+                for (int i = 0; i < chunk.size(); i++) {
+                    message.append(i > 0 ? "," : "").append(chunk.get(i));
+                }
+                stringRedisTemplate.convertAndSend(CHANGED_CHANNEL, message.toString());
+            }
+        }
+        catch (RuntimeException e) {
+            // 다른 노드는 TTL, 주기적 재생성으로 맞춰짐
+            log.warn("[MemberLookupCache] 회원 변경 전파 실패: count={}", ids.size(), e);
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("member.lookup")
+                .description("공지 API 회원 확인 캐시 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
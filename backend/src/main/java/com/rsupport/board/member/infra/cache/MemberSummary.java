@@ -0,0 +1,19 @@
+package com.rsupport.board.member.infra.cache;
+
+import com.rsupport.board.member.domain.entity.Member;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 조회 캐시에 담는 값 (id, 이름)
+ */
+@Getter
+@AllArgsConstructor
+public class MemberSummary {
+    private final Long id;
+    private final String name;
+
+    public static MemberSummary from(Member member) {
+        return new MemberSummary(member.getId(), member.getName());
+    }
+}
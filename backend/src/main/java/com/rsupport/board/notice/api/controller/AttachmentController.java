@@ -0,0 +1,273 @@
+package com.rsupport.board.notice.api.controller;
+
+import com.rsupport.board.common.exception.CustomExceptionHandler;
+import com.rsupport.board.common.exception.ErrorCode;
+import com.rsupport.board.notice.domain.entity.Attachment;
+import com.rsupport.board.notice.domain.repository.AttachmentRepository;
+import com.rsupport.board.notice.infra.FileStorageService;
+import com.rsupport.board.notice.infra.StorageKey;
+import com.rsupport.board.notice.infra.StoredFile;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 첨부파일 다운로드 컨트롤러
+ *
+ * - 저장 시 반환한 url(/files/{yyyyMMdd}/{uuid}.ext, /files/sha256/{해시}.ext, 예전 더미데이터는 /uploads/...) 그대로 다운로드
+ * - Range 요청(bytes=시작-끝 하나)으로 부분/이어받기 지원 -> 206, 범위가 잘못되면 416
+ * - 브라우저에서 바로 열어도 안전한 형식(이미지, pdf, 텍스트)만 inline, 나머지(html, svg 등)는 스크립트가 실행되지 않도록
+ *   application/octet-stream + Content-Disposition: attachment 로 내려서 다운로드만 가능
+ * - Content-Disposition 파일명은 업로드 당시 원래 파일명 (첨부파일 행이 없으면 url 의 파일명)
+ * - 파일은 저장 후 바뀌지 않으므로 저장소가 주는 강한 ETag (크기+수정시각, 해시 저장소는 해시) + Last-Modified 로 304 응답
+ * - 본문은 heap 으로 복사하지 않도록
+ *   - tomcat 이 sendfile 을 지원하면 파일 경로/범위만 넘겨서 커널이 바로 소켓으로 전송
+ *   - 아니면 FileChannel.transferTo 로 응답 스트림에 전송
+ */
+@Slf4j
+@RestController
+@Tag(name = "Attachment", description = "첨부파일 다운로드 API")
+@RequiredArgsConstructor
+public class AttachmentController {
+    // tomcat sendfile 요청 속성 (org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+    private static final String CACHE_CONTROL = "private, max-age=86400";
+
+    // inline 으로 내려도 스크립트가 실행되지 않는 형식 (svg, html, xml 등은 제외)
+    private static final Set<MediaType> INLINE_SAFE_TYPES = Set.of(
+            MediaType.IMAGE_PNG,
+            MediaType.IMAGE_JPEG,
+            MediaType.IMAGE_GIF,
+            MediaType.parseMediaType("image/webp"),
+            MediaType.APPLICATION_PDF,
+            MediaType.TEXT_PLAIN
+    );
+
+    private final FileStorageService fileStorageService;
+    private final AttachmentRepository attachmentRepository;
+
+    @Operation(summary = "첨부파일 다운로드", description = "첨부파일을 다운로드합니다. \nRange 헤더로 일부만 받을 수 있고, If-None-Match / If-Modified-Since 가 같으면 304 를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "[OK] 파일 전체"),
+            @ApiResponse(responseCode = "206", description = "[PARTIAL_CONTENT] 요청한 범위만"),
+            @ApiResponse(responseCode = "304", description = "[NOT_MODIFIED] 브라우저 캐시 사용"),
+            @ApiResponse(responseCode = "404", description = "[NOT_FOUND] 존재하지 않는 파일인 경우"),
+            @ApiResponse(responseCode = "416", description = "[RANGE_NOT_SATISFIABLE] 파일 크기를 벗어난 범위인 경우")
+    })
+    @RequestMapping(
+            value = "/{prefix:files|uploads}/{date}/{filename:.+}",
+            method = {RequestMethod.GET, RequestMethod.HEAD}
+    )
+    public void download(@PathVariable String prefix,
+                         @PathVariable String date,
+                         @PathVariable String filename,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        String url = "/" + prefix + "/" + date + "/" + filename;
+        StoredFile storedFile = fileStorageService.resolve(url)
+                .orElseThrow(() -> new CustomExceptionHandler(ErrorCode.ATTACHMENT_NOT_FOUND));
+
+        Path file = storedFile.getPath();
+        long length = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        String etag = storedFile.getEtag();
+
+        // If-None-Match / If-Modified-Since 가 같으면 304 (ETag, Last-Modified 헤더도 여기서 설정)
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // 해시 저장소의 파일에는 확장자가 없으므로 요청 url 기준
+        MediaType contentType = contentType(filename);
+        response.setContentType(contentType.toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(contentType, originalFilename(url, filename)));
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && ifRangeMatches(request.getHeader(HttpHeaders.IF_RANGE), etag, lastModified)) {
+            long[] parsed = parseRange(range, length);
+            if (parsed == null) { // 파일 크기를 벗어난 범위
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            if (parsed.length == 2) {
+                start = parsed[0];
+                end = parsed[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(Math.max(count, 0));
+        if (count <= 0 || HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            // tomcat 이 응답 후 sendfile 로 전송 (end 는 exclusive)
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+
+        transfer(file, start, count, response);
+    }
+
+    private void transfer(Path file, long start, long count, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+        catch (IOException e) {
+            // 다운로드 중 클라이언트가 연결을 끊은 경우 등 (이미 응답 헤더가 나가서 에러 응답 불가)
+            log.warn("[AttachmentController] 파일 전송 중단: file={}, {}", file.getFileName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Range 헤더 파싱 (bytes=시작-끝, bytes=시작-, bytes=-마지막N바이트)
+     * - 범위 하나 -> {start, end}
+     * - 여러 범위, 형식 오류 -> 빈 배열 (Range 무시하고 전체 응답)
+     * - 파일 크기를 벗어남 -> null (416)
+     */
+    static long[] parseRange(String header, long length) {
+        String value = header.trim().toLowerCase(Locale.ROOT);
+        if (!value.startsWith("bytes=") || value.indexOf(',') >= 0) {
+            return new long[0];
+        }
+
+        String spec = value.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) { // 마지막 N 바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return null;
+                }
+                return new long[]{Math.max(length - suffix, 0), length - 1};
+            }
+
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        }
+        catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    /**
+     * If-Range 가 없거나 현재 파일과 같을 때만 Range 적용 (파일이 바뀌었으면 전체 응답)
+     */
+    private boolean ifRangeMatches(String ifRange, String etag, long lastModified) {
+        if (ifRange == null || ifRange.isBlank()) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag); // 강한 비교
+        }
+
+        try {
+            // http 날짜는 초 단위
+            long since = parseHttpDate(ifRange);
+            return since >= 0 && since == (lastModified / 1000) * 1000;
+        }
+        catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private long parseHttpDate(String value) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.IF_RANGE, value);
+        return headers.getFirstDate(HttpHeaders.IF_RANGE);
+    }
+
+    /**
+     * 확장자 기준 형식, 허용 목록에 없으면 application/octet-stream (브라우저가 해석하지 않음)
+     */
+    static MediaType contentType(String filename) {
+        return MediaTypeFactory.getMediaType(filename)
+                .filter(INLINE_SAFE_TYPES::contains)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    /**
+     * url 로 첨부파일 행을 찾아 원래 파일명 (storage_key 인덱스로 조회)
+     */
+    private String originalFilename(String url, String fallback) {
+        String storageKey = StorageKey.fromUrl(url);
+        if (storageKey == null) {
+            return fallback;
+        }
+        return attachmentRepository.findFirstByStorageKeyAndUrl(storageKey, url)
+                .map(Attachment::getFilename)
+                .filter(name -> !name.isBlank())
+                .orElse(fallback);
+    }
+
+    /**
+     * 허용된 형식은 inline, 나머지는 attachment (파일명은 RFC 5987 filename* 로 인코딩)
+     */
+    private String contentDisposition(MediaType contentType, String filename) {
+        ContentDisposition.Builder builder = MediaType.APPLICATION_OCTET_STREAM.equals(contentType)
+                ? ContentDisposition.attachment()
+                : ContentDisposition.inline();
+        return builder.filename(filename, StandardCharsets.UTF_8).build().toString();
+    }
+}
@@ -2,6 +2,7 @@ package com.rsupport.board.notice.api.controller;
 
 import com.rsupport.board.common.dto.ResponseDTO;
 import com.rsupport.board.notice.api.dto.*;
+import com.rsupport.board.notice.infra.stats.ViewStatGranularity;
 import com.rsupport.board.notice.service.NoticeService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,7 +12,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +26,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 공지(Notice) 관련 REST API 컨트롤러
  */
@@ -68,7 +74,7 @@ public class NoticeController {
     }
 
 
-    @Operation(summary = "공지 목록 조회", description = "공지 목록을 조회합니다. \n최신 등록일 순으로 정렬되며, 제목+내용 / 내용 / 등록일자 로 검색가능합니다.")
+    @Operation(summary = "공지 목록 조회", description = "공지 목록을 조회합니다. \n최신 등록일 순으로 정렬되며, 제목+내용 / 내용 / 등록일자 로 검색가능합니다. \ncursor 파라미터를 보내면 커서 방식으로 조회하며, 다음 페이지 커서는 pageInfo.nextCursor 로 반환됩니다.")
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200", // http status 200 ok 반환
@@ -89,6 +95,96 @@ public class NoticeController {
                 .body(ResponseDTO.success(res));
     }
 
+    @Operation(summary = "인기 공지 조회", description = "최근 조회수가 많은 공지를 조회합니다. \n오래된 조회일수록 적게 반영되며(반감기 6시간), 게시 기간 중인 공지만 조회됩니다.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200", // http status 200 ok 반환
+                    description = "[OK] 인기 공지가 조회되었습니다.",
+                    content = @Content(schema = @Schema(implementation = TrendingNoticeDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "[BAD_REQUEST] size 가 1~50 범위를 벗어난 경우",
+                    content = @Content(schema = @Schema(implementation = ResponseDTO.class))
+            )
+    })
+    @GetMapping(
+            value = "/trending",
+            produces = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8"
+    )
+    public ResponseEntity<ResponseDTO<List<TrendingNoticeDTO>>> getTrendingNotices(
+            @Min(1) @Max(50) @RequestParam(defaultValue = "10") int size
+    ) {
+        log.info("GET /v1/notices/trending?size={}", size);
+
+        List<TrendingNoticeDTO> res = noticeService.getTrendingNotices(size);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ResponseDTO.success(res));
+    }
+
+    @Operation(summary = "공지 읽음 여부 조회", description = "목록 한 페이지의 공지들을 사용자가 읽었는지 조회합니다. (최대 100개)")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200", // http status 200 ok 반환
+                    description = "[OK] 공지 읽음 여부가 조회되었습니다.",
+                    content = @Content(schema = @Schema(implementation = NoticeReadStatusDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "[BAD_REQUEST] userId나 noticeIds가 누락되었거나 100개를 넘는 경우",
+                    content = @Content(schema = @Schema(implementation = ResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "[NOT_FOUND] 존재하지 않는 사용자인 경우",
+                    content = @Content(schema = @Schema(implementation = ResponseDTO.class))
+            )
+    })
+    @GetMapping(
+            value = "/read-status",
+            produces = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8"
+    )
+    public ResponseEntity<ResponseDTO<List<NoticeReadStatusDTO>>> getReadStatus(
+            @NotNull @RequestParam Long userId,
+            @Size(min = 1, max = 100) @RequestParam List<Long> noticeIds
+    ) {
+        log.info("GET /v1/notices/read-status?{}, noticeIds={}", userId, noticeIds);
+
+        List<NoticeReadStatusDTO> res = noticeService.getReadStatus(userId, noticeIds);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ResponseDTO.success(res));
+    }
+
+    @Operation(summary = "안 읽은 공지 수 조회", description = "게시 중인 공지 중 사용자가 읽지 않은 공지 수를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200", // http status 200 ok 반환
+                    description = "[OK] 안 읽은 공지 수가 조회되었습니다.",
+                    content = @Content(schema = @Schema(implementation = UnreadCountDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "[NOT_FOUND] 존재하지 않는 사용자인 경우",
+                    content = @Content(schema = @Schema(implementation = ResponseDTO.class))
+            )
+    })
+    @GetMapping(
+            value = "/unread-count",
+            produces = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8"
+    )
+    public ResponseEntity<ResponseDTO<UnreadCountDTO>> getUnreadCount(
+            @NotNull @RequestParam Long userId
+    ) {
+        log.info("GET /v1/notices/unread-count?{}", userId);
+
+        UnreadCountDTO res = noticeService.getUnreadCount(userId);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ResponseDTO.success(res));
+    }
+
     @Operation(summary = "공지 상세 조회", description = "선택한 공지를 조회합니다.")
     @ApiResponses({
             @ApiResponse(
@@ -123,6 +219,35 @@ public class NoticeController {
                 .body(ResponseDTO.success(res));
     }
 
+    @Operation(summary = "공지 조회 통계", description = "공지의 조회수, 순 조회자 수(추정값), 최근 24시간 조회수와 조회수 시계열을 조회합니다. \ngranularity 로 시계열 단위를 고를 수 있습니다. (MINUTE: 최근 60분, HOUR: 최근 24시간, DAY: 최근 30일)")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200", // http status 200 ok 반환
+                    description = "[OK] 공지 조회 통계가 조회되었습니다.",
+                    content = @Content(schema = @Schema(implementation = NoticeStatsDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "[NOT_FOUND] 존재하지 않는 공지인 경우",
+                    content = @Content(schema = @Schema(implementation = ResponseDTO.class))
+            )
+    })
+    @GetMapping(
+            value = "/{noticeId}/stats",
+            produces = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8"
+    )
+    public ResponseEntity<ResponseDTO<NoticeStatsDTO>> getNoticeStats(
+            @PathVariable Long noticeId,
+            @RequestParam(defaultValue = "HOUR") ViewStatGranularity granularity
+    ) {
+        log.info("GET /v1/notices/{}/stats?granularity={}", noticeId, granularity);
+
+        NoticeStatsDTO res = noticeService.getNoticeStats(noticeId, granularity);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ResponseDTO.success(res));
+    }
+
     @Operation(summary = "공지 수정", description = "공지를 수정합니다. 작성자만 수정할 수 있습니다.")
     @ApiResponses({
             @ApiResponse(
@@ -0,0 +1,67 @@
+package com.rsupport.board.notice.api.dto;
+
+import com.rsupport.board.common.exception.CustomExceptionHandler;
+import com.rsupport.board.common.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 공지 목록 커서(keyset) 페이지네이션용 커서
+ *
+ * - 마지막으로 내려준 공지의 (createdAt, id) 를 담는다
+ * - 클라이언트에는 base64url 로 인코딩한 불투명(opaque) 문자열로만 노출
+ *   (ex. "2025-06-01T12:00|123" -> "MjAyNS0wNi0wMVQxMjowMHwxMjM")
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeCursor {
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    /**
+     * 목록 아이템(마지막 행) 으로 다음 페이지 커서 생성
+     */
+    public static NoticeCursor from(NoticeListItemDTO item) {
+        return new NoticeCursor(item.getCreatedAt(), item.getId());
+    }
+
+    /**
+     * 커서 -> 불투명 문자열
+     */
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 불투명 문자열 -> 커서
+     * 빈 문자열은 첫 페이지 요청이므로 null 반환
+     */
+    public static NoticeCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded.trim()), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx <= 0) {
+                throw new CustomExceptionHandler(ErrorCode.INVALID_CURSOR);
+            }
+
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, idx));
+            Long id = Long.parseLong(raw.substring(idx + 1));
+            return new NoticeCursor(createdAt, id);
+        }
+        catch (IllegalArgumentException | DateTimeParseException e) { // base64 오류, 숫자 파싱 오류 포함
+            throw new CustomExceptionHandler(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -34,6 +34,11 @@ public class NoticeListReqDTO {
     @Nullable
     private LocalDate toDate;
 
+    @Schema(description = "커서(keyset) 페이지네이션용 커서. 파라미터가 있으면 커서 모드로 조회 (빈 값: 첫 페이지, 이후: 응답의 pageInfo.nextCursor)",
+            example = "MjAyNS0wNi0wMVQxMjowMHwxMjM")
+    @Nullable
+    private String cursor;
+
     @Override
     public String toString() { // 로그
         return "NoticeSearchReqDTO{" +
@@ -41,6 +46,7 @@ public class NoticeListReqDTO {
                 ", titleOnly=" + titleOnly +
                 ", fromDate=" + fromDate +
                 ", toDate=" + toDate +
+                ", cursor=" + cursor +
                 '}';
     }
 }
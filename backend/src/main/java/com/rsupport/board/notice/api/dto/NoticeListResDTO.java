@@ -31,5 +31,6 @@ public class NoticeListResDTO {
         private int totalPages;
         private boolean first;
         private boolean last;
+        private String nextCursor; // 커서 모드일 때 다음 페이지 커서 (마지막 페이지거나 오프셋 모드면 null)
     }
 }
@@ -0,0 +1,21 @@
+package com.rsupport.board.notice.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공지 읽음 여부(하나)
+ *
+ * {
+ *   "noticeId": 123,
+ *   "read": true
+ * }
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoticeReadStatusDTO {
+    private Long noticeId;
+    private boolean read;
+}
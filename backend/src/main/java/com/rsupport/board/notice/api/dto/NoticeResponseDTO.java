@@ -25,7 +25,8 @@ import java.util.List;
  *   },
  *   "attachments": [
  *      {...}, {...}
- *   ]
+ *   ],
+ *   "uniqueViewerCount": 120
  * }
  */
 @Data
@@ -42,4 +43,5 @@ public class NoticeResponseDTO {
     private Long viewCount;
     private AuthorInfoDTO author; //작성자(==멤버,유저)
     private List<AttachmentInfoDTO> attachments;
+    private Long uniqueViewerCount; // 순 조회자 수 (상세 조회에서만, 추정값)
 }
@@ -0,0 +1,31 @@
+package com.rsupport.board.notice.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 공지 조회 통계
+ *
+ * {
+ *   "noticeId": 123,
+ *   "viewCount": 777,
+ *   "uniqueViewerCount": 120,
+ *   "last24hViews": 57,
+ *   "granularity": "HOUR",
+ *   "series": [{...}, {...}, ...]
+ * }
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoticeStatsDTO {
+    private Long noticeId;
+    private Long viewCount; // 전체 조회수 (미반영 조회수 포함)
+    private Long uniqueViewerCount; // 순 조회자 수 (추정값)
+    private Long last24hViews; // 최근 24시간 조회수 (통계 반영 주기만큼 늦음, 약 2분)
+    private String granularity; // series 버킷 단위 (MINUTE, HOUR, DAY)
+    private List<ViewBucketDTO> series; // 오래된 순, 조회가 없는 버킷은 0
+}
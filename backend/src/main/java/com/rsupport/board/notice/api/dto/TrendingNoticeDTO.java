@@ -0,0 +1,31 @@
+package com.rsupport.board.notice.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 공지 아이템(하나)
+ *
+ * {
+ *   "id": 123,
+ *   "title": "test",
+ *   "startAt": "2025-06-01T18:00:00",
+ *   "endAt": "2025-06-05T18:00:00",
+ *   "score": 42.5
+ * }
+ *
+ * score: 최근 조회수 (오래된 조회일수록 반감기에 따라 작게 반영)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingNoticeDTO {
+    private Long id;
+    private String title;
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+    private double score;
+}
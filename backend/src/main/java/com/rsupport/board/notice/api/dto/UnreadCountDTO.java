@@ -0,0 +1,21 @@
+package com.rsupport.board.notice.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원이 안 읽은 공지 수 (게시 중인 공지 기준)
+ *
+ * {
+ *   "memberId": 1,
+ *   "unreadCount": 12
+ * }
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnreadCountDTO {
+    private Long memberId;
+    private long unreadCount;
+}
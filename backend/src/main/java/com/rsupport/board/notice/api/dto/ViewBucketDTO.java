@@ -0,0 +1,23 @@
+package com.rsupport.board.notice.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회수 통계 버킷(하나)
+ *
+ * {
+ *   "bucketStart": "2025-06-01T18:00:00",
+ *   "views": 42
+ * }
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ViewBucketDTO {
+    private LocalDateTime bucketStart;
+    private long views;
+}
@@ -13,7 +13,7 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "attachment")
+@Table(name = "attachment", indexes = @Index(name = "idx_attachment_storage_key", columnList = "storage_key"))
 @EntityListeners(AuditingEntityListener.class)
 public class Attachment {
 
@@ -32,22 +32,28 @@ public class Attachment {
     @Column(name = "url", length = 2048, nullable = false)
     private String url;
 
+    // 저장소 안의 파일 키 (같은 파일을 가리키는 행 수 = 참조 수, StorageKey 참고)
+    @Column(name = "storage_key", length = 191)
+    private String storageKey;
+
     @CreatedDate
     @Column(name = "uploaded_at", nullable = false, updatable = false)
     private LocalDateTime uploadedAt;
 
     @Builder
-    public Attachment(String filename, String url, LocalDateTime uploadedAt){
+    public Attachment(String filename, String url, String storageKey, LocalDateTime uploadedAt){
         this.filename = filename;
         this.url = url;
+        this.storageKey = storageKey;
         this.uploadedAt = uploadedAt;
     }
 
     @Builder(builderClassName = "TestBuilder", builderMethodName = "testBuilder")
-    public Attachment(Long id, String filename, String url, LocalDateTime uploadedAt, Notice notice){
+    public Attachment(Long id, String filename, String url, String storageKey, LocalDateTime uploadedAt, Notice notice){
         this.id = id;
         this.filename = filename;
         this.url = url;
+        this.storageKey = storageKey;
         this.uploadedAt = uploadedAt;
         this.notice = notice;
     }
@@ -27,7 +27,7 @@ import java.util.List;
                 // 범위 검색용(복합): start_at + end_at (startAt만 혹은 startAt <= x <= endAt 일때)
                 @Index(name = "idx_notice_start_end", columnList = "start_at, end_at"),
                 // 키워드 검색용: title 단일 인덱스(포함관계 검색)
-                // todo: content 까지 하려면.. fulltext사용하거나 elasticSearch 같은걸 도입해야한다... 지금은 서비스단에서 분리만ㄱㄱ
+                // LIKE '%kw%' 는 인덱스를 못 타므로 content 까지 빠르게 찾으려면 notice.search.strategy=lucene 사용
                 @Index(name = "idx_notice_title", columnList = "title")
         }
 )
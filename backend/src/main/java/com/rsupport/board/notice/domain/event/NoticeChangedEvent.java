@@ -0,0 +1,60 @@
+package com.rsupport.board.notice.domain.event;
+
+import com.rsupport.board.notice.domain.entity.Notice;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지 등록/수정/삭제 이벤트
+ *
+ * - 서비스에서 발행하고, 트랜잭션 커밋 이후에 검색 인덱스 등 부가 저장소를 갱신할 때 사용
+ * - 리스너가 DB 를 다시 조회하지 않도록 필요한 값만 스냅샷으로 담음 (삭제는 id만)
+ *   (목록 캐시 첫 페이지를 직접 고칠 수 있도록 작성자 id, 첨부파일 유무 포함)
+ * - occurredAt: 이벤트를 만든 시각 (epoch millis, 커밋 전) -> 이보다 먼저 읽은 캐시 값에는 이 변경이 없음
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class NoticeChangedEvent {
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Long noticeId;
+    private final String title;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+    private final Long authorId;
+    private final Boolean hasAttachment;
+    private final long occurredAt;
+
+    public static NoticeChangedEvent created(Notice notice) {
+        return of(Type.CREATED, notice);
+    }
+
+    public static NoticeChangedEvent updated(Notice notice) {
+        return of(Type.UPDATED, notice);
+    }
+
+    public static NoticeChangedEvent deleted(Long noticeId) {
+        return new NoticeChangedEvent(Type.DELETED, noticeId, null, null, null, null, null, null, null, System.currentTimeMillis());
+    }
+
+    private static NoticeChangedEvent of(Type type, Notice notice) {
+        return new NoticeChangedEvent(
+                type,
+                notice.getId(),
+                notice.getTitle(),
+                notice.getContent(),
+                notice.getCreatedAt(),
+                notice.getStartAt(),
+                notice.getEndAt(),
+                (notice.getMember() != null) ? notice.getMember().getId() : null, // 지연로딩 프록시여도 id 는 초기화 없이 꺼냄
+                !notice.getAttachments().isEmpty(),
+                System.currentTimeMillis()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.rsupport.board.notice.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * redis 에 쌓인 조회수가 DB 에 반영됐다는 이벤트
+ *
+ * - 상세/목록 캐시는 DB 조회수를 기준값으로 들고 있으므로, 반영된 공지는 커밋 이후 캐시를 비우거나 고쳐야 함
+ * - deltas: 공지 id -> DB 에 더한 조회수
+ * - occurredAt: DB 반영을 시작한 시각 (epoch millis), 이보다 먼저 읽은 캐시 값에는 반영분이 없음
+ */
+@Getter
+@AllArgsConstructor
+public class ViewCountFlushedEvent {
+    private final Map<Long, Long> deltas;
+    private final long occurredAt;
+
+    public Set<Long> getNoticeIds() {
+        return deltas.keySet();
+    }
+}
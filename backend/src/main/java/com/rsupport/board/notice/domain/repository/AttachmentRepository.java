@@ -2,13 +2,35 @@ package com.rsupport.board.notice.domain.repository;
 
 import com.rsupport.board.notice.domain.entity.Attachment;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 첨부파일 CRUD
  */
 public interface AttachmentRepository extends JpaRepository <Attachment, Long> {
     void deleteAllByIdIn(List<Long> removeIds);
+
+    // 파일 참조 수 (같은 파일을 가리키는 첨부파일 행 수, storage_key 인덱스 사용)
+    long countByStorageKey(String storageKey);
+
+    // 다운로드 시 원래 파일명 (같은 파일을 여러 행이 가리키면 요청 url 과 같은 행)
+    Optional<Attachment> findFirstByStorageKeyAndUrl(String storageKey, String url);
+
+    // id 순서로 url, 파일 키만 조회 (파일 정리 작업에서 배치 단위로 전체 확인)
+    @Query("select a.id as id, a.url as url, a.storageKey as storageKey from Attachment a where a.id > :afterId order by a.id")
+    List<UrlView> findUrlsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    interface UrlView {
+        Long getId();
+
+        String getUrl();
+
+        String getStorageKey();
+    }
 }
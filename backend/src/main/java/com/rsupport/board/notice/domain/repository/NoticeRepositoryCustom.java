@@ -1,13 +1,14 @@
 package com.rsupport.board.notice.domain.repository;
 
+import com.rsupport.board.notice.api.dto.NoticeCursor;
 import com.rsupport.board.notice.api.dto.NoticeListItemDTO;
 import com.rsupport.board.notice.api.dto.NoticeListReqDTO;
 
 import com.rsupport.board.notice.domain.entity.Notice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-import java.util.Map;
 import java.util.Optional;
 
 public interface NoticeRepositoryCustom {
@@ -21,17 +22,21 @@ public interface NoticeRepositoryCustom {
     Page<NoticeListItemDTO> findAllBySearchCondition(NoticeListReqDTO req, Pageable pageable);
 
     /**
-     * 공지 상세 조회 (멤버, 첨부파일 정보 함께 가져오기, n+1방지)
+     * 검색 조건에 맞춰 공지 목록을 커서(keyset) 방식으로 조회 (createdAt DESC, id DESC 고정)
+     * offset 없이 커서 이후 행부터 읽기 때문에 페이지가 깊어져도 조회 비용이 일정함
      *
-     * @param noticeId 조회할 공지 id
-     * @return 공지
+     * @param req 검색 조건(keyword, titleOnly, fromDate, toDate)
+     * @param cursor 직전 페이지의 마지막 (createdAt, id), 첫 페이지면 null
+     * @param size 페이지 크기
+     * @return 공지 리스트 + 다음 페이지 존재 여부 (count 쿼리 x)
      */
-    Optional<Notice> findWithMemberAndAttachmentsById(Long noticeId);
+    Slice<NoticeListItemDTO> findAllByCursor(NoticeListReqDTO req, NoticeCursor cursor, int size);
 
     /**
-     * 배치 주기동안 누적된 조회수 반영
+     * 공지 상세 조회 (멤버, 첨부파일 정보 함께 가져오기, n+1방지)
      *
-     * @param viewIncrementCnt 배치 주기동안 쌓인 공지-조회수 정보
+     * @param noticeId 조회할 공지 id
+     * @return 공지
      */
-    void batchIncreaseViewCount(Map<Long, Long> viewIncrementCnt);
+    Optional<Notice> findWithMemberAndAttachmentsById(Long noticeId);
 }
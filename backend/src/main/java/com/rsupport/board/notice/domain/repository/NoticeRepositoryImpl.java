@@ -2,187 +2,296 @@ package com.rsupport.board.notice.domain.repository;
 
 import com.querydsl.core.types.OrderSpecifier;
 import com.rsupport.board.common.utils.QueryDslSortUtil;
-import com.rsupport.board.member.domain.entity.Member;
 import com.rsupport.board.member.domain.entity.QMember;
+import com.rsupport.board.notice.api.dto.NoticeCursor;
 import com.rsupport.board.notice.api.dto.NoticeListItemDTO;
 import com.rsupport.board.notice.api.dto.NoticeListReqDTO;
 import com.rsupport.board.notice.api.dto.QNoticeListItemDTO;
 import com.rsupport.board.notice.domain.entity.Notice;
 import com.rsupport.board.notice.domain.entity.QAttachment;
 import com.rsupport.board.notice.domain.entity.QNotice;
+import com.rsupport.board.notice.infra.search.NoticeFullTextIndexInitializer;
+import com.rsupport.board.notice.infra.search.NoticeSearchHits;
+import com.rsupport.board.notice.infra.search.NoticeSearchIndex;
+import com.rsupport.board.notice.infra.search.NoticeSearchStrategy;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.Query;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 public class NoticeRepositoryImpl implements NoticeRepositoryCustom {
     private final JPAQueryFactory queryFactory;
-    private final EntityManager em;
-
-    public NoticeRepositoryImpl(EntityManager em) {
-        this.em = em;
+    private final NoticeSearchStrategy searchStrategy;
+    private final ObjectProvider<NoticeSearchIndex> searchIndexProvider; // lucene 전략일 때만 빈이 존재
+    private final ObjectProvider<NoticeFullTextIndexInitializer> fullTextIndexProvider; // fulltext 전략일 때만 빈이 존재
+
+    public NoticeRepositoryImpl(EntityManager em,
+                                @Value("${notice.search.strategy:like}") String searchStrategy,
+                                ObjectProvider<NoticeSearchIndex> searchIndexProvider,
+                                ObjectProvider<NoticeFullTextIndexInitializer> fullTextIndexProvider) {
         this.queryFactory = new JPAQueryFactory(em);
+        this.searchStrategy = NoticeSearchStrategy.from(searchStrategy);
+        this.searchIndexProvider = searchIndexProvider;
+        this.fullTextIndexProvider = fullTextIndexProvider;
     }
 
+    // MySQL ngram_token_size 기본값, 이보다 짧은 키워드는 FULLTEXT 로 찾을 수 없어서 LIKE 로 검색
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
     private final QNotice notice = QNotice.notice;
     private final QAttachment attachment = QAttachment.attachment;
     private final QMember member = QMember.member;
 
     /**
      * 공지 목록 조회 쿼리 (검색+페이지네이션)
-     * - 제목+내용(titleOnly=false)인 경우에는
-     * - 제목에서 키워드 먼저 찾고
-     * - 제목에서 찾아진 결과들을 제외한 범위에서 내용 검색 하도록 분기
+     * - 제목+내용(titleOnly=false)도 title OR content 조건 하나로 DB 에 넘겨서
+     *   정렬 + offset/limit 까지 DB 에서 처리 (한 요청당 메모리는 페이지 크기만큼만 사용)
+     * - count 쿼리는 조인 없이 따로 실행하고,
+     *   첫 페이지인데 결과가 size 보다 적거나 마지막 페이지면 count 쿼리 자체를 생략
      */
     @Override
     public Page<NoticeListItemDTO> findAllBySearchCondition(NoticeListReqDTO req, Pageable pageable) {
-        String keyword = (req.getKeyword() != null) ? req.getKeyword().trim() : null;
-        Boolean titleOnly = req.getTitleOnly();
-
-        // 1. 키워드가 없거나 titleOnly=true 인경우
-        if(keyword == null || keyword.isEmpty() || Boolean.TRUE.equals(titleOnly)) {
-            BooleanExpression searchConds = buildSearchCondition(req);
-
-            // 조회 쿼리
-            List<NoticeListItemDTO> noticeList = queryFactory
-                    .select(new QNoticeListItemDTO(
-                            notice.id,
-                            notice.title,
-                            // hasAttachment : attachment크기체크
-                            Expressions.cases()
-                                    .when(attachment.id.isNotNull())
-                                    .then(true)
-                                    .otherwise(false),
-                            notice.createdAt,
-                            notice.startAt,
-                            notice.endAt,
-                            notice.viewCount,
-                            notice.member.id,
-                            notice.member.name
-                    ))
-                    .distinct()
-                    .from(notice)
-                    .leftJoin(notice.attachments, attachment)
-                    .where(searchConds)
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .orderBy(buildOrderCondition(pageable))
-                    .fetch();
-
-            Long _total = queryFactory
-                    .select(notice.count())
-                    .from(notice)
-                    .where(searchConds)
-                    .fetchOne();
-
-            long total = (_total != null) ? _total : 0L;
-
-            return new PageImpl<>(noticeList, pageable, total);
+        // lucene 전략 + 키워드 검색이면 인덱스에서 id 만 찾고 해당 페이지만 조회
+        if (searchStrategy == NoticeSearchStrategy.LUCENE && hasKeyword(req)) {
+            NoticeSearchIndex searchIndex = searchIndexProvider.getIfAvailable();
+            Optional<NoticeSearchHits> hits = (searchIndex != null) ? searchIndex.search(req, pageable) : Optional.empty();
+            if (hits.isPresent()) {
+                return findAllBySearchHits(hits.get(), pageable);
+            }
         }
 
-        // 2. 재목+내용(titleOnly = false) 인 경우 (제목 먼저 조회하고 나머지에서 내용 조회)
-        // 2-1. 제목에 키워드 포함 + 범위조회
-        BooleanExpression rangeCondition = buildRangeCondition(req);
-        BooleanExpression titleCondition = notice.title.containsIgnoreCase(keyword);
-        if (rangeCondition != null) {
-            titleCondition = titleCondition.and(rangeCondition);
+        // fulltext 전략 + 키워드 검색이면 MATCH ... AGAINST 로 조회 (인덱스 생성 전에는 LIKE 로 fallback)
+        if (searchStrategy == NoticeSearchStrategy.FULLTEXT && hasKeyword(req)
+                && req.getKeyword().trim().length() >= NGRAM_TOKEN_SIZE && isFullTextIndexReady()) {
+            return findAllByFullText(req, pageable);
         }
 
-        List<NoticeListItemDTO> titleMatchedList = queryFactory
-                .select(new QNoticeListItemDTO(
-                        notice.id,
-                        notice.title,
-                        Expressions.cases()
-                                .when(attachment.id.isNotNull())
-                                .then(true)
-                                .otherwise(false),
-                        notice.createdAt,
-                        notice.startAt,
-                        notice.endAt,
-                        notice.viewCount,
-                        notice.member.id,
-                        notice.member.name
-                ))
+        BooleanExpression searchConds = buildSearchCondition(req);
+
+        // 조회 쿼리
+        List<NoticeListItemDTO> noticeList = queryFactory
+                .select(listItemProjection())
                 .distinct()
                 .from(notice)
                 .leftJoin(notice.attachments, attachment)
-                .where(titleCondition)
+                .where(searchConds)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
                 .orderBy(buildOrderCondition(pageable))
                 .fetch();
 
-        long titleCount = titleMatchedList.size();
+        // count 쿼리 (필요할 때만 실행)
+        JPAQuery<Long> countQuery = queryFactory
+                .select(notice.count())
+                .from(notice)
+                .where(searchConds);
+
+        return PageableExecutionUtils.getPage(noticeList, pageable, () -> {
+            Long total = countQuery.fetchOne();
+            return (total != null) ? total : 0L;
+        });
+    }
 
-        // 2-2. 제목에 있던 공지 제외 + 내용에 키워드 포함 + 범위조건
-        BooleanExpression contentOnlyCond = notice.content.containsIgnoreCase(keyword)
-                .and(notice.title.containsIgnoreCase(keyword).not());
+    /**
+     * FULLTEXT(ngram) 인덱스로 공지 목록 조회
+     * - 조건: MATCH(title, content) AGAINST("키워드" IN BOOLEAN MODE) > 0 (+ titleOnly 면 제목 포함 여부로 한번 더 거름)
+     * - 정렬: 제목에 키워드 포함된 공지 먼저 -> 관련도 높은순 -> 요청한 정렬(기본 createdAt DESC)
+     *   기존에 제목/내용 쿼리를 나눠서 하던 순위를 쿼리 하나로 처리
+     * - ORDER BY 에 select 에 없는 식이 들어가므로 distinct 를 못 써서, hasAttachment 는 조인 대신 exists 서브쿼리 사용
+     */
+    private Page<NoticeListItemDTO> findAllByFullText(NoticeListReqDTO req, Pageable pageable) {
+        String keyword = req.getKeyword().trim();
+
+        NumberExpression<Double> relevance = Expressions.numberTemplate(Double.class,
+                "function('match_against', {0}, {1}, {2})",
+                notice.title, notice.content, toBooleanModePhrase(keyword));
+        BooleanExpression titleMatched = notice.title.containsIgnoreCase(keyword);
+
+        BooleanExpression conds = relevance.gt(0.0);
+        if (Boolean.TRUE.equals(req.getTitleOnly())) {
+            conds = conds.and(titleMatched);
+        }
+        BooleanExpression rangeCondition = buildRangeCondition(req);
         if (rangeCondition != null) {
-            contentOnlyCond = contentOnlyCond.and(rangeCondition);
+            conds = conds.and(rangeCondition);
+        }
+
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        orders.add(Expressions.cases().when(titleMatched).then(1).otherwise(0).desc());
+        orders.add(relevance.desc());
+        orders.addAll(Arrays.asList(buildOrderCondition(pageable)));
+
+        List<NoticeListItemDTO> noticeList = queryFactory
+                .select(listItemProjectionBySubquery())
+                .from(notice)
+                .where(conds)
+                .orderBy(orders.toArray(new OrderSpecifier<?>[0]))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(notice.count())
+                .from(notice)
+                .where(conds);
+
+        return PageableExecutionUtils.getPage(noticeList, pageable, () -> {
+            Long total = countQuery.fetchOne();
+            return (total != null) ? total : 0L;
+        });
+    }
+
+    /**
+     * 키워드 -> boolean mode 구문 검색어 ("키워드")
+     * 키워드 안의 연산자(+, -, *, " 등)가 해석되지 않도록 큰따옴표로 감싸서 LIKE '%키워드%' 와 비슷하게 동작하게 함
+     */
+    private String toBooleanModePhrase(String keyword) {
+        return "\"" + keyword.replace("\"", " ") + "\"";
+    }
+
+    /**
+     * 검색 인덱스가 찾은 id 들로 목록 조회 (인덱스가 정한 순서 유지)
+     */
+    private Page<NoticeListItemDTO> findAllBySearchHits(NoticeSearchHits hits, Pageable pageable) {
+        List<Long> ids = hits.getIds();
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.getTotalHits());
         }
 
-        List<NoticeListItemDTO> contentMatchedList = queryFactory
-                .select(new QNoticeListItemDTO(
-                        notice.id,
-                        notice.title,
-                        Expressions.cases()
-                                .when(attachment.id.isNotNull())
-                                .then(true)
-                                .otherwise(false),
-                        notice.createdAt,
-                        notice.startAt,
-                        notice.endAt,
-                        notice.viewCount,
-                        notice.member.id,
-                        notice.member.name
-                ))
+        Map<Long, NoticeListItemDTO> rowsById = queryFactory
+                .select(listItemProjection())
                 .distinct()
                 .from(notice)
                 .leftJoin(notice.attachments, attachment)
-                .where(contentOnlyCond)
-                .orderBy(buildOrderCondition(pageable))
-                .fetch();
+                .where(notice.id.in(ids))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(NoticeListItemDTO::getId, Function.identity(), (a, b) -> a));
+
+        // 색인 반영 전 삭제된 공지는 제외
+        List<NoticeListItemDTO> noticeList = ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(noticeList, pageable, hits.getTotalHits());
+    }
 
-        long contentCount = contentMatchedList.size();
+    private boolean isFullTextIndexReady() {
+        NoticeFullTextIndexInitializer initializer = fullTextIndexProvider.getIfAvailable();
+        return initializer != null && initializer.isReady();
+    }
 
-        // 2-3) 두 리스트(titleMatchedList, contentMatchedList) 합치기
-        List<NoticeListItemDTO> combined = new ArrayList<>(titleMatchedList.size() + contentMatchedList.size());
-        combined.addAll(titleMatchedList);
-        combined.addAll(contentMatchedList);
+    private boolean hasKeyword(NoticeListReqDTO req) {
+        return req.getKeyword() != null && !req.getKeyword().trim().isEmpty();
+    }
 
-        // 2-4) 자바 레벨에서 “createdAt DESC” 다시 정렬
-        combined.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
+    /**
+     * 공지 목록 커서 조회 쿼리 (keyset 페이지네이션)
+     * - offset 대신 (createdAt, id) < cursor 조건으로 바로 다음 행부터 읽음
+     * - idx_notice_created_at 은 InnoDB 특성상 (created_at, id) 순서로 PK가 붙어있어서 정렬+seek 모두 인덱스로 처리됨
+     * - size+1 건 조회해서 다음 페이지 유무만 판단 (count 쿼리 x)
+     */
+    @Override
+    public Slice<NoticeListItemDTO> findAllByCursor(NoticeListReqDTO req, NoticeCursor cursor, int size) {
+        List<NoticeListItemDTO> rows = queryFactory
+                .select(listItemProjection())
+                .distinct()
+                .from(notice)
+                .leftJoin(notice.attachments, attachment)
+                .where(buildSearchCondition(req), buildCursorCondition(cursor))
+                .orderBy(notice.createdAt.desc(), notice.id.desc())
+                .limit(size + 1L)
+                .fetch();
 
-        // 2-5) page, size에 맞춰 자바 레벨 페이지네이션 (서브리스트)
-        int offset = (int) pageable.getOffset();
-        int pageSize = pageable.getPageSize();
-        int endIndex = Math.min(offset + pageSize, combined.size());
+        boolean hasNext = rows.size() > size;
+        List<NoticeListItemDTO> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
 
-        List<NoticeListItemDTO> pageContent;
-        if (offset >= combined.size()) {
-            pageContent = List.of();
-        } else {
-            pageContent = combined.subList(offset, endIndex);
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * 커서 seek 조건절 만들기
+     * createdAt < c OR (createdAt = c AND id < i) 와 같은 의미지만,
+     * created_at <= c 를 앞에 둬서 MySQL 이 인덱스 range scan 으로 시작점을 바로 찾도록 함
+     */
+    private BooleanExpression buildCursorCondition(NoticeCursor cursor) {
+        if (cursor == null) {
+            return null;
         }
 
-        // 2-6) 전체 건수 = titleCount + contentCount
-        long total = titleCount + contentCount;
+        return notice.createdAt.loe(cursor.getCreatedAt())
+                .and(notice.createdAt.lt(cursor.getCreatedAt())
+                        .or(notice.id.lt(cursor.getId())));
+    }
 
-        return new PageImpl<>(pageContent, pageable, total);
+    /**
+     * 목록 아이템 프로젝션 (hasAttachment : attachment 조인 결과로 판단)
+     */
+    private QNoticeListItemDTO listItemProjection() {
+        return new QNoticeListItemDTO(
+                notice.id,
+                notice.title,
+                Expressions.cases()
+                        .when(attachment.id.isNotNull())
+                        .then(true)
+                        .otherwise(false),
+                notice.createdAt,
+                notice.startAt,
+                notice.endAt,
+                notice.viewCount,
+                notice.member.id,
+                notice.member.name
+        );
+    }
+
+    /**
+     * 목록 아이템 프로젝션 (hasAttachment : 조인 없이 exists 서브쿼리로 판단, distinct 불필요)
+     */
+    private QNoticeListItemDTO listItemProjectionBySubquery() {
+        return new QNoticeListItemDTO(
+                notice.id,
+                notice.title,
+                Expressions.cases()
+                        .when(JPAExpressions.selectOne()
+                                .from(attachment)
+                                .where(attachment.notice.id.eq(notice.id))
+                                .exists())
+                        .then(true)
+                        .otherwise(false),
+                notice.createdAt,
+                notice.startAt,
+                notice.endAt,
+                notice.viewCount,
+                notice.member.id,
+                notice.member.name
+        );
     }
 
     /**
@@ -227,15 +336,9 @@ public class NoticeRepositoryImpl implements NoticeRepositoryCustom {
         }
 
         // 등록일 검색 (fromDate ~ toDate)
-        if (req.getFromDate() != null) {
-            LocalDateTime fromDateTime = req.getFromDate().atStartOfDay(); // 00:00
-            BooleanExpression fromDate = notice.startAt.goe(fromDateTime);
-            result = (result == null ? fromDate : result.and(fromDate));
-        }
-        if (req.getToDate() != null) {
-            LocalDateTime toDateTime = req.getToDate().atTime(LocalTime.MAX); // 23:59
-            BooleanExpression toDate = notice.endAt.loe(toDateTime);
-            result = (result == null ? toDate : result.and(toDate));
+        BooleanExpression rangeCondition = buildRangeCondition(req);
+        if (rangeCondition != null) {
+            result = (result == null ? rangeCondition : result.and(rangeCondition));
         }
 
         return result;
@@ -266,26 +369,4 @@ public class NoticeRepositoryImpl implements NoticeRepositoryCustom {
 
         return Optional.ofNullable(fetchedNotice);
     }
-
-    /**
-     * noticeId → delta 맵을 돌며, 각 공지의 view_count를 누적 반영
-     */
-    @Override
-    public void batchIncreaseViewCount(Map<Long, Long> viewIncrementCnt) {
-        StringBuilder sb = new StringBuilder("UPDATE notice SET view_count = CASE ");
-        viewIncrementCnt.forEach((id, delta) -> {
-            sb.append("WHEN id = ").append(id)
-              .append(" THEN view_count + ").append(delta).append(" ");
-        });
-        sb.append("ELSE view_count END WHERE id IN (");
-
-        // where id in (~~): id 리스트 만들기
-        sb.append(String.join(",", viewIncrementCnt.keySet().stream()
-            .map(String::valueOf)
-            .toList()));
-        sb.append(")");
-
-        Query caseQuery = em.createNativeQuery(sb.toString());
-        caseQuery.executeUpdate();
-    }
 }
@@ -0,0 +1,75 @@
+package com.rsupport.board.notice.infra;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 비어 있는 attachment.storage_key 채우기
+ *
+ * - 컬럼/인덱스는 Attachment 엔티티 + 스키마 스크립트 (db/schema/attachment_storage_key.sql), 기동 시 DDL 을 실행하지 않음
+ * - 키가 비어 있는 행(컬럼 추가 전 데이터, 이전 버전 노드가 넣은 행)은 기동 후 url 로 키를 계산해서 채움 (id 순서 배치)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttachmentStorageKeyBackfiller {
+    private static final int BACKFILL_BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            backfill();
+        }
+        catch (RuntimeException e) {
+            // 키가 빈 행은 참조 수에 안 잡힘 -> 다음 기동 때 다시 채움
+            log.error("[AttachmentStorageKey] storage_key 채우기 실패", e);
+        }
+    }
+
+    /**
+     * 키가 비어 있는 행 채우기 (저장소 url 이 아닌 행은 그대로 null)
+     */
+    void backfill() {
+        long afterId = 0L;
+        int filled = 0;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(
+                    "SELECT id, url FROM attachment WHERE storage_key IS NULL AND id > ? ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2)},
+                    afterId, BACKFILL_BATCH_SIZE
+            );
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> params = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                String key = StorageKey.fromUrl((String) row[1]);
+                if (key != null) {
+                    params.add(new Object[]{key, row[0]});
+                }
+            }
+            if (!params.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE attachment SET storage_key = ? WHERE id = ?", params);
+                filled += params.size();
+            }
+
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+            if (rows.size() < BACKFILL_BATCH_SIZE) {
+                break;
+            }
+        }
+        if (filled > 0) {
+            log.info("[AttachmentStorageKey] storage_key 채움: {}건", filled);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.rsupport.board.notice.infra;
+
+import com.rsupport.board.notice.domain.entity.Attachment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 첨부파일 여러개를 동시에 저장
+ *
+ * - 공지 등록/수정 시 DB 트랜잭션 시작 전에 호출 -> 파일 쓰는 동안 DB 커넥션을 잡고 있지 않음
+ * - 파일마다 전용 스레드(STORE_EXECUTOR)에서 저장, 전체 시간은 가장 느린 파일 하나 정도
+ * - 하나라도 실패하면 이미 저장된 파일은 지우고 예외
+ * - 이후 트랜잭션이 롤백되면 discard 로 저장한 파일 삭제 (보상 처리)
+ */
+@Slf4j
+@Component
+public class AttachmentUploader {
+    public static final String STORE_EXECUTOR = "attachmentStoreExecutor";
+
+    private final FileStorageService fileStorageService;
+    private final TaskExecutor executor;
+
+    public AttachmentUploader(FileStorageService fileStorageService,
+                              @Qualifier(STORE_EXECUTOR) TaskExecutor executor) {
+        this.fileStorageService = fileStorageService;
+        this.executor = executor;
+    }
+
+    /**
+     * 빈 파일은 제외하고 저장, 요청 순서대로 Attachment 반환 (아직 DB 저장 전)
+     */
+    public List<Attachment> storeAll(MultipartFile[] files) {
+        if (files == null || files.length == 0) {
+            return Collections.emptyList();
+        }
+
+        List<CompletableFuture<Attachment>> futures = new ArrayList<>();
+        for (MultipartFile file : files) {
+            if (!file.isEmpty()) {
+                futures.add(CompletableFuture.supplyAsync(() -> fileStorageService.store(file), executor));
+            }
+        }
+
+        List<Attachment> stored = new ArrayList<>();
+        RuntimeException failure = null;
+        // 하나가 실패해도 나머지는 끝까지 기다림 (저장된 파일을 지우기 위해)
+        for (CompletableFuture<Attachment> future : futures) {
+            try {
+                stored.add(future.join());
+            }
+            catch (CompletionException e) {
+                if (failure == null) {
+                    failure = unwrap(e);
+                }
+            }
+        }
+
+        if (failure != null) {
+            discard(stored);
+            throw failure;
+        }
+        return stored;
+    }
+
+    /**
+     * 저장했지만 DB 에 반영되지 않은 파일 삭제 (삭제 실패는 로그만, 남은 파일은 정리 작업에서 삭제)
+     */
+    public void discard(List<Attachment> attachments) {
+        for (Attachment attachment : attachments) {
+            try {
+                fileStorageService.delete(attachment.getUrl());
+            }
+            catch (Exception e) {
+                log.warn("[AttachmentUploader] 저장 취소된 파일 삭제 실패: url={}", attachment.getUrl(), e);
+            }
+        }
+    }
+
+    private RuntimeException unwrap(CompletionException e) {
+        Throwable cause = (e.getCause() != null) ? e.getCause() : e;
+        return (cause instanceof RuntimeException runtime) ? runtime : new RuntimeException(cause);
+    }
+}
@@ -0,0 +1,312 @@
+package com.rsupport.board.notice.infra;
+
+import com.rsupport.board.common.config.MultipartConfig;
+import com.rsupport.board.notice.domain.entity.Attachment;
+import com.rsupport.board.notice.domain.repository.AttachmentRepository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 내용 기준(SHA-256)으로 파일 저장 (upload.storage=content-addressed)
+ *
+ * - 같은 내용의 파일은 한 번만 저장: upload.path/sha256/{해시 앞 2자리}/{해시 다음 2자리}/{해시}
+ * - URL 은 /files/sha256/{해시}.{확장자} (확장자는 다운로드 시 content-type 용, 파일에는 없음)
+ * - 참조 수는 attachment 테이블에서 같은 파일 키(storage_key = sha256/{해시}, 인덱스)를 가진 행 수
+ * - 이미 있는 파일을 다시 쓰면 수정시각만 갱신 -> 참조가 0 이어도 최근에 쓴 파일은 유예기간 동안 삭제하지 않음
+ *   (업로드 트랜잭션이 커밋되기 전에 지워지지 않도록)
+ * - 삭제는 임시 이름으로 옮긴 뒤 수정시각/참조 수를 다시 확인 (deleteIfUnreferenced)
+ *   -> 같은 내용을 다시 올리는 중이면 되돌리고, 이미 옮겨졌으면 다시 올리는 쪽이 새로 저장
+ * - 해시가 곧 내용이므로 ETag 는 해시값 (수정시각이 바뀌어도 그대로)
+ * - 예전 날짜 폴더 url(/files/{yyyyMMdd}/...) 도 그대로 다운로드 가능
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "upload.storage", havingValue = "content-addressed")
+public class ContentAddressedFileStorageImpl implements FileStorageService {
+    public static final String BLOB_DIR = "sha256";
+    private static final String URL_PREFIX = "/files/" + BLOB_DIR + "/";
+    private static final String TRASH_SUFFIX = ".trash-";
+    private static final Pattern TRASH_NAME = Pattern.compile("^.+\\.trash-(\\d{1,18})-[0-9a-f-]+$");
+    private static final Pattern BLOB_URL = Pattern.compile("^/files/" + BLOB_DIR + "/([0-9a-f]{64})(\\.[A-Za-z0-9]{1,10})?$");
+    private static final Pattern SAFE_EXT = Pattern.compile("^\\.[A-Za-z0-9]{1,10}$");
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    private final AttachmentRepository attachmentRepository;
+    private final Path uploadRoot;
+    private final Path incomingDir;
+    private final Duration deleteGrace;
+
+    public ContentAddressedFileStorageImpl(AttachmentRepository attachmentRepository,
+                                           @Value("${upload.path}") String uploadPath,
+                                           @Value("${upload.content-addressed.delete-grace:1h}") Duration deleteGrace) {
+        this.attachmentRepository = attachmentRepository;
+        this.uploadRoot = Paths.get(uploadPath).toAbsolutePath().normalize();
+        this.incomingDir = uploadRoot.resolve(MultipartConfig.INCOMING_DIR);
+        this.deleteGrace = deleteGrace;
+    }
+
+    /**
+     * 업로드: 컨테이너 임시파일을 rename 으로 가져온 뒤 해시 계산 (디스크 쓰기는 컨테이너가 받을 때 한 번)
+     */
+    @Override
+    public Attachment store(MultipartFile file) {
+        String originFilename = StringUtils.cleanPath(file.getOriginalFilename());
+        Path temp = newTempFile();
+        try {
+            file.transferTo(temp.toFile());
+            return publish(temp, sha256(temp), originFilename);
+        }
+        catch (IOException e) {
+            deleteQuietly(temp);
+            throw new RuntimeException("파일 저장에 실패했습니다: " + originFilename, e);
+        }
+    }
+
+    /**
+     * 스트림: 임시파일로 쓰면서 해시 계산
+     */
+    @Override
+    public Attachment store(String originalFilename, InputStream content) {
+        String originFilename = StringUtils.cleanPath(originalFilename);
+        Path temp = newTempFile();
+        try {
+            MessageDigest digest = newDigest();
+            try (DigestInputStream in = new DigestInputStream(content, digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return publish(temp, HexFormat.of().formatHex(digest.digest()), originFilename);
+        }
+        catch (IOException e) {
+            deleteQuietly(temp);
+            throw new RuntimeException("파일 저장에 실패했습니다: " + originFilename, e);
+        }
+    }
+
+    @Override
+    public Optional<StoredFile> resolve(String url) {
+        Matcher matcher = BLOB_URL.matcher(url);
+        if (!matcher.matches()) {
+            // 해시 저장 이전에 올라간 파일
+            return LocalFileStorageImpl.resolveDated(uploadRoot, url);
+        }
+
+        String hash = matcher.group(1);
+        Path blob = blobPath(hash);
+        if (!Files.isRegularFile(blob, LinkOption.NOFOLLOW_LINKS)) {
+            return Optional.empty();
+        }
+        return Optional.of(new StoredFile(blob, "\"" + hash + "\""));
+    }
+
+    /**
+     * 같은 해시를 가리키는 첨부파일 행이 없고, 최근에 쓴 적 없는 파일만 삭제
+     * (유예기간 안의 파일은 주기적인 정리 작업에서 삭제)
+     */
+    @Override
+    public void delete(String url) {
+        Matcher matcher = BLOB_URL.matcher(url);
+        if (!matcher.matches()) {
+            return;
+        }
+
+        String hash = matcher.group(1);
+        String storageKey = StorageKey.blob(hash);
+        long threshold = System.currentTimeMillis() - deleteGrace.toMillis();
+        try {
+            deleteIfUnreferenced(blobPath(hash), incomingDir, threshold,
+                    () -> attachmentRepository.countByStorageKey(storageKey) > 0);
+        }
+        catch (IOException e) {
+            log.warn("[FileStorage] 파일 삭제 실패: url={}", url, e);
+        }
+    }
+
+    /**
+     * 참조가 없고 threshold 이후로 쓴 적 없는 blob 삭제 (정리 작업도 같이 사용)
+     *
+     * - 먼저 임시 이름으로 옮기고(rename) 수정시각/참조를 다시 확인
+     *   - 옮기기 전에 같은 내용이 다시 올라왔으면(publish 가 수정시각 갱신) 또는 그 사이 참조됐으면 되돌림
+     *   - 옮긴 뒤에 올라왔으면 publish 가 파일이 없으므로 새로 저장
+     * - 임시 이름 파일은 업로드 임시 폴더에 두므로 중간에 죽어도 정리 작업이 삭제
+     *
+     * @return 삭제한 파일 크기, 삭제하지 않았으면 -1
+     */
+    static long deleteIfUnreferenced(Path blob, Path trashDir, long threshold, BooleanSupplier referenced) throws IOException {
+        try {
+            if (Files.getLastModifiedTime(blob, LinkOption.NOFOLLOW_LINKS).toMillis() >= threshold || referenced.getAsBoolean()) {
+                return -1;
+            }
+        }
+        catch (NoSuchFileException e) {
+            return -1;
+        }
+
+        Files.createDirectories(trashDir);
+        Path trashed = trashDir.resolve(blob.getFileName() + TRASH_SUFFIX + System.currentTimeMillis() + "-" + UUID.randomUUID());
+        try {
+            Files.move(blob, trashed, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (NoSuchFileException e) { // 다른 쪽에서 먼저 삭제
+            return -1;
+        }
+
+        if (Files.getLastModifiedTime(trashed).toMillis() >= threshold || referenced.getAsBoolean()) {
+            restore(trashed, blob);
+            return -1;
+        }
+
+        long size = Files.size(trashed);
+        Files.deleteIfExists(trashed);
+        return size;
+    }
+
+    /**
+     * 삭제 중(옮긴 뒤 재확인 전)일 수 있는 임시 이름 파일인지 (옮긴 시각이 이름에 있음, 옮겨도 수정시각은 그대로라서)
+     * - 파일 정리(OrphanFileCollector)가 .incoming 을 비울 때 이런 파일은 유예기간 동안 건드리지 않음
+     */
+    static boolean isRecentTrash(String filename, long threshold) {
+        Matcher trash = TRASH_NAME.matcher(filename);
+        return trash.matches() && Long.parseLong(trash.group(1)) >= threshold;
+    }
+
+    private static void restore(Path trashed, Path blob) throws IOException {
+        if (Files.exists(blob)) {
+            // 그 사이 같은 내용으로 새로 저장됨
+            Files.deleteIfExists(trashed);
+            return;
+        }
+        Files.move(trashed, blob, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 해시 위치로 옮기기 (이미 있으면 임시파일만 지우고 기존 파일 사용)
+     */
+    private Attachment publish(Path temp, String hash, String originFilename) throws IOException {
+        Path blob = blobPath(hash);
+        if (touch(blob)) {
+            deleteQuietly(temp);
+        }
+        else { // 없거나 그 사이 삭제 중으로 옮겨짐 -> 새로 저장
+            Files.createDirectories(blob.getParent());
+            try {
+                Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (FileAlreadyExistsException | AtomicMoveNotSupportedException e) {
+                // 같은 내용을 동시에 올린 경우 등 -> 먼저 옮긴 파일 사용
+                if (!Files.exists(blob)) {
+                    Files.move(temp, blob, StandardCopyOption.REPLACE_EXISTING);
+                }
+                deleteQuietly(temp);
+                touch(blob);
+            }
+        }
+
+        return Attachment.builder()
+                .filename(originFilename)
+                .url(URL_PREFIX + hash + extensionOf(originFilename))
+                .storageKey(StorageKey.blob(hash))
+                .build();
+    }
+
+    private Path blobPath(String hash) {
+        return uploadRoot.resolve(BLOB_DIR).resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private Path newTempFile() {
+        try {
+            Files.createDirectories(incomingDir);
+        }
+        catch (IOException e) {
+            throw new RuntimeException("업로드 임시 폴더를 만들 수 없습니다: " + incomingDir, e);
+        }
+        return incomingDir.resolve(UUID.randomUUID() + ".part");
+    }
+
+    /**
+     * 파일을 읽으면서 SHA-256 계산 (heap 밖 버퍼 하나로 반복)
+     */
+    private String sha256(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String extensionOf(String filename) {
+        int idx = filename.lastIndexOf('.');
+        String ext = (idx > 0) ? filename.substring(idx).toLowerCase(Locale.ROOT) : "";
+        return SAFE_EXT.matcher(ext).matches() ? ext : "";
+    }
+
+    /**
+     * 수정시각 갱신 (다시 쓴 파일은 유예기간 동안 삭제되지 않음), 파일이 없으면 false
+     */
+    private boolean touch(Path blob) {
+        try {
+            Files.setLastModifiedTime(blob, FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        }
+        catch (NoSuchFileException e) {
+            return false;
+        }
+        catch (IOException e) {
+            log.warn("[FileStorage] 수정시각 갱신 실패: {}", blob, e);
+            return Files.exists(blob);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        }
+        catch (IOException e) {
+            log.warn("[FileStorage] 임시파일 삭제 실패: {}", file, e);
+        }
+    }
+}
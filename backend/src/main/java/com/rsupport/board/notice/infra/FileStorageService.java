@@ -3,11 +3,31 @@ package com.rsupport.board.notice.infra;
 import com.rsupport.board.notice.domain.entity.Attachment;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.util.Optional;
+
 /**
  * 파일 저장
  * : 스토리지(현재는 로컬)에 저장 -> Attachment 엔티티 생성 후 반환
+ * - upload.storage=local(기본): 업로드마다 uuid 파일명으로 저장
+ * - upload.storage=content-addressed: 내용(SHA-256) 기준으로 한 번만 저장
  * todo: s3?
  */
 public interface FileStorageService {
     Attachment store(MultipartFile file);
+
+    /**
+     * 업로드가 아닌 스트림으로 저장 (더미데이터 샘플 파일 등)
+     */
+    Attachment store(String originalFilename, InputStream content);
+
+    /**
+     * 저장할 때 반환한 url -> 실제 파일 (잘못된 url 이거나 파일이 없으면 empty)
+     */
+    Optional<StoredFile> resolve(String url);
+
+    /**
+     * 참조하는 첨부파일 행이 없으면 파일 삭제 (참조 수는 attachment 테이블 기준)
+     */
+    void delete(String url);
 }
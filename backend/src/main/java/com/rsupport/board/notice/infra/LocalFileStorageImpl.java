@@ -1,35 +1,66 @@
 package com.rsupport.board.notice.infra;
 
 import com.rsupport.board.notice.domain.entity.Attachment;
+import com.rsupport.board.notice.domain.repository.AttachmentRepository;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.*;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * 로컬에 파일 저장
  * application.properties에서 지정한 경로에 업로드
  * URL은 (/files/{yyyyMMdd}/{uuid} + 확장자) 형태로 반환
+ * 업로드 임시파일은 rename 으로 옮겨서 디스크에 한 번만 씀
  * todo: s3 ??
  */
+@Slf4j
 @Service
+@ConditionalOnProperty(name = "upload.storage", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
 public class LocalFileStorageImpl implements FileStorageService {
+    private final AttachmentRepository attachmentRepository;
+
     @Value("${upload.path}") // properties 에 설정한 로컬 폴더 경로
     private String uploadRootPath;
 
     // 하위 디렉토리 날짜 포맷팅
     private static final DateTimeFormatter DATE_FOLDER_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
+    // 저장 url 형식 (/uploads 는 더미데이터로 만든 예전 url), 경로 이동(.., /)이 들어갈 수 없도록 문자 제한
+    private static final Pattern STORED_URL = Pattern.compile("^/(?:files|uploads)/(\\d{8})/([A-Za-z0-9-]+(?:\\.[A-Za-z0-9]{1,10})?)$");
+
     @Override
     public Attachment store(MultipartFile file) {
         String originFilename = StringUtils.cleanPath(file.getOriginalFilename());
+        return store(originFilename, destination -> {
+            // 컨테이너가 디스크에 받아둔 임시파일을 rename 으로 옮김 (같은 파일시스템이면 다시 복사 x, MultipartConfig 참고)
+            // transferTo(Path) 는 항상 스트림 복사라 File 로 호출
+            file.transferTo(destination.toFile());
+        });
+    }
+
+    @Override
+    public Attachment store(String originalFilename, InputStream content) {
+        String originFilename = StringUtils.cleanPath(originalFilename);
+        return store(originFilename, destination -> Files.copy(content, destination, StandardCopyOption.REPLACE_EXISTING));
+    }
+
+    private Attachment store(String originFilename, FileWriter writer) {
         String ext = "";
         int idx = originFilename.lastIndexOf('.');
 
@@ -41,17 +72,17 @@ public class LocalFileStorageImpl implements FileStorageService {
         String uuid = UUID.randomUUID().toString();
         String storedFilename = uuid + ext;
 
-        // 최종 저장 경로(ex. uploadRootPath/20250531/uuid.png)
-        Path targetDir = Paths.get(uploadRootPath, dateFolder);
+        // 최종 저장 경로(ex. uploadRootPath/20250531/uuid.png), 컨테이너의 임시파일을 옮길 수 있도록 절대경로
+        Path targetDir = Paths.get(uploadRootPath, dateFolder).toAbsolutePath();
         try {
             // 하위 디렉토리가 없으면 생성
             if (!Files.exists(targetDir)) {
                 Files.createDirectories(targetDir);
             }
 
-            // 실제 파일 복사
+            // 실제 파일 저장
             Path destination = targetDir.resolve(storedFilename);
-            Files.copy(file.getInputStream(), destination, StandardCopyOption.REPLACE_EXISTING);
+            writer.write(destination);
 
             // 웹에서 접근 가능한 URL 생성(ex. /files/20250531/uuid.png)
             String fileUrl = "/files/" + dateFolder + "/" + storedFilename;
@@ -60,10 +91,67 @@ public class LocalFileStorageImpl implements FileStorageService {
             return Attachment.builder()
                     .filename(originFilename)
                     .url(fileUrl)
+                    .storageKey(StorageKey.dated(dateFolder, storedFilename))
                     .build();
         }
         catch (IOException e) {
             throw new RuntimeException("파일 저장에 실패했습니다: " + originFilename, e);
         }
     }
+
+    @Override
+    public Optional<StoredFile> resolve(String url) {
+        return resolveDated(Paths.get(uploadRootPath), url);
+    }
+
+    /**
+     * uuid 파일은 보통 한 행만 참조하지만, 더미데이터처럼 같은 파일을 여러 행이 가리킬 수 있어서 참조 수 확인 후 삭제
+     * (/files, /uploads url 은 같은 파일이므로 파일 키로 확인)
+     */
+    @Override
+    public void delete(String url) {
+        Optional<StoredFile> file = resolveDated(Paths.get(uploadRootPath), url);
+        if (file.isEmpty() || attachmentRepository.countByStorageKey(StorageKey.fromUrl(url)) > 0) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(file.get().getPath());
+        }
+        catch (IOException e) {
+            log.warn("[FileStorage] 파일 삭제 실패: url={}", url, e);
+        }
+    }
+
+    /**
+     * 날짜 폴더 url (/files/{yyyyMMdd}/{파일명}) -> 실제 파일
+     * 저장 후 바뀌지 않는 파일이라 ETag 는 (크기, 수정시각) 으로 충분
+     */
+    static Optional<StoredFile> resolveDated(Path uploadRoot, String url) {
+        Matcher matcher = STORED_URL.matcher(url);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+
+        Path root = uploadRoot.toAbsolutePath().normalize();
+        Path file = root.resolve(matcher.group(1)).resolve(matcher.group(2)).normalize();
+        // 형식 검사로 막히지만 한번 더: 업로드 폴더 밖, 심볼릭 링크, 디렉토리는 제외
+        if (!file.startsWith(root) || !Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)) {
+            return Optional.empty();
+        }
+
+        try {
+            String etag = "\"" + Long.toHexString(Files.size(file))
+                    + "-" + Long.toHexString(Files.getLastModifiedTime(file).toMillis()) + "\"";
+            return Optional.of(new StoredFile(file, etag));
+        }
+        catch (IOException e) { // 그 사이 삭제됨
+            return Optional.empty();
+        }
+    }
+
+    @FunctionalInterface
+    private interface FileWriter {
+        void write(Path destination) throws IOException;
+    }
 }
@@ -0,0 +1,406 @@
+package com.rsupport.board.notice.infra;
+
+import com.rsupport.board.common.config.MultipartConfig;
+import com.rsupport.board.common.leader.LeaderOnly;
+import com.rsupport.board.notice.domain.repository.AttachmentRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 폴더에서 참조가 없는 파일 정리 (mark-and-sweep)
+ *
+ * - 첨부파일 행 삭제(수정 시 삭제, 공지 삭제 cascade)는 DB 만 지우므로 파일은 여기서 정리
+ * - 한 번에 전체가 아니라 단위(날짜 폴더 하나, sha256/{앞 2자리} 하나)씩 이어서 확인, 실행당 최대 파일 수까지
+ *   (단위 중간에 최대 파일 수에 닿으면 거기서 멈추고 다음 실행에서 이어서)
+ * - mark: 유예기간(upload.gc.grace)보다 오래된 파일만 후보로 모음 (업로드 후 아직 커밋 전인 파일 보호)
+ * - sweep: attachment 테이블 storage_key 를 id 순서로 배치 조회해서 참조 중인 후보 제외 -> 남은 파일 삭제
+ *   삭제는 임시 이름으로 옮긴 뒤 수정시각, 참조 수(storage_key 인덱스)를 다시 확인하고, 그 사이 업로드/참조되면 복구
+ * - .incoming 에 남은 오래된 임시파일(업로드 중 종료 등)도 삭제
+ * - 모르는 형식의 폴더/파일은 건드리지 않음
+ * - 디스크 부하를 줄이도록 초당 확인/삭제 파일 수 제한, dry-run 이면 삭제 대상만 로그/메트릭으로 남김
+ * - 속도 제한 때문에 한 번 실행이 길게(기본 최대 파일 수 기준 50초 정도) 걸리므로,
+ *   스케줄러 스레드는 실행만 넘기고 확인/삭제는 전용 스레드(GC_EXECUTOR, 1개)에서 진행 (이전 실행이 안 끝났으면 건너뜀)
+ * - 메트릭
+ *   - upload.gc.reclaimed.files: 삭제한(dry-run 이면 삭제 대상) 파일 수 (tag: dry-run)
+ *   - upload.gc.reclaimed.bytes: 삭제한(dry-run 이면 삭제 대상) 파일 크기 합 (tag: dry-run)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "upload.gc.enabled", havingValue = "true", matchIfMissing = true)
+public class OrphanFileCollector {
+    public static final String GC_EXECUTOR = "uploadGcExecutor";
+    private static final String UPLOAD_GC_LEASE = "upload-gc";
+    private static final String BLOB_DIR = ContentAddressedFileStorageImpl.BLOB_DIR;
+
+    private static final Pattern DATE_DIR = Pattern.compile("^\\d{8}$");
+    private static final Pattern BLOB_PREFIX_DIR = Pattern.compile("^[0-9a-f]{2}$");
+    private static final Pattern BLOB_NAME = Pattern.compile("^[0-9a-f]{64}$");
+
+    private final AttachmentRepository attachmentRepository;
+    private final MeterRegistry meterRegistry;
+    private final TaskExecutor gcExecutor;
+    private final Path uploadRoot;
+    private final Path incomingDir;
+    private final Duration grace;
+    private final boolean dryRun;
+    private final int maxFilesPerRun;
+    private final int batchSize;
+    private final long permitIntervalNanos; // 0 이면 속도 제한 없음
+
+    private String cursor; // 다음에 확인할 단위 (null 이면 처음부터, 리더가 바뀌면 처음부터)
+    private long cursorOffset; // cursor 단위 안에서 이미 확인하고 남아 있는 파일 수
+    private Path cursorDir; // 중간에 멈춘 단위 폴더 (여기서 파일을 삭제하면 cursorOffset 을 줄임)
+    private long nextPermitAt;
+
+    public OrphanFileCollector(AttachmentRepository attachmentRepository,
+                               MeterRegistry meterRegistry,
+                               @Qualifier(GC_EXECUTOR) TaskExecutor gcExecutor,
+                               @Value("${upload.path}") String uploadPath,
+                               @Value("${upload.gc.grace:24h}") Duration grace,
+                               @Value("${upload.gc.dry-run:false}") boolean dryRun,
+                               @Value("${upload.gc.max-files-per-run:10000}") int maxFilesPerRun,
+                               @Value("${upload.gc.batch-size:1000}") int batchSize,
+                               @Value("${upload.gc.max-files-per-second:200}") int maxFilesPerSecond) {
+        this.attachmentRepository = attachmentRepository;
+        this.meterRegistry = meterRegistry;
+        this.gcExecutor = gcExecutor;
+        this.uploadRoot = Paths.get(uploadPath).toAbsolutePath().normalize();
+        this.incomingDir = uploadRoot.resolve(MultipartConfig.INCOMING_DIR);
+        this.grace = grace;
+        this.dryRun = dryRun;
+        this.maxFilesPerRun = maxFilesPerRun;
+        this.batchSize = batchSize;
+        this.permitIntervalNanos = (maxFilesPerSecond > 0) ? 1_000_000_000L / maxFilesPerSecond : 0;
+        this.nextPermitAt = System.nanoTime();
+    }
+
+    /**
+     * 기본 10분마다 실행, 리더 한 곳에서만
+     * 스케줄러 스레드를 오래 잡지 않도록 전용 스레드로 넘기고 바로 반환
+     */
+    @Scheduled(initialDelayString = "${upload.gc.initial-delay-millis:60000}",
+               fixedDelayString = "${upload.gc.interval-millis:600000}")
+    @LeaderOnly(UPLOAD_GC_LEASE)
+    public void trigger() {
+        try {
+            gcExecutor.execute(this::collect);
+        }
+        catch (TaskRejectedException e) {
+            log.info("[OrphanFileCollector] 이전 정리가 아직 진행 중 -> 이번 주기 건너뜀");
+        }
+    }
+
+    /**
+     * 참조 없는 파일 확인/삭제 (전용 스레드에서 실행)
+     */
+    public void collect() {
+        try {
+            sweep(mark());
+        }
+        catch (Exception e) {
+            log.warn("[OrphanFileCollector] 파일 정리 실패 -> 다음 주기에 재시도", e);
+        }
+    }
+
+    /**
+     * 이어서 확인할 위치(단위 + 단위 안에서 몇 번째 파일)부터 돌면서 유예기간이 지난 파일을 후보로 모음 (키 -> 파일)
+     * - 실행당 최대 파일 수에 닿으면 단위 중간이라도 바로 멈추고(TERMINATE) 위치를 기억
+     * - 다음 실행은 같은 단위를 처음부터 다시 훑되, 기억한 위치 전까지는 확인/속도제한 없이 건너뜀
+     *   삭제하면 뒤 파일들이 앞으로 당겨지므로, 멈춘 단위에서 실제로 삭제한 파일 수만큼 위치를 줄임 (sweep 포함)
+     *   (그 사이 다른 쪽에서 파일이 추가/삭제되면 순서가 조금 밀릴 수 있지만 놓친 파일은 다음 바퀴에 다시 확인)
+     */
+    private Map<String, Path> mark() throws IOException {
+        List<Unit> units = listUnits();
+        Map<String, Path> candidates = new HashMap<>();
+        if (units.isEmpty()) {
+            return candidates;
+        }
+
+        int start = 0;
+        long skip = 0;
+        if (cursor != null) {
+            while (start < units.size() && units.get(start).getName().compareTo(cursor) < 0) {
+                start++;
+            }
+            if (start < units.size() && units.get(start).getName().equals(cursor)) {
+                skip = cursorOffset; // 멈췄던 단위 이어서
+            }
+            if (start == units.size()) { // 한 바퀴 끝 -> 처음부터
+                start = 0;
+            }
+        }
+
+        long threshold = System.currentTimeMillis() - grace.toMillis();
+        int[] visited = {0};
+        for (int i = 0; i < units.size() && visited[0] < maxFilesPerRun; i++) {
+            Unit unit = units.get((start + i) % units.size());
+            long offset = (i == 0) ? skip : 0;
+            long[] position = {0};
+            long[] removed = {0}; // 확인 중 바로 삭제한 파일 수 (.incoming)
+            boolean[] stopped = {false};
+            Files.walkFileTree(unit.getDir(), new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (!attrs.isRegularFile()) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    if (position[0]++ < offset) { // 지난 실행에서 확인한 파일
+                        return FileVisitResult.CONTINUE;
+                    }
+                    if (visited[0] >= maxFilesPerRun) {
+                        position[0]--;
+                        stopped[0] = true;
+                        return FileVisitResult.TERMINATE;
+                    }
+                    throttle();
+                    visited[0]++;
+                    if (attrs.lastModifiedTime().toMillis() >= threshold) {
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    if (unit.isIncoming()) {
+                        // 업로드가 끝나지 않은 임시파일, 삭제하다 남은 파일은 참조될 일이 없음 (지금 삭제 중인 파일은 제외)
+                        if (!ContentAddressedFileStorageImpl.isRecentTrash(file.getFileName().toString(), threshold)
+                                && reclaim(file, null)) {
+                            removed[0]++;
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                    String key = keyOf(file);
+                    if (key != null) {
+                        candidates.put(key, file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    // 그 사이 삭제됨 등
+                    log.debug("[OrphanFileCollector] 파일 확인 실패: {}", file, e);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+
+            if (stopped[0]) {
+                cursor = unit.getName();
+                cursorOffset = position[0] - removed[0];
+                cursorDir = unit.getDir();
+                break;
+            }
+            // 단위를 끝까지 확인 -> 다음 실행은 다음 단위부터
+            cursor = nextUnitName(units, unit);
+            cursorOffset = 0;
+            cursorDir = null;
+        }
+        return candidates;
+    }
+
+    private String nextUnitName(List<Unit> units, Unit unit) {
+        int index = units.indexOf(unit);
+        return (index + 1 < units.size()) ? units.get(index + 1).getName() : null;
+    }
+
+    /**
+     * attachment storage_key 를 id 순서로 배치 조회해서 참조 중인 후보 제외, 남은 파일 삭제
+     */
+    private void sweep(Map<String, Path> candidates) {
+        long afterId = 0L;
+        while (!candidates.isEmpty()) {
+            List<AttachmentRepository.UrlView> rows = attachmentRepository.findUrlsAfter(afterId, PageRequest.of(0, batchSize));
+            for (AttachmentRepository.UrlView row : rows) {
+                String key = (row.getStorageKey() != null) ? row.getStorageKey() : StorageKey.fromUrl(row.getUrl());
+                if (key != null) {
+                    candidates.remove(key);
+                }
+            }
+            if (rows.size() < batchSize) {
+                break;
+            }
+            afterId = rows.get(rows.size() - 1).getId();
+        }
+
+        long threshold = System.currentTimeMillis() - grace.toMillis();
+        candidates.forEach((key, file) -> {
+            throttle();
+            if (dryRun) {
+                try {
+                    // 확인하는 사이 다시 쓰였거나(수정시각 갱신) 새로 참조된 파일은 유지
+                    if (Files.getLastModifiedTime(file, LinkOption.NOFOLLOW_LINKS).toMillis() >= threshold || isReferenced(key)) {
+                        return;
+                    }
+                }
+                catch (IOException e) { // 그 사이 삭제됨
+                    return;
+                }
+                reclaim(file, key);
+                return;
+            }
+
+            try {
+                // 임시 이름으로 옮긴 뒤 다시 확인 -> 그 사이 같은 파일이 업로드/참조되면 복구 (ContentAddressedFileStorageImpl 과 같은 방식)
+                long size = ContentAddressedFileStorageImpl.deleteIfUnreferenced(file, incomingDir, threshold, () -> isReferenced(key));
+                if (size >= 0) {
+                    recordReclaimed(size);
+                    onDeleted(file);
+                }
+            }
+            catch (IOException e) {
+                log.warn("[OrphanFileCollector] 파일 삭제 실패: {}", file, e);
+            }
+        });
+    }
+
+    private boolean isReferenced(String key) {
+        return attachmentRepository.countByStorageKey(key) > 0;
+    }
+
+    /**
+     * 실제로 삭제했으면 true (dry-run 이면 false)
+     */
+    private boolean reclaim(Path file, String key) {
+        try {
+            long size = Files.size(file);
+            if (dryRun) {
+                log.info("[OrphanFileCollector] (dry-run) 삭제 대상: {} ({} bytes)", (key != null) ? key : file, size);
+            }
+            else if (!Files.deleteIfExists(file)) {
+                return false;
+            }
+            recordReclaimed(size);
+            return !dryRun;
+        }
+        catch (IOException e) {
+            log.warn("[OrphanFileCollector] 파일 삭제 실패: {}", file, e);
+            return false;
+        }
+    }
+
+    /**
+     * 중간에 멈춘 단위에서 이미 확인한 파일이 삭제되면 이어서 확인할 위치도 앞으로
+     */
+    private void onDeleted(Path file) {
+        if (cursorDir != null && file.startsWith(cursorDir) && cursorOffset > 0) {
+            cursorOffset--;
+        }
+    }
+
+    private void recordReclaimed(long size) {
+        reclaimedCounter("upload.gc.reclaimed.files", "정리한 업로드 파일 수").increment();
+        reclaimedCounter("upload.gc.reclaimed.bytes", "정리한 업로드 파일 크기").increment(size);
+    }
+
+    /**
+     * 확인할 단위 목록 (이름 순): .incoming, 날짜 폴더, sha256/{앞 2자리}
+     */
+    private List<Unit> listUnits() throws IOException {
+        List<Unit> units = new ArrayList<>();
+        if (!Files.isDirectory(uploadRoot)) {
+            return units;
+        }
+
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(uploadRoot, Files::isDirectory)) {
+            for (Path dir : dirs) {
+                String name = dir.getFileName().toString();
+                if (DATE_DIR.matcher(name).matches()) {
+                    units.add(new Unit(name, dir, false));
+                }
+                else if (name.equals(MultipartConfig.INCOMING_DIR)) {
+                    units.add(new Unit(name, dir, true));
+                }
+                else if (name.equals(BLOB_DIR)) {
+                    try (DirectoryStream<Path> prefixes = Files.newDirectoryStream(dir, Files::isDirectory)) {
+                        for (Path prefix : prefixes) {
+                            String prefixName = prefix.getFileName().toString();
+                            if (BLOB_PREFIX_DIR.matcher(prefixName).matches()) {
+                                units.add(new Unit(BLOB_DIR + "/" + prefixName, prefix, false));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        units.sort(Comparator.comparing(Unit::getName));
+        return units;
+    }
+
+    /**
+     * 파일 -> 키 (저장소가 만드는 위치가 아니면 null -> 건드리지 않음)
+     */
+    private String keyOf(Path file) {
+        Path relative = uploadRoot.relativize(file);
+        String name = file.getFileName().toString();
+        if (relative.getNameCount() == 2 && DATE_DIR.matcher(relative.getName(0).toString()).matches()) {
+            return relative.getName(0) + "/" + name;
+        }
+        if (relative.getNameCount() == 4 && relative.getName(0).toString().equals(BLOB_DIR)
+                && BLOB_NAME.matcher(name).matches()
+                && relative.getName(1).toString().equals(name.substring(0, 2))
+                && relative.getName(2).toString().equals(name.substring(2, 4))) {
+            return BLOB_DIR + "/" + name;
+        }
+        return null;
+    }
+
+    /**
+     * 초당 파일 수 제한 (실행은 한 스레드에서만)
+     */
+    private void throttle() {
+        if (permitIntervalNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long wait = nextPermitAt - now;
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+        nextPermitAt = Math.max(now, nextPermitAt) + permitIntervalNanos;
+    }
+
+    private Counter reclaimedCounter(String name, String description) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("dry-run", String.valueOf(dryRun))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한 번에 이어서 확인하는 단위 (날짜 폴더 하나, sha256/{앞 2자리} 하나, .incoming)
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class Unit {
+        private final String name;
+        private final Path dir;
+        private final boolean incoming;
+    }
+}
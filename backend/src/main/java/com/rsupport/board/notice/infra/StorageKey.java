@@ -0,0 +1,47 @@
+package com.rsupport.board.notice.infra;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 첨부파일 url -> 저장소 안의 파일 키 (attachment.storage_key, 인덱스 있음)
+ *
+ * - 날짜 폴더: yyyyMMdd/{파일명}  (/files/..., 예전 더미데이터 /uploads/... 는 같은 파일)
+ * - 해시 저장소: sha256/{해시}    (확장자만 다른 url 은 같은 파일)
+ * - 같은 파일을 가리키는 행 수 = 같은 키를 가진 행 수 (url 은 길어서 인덱스를 걸 수 없음)
+ */
+public final class StorageKey {
+    public static final int MAX_LENGTH = 191;
+
+    private static final Pattern DATED_URL = Pattern.compile("^/(?:files|uploads)/(\\d{8})/([A-Za-z0-9-]+(?:\\.[A-Za-z0-9]{1,10})?)$");
+    private static final Pattern BLOB_URL = Pattern.compile("^/files/" + ContentAddressedFileStorageImpl.BLOB_DIR + "/([0-9a-f]{64})(?:\\.[A-Za-z0-9]{1,10})?$");
+
+    private StorageKey() {
+    }
+
+    public static String dated(String dateFolder, String storedFilename) {
+        return dateFolder + "/" + storedFilename;
+    }
+
+    public static String blob(String hash) {
+        return ContentAddressedFileStorageImpl.BLOB_DIR + "/" + hash;
+    }
+
+    /**
+     * 저장소가 만든 url 이 아니면 null
+     */
+    public static String fromUrl(String url) {
+        if (url == null) {
+            return null;
+        }
+        Matcher dated = DATED_URL.matcher(url);
+        if (dated.matches()) {
+            return dated(dated.group(1), dated.group(2));
+        }
+        Matcher blob = BLOB_URL.matcher(url);
+        if (blob.matches()) {
+            return blob(blob.group(1));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.rsupport.board.notice.infra;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * 저장소에 있는 파일 (다운로드용)
+ * etag 는 파일 내용이 같으면 같은 값 (강한 ETag, 따옴표 포함)
+ */
+@Getter
+@AllArgsConstructor
+public class StoredFile {
+    private final Path path;
+    private final String etag;
+}
@@ -0,0 +1,95 @@
+package com.rsupport.board.notice.infra.cache;
+
+import com.rsupport.board.notice.api.dto.NoticeResponseDTO;
+import com.rsupport.board.notice.domain.event.NoticeChangedEvent;
+import com.rsupport.board.notice.domain.event.ViewCountFlushedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 공지 상세 캐시 (공지 id 별)
+ *
+ * - 제목/내용/작성자/첨부파일 등 잘 바뀌지 않는 부분을 캐싱
+ * - 조회수는 캐싱 시점의 DB 값(기준값)만 들고 있고, 실시간 조회수는 조회할 때 redis 누적값을 더해서 만듦
+ * - 공지 수정/삭제, 조회수 DB 반영이 커밋되면 해당 공지 캐시 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeDetailCache {
+    public static final String CACHE_NAME = "noticeDetail";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 캐시에 있으면 반환, 없으면 loader 로 조회해서 캐싱
+     * 반환값은 로컬 캐시와 공유되므로 수정하지 말고 복사해서 사용
+     */
+    public NoticeResponseDTO get(Long noticeId, Supplier<NoticeResponseDTO> loader) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return loader.get();
+        }
+
+        NoticeResponseDTO cached = cache.get(noticeId, NoticeResponseDTO.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        NoticeResponseDTO loaded = loader.get();
+        cache.put(noticeId, loaded);
+        return loaded;
+    }
+
+    public void evict(Long noticeId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(noticeId);
+        }
+    }
+
+    public void evictAll(Collection<Long> noticeIds) {
+        for (Long noticeId : noticeIds) {
+            evict(noticeId);
+        }
+    }
+
+    /**
+     * 공지 수정/삭제가 커밋되면 캐시 삭제 (등록은 캐시가 없으므로 무시)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (event.getType() == NoticeChangedEvent.Type.CREATED) {
+            return;
+        }
+
+        try {
+            evict(event.getNoticeId());
+        }
+        catch (RuntimeException e) {
+            log.error("[NoticeDetailCache] 캐시 삭제 실패: noticeId={}", event.getNoticeId(), e);
+        }
+    }
+
+    /**
+     * 조회수가 DB 에 반영되면 기준값이 바뀌었으므로 캐시 삭제
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onViewCountFlushed(ViewCountFlushedEvent event) {
+        try {
+            evictAll(event.getNoticeIds());
+        }
+        catch (RuntimeException e) {
+            log.error("[NoticeDetailCache] 캐시 삭제 실패: noticeIds={}", event.getNoticeIds(), e);
+        }
+    }
+}
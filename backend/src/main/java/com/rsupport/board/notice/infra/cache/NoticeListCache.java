@@ -0,0 +1,556 @@
+package com.rsupport.board.notice.infra.cache;
+
+import com.rsupport.board.common.cache.CachedValue;
+import com.rsupport.board.member.infra.cache.MemberLookupCache;
+import com.rsupport.board.notice.api.dto.NoticeCursor;
+import com.rsupport.board.notice.api.dto.NoticeListItemDTO;
+import com.rsupport.board.notice.api.dto.NoticeListReqDTO;
+import com.rsupport.board.notice.api.dto.NoticeListResDTO;
+import com.rsupport.board.notice.domain.event.NoticeChangedEvent;
+import com.rsupport.board.notice.domain.repository.NoticeRepository;
+import com.rsupport.board.notice.infra.viewcount.ViewCountFlushHistory;
+import com.rsupport.board.notice.infra.viewcount.ViewCountFlushRecord;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 공지 목록 캐시 (generation 방식)
+ *
+ * - 모든 검색조건/페이지/정렬 조합을 캐싱
+ * - 캐시 키에 redis 의 전역 generation 값을 포함 (ex. g12|kw=점검|t=false|...|p=0|s=20|o=createdAt: DESC)
+ * - 공지가 등록/수정/삭제되면 generation 만 INCR -> 이전 키들은 더 이상 조회되지 않고 TTL(5분)로 자연 만료
+ *   (KEYS, 패턴 삭제 없이 O(1) 로 전체 무효화)
+ * - 조회할 때마다 redis 에서 generation 을 읽지 않도록 노드 로컬에 복사본을 두고,
+ *   변경 시 pub/sub 으로 새 값을 전파 (메세지 유실 대비 주기적으로도 동기화)
+ * - 조회수가 DB 에 반영돼도 무효화하지 않음 (1분마다 모든 노드가 전체 목록을 다시 읽게 됨)
+ *   캐시 hit 시 값을 읽은 이후의 반영분만 공지별로 더해서 응답 (ViewCountFlushHistory)
+ *   반영 도중에 읽은 값이라 반영분이 들어있는지 알 수 없으면 그 키만 다시 읽음
+ * - 가장 많이 조회되는 기본 첫 페이지(조건 없음, 최신순, 20개)는 새 generation 으로 넘어갈 때 버리지 않고
+ *   이전 generation 의 캐시를 변경분만큼 고쳐서 바로 채워둠 (글이 연달아 올라와도 목록/count 쿼리 재실행 x)
+ *   변경분이 이미 들어있을 수 있는 값(변경 이후에 읽은 값)은 고치지 않음 -> 다음 조회에서 DB 로 채움
+ * - 만료 시 DB 로 몰리지 않도록
+ *   - 같은 키를 동시에 조회하면 노드당 한 요청만 DB 조회, 나머지는 그 결과를 기다림 (single-flight)
+ *   - 만료가 가까운 키는 확률적으로 한 요청이 백그라운드에서 미리 갱신 (XFetch), 요청은 기존 값으로 바로 응답
+ *   - TTL 은 기본 5분에 0~30초 랜덤을 더해서 같이 저장된 키들이 한꺼번에 만료되지 않도록 함
+ */
+@Slf4j
+@Component
+public class NoticeListCache implements MessageListener {
+    public static final String CACHE_NAME = "latestNotices";
+    public static final String REFRESH_EXECUTOR = "noticeListRefreshExecutor";
+    public static final String GENERATION_CHANNEL = "notice:list:generation";
+    private static final String GENERATION_KEY = "notice:list:generation";
+    private static final long UNKNOWN = -1L;
+    private static final long CLOCK_SKEW_MILLIS = 1_000L; // 노드간 시각 차이 여유
+
+    // generation 을 ARGV[1] 이상으로 (redis 초기화 후 복구용)
+    private static final RedisScript<Long> RAISE_GENERATION_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "local floor = tonumber(ARGV[1]) " +
+            "if current < floor then redis.call('SET', KEYS[1], floor) return floor end " +
+            "return current",
+            Long.class
+    );
+    private static final String DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt").toString();
+    static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    private final CacheManager cacheManager;
+    private final RedisTemplate<String, Long> redisTemplate;
+    private final NoticeRepository noticeRepository;
+    private final MemberLookupCache memberLookupCache;
+    private final ViewCountFlushHistory viewCountFlushHistory;
+    private final TaskExecutor refreshExecutor;
+    private final long ttlMillis;
+    private final long ttlJitterMillis;
+    private final double refreshBeta;
+    private final AtomicLong localGeneration = new AtomicLong(UNKNOWN);
+    private final ConcurrentMap<String, CompletableFuture<NoticeListResDTO>> inFlight = new ConcurrentHashMap<>();
+
+    public NoticeListCache(CacheManager cacheManager,
+                           RedisTemplate<String, Long> redisTemplate,
+                           NoticeRepository noticeRepository,
+                           MemberLookupCache memberLookupCache,
+                           ViewCountFlushHistory viewCountFlushHistory,
+                           @Qualifier(REFRESH_EXECUTOR) TaskExecutor refreshExecutor,
+                           @Value("${notice.list-cache.ttl:5m}") Duration ttl,
+                           @Value("${notice.list-cache.ttl-jitter:30s}") Duration ttlJitter,
+                           @Value("${notice.list-cache.refresh.beta:1.0}") double refreshBeta) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.noticeRepository = noticeRepository;
+        this.memberLookupCache = memberLookupCache;
+        this.viewCountFlushHistory = viewCountFlushHistory;
+        this.refreshExecutor = refreshExecutor;
+        this.ttlMillis = ttl.toMillis();
+        this.ttlJitterMillis = ttlJitter.toMillis();
+        this.refreshBeta = refreshBeta;
+    }
+
+    /**
+     * 캐시에 있으면 반환, 없으면 loader 로 조회해서 캐싱
+     * - 같은 키를 이미 조회 중이면 그 결과를 기다림
+     * - 만료가 가까우면 (XFetch) 기존 값을 반환하고 백그라운드에서 갱신
+     * - 캐시 값을 읽은 이후 DB 에 반영된 조회수를 더해서 반환
+     */
+    public NoticeListResDTO get(NoticeListReqDTO req, Pageable pageable, Supplier<NoticeListResDTO> loader) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return loader.get();
+        }
+
+        String key = buildKey(currentGeneration(), req, pageable);
+        CachedValue<NoticeListResDTO> cached = read(cache, key);
+        if (cached != null) {
+            NoticeListResDTO value = withFlushedViewCounts(cached);
+            if (value != null) {
+                if (cached.shouldRefreshEarly(System.currentTimeMillis(), refreshBeta)) {
+                    refreshAsync(cache, key, loader);
+                }
+                return value;
+            }
+        }
+
+        return loadOnce(cache, key, loader);
+    }
+
+    /**
+     * 캐시 값 + 값을 읽은 이후 DB 에 반영된 조회수
+     * - 반영 시작 전에 읽은 값: 페이지 공지의 반영분을 더함
+     * - 반영 종료 후에 읽은 값: 이미 들어있으므로 그대로
+     * - 반영 도중에 읽은 값(페이지 공지가 반영 대상일 때만), 보관 중인 기록보다 오래 전에 읽은 값
+     *   -> 들어있는지 알 수 없으므로 null (다시 읽음)
+     * - 캐시된 dto 는 공유 객체라 직접 수정하지 않고 복사
+     */
+    private NoticeListResDTO withFlushedViewCounts(CachedValue<NoticeListResDTO> cached) {
+        NoticeListResDTO value = cached.getValue();
+        if (value == null || value.getNoticeList() == null || value.getNoticeList().isEmpty()) {
+            return value;
+        }
+        if (!viewCountFlushHistory.covers(cached.getLoadedAt(), CLOCK_SKEW_MILLIS)) {
+            return null;
+        }
+
+        Map<Long, Long> flushed = new HashMap<>();
+        for (ViewCountFlushRecord record : viewCountFlushHistory.getRecent()) {
+            if (cached.loadedAfter(record.getFinishedAt(), CLOCK_SKEW_MILLIS)) {
+                continue;
+            }
+            boolean loadedBefore = cached.loadedBefore(record.getStartedAt(), CLOCK_SKEW_MILLIS);
+            for (NoticeListItemDTO item : value.getNoticeList()) {
+                Long delta = record.getDeltas().get(item.getId());
+                if (delta == null) {
+                    continue;
+                }
+                if (!loadedBefore) {
+                    return null;
+                }
+                flushed.merge(item.getId(), delta, Long::sum);
+            }
+        }
+        if (flushed.isEmpty()) {
+            return value;
+        }
+
+        List<NoticeListItemDTO> items = new ArrayList<>(value.getNoticeList().size());
+        for (NoticeListItemDTO item : value.getNoticeList()) {
+            Long delta = flushed.get(item.getId());
+            items.add((delta != null) ? withViewCount(item, item.getViewCount() + delta) : item);
+        }
+        return new NoticeListResDTO(items, value.getPageInfo());
+    }
+
+    /**
+     * 노드 안에서 키당 한 요청만 loader 실행 (single-flight)
+     * 나머지 요청은 같은 결과를 받고, loader 가 실패하면 같은 예외를 받음
+     */
+    private NoticeListResDTO loadOnce(Cache cache, String key, Supplier<NoticeListResDTO> loader) {
+        CompletableFuture<NoticeListResDTO> mine = new CompletableFuture<>();
+        CompletableFuture<NoticeListResDTO> running;
+        while ((running = inFlight.putIfAbsent(key, mine)) != null) {
+            try {
+                return await(running);
+            }
+            catch (CancellationException e) { // 백그라운드 갱신이 실행되지 못함 -> 다시 시도
+                inFlight.remove(key, running);
+            }
+        }
+
+        try {
+            NoticeListResDTO loaded = load(cache, key, loader);
+            mine.complete(loaded);
+            return loaded;
+        }
+        catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        }
+        finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 백그라운드 갱신 (이미 갱신/조회 중인 키면 무시, 실행 스레드가 부족하면 버리고 다음 요청에 맡김)
+     */
+    private void refreshAsync(Cache cache, String key, Supplier<NoticeListResDTO> loader) {
+        CompletableFuture<NoticeListResDTO> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, mine) != null) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    mine.complete(load(cache, key, loader));
+                }
+                catch (RuntimeException e) {
+                    mine.completeExceptionally(e);
+                    log.warn("[NoticeListCache] 목록 캐시 미리 갱신 실패: key={}", key, e);
+                }
+                finally {
+                    inFlight.remove(key, mine);
+                }
+            });
+        }
+        catch (TaskRejectedException e) { // 실행 스레드/큐가 가득 참 -> 다음 요청에 맡김
+            inFlight.remove(key, mine);
+            mine.cancel(false);
+        }
+    }
+
+    private NoticeListResDTO load(Cache cache, String key, Supplier<NoticeListResDTO> loader) {
+        long start = System.currentTimeMillis();
+        NoticeListResDTO loaded = loader.get();
+        long loadMillis = System.currentTimeMillis() - start;
+        cache.put(key, wrap(loaded, loadMillis, start));
+        return loaded;
+    }
+
+    private CachedValue<NoticeListResDTO> wrap(NoticeListResDTO value, long loadMillis, long loadedAt) {
+        long expiresAt = System.currentTimeMillis() + ttlMillis + ThreadLocalRandom.current().nextLong(ttlJitterMillis + 1);
+        return new CachedValue<>(value, loadMillis, expiresAt, loadedAt);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CachedValue<NoticeListResDTO> read(Cache cache, String key) {
+        try {
+            return cache.get(key, CachedValue.class);
+        }
+        catch (SerializationException e) { // 이전 형식으로 저장된 값 등은 없는 것으로 처리
+            log.warn("[NoticeListCache] 목록 캐시 값을 읽을 수 없음: key={}", key, e);
+            return null;
+        }
+    }
+
+    private NoticeListResDTO await(CompletableFuture<NoticeListResDTO> running) {
+        try {
+            return running.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 목록 캐시 전체 무효화 (generation 증가)
+     */
+    public void invalidateAll() {
+        increaseGeneration();
+    }
+
+    /**
+     * 공지 등록/수정/삭제가 커밋되면 목록 캐시 전체 무효화 + 기본 첫 페이지는 변경분만 반영해서 다시 채움
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        Long generation;
+        try {
+            generation = increaseGeneration();
+        }
+        catch (RuntimeException e) {
+            // redis 장애 시에도 공지 저장은 성공으로 처리 (최대 TTL 동안 이전 목록이 보일 수 있음)
+            log.error("[NoticeListCache] generation 증가 실패: noticeId={}", event.getNoticeId(), e);
+            return;
+        }
+
+        if (generation == null) {
+            return;
+        }
+        try {
+            patchFirstPage(generation, event);
+        }
+        catch (RuntimeException e) {
+            // 고치지 못하면 다음 조회에서 DB 로 다시 채워지므로 로그만
+            log.warn("[NoticeListCache] 첫 페이지 캐시 갱신 실패: noticeId={}", event.getNoticeId(), e);
+        }
+    }
+
+    private Long increaseGeneration() {
+        Long generation = redisTemplate.opsForValue().increment(GENERATION_KEY);
+        if (generation == null) {
+            return null;
+        }
+        long local = localGeneration.get();
+        if (generation <= local) {
+            // redis 가 초기화돼서 1 부터 다시 증가함 -> 이전 generation 키와 겹치지 않도록 로컬 값 위로 올림
+            generation = raiseGeneration(local + 1);
+        }
+        localGeneration.accumulateAndGet(generation, Math::max);
+        redisTemplate.convertAndSend(GENERATION_CHANNEL, generation);
+        return generation;
+    }
+
+    /**
+     * redis generation 을 최소 floor 로 올리고 결과 반환 (이미 더 크면 그대로)
+     */
+    private long raiseGeneration(long floor) {
+        Long raised = redisTemplate.execute(RAISE_GENERATION_SCRIPT, List.of(GENERATION_KEY), floor);
+        return (raised != null) ? raised : floor;
+    }
+
+    /**
+     * 이전 generation 의 기본 첫 페이지를 변경분만큼 고쳐서 새 generation 키로 저장
+     * - 등록: 맨 앞에 추가하고 마지막 하나 제거, totalElements +1 (등록 전에 읽은 값일 때만)
+     * - 수정: 페이지에 있으면 해당 아이템만 교체 (작성자, 조회수, 등록일은 그대로)
+     * - 삭제: 페이지에 있으면 빼고 다음 한 건만 DB 에서 채움, totalElements -1
+     *   페이지에 없으면 삭제 전에 읽은 값일 때만 totalElements -1 (삭제 이후에 읽은 값이면 고치지 않음)
+     * - 이전 페이지가 없거나(만료, 다른 노드가 먼저 generation 을 올림) 고칠 수 없으면 저장하지 않음 -> 다음 조회에서 DB 로 채움
+     * - 캐시된 dto 는 공유 객체라 직접 수정하지 않고 복사본을 저장
+     */
+    void patchFirstPage(long generation, NoticeChangedEvent event) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null || generation <= 1) {
+            return;
+        }
+
+        NoticeListReqDTO req = new NoticeListReqDTO();
+        CachedValue<NoticeListResDTO> cached = read(cache, buildKey(generation - 1, req, FIRST_PAGE));
+        NoticeListResDTO previous = (cached != null) ? cached.getValue() : null;
+        if (previous == null || previous.getNoticeList() == null || previous.getPageInfo() == null) {
+            return;
+        }
+
+        List<NoticeListItemDTO> items = new ArrayList<>(previous.getNoticeList());
+        long totalElements = previous.getPageInfo().getTotalElements();
+        int index = indexOf(items, event.getNoticeId());
+
+        switch (event.getType()) {
+            case CREATED -> {
+                if (index >= 0) { // 이전 generation 키로 이미 DB 에서 다시 읽어온 경우
+                    items.set(index, updatedItem(items.get(index), event));
+                    break;
+                }
+                if (!cached.loadedBefore(event.getOccurredAt(), CLOCK_SKEW_MILLIS)) {
+                    return; // 등록 이후에 읽었는데 페이지에 없음 -> 어디에 넣을지 알 수 없음
+                }
+                Optional<NoticeListItemDTO> created = createdItem(event);
+                if (created.isEmpty()) {
+                    return;
+                }
+                items.add(0, created.get());
+                if (items.size() > FIRST_PAGE.getPageSize()) {
+                    items.remove(items.size() - 1);
+                }
+                totalElements++;
+            }
+            case UPDATED -> {
+                if (index < 0) { // 첫 페이지에 없는 공지 수정은 첫 페이지와 무관
+                    break;
+                }
+                items.set(index, updatedItem(items.get(index), event));
+            }
+            case DELETED -> {
+                if (index < 0) {
+                    // 페이지에 없음: 삭제 전에 읽은 값이면 전체 건수에만 포함돼 있음
+                    // 삭제 이후에 읽은 값이면 이미 빠져 있으므로 건수를 알 수 없음 -> 고치지 않음
+                    if (!cached.loadedBefore(event.getOccurredAt(), CLOCK_SKEW_MILLIS)) {
+                        return;
+                    }
+                    totalElements = Math.max(0L, totalElements - 1);
+                    break;
+                }
+                items.remove(index);
+                totalElements = Math.max(0L, totalElements - 1);
+                // 삭제 전 페이지가 꽉 차 있었고 뒤에 공지가 더 있으면 다음 한 건으로 채움
+                if (!items.isEmpty() && totalElements > items.size()) {
+                    NoticeCursor cursor = NoticeCursor.from(items.get(items.size() - 1));
+                    items.addAll(noticeRepository.findAllByCursor(req, cursor, 1).getContent());
+                }
+            }
+        }
+
+        NoticeListResDTO patched = new NoticeListResDTO(items, pageInfo(totalElements));
+        // 고친 값도 처음 DB 에서 읽은 시각 기준 (그 이후 변경분은 이번 변경만 들어있음)
+        cache.put(buildKey(generation, req, FIRST_PAGE), wrap(patched, cached.getLoadMillis(), cached.getLoadedAt()));
+    }
+
+    private NoticeListItemDTO withViewCount(NoticeListItemDTO item, long viewCount) {
+        return new NoticeListItemDTO(
+                item.getId(),
+                item.getTitle(),
+                item.getHasAttachment(),
+                item.getCreatedAt(),
+                item.getStartAt(),
+                item.getEndAt(),
+                (int) Math.min(viewCount, Integer.MAX_VALUE),
+                item.getAuthor().getId(),
+                item.getAuthor().getName()
+        );
+    }
+
+    private Optional<NoticeListItemDTO> createdItem(NoticeChangedEvent event) {
+        return memberLookupCache.find(event.getAuthorId())
+                .map(author -> newItem(event, 0, author.getId(), author.getName()));
+    }
+
+    private NoticeListItemDTO updatedItem(NoticeListItemDTO item, NoticeChangedEvent event) {
+        NoticeListItemDTO updated = newItem(event, item.getViewCount(), item.getAuthor().getId(), item.getAuthor().getName());
+        updated.setCreatedAt(item.getCreatedAt());
+        return updated;
+    }
+
+    private NoticeListItemDTO newItem(NoticeChangedEvent event, Integer viewCount, Long authorId, String authorName) {
+        return new NoticeListItemDTO(
+                event.getNoticeId(),
+                event.getTitle(),
+                Boolean.TRUE.equals(event.getHasAttachment()),
+                event.getCreatedAt(),
+                event.getStartAt(),
+                event.getEndAt(),
+                viewCount,
+                authorId,
+                authorName
+        );
+    }
+
+    private int indexOf(List<NoticeListItemDTO> items, Long noticeId) {
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).getId().equals(noticeId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private NoticeListResDTO.PageInfo pageInfo(long totalElements) {
+        int pageSize = FIRST_PAGE.getPageSize();
+        int totalPages = (int) ((totalElements + pageSize - 1) / pageSize);
+        return new NoticeListResDTO.PageInfo(0, pageSize, totalElements, totalPages, true, totalPages <= 1, null);
+    }
+
+    /**
+     * 다른 노드에서 generation 이 바뀌었다는 메세지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            // 메세지 순서가 바뀌어도 뒤로 가지 않도록
+            long generation = Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8));
+            localGeneration.accumulateAndGet(generation, Math::max);
+        }
+        catch (NumberFormatException e) {
+            log.warn("[NoticeListCache] 잘못된 generation 메세지: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * pub/sub 메세지가 유실됐거나 redis 가 재시작된 경우를 대비해 주기적으로 redis 값과 맞춤
+     * - 로컬 값은 커지기만 함 (읽는 사이 다른 노드가 올리고 메세지가 먼저 도착해도 뒤로 가지 않음)
+     * - redis 에 generation 이 없어졌으면(재시작, 초기화) 로컬 값 + 1 로 다시 채우고 전파
+     *   (그 사이의 변경을 알 수 없으므로 모든 노드의 이전 키는 버림)
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public void syncGeneration() {
+        try {
+            Long fetched = redisTemplate.opsForValue().get(GENERATION_KEY);
+            long local = localGeneration.get();
+            if (fetched == null && local > 0) {
+                long raised = raiseGeneration(local + 1);
+                log.warn("[NoticeListCache] redis 에 generation 이 없음 (초기화됨) -> {} 로 다시 채움", raised);
+                localGeneration.accumulateAndGet(raised, Math::max);
+                redisTemplate.convertAndSend(GENERATION_CHANNEL, raised);
+                return;
+            }
+            localGeneration.accumulateAndGet((fetched != null) ? fetched : 0L, Math::max);
+        }
+        catch (RuntimeException e) {
+            log.warn("[NoticeListCache] generation 동기화 실패", e);
+        }
+    }
+
+    long currentGeneration() {
+        long generation = localGeneration.get();
+        if (generation == UNKNOWN) {
+            generation = fetchGeneration();
+            generation = localGeneration.accumulateAndGet(generation, Math::max);
+        }
+        return generation;
+    }
+
+    private long fetchGeneration() {
+        Long generation = redisTemplate.opsForValue().get(GENERATION_KEY);
+        return (generation != null) ? generation : 0L;
+    }
+
+    /**
+     * 검색조건을 정규화해서 캐시 키 생성
+     * - keyword: 앞뒤 공백 제거, 없으면 빈값 (titleOnly 는 키워드가 있을 때만 의미 있음)
+     * - 정렬이 없으면 기본 정렬(createdAt DESC)과 같은 키
+     * - 커서 모드면 page 번호는 사용하지 않으므로 0
+     */
+    static String buildKey(long generation, NoticeListReqDTO req, Pageable pageable) {
+        String keyword = (req.getKeyword() != null) ? req.getKeyword().trim() : "";
+        boolean titleOnly = !keyword.isEmpty() && Boolean.TRUE.equals(req.getTitleOnly());
+        String cursor = (req.getCursor() != null) ? req.getCursor().trim() : null;
+        int page = (cursor != null) ? 0 : pageable.getPageNumber();
+        String sort = pageable.getSort().isSorted() ? pageable.getSort().toString() : DEFAULT_SORT;
+
+        return "g" + generation
+                + "|kw=" + keyword
+                + "|t=" + titleOnly
+                + "|from=" + req.getFromDate()
+                + "|to=" + req.getToDate()
+                + "|c=" + cursor
+                + "|p=" + page
+                + "|s=" + pageable.getPageSize()
+                + "|o=" + sort;
+    }
+}
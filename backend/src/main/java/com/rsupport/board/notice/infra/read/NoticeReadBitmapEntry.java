@@ -0,0 +1,26 @@
+package com.rsupport.board.notice.infra.read;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * notice_read_bitmap 테이블 정의 (ddl-auto=validate 로 스키마 확인용, 읽기/쓰기는 NoticeReadBitmapRepository 의 jdbc)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "notice_read_bitmap")
+public class NoticeReadBitmapEntry {
+    @Id
+    @Column(name = "notice_id")
+    private Long noticeId;
+
+    // roaring bitmap 직렬화 값
+    @Column(name = "readers", nullable = false, columnDefinition = "BLOB")
+    private byte[] readers;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,114 @@
+package com.rsupport.board.notice.infra.read;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * 공지별 읽은 회원 bitmap 저장소 (jdbc)
+ *
+ * - notice_read_bitmap(notice_id, readers, updated_at): 공지 하나당 한 행, readers 는 roaring bitmap 직렬화 값
+ *   (회원 10만명이 전부 읽어도 수십 KB 이하, run 압축 시 더 작음)
+ * - 여러 노드가 같은 공지에 동시에 반영할 수 있으므로 행 잠금(FOR UPDATE) 후 OR 로 합쳐서 저장
+ * - 새 행은 공지가 있을 때만 insert (다른 노드에서 삭제된 공지의 읽음 기록이 다시 생기지 않도록)
+ * - 테이블 정의는 NoticeReadBitmapEntry (db/schema/notice_read_bitmap.sql)
+ */
+@Repository
+public class NoticeReadBitmapRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public NoticeReadBitmapRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 공지들의 bitmap (기록이 없는 공지는 결과에 없음)
+     */
+    public Map<Long, RoaringBitmap> findByNoticeIds(Collection<Long> noticeIds) {
+        Map<Long, RoaringBitmap> found = new HashMap<>();
+        if (noticeIds.isEmpty()) {
+            return found;
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(noticeIds.size(), "?"));
+        jdbcTemplate.query("SELECT notice_id, readers FROM notice_read_bitmap WHERE notice_id IN (" + placeholders + ")",
+                (RowCallbackHandler) rs -> found.put(rs.getLong(1), deserialize(rs.getBytes(2))),
+                noticeIds.toArray());
+        return found;
+    }
+
+    /**
+     * updatedSince 이후 변경된 bitmap 전체
+     * 행마다 바로 넘겨서 한번에 메모리에 올리지 않음
+     */
+    public void findUpdatedSince(LocalDateTime updatedSince, BiConsumer<Long, RoaringBitmap> consumer) {
+        jdbcTemplate.query("SELECT notice_id, readers FROM notice_read_bitmap WHERE updated_at >= ?",
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1), deserialize(rs.getBytes(2))),
+                Timestamp.valueOf(updatedSince));
+    }
+
+    /**
+     * 저장된 bitmap 에 새로 읽은 회원을 합쳐서 저장
+     * 행이 없을 때 두 노드가 동시에 insert 하면 한쪽은 DuplicateKeyException (다음 주기에 재시도)
+     *
+     * @return 합쳐진 bitmap, 공지가 삭제되어 저장하지 않았으면 null
+     */
+    public RoaringBitmap merge(long noticeId, RoaringBitmap additions) {
+        return transactionTemplate.execute(status -> {
+            List<byte[]> rows = jdbcTemplate.query(
+                    "SELECT readers FROM notice_read_bitmap WHERE notice_id = ? FOR UPDATE",
+                    (rs, rowNum) -> rs.getBytes(1),
+                    noticeId
+            );
+
+            RoaringBitmap merged = additions.clone();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            if (rows.isEmpty()) {
+                int inserted = jdbcTemplate.update(
+                        "INSERT INTO notice_read_bitmap (notice_id, readers, updated_at) SELECT id, ?, ? FROM notice WHERE id = ?",
+                        serialize(merged), now, noticeId);
+                if (inserted == 0) {
+                    return null;
+                }
+            }
+            else {
+                merged.or(deserialize(rows.get(0)));
+                jdbcTemplate.update("UPDATE notice_read_bitmap SET readers = ?, updated_at = ? WHERE notice_id = ?",
+                        serialize(merged), now, noticeId);
+            }
+            return merged;
+        });
+    }
+
+    public void delete(long noticeId) {
+        jdbcTemplate.update("DELETE FROM notice_read_bitmap WHERE notice_id = ?", noticeId);
+    }
+
+    static byte[] serialize(RoaringBitmap bitmap) {
+        RoaringBitmap copy = bitmap.clone();
+        copy.runOptimize(); // 연속된 id 구간은 run 으로 압축
+        ByteBuffer buffer = ByteBuffer.allocate(copy.serializedSizeInBytes());
+        copy.serialize(buffer);
+        return buffer.array();
+    }
+
+    static RoaringBitmap deserialize(byte[] bytes) {
+        return new ImmutableRoaringBitmap(ByteBuffer.wrap(bytes)).toRoaringBitmap();
+    }
+}
@@ -0,0 +1,387 @@
+package com.rsupport.board.notice.infra.read;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rsupport.board.notice.domain.event.NoticeChangedEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 공지 읽음 여부 (roaring bitmap)
+ *
+ * - 공지마다 읽은 회원 id bitmap 하나 (DB 에는 직렬화해서 저장, NoticeReadBitmapRepository)
+ * - 메모리에는 필요한 공지의 bitmap 만 캐시 (caffeine, bitmap 크기(byte) 합계로 제한, 없으면 DB 에서 로딩)
+ *   - 읽음 여부: 공지 bitmap contains
+ *   - 안 읽은 공지 수: 게시 중인 공지 bitmap 을 돌면서 회원이 읽지 않은 공지 수 (SQL 집계 x)
+ *     게시 중인 공지의 bitmap 은 계속 캐시에 있어야 하므로, 캐시 크기는 게시 중인 공지의 bitmap 합계보다 크게 설정
+ * - 상세 조회 시에는 메모리에만 반영, 5초마다 새로 읽은 회원만 DB 에 합쳐서 저장 (실패하면 다음 주기에 재시도, 종료 시에도 저장)
+ *   아직 저장 안 된 읽음(pending)은 캐시에서 밀려나도 유지 (다시 로딩할 때 합침)
+ * - 다른 노드에서 읽은 기록은 30초마다 DB 에서 변경분만 가져와 캐시에 있는 공지에만 합침
+ * - 게시 중인 공지 id bitmap 은 1분마다 갱신, 공지 변경 이벤트와는 같은 잠금으로 교체 (갱신 중 변경은 새 bitmap 에 다시 반영)
+ * - 공지 삭제는 pub/sub 으로 다른 노드에도 전파 (메모리에서 삭제), 메세지를 놓쳐도 DB 에는 삭제된 공지의 기록이 다시 생기지 않음
+ * - 공지/회원 id 는 int 범위 (bitmap 키)
+ */
+@Slf4j
+@Component
+public class NoticeReadTracker implements MessageListener {
+    public static final String DELETED_CHANNEL = "notice:read:deleted";
+    private static final String DELIMITER = "|";
+    private static final long SYNC_OVERLAP_SECONDS = 60; // 노드간 시각 차이, 커밋 지연 여유
+
+    private final NoticeReadBitmapRepository readBitmapRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 공지 id -> 읽은 회원 (DB 저장분 + pending), bitmap 수정은 캐시의 compute 안에서만 (읽기/수정 모두 bitmap 잠금)
+    private final Cache<Integer, RoaringBitmap> readersByNotice;
+    private final Map<Integer, RoaringBitmap> pending = new ConcurrentHashMap<>(); // DB 에 아직 저장 안 된 읽음
+
+    // 게시 중인 공지 교체는 activeLock 안에서만 (읽기는 잠금 없이 volatile 참조)
+    private final Object activeLock = new Object();
+    private volatile RoaringBitmap activeNotices = new RoaringBitmap();
+    private Map<Integer, Boolean> changedDuringRefresh; // 갱신 중에 바뀐 공지 (공지 id -> 게시 중 여부), activeLock
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    public NoticeReadTracker(NoticeReadBitmapRepository readBitmapRepository,
+                             JdbcTemplate jdbcTemplate,
+                             StringRedisTemplate stringRedisTemplate,
+                             @Value("${notice.read.cache-size:64MB}") DataSize cacheSize) {
+        this.readBitmapRepository = readBitmapRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.readersByNotice = Caffeine.newBuilder()
+                .maximumWeight(cacheSize.toBytes())
+                .weigher((Integer notice, RoaringBitmap readers) -> readers.getSizeInBytes())
+                .build();
+    }
+
+    /**
+     * 기동 시 게시 중인 공지 로딩 (읽음 기록은 필요할 때 공지 단위로 로딩)
+     * 이후의 변경분만 동기화하면 되므로 동기화 기준 시각도 지금으로
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        lastSyncedAt = LocalDateTime.now();
+        refreshActiveNotices();
+    }
+
+    /**
+     * 공지 읽음 처리 (메모리만)
+     */
+    public void markRead(Long noticeId, Long memberId) {
+        int notice = Math.toIntExact(noticeId);
+        int member = Math.toIntExact(memberId);
+
+        try {
+            RoaringBitmap readers = readersByNotice.get(notice, id -> load(Set.of(id)).get(id));
+            synchronized (readers) {
+                if (readers.contains(member)) { // 이미 읽은 공지 (대부분의 재조회)
+                    return;
+                }
+            }
+        }
+        catch (RuntimeException e) {
+            // 읽은 적 있는지 모르면 그냥 저장 (DB 에서 OR 로 합치므로 중복 저장해도 같음)
+            log.warn("[NoticeReadTracker] 읽음 기록 로딩 실패: noticeId={}", noticeId, e);
+        }
+
+        pending.compute(notice, (id, bitmap) -> {
+            RoaringBitmap next = (bitmap != null) ? bitmap : new RoaringBitmap();
+            synchronized (next) {
+                next.add(member);
+            }
+            return next;
+        });
+        readersByNotice.asMap().computeIfPresent(notice, (id, readers) -> {
+            synchronized (readers) {
+                readers.add(member);
+            }
+            return readers; // 크기가 바뀌었으므로 다시 weigh
+        });
+    }
+
+    /**
+     * 회원의 공지별 읽음 여부 (목록 한 페이지용)
+     */
+    public Map<Long, Boolean> readStatus(Long memberId, Collection<Long> noticeIds) {
+        int member = Math.toIntExact(memberId);
+        Map<Integer, RoaringBitmap> readers = readersByNotice.getAll(
+                noticeIds.stream().map(Math::toIntExact).toList(), this::load);
+
+        Map<Long, Boolean> status = new LinkedHashMap<>();
+        for (Long noticeId : noticeIds) {
+            int notice = Math.toIntExact(noticeId);
+            status.put(noticeId, isRead(notice, member, readers.get(notice)));
+        }
+        return status;
+    }
+
+    /**
+     * 회원이 안 읽은 게시 중인 공지 수
+     */
+    public long unreadCount(Long memberId) {
+        int member = Math.toIntExact(memberId);
+        RoaringBitmap active = activeNotices;
+        List<Integer> notices = new ArrayList<>(active.getCardinality());
+        active.forEach((int notice) -> notices.add(notice));
+        Map<Integer, RoaringBitmap> readers = readersByNotice.getAll(notices, this::load);
+
+        long unread = 0;
+        for (Integer notice : notices) {
+            if (!isRead(notice, member, readers.get(notice))) {
+                unread++;
+            }
+        }
+        return unread;
+    }
+
+    /**
+     * 5초마다 새로 읽은 회원을 DB 에 합쳐서 저장
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public void flush() {
+        for (Integer notice : pending.keySet()) {
+            RoaringBitmap additions = pending.remove(notice);
+            if (additions == null || additions.isEmpty()) {
+                continue;
+            }
+
+            try {
+                RoaringBitmap merged = readBitmapRepository.merge(notice, additions);
+                if (merged == null) { // 그 사이 삭제된 공지 (삭제 메세지를 못 받은 경우 포함)
+                    removeNotice(notice);
+                    continue;
+                }
+                mergeLocal(notice, merged); // 다른 노드에서 읽은 기록도 같이 반영
+            }
+            catch (RuntimeException e) {
+                log.warn("[NoticeReadTracker] 읽음 저장 실패, 다음 주기에 재시도: noticeId={}", notice, e);
+                pending.merge(notice, additions, (current, failed) -> {
+                    synchronized (current) {
+                        current.or(failed);
+                    }
+                    return current;
+                });
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 읽음 저장
+     */
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 30초마다 다른 노드에서 저장한 읽음 기록 반영 (변경분 중 캐시에 있는 공지만)
+     */
+    @Scheduled(initialDelay = 30_000, fixedDelay = 30_000)
+    public void syncFromDb() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = (lastSyncedAt != null) ? lastSyncedAt : startedAt;
+        try {
+            readBitmapRepository.findUpdatedSince(since.minusSeconds(SYNC_OVERLAP_SECONDS),
+                    (noticeId, readers) -> mergeLocal(Math.toIntExact(noticeId), readers));
+            lastSyncedAt = startedAt;
+        }
+        catch (RuntimeException e) {
+            log.error("[NoticeReadTracker] 읽음 기록 동기화 실패", e);
+        }
+    }
+
+    /**
+     * 1분마다 게시 중인 공지 id 갱신
+     */
+    @Scheduled(initialDelay = 60_000, fixedDelay = 60_000)
+    public void refreshActiveNotices() {
+        synchronized (activeLock) {
+            changedDuringRefresh = new HashMap<>();
+        }
+        try {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            RoaringBitmap next = new RoaringBitmap();
+            jdbcTemplate.query("SELECT id FROM notice WHERE start_at <= ? AND end_at >= ?",
+                    (RowCallbackHandler) rs -> next.add(Math.toIntExact(rs.getLong(1))), now, now);
+
+            // 조회 중에 들어온 변경은 조회 결과에 없을 수 있으므로 다시 반영 후 교체
+            synchronized (activeLock) {
+                changedDuringRefresh.forEach((notice, active) -> {
+                    if (active) {
+                        next.add(notice);
+                    }
+                    else {
+                        next.remove(notice);
+                    }
+                });
+                next.runOptimize();
+                activeNotices = next;
+            }
+        }
+        catch (RuntimeException e) {
+            log.error("[NoticeReadTracker] 게시 중인 공지 갱신 실패", e);
+        }
+        finally {
+            synchronized (activeLock) {
+                changedDuringRefresh = null;
+            }
+        }
+    }
+
+    /**
+     * 공지 등록/수정 -> 게시 중인 공지 반영 (다음 갱신을 기다리지 않도록)
+     * 공지 삭제 -> 읽음 기록 삭제, 다른 노드에도 전파
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        int notice = Math.toIntExact(event.getNoticeId());
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            boolean active = event.getType() != NoticeChangedEvent.Type.DELETED
+                    && !event.getStartAt().isAfter(now) && !event.getEndAt().isBefore(now);
+            setActive(notice, active);
+
+            if (event.getType() == NoticeChangedEvent.Type.DELETED) {
+                removeNotice(notice);
+                readBitmapRepository.delete(event.getNoticeId());
+                publishDeleted(notice);
+            }
+        }
+        catch (RuntimeException e) {
+            log.error("[NoticeReadTracker] 공지 변경 반영 실패: type={}, noticeId={}", event.getType(), event.getNoticeId(), e);
+        }
+    }
+
+    /**
+     * 다른 노드에서 삭제된 공지 -> 메모리에서 삭제 (DB 는 삭제한 노드가 처리)
+     * 메세지 형식: 노드id|공지id
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiter = body.indexOf(DELIMITER);
+        if (delimiter < 0 || nodeId.equals(body.substring(0, delimiter))) {
+            return;
+        }
+
+        try {
+            int notice = Integer.parseInt(body.substring(delimiter + 1));
+            setActive(notice, false);
+            removeNotice(notice);
+        }
+        catch (NumberFormatException e) {
+            log.warn("[NoticeReadTracker] 잘못된 삭제 메세지: {}", body);
+        }
+    }
+
+    // 게시 중인 공지 bitmap 교체 (복사 후 수정), 갱신 중이면 변경 기록
+    private void setActive(int notice, boolean active) {
+        synchronized (activeLock) {
+            RoaringBitmap next = activeNotices.clone();
+            if (active) {
+                next.add(notice);
+            }
+            else {
+                next.remove(notice);
+            }
+            activeNotices = next;
+
+            if (changedDuringRefresh != null) {
+                changedDuringRefresh.put(notice, active);
+            }
+        }
+    }
+
+    private void publishDeleted(int notice) {
+        try {
+            stringRedisTemplate.convertAndSend(DELETED_CHANNEL, nodeId + DELIMITER + notice);
+        }
+        catch (RuntimeException e) {
+            // 다른 노드는 다음 저장 시 공지가 없으면 메모리에서 삭제
+            log.warn("[NoticeReadTracker] 공지 삭제 전파 실패: noticeId={}", notice, e);
+        }
+    }
+
+    // 공지들의 읽음 기록 로딩 (DB 저장분 + 아직 저장 안 된 읽음), 기록이 없는 공지는 빈 bitmap
+    private Map<Integer, RoaringBitmap> load(Set<? extends Integer> notices) {
+        Map<Long, RoaringBitmap> stored = readBitmapRepository.findByNoticeIds(
+                notices.stream().map(Integer::longValue).toList());
+
+        Map<Integer, RoaringBitmap> loaded = new HashMap<>();
+        for (Integer notice : notices) {
+            RoaringBitmap readers = stored.getOrDefault(notice.longValue(), new RoaringBitmap());
+            RoaringBitmap unsaved = pending.get(notice);
+            if (unsaved != null) {
+                synchronized (unsaved) {
+                    readers.or(unsaved);
+                }
+            }
+            loaded.put(notice, readers);
+        }
+        return loaded;
+    }
+
+    // 로딩 중에 새로 읽은 회원은 캐시에 없을 수 있으므로 pending 도 확인
+    private boolean isRead(int notice, int member, RoaringBitmap readers) {
+        if (readers != null) {
+            synchronized (readers) {
+                if (readers.contains(member)) {
+                    return true;
+                }
+            }
+        }
+        RoaringBitmap unsaved = pending.get(notice);
+        if (unsaved == null) {
+            return false;
+        }
+        synchronized (unsaved) {
+            return unsaved.contains(member);
+        }
+    }
+
+    // DB 에서 가져온 bitmap 을 캐시에 있는 공지에만 합침 (없는 공지는 필요할 때 DB 에서 로딩)
+    private void mergeLocal(int notice, RoaringBitmap stored) {
+        readersByNotice.asMap().computeIfPresent(notice, (id, readers) -> {
+            synchronized (readers) {
+                readers.or(stored);
+            }
+            return readers;
+        });
+    }
+
+    private void removeNotice(int notice) {
+        pending.remove(notice);
+        readersByNotice.invalidate(notice);
+    }
+}
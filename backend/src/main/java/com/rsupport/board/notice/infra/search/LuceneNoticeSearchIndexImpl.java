@@ -0,0 +1,295 @@
+package com.rsupport.board.notice.infra.search;
+
+import com.rsupport.board.notice.api.dto.NoticeListReqDTO;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 로컬 디스크에 lucene 인덱스를 두고 공지 제목/내용을 검색
+ *
+ * - 한국어 분석기(nori) 로 제목/내용을 색인
+ * - 쓰기는 IndexWriter 하나로 처리하고, 검색은 SearcherManager 로 near-real-time 반영 (1초 주기 refresh)
+ * - 디스크 반영(commit)은 30초 주기 + 종료 시
+ * - 정렬은 createdAt 만 지원 (그 외 정렬은 LIKE 검색으로 fallback)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "notice.search.strategy", havingValue = "lucene")
+public class LuceneNoticeSearchIndexImpl implements NoticeSearchIndex {
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_ID_SORT = "id_sort";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_CREATED_AT = "created_at";
+    private static final String FIELD_START_AT = "start_at";
+    private static final String FIELD_END_AT = "end_at";
+
+    @Value("${notice.search.lucene.path}") // properties 에 설정한 인덱스 경로
+    private String indexPath;
+
+    private Analyzer analyzer;
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    private volatile boolean ready = true;
+
+    @PostConstruct
+    public void open() throws IOException {
+        analyzer = new KoreanAnalyzer();
+        directory = FSDirectory.open(Paths.get(indexPath));
+
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+
+        log.info("[NoticeSearchIndex] lucene 인덱스 오픈: path={}, docs={}", indexPath, count());
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.commit();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    /**
+     * 색인 변경분을 검색에 반영 (near-real-time)
+     */
+    @Scheduled(fixedDelay = 1_000)
+    public void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * 색인 변경분을 디스크에 반영
+     */
+    @Scheduled(fixedDelay = 30_000)
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    @Override
+    public void index(NoticeSearchDocument document) {
+        try {
+            writer.updateDocument(idTerm(document.getId()), toLuceneDocument(document));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("공지 색인에 실패했습니다: " + document.getId(), e);
+        }
+    }
+
+    @Override
+    public void indexAll(List<NoticeSearchDocument> documents) {
+        for (NoticeSearchDocument document : documents) {
+            index(document);
+        }
+    }
+
+    @Override
+    public void delete(Long noticeId) {
+        try {
+            writer.deleteDocuments(idTerm(noticeId));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("공지 색인 삭제에 실패했습니다: " + noticeId, e);
+        }
+    }
+
+    @Override
+    public void clear() {
+        try {
+            writer.deleteAll();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("인덱스 초기화에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public Optional<NoticeSearchHits> search(NoticeListReqDTO req, Pageable pageable) {
+        Sort sort = buildSort(pageable);
+        Query query = buildQuery(req);
+        if (!ready || sort == null || query == null) {
+            return Optional.empty();
+        }
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            int total = searcher.count(query);
+            long offset = pageable.getOffset();
+            if (offset >= total) {
+                return Optional.of(new NoticeSearchHits(List.of(), total));
+            }
+
+            // offset + size 까지만 정렬해서 가져오고 offset 이후만 사용
+            int topN = (int) Math.min(offset + pageable.getPageSize(), total);
+            TopFieldDocs topDocs = searcher.search(query, topN, sort);
+            StoredFields storedFields = searcher.storedFields();
+
+            List<Long> ids = new ArrayList<>(pageable.getPageSize());
+            for (int i = (int) offset; i < topDocs.scoreDocs.length; i++) {
+                Document doc = storedFields.document(topDocs.scoreDocs[i].doc, Set.of(FIELD_ID));
+                ids.add(Long.parseLong(doc.get(FIELD_ID)));
+            }
+            return Optional.of(new NoticeSearchHits(ids, total));
+        }
+        catch (IOException e) {
+            log.error("[NoticeSearchIndex] 검색 실패 -> LIKE 검색으로 대체: {}", req, e);
+            return Optional.empty();
+        }
+        finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                }
+                catch (IOException e) {
+                    log.warn("[NoticeSearchIndex] searcher 반환 실패", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public long count() {
+        return writer.getDocStats().numDocs;
+    }
+
+    @Override
+    public void setReady(boolean ready) {
+        this.ready = ready;
+    }
+
+    /**
+     * 키워드 + 기간 조건으로 lucene 쿼리 만들기
+     * 키워드가 분석기를 거쳐 토큰이 하나도 남지 않으면(ex. 특수문자만) null
+     */
+    private Query buildQuery(NoticeListReqDTO req) {
+        String keyword = (req.getKeyword() != null) ? req.getKeyword().trim() : "";
+        if (keyword.isEmpty()) {
+            return null;
+        }
+
+        QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+        Query titleQuery = queryBuilder.createBooleanQuery(FIELD_TITLE, keyword, BooleanClause.Occur.MUST);
+        if (titleQuery == null) {
+            return null;
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        if (Boolean.TRUE.equals(req.getTitleOnly())) { // 제목만
+            builder.add(titleQuery, BooleanClause.Occur.MUST);
+        }
+        else { // 제목+내용
+            Query contentQuery = queryBuilder.createBooleanQuery(FIELD_CONTENT, keyword, BooleanClause.Occur.MUST);
+            BooleanQuery.Builder keywordBuilder = new BooleanQuery.Builder()
+                    .add(titleQuery, BooleanClause.Occur.SHOULD);
+            if (contentQuery != null) {
+                keywordBuilder.add(contentQuery, BooleanClause.Occur.SHOULD);
+            }
+            builder.add(keywordBuilder.build(), BooleanClause.Occur.MUST);
+        }
+
+        // 등록일 검색 (fromDate ~ toDate), DB 검색과 같은 기준
+        if (req.getFromDate() != null) {
+            long from = toMillis(req.getFromDate().atStartOfDay());
+            builder.add(LongPoint.newRangeQuery(FIELD_START_AT, from, Long.MAX_VALUE), BooleanClause.Occur.FILTER);
+        }
+        if (req.getToDate() != null) {
+            long to = toMillis(req.getToDate().atTime(LocalTime.MAX));
+            builder.add(LongPoint.newRangeQuery(FIELD_END_AT, Long.MIN_VALUE, to), BooleanClause.Occur.FILTER);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * createdAt 정렬만 지원 (없으면 createdAt DESC), 동일 시각은 id 로 정렬
+     * 그 외 정렬(viewCount 등 자주 바뀌는 값)은 인덱스에 없으므로 null
+     */
+    private Sort buildSort(Pageable pageable) {
+        org.springframework.data.domain.Sort requested = pageable.getSort();
+        boolean reverse = true;
+
+        if (requested.isSorted()) {
+            org.springframework.data.domain.Sort.Order order = requested.getOrderFor("createdAt");
+            if (order == null || requested.stream().count() != 1) {
+                return null;
+            }
+            reverse = order.isDescending();
+        }
+
+        return new Sort(
+                new SortField(FIELD_CREATED_AT, SortField.Type.LONG, reverse),
+                new SortField(FIELD_ID_SORT, SortField.Type.LONG, reverse)
+        );
+    }
+
+    private Document toLuceneDocument(NoticeSearchDocument document) {
+        Document doc = new Document();
+        doc.add(new StringField(FIELD_ID, String.valueOf(document.getId()), Field.Store.YES));
+        doc.add(new NumericDocValuesField(FIELD_ID_SORT, document.getId()));
+        doc.add(new TextField(FIELD_TITLE, document.getTitle(), Field.Store.NO));
+        doc.add(new TextField(FIELD_CONTENT, document.getContent(), Field.Store.NO));
+        doc.add(new NumericDocValuesField(FIELD_CREATED_AT, toMillis(document.getCreatedAt())));
+        doc.add(new LongPoint(FIELD_START_AT, toMillis(document.getStartAt())));
+        doc.add(new LongPoint(FIELD_END_AT, toMillis(document.getEndAt())));
+        return doc;
+    }
+
+    private Term idTerm(Long noticeId) {
+        return new Term(FIELD_ID, String.valueOf(noticeId));
+    }
+
+    // 인덱스 안에서 비교만 하면 되므로 타임존은 UTC 로 고정
+    private long toMillis(LocalDateTime dateTime) {
+        return (dateTime != null) ? dateTime.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
+}
@@ -0,0 +1,75 @@
+package com.rsupport.board.notice.infra.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * fulltext 전략일 때 notice(title, content) FULLTEXT 인덱스(ngram parser) 가 있는지 확인
+ *
+ * - 인덱스는 스키마 스크립트로 생성 (db/schema/notice_fulltext_index.sql), 기동 시 DDL 을 실행하지 않음
+ * - 인덱스가 확인되기 전(isReady=false)에는 검색이 LIKE 로 fallback 됨
+ * - 기동 후 스크립트를 적용해도 재기동 없이 쓸 수 있도록, ready 가 아니면 1분마다 다시 확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notice.search.strategy", havingValue = "fulltext")
+public class NoticeFullTextIndexInitializer implements ApplicationRunner {
+    public static final String INDEX_NAME = "ft_notice_title_content";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean ready = false;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        checkIndex();
+    }
+
+    /**
+     * MATCH ... AGAINST 로 검색할 수 있는 상태인지 (인덱스 확인 완료)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 인덱스가 있으면 ready 로 표시 (이미 ready 면 아무것도 안 함)
+     */
+    @Scheduled(initialDelay = 60_000, fixedDelay = 60_000)
+    public synchronized void checkIndex() {
+        if (ready) {
+            return;
+        }
+
+        try {
+            ready = indexExists();
+            if (ready) {
+                log.info("[NoticeFullTextIndex] {} 인덱스 확인, fulltext 검색 사용", INDEX_NAME);
+            }
+            else {
+                log.warn("[NoticeFullTextIndex] {} 인덱스가 없음 (db/schema/notice_fulltext_index.sql 적용 필요), LIKE 검색 사용", INDEX_NAME);
+            }
+        }
+        catch (DataAccessException e) {
+            log.error("[NoticeFullTextIndex] {} 인덱스 확인 실패, LIKE 검색 사용", INDEX_NAME, e);
+        }
+    }
+
+    private boolean indexExists() {
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'notice' AND index_name = ?",
+                Integer.class,
+                INDEX_NAME
+        );
+        return exists != null && exists > 0;
+    }
+}
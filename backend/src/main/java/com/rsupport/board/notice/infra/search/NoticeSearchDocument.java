@@ -0,0 +1,32 @@
+package com.rsupport.board.notice.infra.search;
+
+import com.rsupport.board.notice.domain.event.NoticeChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 인덱스에 넣을 공지 정보
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeSearchDocument {
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+
+    public static NoticeSearchDocument from(NoticeChangedEvent event) {
+        return new NoticeSearchDocument(
+                event.getNoticeId(),
+                event.getTitle(),
+                event.getContent(),
+                event.getCreatedAt(),
+                event.getStartAt(),
+                event.getEndAt()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.rsupport.board.notice.infra.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 검색 인덱스 조회 결과
+ * - ids: 요청한 페이지에 해당하는 공지 id (정렬 순서 유지)
+ * - totalHits: 조건에 맞는 전체 건수
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeSearchHits {
+    private final List<Long> ids;
+    private final long totalHits;
+}
@@ -0,0 +1,52 @@
+package com.rsupport.board.notice.infra.search;
+
+import com.rsupport.board.notice.api.dto.NoticeListReqDTO;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 공지 전문 검색 인덱스
+ * : 키워드 + 기간 조건으로 공지 id 만 찾고, 실제 목록 데이터는 DB 에서 해당 페이지만 조회
+ */
+public interface NoticeSearchIndex {
+    /**
+     * 공지 색인 (있으면 덮어씀)
+     */
+    void index(NoticeSearchDocument document);
+
+    /**
+     * 공지 여러 건 색인 (재색인용)
+     */
+    void indexAll(List<NoticeSearchDocument> documents);
+
+    /**
+     * 공지 색인 삭제
+     */
+    void delete(Long noticeId);
+
+    /**
+     * 인덱스 비우기 (재색인 시작 시)
+     */
+    void clear();
+
+    /**
+     * 검색
+     *
+     * @param req 검색 조건 (keyword, titleOnly, fromDate, toDate)
+     * @param pageable 페이지 + 정렬 조건
+     * @return 인덱스로 처리할 수 없는 요청(지원하지 않는 정렬, 재색인 중 등)이면 empty -> LIKE 검색으로 fallback
+     */
+    Optional<NoticeSearchHits> search(NoticeListReqDTO req, Pageable pageable);
+
+    /**
+     * 색인된 문서 수
+     */
+    long count();
+
+    /**
+     * 재색인 중에는 검색 요청을 받지 않도록 설정
+     */
+    void setReady(boolean ready);
+}
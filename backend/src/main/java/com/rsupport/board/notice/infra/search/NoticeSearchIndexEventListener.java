@@ -0,0 +1,96 @@
+package com.rsupport.board.notice.infra.search;
+
+import com.rsupport.board.notice.domain.event.NoticeChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 공지 등록/수정/삭제가 커밋되면 검색 인덱스에 반영
+ * (롤백된 변경은 인덱스에 들어가지 않도록 AFTER_COMMIT)
+ * 재색인 중이면 반영 전에 재색인기에 변경을 알림 (재색인 배치가 예전 내용으로 덮어쓴 것을 끝난 뒤 바로잡음)
+ *
+ * - lucene 인덱스는 노드마다 로컬 디스크에 있으므로, 변경된 공지 id 를 pub/sub 으로 다른 노드에 알리고
+ *   받은 노드는 DB 에서 다시 읽어서 반영 (없으면 삭제)
+ * - 메세지를 놓친 노드(redis 연결 끊김 등)는 notice.search.lucene.rebuild=true 로 재기동해서 재색인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notice.search.strategy", havingValue = "lucene")
+public class NoticeSearchIndexEventListener implements MessageListener {
+    public static final String CHANGED_CHANNEL = "notice:search:changed";
+    private static final String DELIMITER = "|";
+
+    private final NoticeSearchIndex noticeSearchIndex;
+    private final NoticeSearchIndexRebuilder noticeSearchIndexRebuilder;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        noticeSearchIndexRebuilder.recordChange(event.getNoticeId());
+        try {
+            if (event.getType() == NoticeChangedEvent.Type.DELETED) {
+                noticeSearchIndex.delete(event.getNoticeId());
+            }
+            else {
+                noticeSearchIndex.index(NoticeSearchDocument.from(event));
+            }
+        }
+        catch (RuntimeException e) {
+            // 인덱스 반영 실패가 공지 저장 자체를 실패시키지는 않음 (재색인으로 복구)
+            log.error("[NoticeSearchIndex] 색인 반영 실패: type={}, noticeId={}", event.getType(), event.getNoticeId(), e);
+        }
+        publishChanged(event.getNoticeId());
+    }
+
+    /**
+     * 다른 노드에서 변경된 공지 -> DB 에서 다시 읽어서 반영
+     * 메세지 형식: 노드id|공지id
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiter = body.indexOf(DELIMITER);
+        if (delimiter < 0 || nodeId.equals(body.substring(0, delimiter))) {
+            return;
+        }
+
+        Long noticeId;
+        try {
+            noticeId = Long.valueOf(body.substring(delimiter + 1));
+        }
+        catch (NumberFormatException e) {
+            log.warn("[NoticeSearchIndex] 잘못된 변경 메세지: {}", body);
+            return;
+        }
+
+        noticeSearchIndexRebuilder.recordChange(noticeId);
+        try {
+            noticeSearchIndexRebuilder.reindex(noticeId);
+        }
+        catch (RuntimeException e) {
+            log.error("[NoticeSearchIndex] 다른 노드 변경 반영 실패: noticeId={}", noticeId, e);
+        }
+    }
+
+    private void publishChanged(Long noticeId) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANGED_CHANNEL, nodeId + DELIMITER + noticeId);
+        }
+        catch (RuntimeException e) {
+            log.warn("[NoticeSearchIndex] 색인 변경 전파 실패: noticeId={}", noticeId, e);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.rsupport.board.notice.infra.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기존 공지 전체 재색인
+ *
+ * - 인덱스가 비어 있거나 notice.search.lucene.rebuild=true 로 기동하면 실행
+ *   (ex. java -jar app.jar --notice.search.lucene.rebuild=true)
+ * - id 순서로 1,000건씩 읽어서(keyset) 색인, 기동을 막지 않도록 별도 스레드에서 진행
+ * - 재색인 중에는 검색이 LIKE 로 fallback 됨
+ * - 실패하면 인덱스가 불완전하므로 성공할 때까지 재시도 (5초부터 두배씩, 최대 5분 간격)
+ * - 재색인 중에도 등록/수정/삭제 이벤트는 인덱스에 바로 반영되므로, 먼저 읽어둔 배치가 그 위에 예전 내용을 덮어쓸 수 있음
+ *   -> 재색인 중 변경된 공지 id 를 모아두고, 전체 색인이 끝난 뒤 DB 에서 다시 읽어서 반영 (더 이상 변경이 없을 때까지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notice.search.strategy", havingValue = "lucene")
+public class NoticeSearchIndexRebuilder implements ApplicationRunner {
+    private static final int BATCH_SIZE = 1_000;
+    private static final String SELECT_SQL = "SELECT id, title, content, created_at, start_at, end_at FROM notice ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NoticeSearchIndex noticeSearchIndex;
+
+    @Value("${notice.search.lucene.rebuild:false}")
+    private boolean rebuild;
+
+    @Value("${notice.search.lucene.rebuild-retry.initial-backoff:5s}")
+    private Duration retryInitialBackoff;
+
+    @Value("${notice.search.lucene.rebuild-retry.max-backoff:5m}")
+    private Duration retryMaxBackoff;
+
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding = false;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!rebuild && noticeSearchIndex.count() > 0) {
+            return;
+        }
+
+        Thread rebuildThread = new Thread(this::rebuildUntilSucceeded, "notice-search-rebuild");
+        rebuildThread.setDaemon(true);
+        rebuildThread.start();
+    }
+
+    /**
+     * 공지 변경 이벤트를 인덱스에 반영하기 전에 호출 (재색인 중이면 끝난 뒤 DB 기준으로 다시 반영)
+     */
+    public void recordChange(Long noticeId) {
+        if (rebuilding) {
+            changedDuringRebuild.add(noticeId);
+        }
+    }
+
+    /**
+     * 공지 하나를 DB 에서 다시 읽어서 반영 (없어졌으면 삭제)
+     */
+    public void reindex(Long noticeId) {
+        List<NoticeSearchDocument> current = jdbcTemplate.query(SELECT_SQL + "WHERE id = ?", this::toDocument, noticeId);
+        if (current.isEmpty()) {
+            noticeSearchIndex.delete(noticeId);
+        }
+        else {
+            noticeSearchIndex.index(current.get(0));
+        }
+    }
+
+    /**
+     * 재색인이 성공할 때까지 대기 시간을 두배씩 늘리며 재시도 (ready 가 계속 false 로 남지 않도록)
+     */
+    void rebuildUntilSucceeded() {
+        Duration backoff = retryInitialBackoff;
+        while (!rebuild()) {
+            log.warn("[NoticeSearchIndex] {}ms 후 재색인 재시도", backoff.toMillis());
+            try {
+                Thread.sleep(backoff.toMillis());
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            backoff = backoff.multipliedBy(2);
+            if (backoff.compareTo(retryMaxBackoff) > 0) {
+                backoff = retryMaxBackoff;
+            }
+        }
+    }
+
+    /**
+     * 인덱스를 비우고 notice 테이블 전체를 다시 색인
+     *
+     * @return 성공 여부 (실패하면 ready 는 false 로 남음)
+     */
+    public synchronized boolean rebuild() {
+        log.info("[NoticeSearchIndex] 재색인 시작");
+        long startedAt = System.currentTimeMillis();
+        noticeSearchIndex.setReady(false);
+        changedDuringRebuild.clear();
+        rebuilding = true;
+
+        try {
+            noticeSearchIndex.clear();
+
+            long lastId = 0L;
+            long indexed = 0L;
+            while (true) {
+                List<NoticeSearchDocument> batch = jdbcTemplate.query(
+                        SELECT_SQL + "WHERE id > ? ORDER BY id LIMIT ?", this::toDocument, lastId, BATCH_SIZE);
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                noticeSearchIndex.indexAll(batch);
+                lastId = batch.get(batch.size() - 1).getId();
+                indexed += batch.size();
+                if (indexed % 50_000 == 0) {
+                    log.info("  - [NoticeSearchIndex] {}건 색인...", indexed);
+                }
+            }
+
+            int replayed = replayChanges();
+            noticeSearchIndex.setReady(true);
+            log.info("[NoticeSearchIndex] 재색인 완료: {}건 (재색인 중 변경 {}건 재반영), {}ms",
+                    indexed, replayed, System.currentTimeMillis() - startedAt);
+            return true;
+        }
+        catch (RuntimeException e) {
+            // 인덱스가 불완전하므로 ready 는 false 로 두고 재시도 전까지 LIKE 검색 사용
+            rebuilding = false;
+            log.error("[NoticeSearchIndex] 재색인 실패", e);
+            return false;
+        }
+    }
+
+    /**
+     * 재색인 중 변경된 공지를 DB 에서 다시 읽어서 반영 (없어졌으면 삭제), 새로 변경된 게 없을 때까지 반복
+     * 마지막 확인 이후의 이벤트는 재색인이 더 이상 쓰지 않으므로 이벤트 리스너의 반영이 최종값
+     */
+    private int replayChanges() {
+        int replayed = 0;
+        while (true) {
+            List<Long> ids = new ArrayList<>(changedDuringRebuild);
+            if (ids.isEmpty()) {
+                rebuilding = false;
+                return replayed;
+            }
+            changedDuringRebuild.removeAll(ids);
+
+            for (Long id : ids) {
+                reindex(id);
+            }
+            replayed += ids.size();
+        }
+    }
+
+    private NoticeSearchDocument toDocument(ResultSet rs, int rowNum) throws SQLException {
+        return new NoticeSearchDocument(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("content"),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("start_at")),
+                toLocalDateTime(rs.getTimestamp("end_at"))
+        );
+    }
+
+    private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return (timestamp != null) ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.rsupport.board.notice.infra.search;
+
+/**
+ * 공지 키워드 검색 전략 (notice.search.strategy)
+ *
+ * - LIKE: DB LIKE '%keyword%' 검색 (기본값, 다른 전략이 처리할 수 없을 때의 fallback)
+ * - LUCENE: 내장 lucene 인덱스에서 id 를 찾고 해당 페이지만 DB 에서 조회
+ * - FULLTEXT: MySQL FULLTEXT(ngram parser) 인덱스로 MATCH ... AGAINST 검색 (제목 일치 우선 + 관련도순)
+ */
+public enum NoticeSearchStrategy {
+    LIKE,
+    LUCENE,
+    FULLTEXT;
+
+    /**
+     * 프로퍼티 값(대소문자 무시) -> 전략, 알 수 없는 값이면 LIKE
+     */
+    public static NoticeSearchStrategy from(String value) {
+        if (value == null) {
+            return LIKE;
+        }
+
+        for (NoticeSearchStrategy strategy : values()) {
+            if (strategy.name().equalsIgnoreCase(value.trim())) {
+                return strategy;
+            }
+        }
+        return LIKE;
+    }
+}
@@ -0,0 +1,37 @@
+package com.rsupport.board.notice.infra.stats;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * notice_view_stat_applied 테이블 정의 (ddl-auto=validate 로 스키마 확인용, 읽기/쓰기는 NoticeViewStatRepository 의 jdbc)
+ * 통계에 반영한 (분, 세대) 표시
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "notice_view_stat_applied")
+@IdClass(NoticeViewStatAppliedEntry.Key.class)
+public class NoticeViewStatAppliedEntry {
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Id
+    @Column(name = "generation")
+    private Long generation;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDateTime bucketStart;
+        private Long generation;
+    }
+}
@@ -0,0 +1,43 @@
+package com.rsupport.board.notice.infra.stats;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * notice_view_stat 테이블 정의 (ddl-auto=validate 로 스키마 확인용, 읽기/쓰기는 NoticeViewStatRepository 의 jdbc)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "notice_view_stat",
+        indexes = @Index(name = "idx_notice_view_stat_bucket", columnList = "granularity, bucket_start")) // 보관 기간 정리용
+@IdClass(NoticeViewStatEntry.Key.class)
+public class NoticeViewStatEntry {
+    @Id
+    @Column(name = "notice_id")
+    private Long noticeId;
+
+    // ViewStatGranularity 코드 (M/H/D)
+    @Id
+    @Column(name = "granularity", columnDefinition = "CHAR(1)")
+    private String granularity;
+
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Column(name = "views", nullable = false)
+    private Long views;
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long noticeId;
+        private String granularity;
+        private LocalDateTime bucketStart;
+    }
+}
@@ -0,0 +1,137 @@
+package com.rsupport.board.notice.infra.stats;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공지 조회수 통계 저장소 (jdbc)
+ *
+ * - notice_view_stat(notice_id, granularity, bucket_start, views): 분(M)/시간(H)/일(D) 버킷별 조회수
+ * - 분 버킷 하나를 반영할 때 같은 트랜잭션에서 시간, 일 버킷에도 더함 (롤업)
+ * - 같은 분이 여러 번(세대) 반영될 수 있음 (가져간 뒤 늦게 들어온 조회), 분 버킷도 상위 버킷처럼 기존 행에 더함
+ * - 반영한 (분, 세대) 는 notice_view_stat_applied 에 표시해서 같은 세대를 다시 반영해도 중복으로 더해지지 않음 (redis 삭제 전에 죽은 경우)
+ * - 보관 기간이 지난 버킷은 스케줄러가 삭제 (분 버킷은 짧게, 일 버킷은 길게)
+ * - 테이블 정의는 NoticeViewStatEntry, NoticeViewStatAppliedEntry (db/schema/notice_view_stat*.sql)
+ */
+@Repository
+public class NoticeViewStatRepository {
+    private static final String INSERT_SQL =
+            "INSERT INTO notice_view_stat (notice_id, granularity, bucket_start, views) VALUES (?, ?, ?, ?)";
+    private static final String ADD_SQL =
+            "UPDATE notice_view_stat SET views = views + ? WHERE notice_id = ? AND granularity = ? AND bucket_start = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public NoticeViewStatRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 분 버킷 하나를 반영 (분 + 시간, 일 롤업)
+     *
+     * @param generation 분별 세대 번호 (1부터, 같은 분의 늦은 조회는 다음 세대)
+     * @return 이미 반영된 (분, 세대) 이면 false
+     */
+    public boolean applyMinute(LocalDateTime minute, long generation, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return false;
+        }
+
+        Boolean applied = transactionTemplate.execute(status -> {
+            // 반영 표시를 먼저 insert -> 이미 반영했거나 동시에 같은 세대를 반영하면 PK 중복 (아무것도 안 더함)
+            try {
+                jdbcTemplate.update("INSERT INTO notice_view_stat_applied (bucket_start, generation, applied_at) VALUES (?, ?, ?)",
+                        Timestamp.valueOf(ViewStatGranularity.MINUTE.truncate(minute)), generation,
+                        Timestamp.valueOf(LocalDateTime.now()));
+            }
+            catch (DuplicateKeyException e) {
+                return false;
+            }
+
+            addTo(ViewStatGranularity.MINUTE, minute, deltas);
+            addTo(ViewStatGranularity.HOUR, minute, deltas);
+            addTo(ViewStatGranularity.DAY, minute, deltas);
+            return true;
+        });
+        return Boolean.TRUE.equals(applied);
+    }
+
+    /**
+     * 공지 하나의 버킷별 조회수 (from 이상 to 미만, 조회수가 있는 버킷만)
+     */
+    public Map<LocalDateTime, Long> findSeries(Long noticeId, ViewStatGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        Map<LocalDateTime, Long> series = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT bucket_start, views FROM notice_view_stat " +
+                        "WHERE notice_id = ? AND granularity = ? AND bucket_start >= ? AND bucket_start < ? ORDER BY bucket_start",
+                (RowCallbackHandler) rs -> series.put(rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2)),
+                noticeId, granularity.getCode(), Timestamp.valueOf(from), Timestamp.valueOf(to)
+        );
+        return series;
+    }
+
+    /**
+     * 공지 하나의 기간 조회수 합계 (분 버킷 기준)
+     */
+    public long sumMinutes(Long noticeId, LocalDateTime from, LocalDateTime to) {
+        Long sum = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(views), 0) FROM notice_view_stat " +
+                        "WHERE notice_id = ? AND granularity = ? AND bucket_start >= ? AND bucket_start < ?",
+                Long.class, noticeId, ViewStatGranularity.MINUTE.getCode(), Timestamp.valueOf(from), Timestamp.valueOf(to)
+        );
+        return (sum != null) ? sum : 0L;
+    }
+
+    /**
+     * 보관 기간이 지난 버킷 삭제
+     */
+    public int deleteOlderThan(ViewStatGranularity granularity, LocalDateTime threshold) {
+        return jdbcTemplate.update("DELETE FROM notice_view_stat WHERE granularity = ? AND bucket_start < ?",
+                granularity.getCode(), Timestamp.valueOf(threshold));
+    }
+
+    /**
+     * 보관 기간이 지난 반영 표시 삭제 (분 버킷과 같은 보관 기간, 그보다 늦게 같은 분을 다시 반영하는 일은 없음)
+     */
+    public int deleteAppliedOlderThan(LocalDateTime threshold) {
+        return jdbcTemplate.update("DELETE FROM notice_view_stat_applied WHERE bucket_start < ?", Timestamp.valueOf(threshold));
+    }
+
+    // 버킷에 더하기, 없는 행은 insert
+    private void addTo(ViewStatGranularity granularity, LocalDateTime minute, Map<Long, Long> deltas) {
+        Timestamp bucketStart = Timestamp.valueOf(granularity.truncate(minute));
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+
+        int[][] updated = jdbcTemplate.batchUpdate(ADD_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+            ps.setString(3, granularity.getCode());
+            ps.setTimestamp(4, bucketStart);
+        });
+
+        // 갱신된 행이 없는 공지만 insert (rewriteBatchedStatements 를 켜면 건별 결과를 알 수 없으므로 켜지 말 것)
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (updated[0][i] == 0) {
+                Map.Entry<Long, Long> entry = entries.get(i);
+                inserts.add(new Object[]{entry.getKey(), granularity.getCode(), bucketStart, entry.getValue()});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+    }
+}
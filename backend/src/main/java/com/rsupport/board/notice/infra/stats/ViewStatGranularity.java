@@ -0,0 +1,37 @@
+package com.rsupport.board.notice.infra.stats;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 조회수 통계 단위 (분 -> 시간 -> 일 로 롤업)
+ *
+ * - code: 통계 테이블 granularity 컬럼 값
+ * - defaultBuckets: 통계 조회 시 기본으로 보여줄 버킷 수 (최근 60분, 24시간, 30일)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ViewStatGranularity {
+    MINUTE("M", ChronoUnit.MINUTES, 60),
+    HOUR("H", ChronoUnit.HOURS, 24),
+    DAY("D", ChronoUnit.DAYS, 30);
+
+    private final String code;
+    private final ChronoUnit unit;
+    private final int defaultBuckets;
+
+    /**
+     * 시각이 속한 버킷의 시작 시각
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public Duration bucketSize() {
+        return unit.getDuration();
+    }
+}
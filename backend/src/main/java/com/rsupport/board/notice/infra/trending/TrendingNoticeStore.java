@@ -0,0 +1,261 @@
+package com.rsupport.board.notice.infra.trending;
+
+import com.rsupport.board.common.leader.LeaderOnly;
+import com.rsupport.board.notice.api.dto.TrendingNoticeDTO;
+import com.rsupport.board.notice.domain.entity.Notice;
+import com.rsupport.board.notice.domain.event.NoticeChangedEvent;
+import com.rsupport.board.notice.domain.repository.NoticeRepository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 공지 (최근 조회수 기준 순위) 저장소 (redis)
+ *
+ * - score 해시(sorted set): 공지 id -> 감쇠 점수 (forward decay)
+ *   조회 n 건을 n * e^(λ(t - landmark)) 로 더해서, 새 조회일수록 큰 가중치 (λ = ln2 / 반감기)
+ *   현재 점수 = 저장된 점수 * e^(-λ(now - landmark)) 라서 순위는 저장된 점수 그대로 비교 가능 (top-N 은 ZREVRANGE)
+ * - 가중치가 계속 커지지 않도록 1시간마다 landmark 를 현재로 옮기고 전체 점수를 줄임 (rescale, 리더 한 곳에서만)
+ *   이때 점수가 아주 작아진 공지, max-size 를 넘는 하위 공지는 삭제
+ * - meta 해시: 공지 id -> "게시 시작|게시 종료|제목" (순위 조회 시 DB 를 거치지 않고 게시 기간 필터 + 응답)
+ *   공지 등록/수정/삭제 커밋 후 갱신, 없으면(기존 공지) 처음 순위에 오를 때 DB 에서 한번만 채움
+ * - 점수 반영, rescale 은 lua 로 실행해서 landmark 변경과 섞이지 않음
+ */
+@Slf4j
+@Component
+public class TrendingNoticeStore {
+    static final String SCORE_KEY = "{notice:trending}:score";
+    static final String META_KEY = "{notice:trending}:meta";
+    static final String LANDMARK_KEY = "{notice:trending}:landmark";
+
+    private static final String DELIMITER = "|";
+    private static final double MIN_SCORE = 0.01; // rescale 후 이보다 작으면 삭제 (조회 1건이 반감기 7번 정도 지난 값)
+
+    // ARGV[1]: now(초), ARGV[2]: λ, ARGV[3..]: 공지 id, 조회수 쌍
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local landmark = tonumber(redis.call('GET', KEYS[2])) " +
+            "if not landmark then landmark = now; redis.call('SET', KEYS[2], now) end " +
+            "local weight = math.exp(tonumber(ARGV[2]) * (now - landmark)) " +
+            "for i = 3, #ARGV, 2 do " +
+            "  redis.call('ZINCRBY', KEYS[1], tonumber(ARGV[i + 1]) * weight, ARGV[i]) " +
+            "end " +
+            "return 1",
+            Long.class
+    );
+
+    // ARGV[1]: now(초), ARGV[2]: λ, ARGV[3]: 최소 점수, ARGV[4]: 최대 공지 수
+    private static final RedisScript<Long> RESCALE_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local landmark = tonumber(redis.call('GET', KEYS[2])) " +
+            "if not landmark then redis.call('SET', KEYS[2], now) return 0 end " +
+            "local maxSize = tonumber(ARGV[4]) " +
+            "if redis.call('ZCARD', KEYS[1]) > maxSize then redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(maxSize + 1)) end " +
+            "local factor = math.exp(-tonumber(ARGV[2]) * (now - landmark)) " +
+            "local entries = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES') " +
+            "local removed = 0 " +
+            "for i = 1, #entries, 2 do " +
+            "  local score = tonumber(entries[i + 1]) * factor " +
+            "  if score < tonumber(ARGV[3]) then " +
+            "    redis.call('ZREM', KEYS[1], entries[i]) " +
+            "    removed = removed + 1 " +
+            "  else " +
+            "    redis.call('ZADD', KEYS[1], score, entries[i]) " +
+            "  end " +
+            "end " +
+            "redis.call('SET', KEYS[2], now) " +
+            "return removed",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NoticeRepository noticeRepository;
+    private final double lambda;
+    private final int maxSize;
+
+    public TrendingNoticeStore(StringRedisTemplate stringRedisTemplate,
+                               NoticeRepository noticeRepository,
+                               @Value("${notice.trending.half-life:6h}") Duration halfLife,
+                               @Value("${notice.trending.max-size:10000}") int maxSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.noticeRepository = noticeRepository;
+        this.lambda = Math.log(2) / halfLife.toSeconds();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 조회수 반영 (노드 로컬 누적값을 redis 에 보낼 때 같이 호출)
+     */
+    public void record(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(deltas.size() * 2 + 2);
+        args.add(String.valueOf(nowSeconds()));
+        args.add(String.valueOf(lambda));
+        deltas.forEach((noticeId, delta) -> {
+            args.add(String.valueOf(noticeId));
+            args.add(String.valueOf(delta));
+        });
+        stringRedisTemplate.execute(RECORD_SCRIPT, List.of(SCORE_KEY, LANDMARK_KEY), args.toArray());
+    }
+
+    /**
+     * 현재 게시 중인 공지 중 최근 조회수 상위 size 개
+     * 게시 기간이 아닌 공지는 건너뛰고 다음 순위를 더 가져옴 (게시 종료된 공지는 삭제)
+     */
+    public List<TrendingNoticeDTO> findTop(int size) {
+        double decay = currentDecay();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<TrendingNoticeDTO> result = new ArrayList<>(size);
+        int batch = size * 2;
+        long offset = 0;
+        for (int round = 0; round < 5 && result.size() < size; round++) {
+            Set<ZSetOperations.TypedTuple<String>> ranked =
+                    stringRedisTemplate.opsForZSet().reverseRangeWithScores(SCORE_KEY, offset, offset + batch - 1);
+            if (ranked == null || ranked.isEmpty()) {
+                break;
+            }
+            offset += ranked.size();
+
+            List<Long> ids = ranked.stream().map(tuple -> Long.parseLong(tuple.getValue())).toList();
+            Map<Long, String[]> metas = findMetas(ids);
+
+            for (ZSetOperations.TypedTuple<String> tuple : ranked) {
+                Long noticeId = Long.parseLong(tuple.getValue());
+                String[] meta = metas.get(noticeId);
+                if (meta == null) { // 삭제된 공지
+                    remove(noticeId);
+                    continue;
+                }
+
+                LocalDateTime startAt = LocalDateTime.parse(meta[0]);
+                LocalDateTime endAt = LocalDateTime.parse(meta[1]);
+                if (endAt.isBefore(now)) { // 게시 종료 -> 다시 오를 일 없음
+                    remove(noticeId);
+                    continue;
+                }
+                if (startAt.isAfter(now)) { // 게시 전
+                    continue;
+                }
+
+                result.add(new TrendingNoticeDTO(noticeId, meta[2], startAt, endAt, tuple.getScore() * decay));
+                if (result.size() == size) {
+                    break;
+                }
+            }
+
+            if (ranked.size() < batch) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 1시간마다 landmark 를 현재로 옮기고 점수 축소 (리더 한 곳에서만)
+     */
+    @Scheduled(initialDelay = 1, fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    @LeaderOnly("notice-trending-rescale")
+    public void rescale() {
+        Long removed = stringRedisTemplate.execute(
+                RESCALE_SCRIPT, List.of(SCORE_KEY, LANDMARK_KEY),
+                String.valueOf(nowSeconds()), String.valueOf(lambda), String.valueOf(MIN_SCORE), String.valueOf(maxSize)
+        );
+        log.info("[TrendingNoticeStore] 점수 rescale 완료: removed={}", removed);
+    }
+
+    /**
+     * 공지 등록/수정이 커밋되면 meta 갱신, 삭제면 순위에서도 삭제
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        try {
+            if (event.getType() == NoticeChangedEvent.Type.DELETED) {
+                remove(event.getNoticeId());
+            }
+            else {
+                stringRedisTemplate.opsForHash().put(META_KEY, String.valueOf(event.getNoticeId()),
+                        toMeta(event.getStartAt(), event.getEndAt(), event.getTitle()));
+            }
+        }
+        catch (RuntimeException e) {
+            log.error("[TrendingNoticeStore] meta 반영 실패: type={}, noticeId={}", event.getType(), event.getNoticeId(), e);
+        }
+    }
+
+    /**
+     * 공지 meta 조회, redis 에 없는 공지만 DB 에서 한번에 조회해서 채움 (DB 에도 없으면 결과에서 제외)
+     */
+    private Map<Long, String[]> findMetas(List<Long> ids) {
+        List<Object> fields = ids.stream().map(id -> (Object) String.valueOf(id)).toList();
+        List<Object> values = stringRedisTemplate.opsForHash().multiGet(META_KEY, fields);
+
+        Map<Long, String[]> metas = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                metas.put(ids.get(i), value.toString().split("\\" + DELIMITER, 3));
+            }
+            else {
+                missing.add(ids.get(i));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<String, String> loaded = new HashMap<>();
+            for (Notice notice : noticeRepository.findAllById(missing)) {
+                String meta = toMeta(notice.getStartAt(), notice.getEndAt(), notice.getTitle());
+                loaded.put(String.valueOf(notice.getId()), meta);
+                metas.put(notice.getId(), meta.split("\\" + DELIMITER, 3));
+            }
+            if (!loaded.isEmpty()) {
+                stringRedisTemplate.opsForHash().putAll(META_KEY, loaded);
+            }
+        }
+        return metas;
+    }
+
+    private void remove(Long noticeId) {
+        String member = String.valueOf(noticeId);
+        stringRedisTemplate.opsForZSet().remove(SCORE_KEY, member);
+        stringRedisTemplate.opsForHash().delete(META_KEY, member);
+    }
+
+    // 저장된 점수 -> 현재 점수 배율
+    private double currentDecay() {
+        String landmark = stringRedisTemplate.opsForValue().get(LANDMARK_KEY);
+        if (landmark == null) {
+            return 1.0;
+        }
+        return Math.exp(-lambda * (nowSeconds() - Long.parseLong(landmark)));
+    }
+
+    private String toMeta(LocalDateTime startAt, LocalDateTime endAt, String title) {
+        return startAt + DELIMITER + endAt + DELIMITER + title;
+    }
+
+    private long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
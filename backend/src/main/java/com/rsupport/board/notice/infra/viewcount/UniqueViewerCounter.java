@@ -0,0 +1,132 @@
+package com.rsupport.board.notice.infra.viewcount;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rsupport.board.notice.domain.event.NoticeChangedEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공지별 순 조회자 수 (redis HyperLogLog)
+ *
+ * - 같은 회원이 여러번 조회해도 한번만 셈 (오차 약 0.81%, 공지당 최대 12KB)
+ * - 조회 시에는 노드 로컬에 (공지 id -> 회원 id 들) 만 모아두고,
+ *   조회수 누적기와 같은 200ms 주기로 PFADD 를 파이프라인 한번으로 반영 (실패하면 다시 돌려놓고 재시도)
+ * - 마지막 조회 후 ttl(기본 90일)이 지나면 키 만료, 공지 삭제 시 바로 삭제
+ * - 순 조회자 수(PFCOUNT)는 1초 로컬 캐싱
+ */
+@Slf4j
+@Component
+public class UniqueViewerCounter {
+    static final String KEY_PREFIX = "notice:uv:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+    private final ConcurrentHashMap<Long, Set<Long>> pending = new ConcurrentHashMap<>();
+    private final Cache<Long, Long> counts = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(1))
+            .build();
+
+    public UniqueViewerCounter(StringRedisTemplate stringRedisTemplate,
+                               @Value("${notice.unique-viewer.ttl:90d}") Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 조회한 회원 기록 (메모리만)
+     * compute 로 추가해서 flush 의 remove 와 겹치지 않음
+     */
+    public void record(Long noticeId, Long memberId) {
+        pending.compute(noticeId, (id, viewers) -> {
+            Set<Long> set = (viewers != null) ? viewers : new HashSet<>();
+            set.add(memberId);
+            return set;
+        });
+    }
+
+    /**
+     * 순 조회자 수 (추정값)
+     */
+    public long count(Long noticeId) {
+        Long count = counts.get(noticeId, id -> stringRedisTemplate.opsForHyperLogLog().size(key(id)));
+        return (count != null) ? count : 0L;
+    }
+
+    /**
+     * 로컬에 모아둔 조회자 -> redis
+     */
+    @Scheduled(fixedDelay = 200)
+    public void flush() {
+        Map<Long, Set<Long>> viewers = new HashMap<>();
+        for (Long noticeId : pending.keySet()) {
+            Set<Long> set = pending.remove(noticeId);
+            if (set != null && !set.isEmpty()) {
+                viewers.put(noticeId, set);
+            }
+        }
+        if (viewers.isEmpty()) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                viewers.forEach((noticeId, memberIds) -> {
+                    String key = key(noticeId);
+                    conn.pfAdd(key, memberIds.stream().map(String::valueOf).toArray(String[]::new));
+                    conn.expire(key, ttl.toSeconds());
+                });
+                return null;
+            });
+            counts.invalidateAll(viewers.keySet());
+        }
+        catch (RuntimeException e) {
+            log.warn("[UniqueViewerCounter] redis 반영 실패, 다음 주기에 재시도: count={}", viewers.size(), e);
+            viewers.forEach((noticeId, memberIds) -> memberIds.forEach(memberId -> record(noticeId, memberId)));
+        }
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 공지 삭제가 커밋되면 순 조회자 기록도 삭제
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (event.getType() != NoticeChangedEvent.Type.DELETED) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.delete(key(event.getNoticeId()));
+        }
+        catch (RuntimeException e) {
+            log.error("[UniqueViewerCounter] 순 조회자 기록 삭제 실패: noticeId={}", event.getNoticeId(), e);
+        }
+    }
+
+    private String key(Long noticeId) {
+        return KEY_PREFIX + noticeId;
+    }
+}
@@ -0,0 +1,192 @@
+package com.rsupport.board.notice.infra.viewcount;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import com.rsupport.board.notice.infra.trending.TrendingNoticeStore;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 노드 로컬 조회수 누적기
+ *
+ * - 조회 시에는 메모리(LongAdder)에만 더함 (락, 네트워크 I/O 없음)
+ * - 200ms 마다 누적값을 꺼내서 redis 미반영 조회수 해시에 파이프라인 한번으로 반영
+ * - redis 반영에 실패하면 누적값을 다시 돌려놓고 다음 주기에 재시도
+ * - 종료 시(@PreDestroy) 남은 누적값 반영 (server.shutdown=graceful 로 요청 처리가 끝난 뒤)
+ * - redis 반영에 성공하면 인기 공지 점수에도 반영 (실패해도 재시도 x, 순위용 근사값)
+ * - 실시간 조회수 = redis 미반영 조회수(1초 로컬 캐싱) + 아직 redis 에 안 보낸 로컬 누적값
+ * - 조회가 없는 공지의 LongAdder 는 바로 지우지 않음 (지우는 순간 옛 LongAdder 를 들고 있던 조회가 사라질 수 있음)
+ *   - 오래(기본 1분) 조회가 없을 때만 맵에서 빼고, 뺀 LongAdder 도 한동안(기본 10분) 매 flush 마다 남은 값을 꺼내서 반영
+ *   - 빼기 직전/직후에 옛 LongAdder 에 더해진 조회도 다음 flush 에 반영됨
+ */
+@Slf4j
+@Component
+public class ViewCountAccumulator {
+    private final ViewCountStore viewCountStore;
+    private final TrendingNoticeStore trendingNoticeStore;
+    private static final Duration EVICT_AFTER_IDLE = Duration.ofMinutes(1);
+    private static final Duration RETIRED_DRAIN_PERIOD = Duration.ofMinutes(10);
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    // 아래 두 개는 flush 에서만 사용 (flush 는 synchronized)
+    private final Map<Long, Long> lastActiveNanos = new HashMap<>();
+    private final List<RetiredCounter> retired = new ArrayList<>();
+    private final long evictAfterIdleNanos;
+    private final long retiredDrainNanos;
+    private final Cache<Long, Long> redisDeltas = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(1))
+            .build();
+
+    @Autowired
+    public ViewCountAccumulator(ViewCountStore viewCountStore, TrendingNoticeStore trendingNoticeStore) {
+        this(viewCountStore, trendingNoticeStore, EVICT_AFTER_IDLE, RETIRED_DRAIN_PERIOD);
+    }
+
+    ViewCountAccumulator(ViewCountStore viewCountStore, TrendingNoticeStore trendingNoticeStore,
+                         Duration evictAfterIdle, Duration retiredDrainPeriod) {
+        this.viewCountStore = viewCountStore;
+        this.trendingNoticeStore = trendingNoticeStore;
+        this.evictAfterIdleNanos = evictAfterIdle.toNanos();
+        this.retiredDrainNanos = retiredDrainPeriod.toNanos();
+    }
+
+    /**
+     * 조회수 1 증가 (메모리만)
+     */
+    public void increment(Long noticeId) {
+        counters.computeIfAbsent(noticeId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수 (redis + 로컬)
+     */
+    public long getLiveDelta(Long noticeId) {
+        Long redisDelta = redisDeltas.get(noticeId, viewCountStore::getPendingDelta);
+        LongAdder local = counters.get(noticeId);
+        return ((redisDelta != null) ? redisDelta : 0L) + ((local != null) ? local.sum() : 0L);
+    }
+
+    /**
+     * 여러 공지의 아직 DB 에 반영되지 않은 조회수 (목록 한 페이지용)
+     * 로컬 캐시에 없는 공지만 모아서 redis 파이프라인 한번으로 조회
+     */
+    public Map<Long, Long> getLiveDeltas(Collection<Long> noticeIds) {
+        if (noticeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> redis = redisDeltas.getAll(noticeIds, ids -> {
+            Map<Long, Long> loaded = new HashMap<>(viewCountStore.getPendingDeltas(new ArrayList<>(ids)));
+            ids.forEach(id -> loaded.putIfAbsent(id, 0L)); // 미반영 조회수가 없는 공지도 캐싱
+            return loaded;
+        });
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long noticeId : noticeIds) {
+            LongAdder local = counters.get(noticeId);
+            long delta = redis.getOrDefault(noticeId, 0L) + ((local != null) ? local.sum() : 0L);
+            if (delta != 0) {
+                deltas.put(noticeId, delta);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 로컬 누적값 -> redis
+     */
+    @Scheduled(fixedDelay = 200)
+    public synchronized void flush() {
+        long now = System.nanoTime();
+        Map<Long, Long> deltas = new HashMap<>();
+        counters.forEach((noticeId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.merge(noticeId, delta, Long::sum);
+                lastActiveNanos.put(noticeId, now);
+                return;
+            }
+
+            Long lastActive = lastActiveNanos.putIfAbsent(noticeId, now);
+            if (lastActive != null && now - lastActive >= evictAfterIdleNanos && counters.remove(noticeId, adder)) {
+                // 오래 조회가 없던 공지만 정리, 그 사이 옛 LongAdder 에 더해진 값은 retired 에서 꺼냄
+                lastActiveNanos.remove(noticeId);
+                retired.add(new RetiredCounter(noticeId, adder, now));
+            }
+        });
+        drainRetired(now, deltas);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            viewCountStore.incrementAll(deltas);
+            // 로컬 캐싱된 redis 값은 이제 옛날 값이므로 삭제
+            redisDeltas.invalidateAll(deltas.keySet());
+        }
+        catch (RuntimeException e) {
+            log.warn("[ViewCountAccumulator] redis 반영 실패, 다음 주기에 재시도: count={}", deltas.size(), e);
+            deltas.forEach((noticeId, delta) -> counters.computeIfAbsent(noticeId, id -> new LongAdder()).add(delta));
+            return;
+        }
+
+        try {
+            trendingNoticeStore.record(deltas);
+        }
+        catch (RuntimeException e) {
+            log.warn("[ViewCountAccumulator] 인기 공지 점수 반영 실패: count={}", deltas.size(), e);
+        }
+    }
+
+    /**
+     * 맵에서 뺀 LongAdder 에 남은 값 반영, 충분히 지난 것은 버림
+     */
+    private void drainRetired(long now, Map<Long, Long> deltas) {
+        Iterator<RetiredCounter> iterator = retired.iterator();
+        while (iterator.hasNext()) {
+            RetiredCounter counter = iterator.next();
+            long delta = counter.getAdder().sumThenReset();
+            if (delta != 0) {
+                deltas.merge(counter.getNoticeId(), delta, Long::sum);
+            }
+            else if (now - counter.getRetiredAtNanos() >= retiredDrainNanos) {
+                iterator.remove();
+            }
+        }
+    }
+
+    int trackedCount() {
+        return counters.size();
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class RetiredCounter {
+        private final Long noticeId;
+        private final LongAdder adder;
+        private final long retiredAtNanos;
+    }
+}
@@ -0,0 +1,24 @@
+package com.rsupport.board.notice.infra.viewcount;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * DB 에 반영할 조회수 묶음
+ *
+ * - batchId: inflight 로 옮길 때 부여한 id (반영이 실패해서 다시 가져와도 같은 id)
+ *   통계용 분 버킷은 분별 세대 번호 (ViewCountStore.claimMinute 참고)
+ * - deltas: 공지 id -> 증가시킬 조회수
+ */
+@Getter
+@AllArgsConstructor
+public class ViewCountBatch {
+    private final long batchId;
+    private final Map<Long, Long> deltas;
+
+    public boolean isEmpty() {
+        return deltas.isEmpty();
+    }
+}
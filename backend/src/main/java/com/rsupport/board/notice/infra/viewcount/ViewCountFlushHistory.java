@@ -0,0 +1,121 @@
+package com.rsupport.board.notice.infra.viewcount;
+
+import com.rsupport.board.notice.domain.event.ViewCountFlushedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최근 DB 반영 조회수 기록 (목록 캐시 보정용)
+ *
+ * - 목록 캐시는 읽은 시점의 DB 조회수를 들고 있고, 응답할 때는 미반영 조회수(pending + inflight)만 더함
+ *   -> 캐시된 뒤에 DB 로 옮겨진 조회수는 캐시 값에도 미반영 조회수에도 없음
+ * - 반영이 끝날 때마다 (시작/종료 시각, 공지별 조회수) 를 redis 에 남기고(목록 캐시 TTL 보다 길게 보관),
+ *   목록 캐시는 값을 읽은 이후의 반영분만 더해서 응답 (generation 을 올려서 전체 목록을 버리지 않음)
+ * - 조회할 때마다 redis 를 읽지 않도록 노드 로컬에 복사본을 두고, 반영 시 pub/sub 으로 알려서 새 기록만 가져옴
+ *   (메세지 유실 대비 주기적으로도 동기화)
+ */
+@Slf4j
+@Component
+public class ViewCountFlushHistory implements MessageListener {
+    public static final String FLUSHED_CHANNEL = "notice:view:flushed";
+    private static final Duration RETENTION_MARGIN = Duration.ofMinutes(1);
+
+    private final ViewCountStore viewCountStore;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration retention;
+    // 반영 시작 시각 -> 기록, sync 에서만 수정 (sync 는 synchronized)
+    private final Map<Long, ViewCountFlushRecord> records = new HashMap<>();
+    private volatile List<ViewCountFlushRecord> recent = List.of();
+    private volatile long syncedAt = 0L;
+
+    public ViewCountFlushHistory(ViewCountStore viewCountStore,
+                                 StringRedisTemplate stringRedisTemplate,
+                                 @Value("${notice.list-cache.ttl:5m}") Duration listCacheTtl,
+                                 @Value("${notice.list-cache.ttl-jitter:30s}") Duration listCacheTtlJitter) {
+        this.viewCountStore = viewCountStore;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.retention = listCacheTtl.plus(listCacheTtlJitter).plus(RETENTION_MARGIN);
+    }
+
+    /**
+     * 조회수가 DB 에 반영되면 (리더 노드) 반영 기록을 남기고 다른 노드에 알림
+     * 이벤트는 반영한 청크가 모두 커밋된 뒤에 발행되므로 지금이 종료 시각
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onViewCountFlushed(ViewCountFlushedEvent event) {
+        ViewCountFlushRecord record = new ViewCountFlushRecord(event.getOccurredAt(), System.currentTimeMillis(),
+                Map.copyOf(event.getDeltas()));
+        try {
+            viewCountStore.recordFlushed(record, retention);
+            stringRedisTemplate.convertAndSend(FLUSHED_CHANNEL, String.valueOf(record.getStartedAt()));
+        }
+        catch (RuntimeException e) {
+            // 최대 TTL 동안 목록 조회수가 반영분만큼 적게 보일 수 있음
+            log.error("[ViewCountFlushHistory] 조회수 반영 기록 저장 실패: noticeIds={}", event.getNoticeIds(), e);
+        }
+    }
+
+    /**
+     * 다른 노드에서 조회수를 반영했다는 메세지 수신 -> 새 기록 가져오기
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        sync();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncOnStartup() {
+        sync();
+    }
+
+    /**
+     * redis 의 반영 기록과 맞춤 (로컬에 없는 기록만 가져오고, 보관 기간이 지난 기록은 버림)
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public synchronized void sync() {
+        long now = System.currentTimeMillis();
+        long from = now - retention.toMillis();
+        try {
+            for (ViewCountFlushRecord record : viewCountStore.findFlushedSince(from, records.keySet())) {
+                records.put(record.getStartedAt(), record);
+            }
+            records.values().removeIf(record -> record.getFinishedAt() < from);
+            recent = List.copyOf(records.values());
+            syncedAt = now;
+        }
+        catch (RuntimeException e) {
+            log.warn("[ViewCountFlushHistory] 조회수 반영 기록 동기화 실패", e);
+        }
+    }
+
+    /**
+     * 보관 중인 최근 반영 기록 (공유 목록이라 수정 x)
+     */
+    public List<ViewCountFlushRecord> getRecent() {
+        return recent;
+    }
+
+    /**
+     * loadedAt 에 읽은 값 이후의 반영 기록을 로컬에 모두 들고 있는지
+     * - 아직 한번도 동기화하지 못했거나, 보관 기간보다 오래 전에 읽은 값이면 false (보정할 수 없음)
+     */
+    public boolean covers(long loadedAt, long skewMillis) {
+        long synced = syncedAt;
+        return synced > 0 && loadedAt > 0 && loadedAt - skewMillis >= synced - retention.toMillis();
+    }
+}
@@ -0,0 +1,52 @@
+package com.rsupport.board.notice.infra.viewcount;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 조회수 반영 기록 (멱등성 마커)
+ *
+ * - 청크를 반영하는 트랜잭션 안에서 (batch_id, 청크의 첫 공지 id ~ 마지막 공지 id) 를 같이 insert
+ * - 같은 배치를 다시 반영할 때 이미 커밋된 범위의 공지는 건너뜀 (DB 커밋 후 ack 전에 죽어도 두번 더해지지 않음)
+ * - 같은 청크를 동시에 반영하려 하면 PK 중복으로 한쪽이 롤백됨
+ * - 테이블 정의는 ViewCountFlushLogEntry (db/schema/view_count_flush_log.sql), 청크 UPDATE 와 같은 jdbc 트랜잭션에서 씀
+ */
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlushLog {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 배치에서 이미 커밋된 공지 id 범위 목록 ([first, last])
+     */
+    public List<long[]> findCommittedRanges(long batchId) {
+        return jdbcTemplate.query(
+                "SELECT first_notice_id, last_notice_id FROM view_count_flush_log WHERE batch_id = ?",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)},
+                batchId
+        );
+    }
+
+    /**
+     * 청크 반영 기록 (청크 UPDATE 와 같은 트랜잭션에서 호출)
+     */
+    public void record(long batchId, long firstNoticeId, long lastNoticeId, int noticeCount) {
+        jdbcTemplate.update(
+                "INSERT INTO view_count_flush_log (batch_id, first_notice_id, last_notice_id, notice_count, flushed_at) " +
+                        "VALUES (?, ?, ?, ?, ?)",
+                batchId, firstNoticeId, lastNoticeId, noticeCount, Timestamp.valueOf(LocalDateTime.now())
+        );
+    }
+
+    /**
+     * 오래된 기록 삭제
+     */
+    public int deleteOlderThan(LocalDateTime threshold) {
+        return jdbcTemplate.update("DELETE FROM view_count_flush_log WHERE flushed_at < ?", Timestamp.valueOf(threshold));
+    }
+}
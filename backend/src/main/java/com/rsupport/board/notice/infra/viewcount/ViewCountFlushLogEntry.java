@@ -0,0 +1,42 @@
+package com.rsupport.board.notice.infra.viewcount;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * view_count_flush_log 테이블 정의 (ddl-auto=validate 로 스키마 확인용, 읽기/쓰기는 ViewCountFlushLog 의 jdbc)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "view_count_flush_log")
+@IdClass(ViewCountFlushLogEntry.Key.class)
+public class ViewCountFlushLogEntry {
+    @Id
+    @Column(name = "batch_id")
+    private Long batchId;
+
+    @Id
+    @Column(name = "first_notice_id")
+    private Long firstNoticeId;
+
+    @Column(name = "last_notice_id", nullable = false)
+    private Long lastNoticeId;
+
+    @Column(name = "notice_count", nullable = false)
+    private Integer noticeCount;
+
+    @Column(name = "flushed_at", nullable = false)
+    private LocalDateTime flushedAt;
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long batchId;
+        private Long firstNoticeId;
+    }
+}
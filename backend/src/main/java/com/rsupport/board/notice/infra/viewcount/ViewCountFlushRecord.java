@@ -0,0 +1,21 @@
+package com.rsupport.board.notice.infra.viewcount;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * DB 에 반영된 조회수 기록 한 건 (목록 캐시 보정용)
+ *
+ * - startedAt: DB 반영을 시작한 시각 (epoch millis), 이보다 먼저 읽은 캐시 값에는 반영분이 없음
+ * - finishedAt: 반영한 청크가 모두 커밋된 시각 (epoch millis), 이보다 나중에 읽은 캐시 값에는 반영분이 있음
+ * - deltas: 공지 id -> DB 에 더한 조회수
+ */
+@Getter
+@AllArgsConstructor
+public class ViewCountFlushRecord {
+    private final long startedAt;
+    private final long finishedAt;
+    private final Map<Long, Long> deltas;
+}
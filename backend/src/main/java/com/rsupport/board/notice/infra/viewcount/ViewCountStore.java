@@ -0,0 +1,331 @@
+package com.rsupport.board.notice.infra.viewcount;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 아직 DB 에 반영되지 않은 조회수(delta) 저장소 (redis)
+ *
+ * - pending 해시: 노드 로컬 누적값을 주기적으로 HINCRBY (field: 공지 id, value: 누적 조회수)
+ * - 스케줄러가 반영할 때는 lua 로 pending -> inflight 를 RENAME 해서 통째로 가져감 (원자적)
+ *   RENAME 이후의 조회는 새 pending 해시에 쌓이므로 유실 없음
+ * - inflight 에는 배치 id 를 같이 저장 (DB 멱등성 마커용, ViewCountFlushLog 참고)
+ * - DB 반영이 끝나면 inflight 삭제(ack), 실패하면 inflight 가 남아서 다음 주기에 같은 배치 id 로 다시 반영
+ * - 조회수 조회는 pending + inflight 를 파이프라인 한번으로 읽음 (반영 중에도 조회수가 줄어 보이지 않도록)
+ * - DB 반영이 끝나면 반영 기록(시작/종료 시각 + 공지별 조회수)을 반영마다 해시 하나로 남김 (목록 캐시 보정용, ViewCountFlushHistory 참고)
+ *   반영 목록은 sorted set (member: 시작 시각, score: 종료 시각), 보관 기간이 지나면 만료
+ * - 통계용으로 분 단위 버킷에도 같이 쌓음 (스케줄러가 지난 분 버킷을 DB 통계 테이블로 옮기고 삭제)
+ *   분 버킷도 lua 로 claimed 키로 RENAME 해서 가져가고, 가져갈 때마다 분별 세대 번호를 부여
+ *   가져간 뒤 늦게 들어온 조회는 같은 분의 새 버킷에 쌓여서 다음 세대로 다시 반영됨
+ * - 키들은 같은 hash tag 를 써서 redis cluster 에서도 같은 슬롯
+ */
+@Component
+@RequiredArgsConstructor
+public class ViewCountStore {
+    static final String PENDING_KEY = "{notice:view}:pending";
+    static final String INFLIGHT_KEY = "{notice:view}:inflight";
+
+    static final String BATCH_FIELD = "batch";
+
+    // DB 반영 기록, 키 = 접두어 + 반영 시작 시각, 반영 목록은 FLUSHED_KEY
+    static final String FLUSHED_KEY = "{notice:view}:flushed";
+    static final String FLUSHED_KEY_PREFIX = "{notice:view}:flushed:";
+    static final String FINISHED_FIELD = "finished";
+
+    // 분 단위 조회수 (통계용), 키 = 접두어 + epoch 분, 처리 대기 중인 분 목록은 MINUTES_KEY
+    static final String MINUTE_KEY_PREFIX = "{notice:view}:minute:";
+    static final String MINUTES_KEY = "{notice:view}:minutes";
+    static final String CLAIMED_SUFFIX = ":claimed";
+    static final String GENERATION_SUFFIX = ":gen";
+    static final String GENERATION_FIELD = "gen";
+    private static final long MINUTE_KEY_TTL_SECONDS = 2 * 24 * 60 * 60; // 통계 반영이 계속 실패해도 무한히 쌓이지 않도록
+
+    // inflight 가 남아있으면(이전 반영 실패) 그대로, 없으면 pending 을 inflight 로 옮김
+    // inflight 에 배치 id 가 없으면 redis 서버 시각(마이크로초)으로 부여한 뒤 전체 반환
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+            "  if redis.call('EXISTS', KEYS[1]) == 0 then return {} end " +
+            "  redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "end " +
+            "if not redis.call('HGET', KEYS[2], ARGV[1]) then " +
+            "  local t = redis.call('TIME') " +
+            "  redis.call('HSET', KEYS[2], ARGV[1], t[1] .. string.format('%06d', tonumber(t[2]))) " +
+            "end " +
+            "return redis.call('HGETALL', KEYS[2])",
+            List.class
+    );
+
+    // claimed 가 남아있으면(이전 반영 실패) 그대로, 없으면 분 버킷을 claimed 로 옮기고 세대 번호(1, 2, ...) 부여 후 전체 반환
+    // 세대 키도 분 버킷과 같이 만료 (그 뒤에 같은 분이 다시 들어올 일은 없음)
+    private static final RedisScript<List> CLAIM_MINUTE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+            "  if redis.call('EXISTS', KEYS[1]) == 0 then return {} end " +
+            "  redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "  redis.call('HSET', KEYS[2], ARGV[1], redis.call('INCR', KEYS[3])) " +
+            "  redis.call('EXPIRE', KEYS[3], ARGV[2]) " +
+            "end " +
+            "return redis.call('HGETALL', KEYS[2])",
+            List.class
+    );
+
+    // claimed 삭제, 그 사이 늦은 조회로 분 버킷이 다시 생겼으면 목록에서 빼지 않음 (다음 주기에 다음 세대로 반영)
+    private static final RedisScript<Long> ACK_MINUTE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[2]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('SREM', KEYS[3], ARGV[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 여러 공지 조회수를 파이프라인 한번으로 증가 (노드 로컬 누적값 반영용)
+     * 통계용 현재 분 버킷에도 같이 더함
+     */
+    public void incrementAll(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        long minute = System.currentTimeMillis() / 60_000;
+        String minuteKey = MINUTE_KEY_PREFIX + minute;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            deltas.forEach((noticeId, delta) -> {
+                conn.hIncrBy(PENDING_KEY, String.valueOf(noticeId), delta);
+                conn.hIncrBy(minuteKey, String.valueOf(noticeId), delta);
+            });
+            conn.expire(minuteKey, MINUTE_KEY_TTL_SECONDS);
+            conn.sAdd(MINUTES_KEY, String.valueOf(minute));
+            return null;
+        });
+    }
+
+    /**
+     * 통계에 반영할 분 버킷 목록 (beforeMinute 이전, 오래된 순)
+     */
+    public List<Long> findMinutesBefore(long beforeMinute) {
+        Set<String> minutes = stringRedisTemplate.opsForSet().members(MINUTES_KEY);
+        if (minutes == null) {
+            return List.of();
+        }
+        return minutes.stream()
+                .map(Long::parseLong)
+                .filter(minute -> minute < beforeMinute)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 분 버킷을 claimed 로 옮기고 가져옴 (batchId = 분별 세대 번호)
+     * 반영이 끝나면 반드시 ackMinute() 호출, 반영 전에 죽으면 다음에 같은 세대로 다시 반환
+     * 가져갈 게 없으면 null
+     */
+    public ViewCountBatch claimMinute(long minute) {
+        String minuteKey = MINUTE_KEY_PREFIX + minute;
+        @SuppressWarnings("unchecked")
+        List<String> flat = stringRedisTemplate.execute(CLAIM_MINUTE_SCRIPT,
+                List.of(minuteKey, minuteKey + CLAIMED_SUFFIX, minuteKey + GENERATION_SUFFIX),
+                GENERATION_FIELD, String.valueOf(MINUTE_KEY_TTL_SECONDS));
+        if (flat == null || flat.isEmpty()) {
+            return null;
+        }
+
+        long generation = 0L;
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            if (GENERATION_FIELD.equals(flat.get(i))) {
+                generation = Long.parseLong(flat.get(i + 1));
+                continue;
+            }
+            long delta = parse(flat.get(i + 1));
+            if (delta > 0) {
+                deltas.put(Long.parseLong(flat.get(i)), delta);
+            }
+        }
+        return new ViewCountBatch(generation, deltas);
+    }
+
+    /**
+     * 분 버킷 통계 반영 완료 -> claimed 삭제
+     *
+     * @return 늦게 들어온 조회로 같은 분 버킷이 다시 생겨서 목록에 남겼으면 false
+     */
+    public boolean ackMinute(long minute) {
+        String minuteKey = MINUTE_KEY_PREFIX + minute;
+        Long removed = stringRedisTemplate.execute(ACK_MINUTE_SCRIPT,
+                List.of(minuteKey, minuteKey + CLAIMED_SUFFIX, MINUTES_KEY), String.valueOf(minute));
+        return removed == null || removed == 1L;
+    }
+
+    /**
+     * 공지 하나의 미반영 조회수 (pending + inflight)
+     */
+    public long getPendingDelta(Long noticeId) {
+        return getPendingDeltas(List.of(noticeId)).getOrDefault(noticeId, 0L);
+    }
+
+    /**
+     * 여러 공지의 미반영 조회수 (pending + inflight), 파이프라인 한번으로 조회
+     */
+    public Map<Long, Long> getPendingDeltas(Collection<Long> noticeIds) {
+        if (noticeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> ids = new ArrayList<>(noticeIds);
+        String[] fields = ids.stream().map(String::valueOf).toArray(String[]::new);
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.hMGet(PENDING_KEY, fields);
+            conn.hMGet(INFLIGHT_KEY, fields);
+            return null;
+        });
+
+        @SuppressWarnings("unchecked")
+        List<String> pending = (List<String>) results.get(0);
+        @SuppressWarnings("unchecked")
+        List<String> inflight = (List<String>) results.get(1);
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            long delta = parse(pending.get(i)) + parse(inflight.get(i));
+            if (delta != 0) {
+                deltas.put(ids.get(i), delta);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * DB 에 반영할 조회수를 inflight 로 옮기고 가져옴
+     * 반영이 끝나면 반드시 ack() 호출, 반영 전에 죽으면 다음 drain 에서 같은 배치 id 로 다시 반환
+     * 반영할 게 없으면 null
+     */
+    public ViewCountBatch drain() {
+        @SuppressWarnings("unchecked")
+        List<String> flat = stringRedisTemplate.execute(DRAIN_SCRIPT, List.of(PENDING_KEY, INFLIGHT_KEY), BATCH_FIELD);
+        if (flat == null || flat.isEmpty()) {
+            return null;
+        }
+
+        long batchId = 0L;
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            if (BATCH_FIELD.equals(flat.get(i))) {
+                batchId = Long.parseLong(flat.get(i + 1));
+                continue;
+            }
+            long delta = parse(flat.get(i + 1));
+            if (delta > 0) {
+                deltas.put(Long.parseLong(flat.get(i)), delta);
+            }
+        }
+        return new ViewCountBatch(batchId, deltas);
+    }
+
+    /**
+     * 일부 공지만 DB 반영 완료 -> inflight 에서 해당 공지만 삭제
+     * (나머지는 inflight 에 남아 다음 주기에 다시 반영)
+     */
+    public void ack(Collection<Long> noticeIds) {
+        if (noticeIds.isEmpty()) {
+            return;
+        }
+        Object[] fields = noticeIds.stream().map(String::valueOf).toArray();
+        stringRedisTemplate.opsForHash().delete(INFLIGHT_KEY, fields);
+    }
+
+    /**
+     * DB 반영 완료 -> inflight 삭제
+     */
+    public void ack() {
+        stringRedisTemplate.delete(INFLIGHT_KEY);
+    }
+
+    /**
+     * DB 반영 기록 저장 (기록 해시 + 반영 목록), 보관 기간이 지난 목록 항목은 같이 정리
+     */
+    public void recordFlushed(ViewCountFlushRecord record, Duration retention) {
+        String key = FLUSHED_KEY_PREFIX + record.getStartedAt();
+        Map<String, String> fields = new HashMap<>();
+        record.getDeltas().forEach((noticeId, delta) -> fields.put(String.valueOf(noticeId), String.valueOf(delta)));
+        fields.put(FINISHED_FIELD, String.valueOf(record.getFinishedAt()));
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.hMSet(key, fields);
+            conn.expire(key, retention.toSeconds());
+            conn.zAdd(FLUSHED_KEY, record.getFinishedAt(), String.valueOf(record.getStartedAt()));
+            conn.zRemRangeByScore(FLUSHED_KEY, Double.NEGATIVE_INFINITY, record.getFinishedAt() - retention.toMillis());
+            conn.expire(FLUSHED_KEY, retention.toSeconds());
+            return null;
+        });
+    }
+
+    /**
+     * finishedFrom 이후에 끝난 DB 반영 기록 중 known(반영 시작 시각) 에 없는 것만 조회
+     * 목록 조회 한번 + 기록 해시는 파이프라인 한번
+     */
+    public List<ViewCountFlushRecord> findFlushedSince(long finishedFrom, Set<Long> known) {
+        Set<String> members = stringRedisTemplate.opsForZSet().rangeByScore(FLUSHED_KEY, finishedFrom, Double.POSITIVE_INFINITY);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> startedAts = members.stream()
+                .map(Long::parseLong)
+                .filter(startedAt -> !known.contains(startedAt))
+                .toList();
+        if (startedAts.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            startedAts.forEach(startedAt -> conn.hGetAll(FLUSHED_KEY_PREFIX + startedAt));
+            return null;
+        });
+
+        List<ViewCountFlushRecord> records = new ArrayList<>(startedAts.size());
+        for (int i = 0; i < startedAts.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> hash = (Map<String, String>) results.get(i);
+            if (hash == null || !hash.containsKey(FINISHED_FIELD)) { // 그 사이 만료됨
+                continue;
+            }
+
+            long finishedAt = 0L;
+            Map<Long, Long> deltas = new HashMap<>();
+            for (Map.Entry<String, String> entry : hash.entrySet()) {
+                if (FINISHED_FIELD.equals(entry.getKey())) {
+                    finishedAt = Long.parseLong(entry.getValue());
+                    continue;
+                }
+                deltas.put(Long.parseLong(entry.getKey()), Long.parseLong(entry.getValue()));
+            }
+            records.add(new ViewCountFlushRecord(startedAts.get(i), finishedAt, deltas));
+        }
+        return records;
+    }
+
+    private long parse(String value) {
+        return (value != null) ? Long.parseLong(value) : 0L;
+    }
+}
@@ -0,0 +1,140 @@
+package com.rsupport.board.notice.infra.viewcount;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import com.rsupport.board.common.leader.LeaderFence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * 누적 조회수를 DB 에 반영
+ *
+ * - UPDATE notice SET view_count = view_count + ? WHERE id = ? 를 JDBC 배치로 실행 (같은 prepared statement 재사용)
+ * - chunk-size 개씩 나눠서 청크마다 짧은 트랜잭션으로 커밋 (row lock 을 오래 잡지 않도록)
+ * - 노드간 데드락을 피하기 위해 항상 id 오름차순으로 반영
+ * - 청크 UPDATE 와 같은 트랜잭션에서 반영 기록(ViewCountFlushLog)을 남기고,
+ *   같은 배치를 다시 반영할 때는 기록된 범위의 공지를 건너뜀 (커밋 후 ack 전에 죽어도 중복 반영 없음)
+ * - 청크 트랜잭션마다 리더 펜싱 토큰을 확인 (LeaderFence), lease 를 잃은 예전 리더의 늦은 청크는 롤백
+ * - 메트릭
+ *   - notice.view_count.flush.chunk: 청크 하나 UPDATE+커밋 시간 (= row lock 점유/대기 시간)
+ *   - notice.view_count.flush.rows: 반영한 공지 수 (처리량)
+ *   - notice.view_count.flush.lock_failures: 락 대기 타임아웃/데드락으로 실패한 청크 수
+ */
+@Slf4j
+@Component
+public class ViewCountWriter {
+    private static final String UPDATE_SQL = "UPDATE notice SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ViewCountFlushLog flushLog;
+    private final LeaderFence leaderFence;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Timer chunkTimer;
+    private final Counter rowCounter;
+    private final Counter lockFailureCounter;
+
+    public ViewCountWriter(JdbcTemplate jdbcTemplate,
+                           ViewCountFlushLog flushLog,
+                           LeaderFence leaderFence,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${notice.view-count.flush.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushLog = flushLog;
+        this.leaderFence = leaderFence;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.chunkTimer = Timer.builder("notice.view_count.flush.chunk")
+                .description("조회수 반영 청크 하나의 UPDATE+커밋 시간")
+                .register(meterRegistry);
+        this.rowCounter = Counter.builder("notice.view_count.flush.rows")
+                .description("DB 에 반영한 공지 조회수 건수")
+                .register(meterRegistry);
+        this.lockFailureCounter = Counter.builder("notice.view_count.flush.lock_failures")
+                .description("락 대기 실패(타임아웃, 데드락)로 롤백된 청크 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 청크 단위로 반영
+     * 청크가 커밋될 때마다 onChunkCommitted 에 해당 공지 id 들을 넘김 (이전 실행에서 이미 커밋된 공지 포함)
+     * 중간 청크가 실패하면 예외를 던지고, 이미 커밋된 청크는 그대로 유지
+     *
+     * @param batch 배치 id + (공지 id -> 증가시킬 조회수)
+     * @param lease 반영 작업의 lease 이름
+     * @param fencingToken 반영을 시작할 때 보유한 lease 의 펜싱 토큰
+     * @param onChunkCommitted 커밋된 청크의 공지 id 목록
+     */
+    public void write(ViewCountBatch batch, String lease, long fencingToken, Consumer<List<Long>> onChunkCommitted) {
+        long batchId = batch.getBatchId();
+        List<long[]> committedRanges = flushLog.findCommittedRanges(batchId);
+
+        List<Map.Entry<Long, Long>> sorted = new ArrayList<>();
+        List<Long> alreadyCommitted = new ArrayList<>();
+        for (Map.Entry<Long, Long> entry : new TreeMap<>(batch.getDeltas()).entrySet()) {
+            if (isCommitted(committedRanges, entry.getKey())) {
+                alreadyCommitted.add(entry.getKey());
+            }
+            else {
+                sorted.add(entry);
+            }
+        }
+
+        // 이전 실행에서 커밋까지 끝났는데 ack 가 안 된 공지 -> 반영 없이 ack 만
+        if (!alreadyCommitted.isEmpty()) {
+            log.info("[ViewCountWriter] 이미 반영된 공지 건너뜀: batchId={}, count={}", batchId, alreadyCommitted.size());
+            onChunkCommitted.accept(alreadyCommitted);
+        }
+
+        for (int from = 0; from < sorted.size(); from += chunkSize) {
+            List<Map.Entry<Long, Long>> chunk = sorted.subList(from, Math.min(from + chunkSize, sorted.size()));
+
+            try {
+                chunkTimer.record(() -> transactionTemplate.executeWithoutResult(status -> writeChunk(lease, fencingToken, batchId, chunk)));
+            }
+            catch (PessimisticLockingFailureException e) {
+                lockFailureCounter.increment();
+                throw e;
+            }
+
+            rowCounter.increment(chunk.size());
+            onChunkCommitted.accept(chunk.stream().map(Map.Entry::getKey).toList());
+        }
+    }
+
+    // 청크는 배치 공지 id 를 정렬해서 연속으로 자른 것이므로, 범위 안에 있으면 그 청크에 포함되어 있었음
+    private boolean isCommitted(List<long[]> committedRanges, long noticeId) {
+        for (long[] range : committedRanges) {
+            if (range[0] <= noticeId && noticeId <= range[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeChunk(String lease, long fencingToken, long batchId, List<Map.Entry<Long, Long>> chunk) {
+        leaderFence.check(lease, fencingToken);
+        // 마커를 먼저 insert -> 같은 청크를 동시에 반영하면 PK 중복으로 롤백
+        flushLog.record(batchId, chunk.get(0).getKey(), chunk.get(chunk.size() - 1).getKey(), chunk.size());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, chunk, chunk.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+}
@@ -1,8 +1,11 @@
 package com.rsupport.board.notice.service;
 
 import com.rsupport.board.notice.api.dto.*;
+import com.rsupport.board.notice.infra.stats.ViewStatGranularity;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface NoticeService {
 
     /**
@@ -22,6 +25,14 @@ public interface NoticeService {
      */
     NoticeListResDTO getNoticeList(NoticeListReqDTO req, Pageable pageable);
 
+    /**
+     * 인기 공지 조회 (최근 조회수 순, 게시 중인 공지만)
+     *
+     * @param size 조회할 개수
+     * @return 인기 공지 목록
+     */
+    List<TrendingNoticeDTO> getTrendingNotices(int size);
+
     /**
      * 공지 상세 조회 (read)
      *
@@ -31,6 +42,32 @@ public interface NoticeService {
      */
     NoticeResponseDTO getNotice(Long userId, Long noticeId);
 
+    /**
+     * 공지 조회 통계
+     *
+     * @param noticeId 공지 id
+     * @param granularity 시계열 버킷 단위 (분, 시간, 일)
+     * @return 조회수, 순 조회자 수, 최근 24시간 조회수, 버킷별 조회수
+     */
+    NoticeStatsDTO getNoticeStats(Long noticeId, ViewStatGranularity granularity);
+
+    /**
+     * 공지 읽음 여부 조회 (목록 한 페이지)
+     *
+     * @param userId 유저 id
+     * @param noticeIds 공지 id 목록
+     * @return 공지별 읽음 여부 (요청 순서대로)
+     */
+    List<NoticeReadStatusDTO> getReadStatus(Long userId, List<Long> noticeIds);
+
+    /**
+     * 안 읽은 공지 수 조회 (게시 중인 공지 기준)
+     *
+     * @param userId 유저 id
+     * @return 안 읽은 공지 수
+     */
+    UnreadCountDTO getUnreadCount(Long userId);
+
     /**
      * 공지 수정 (update)
      *
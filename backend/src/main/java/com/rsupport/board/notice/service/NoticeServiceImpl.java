@@ -6,26 +6,37 @@ import com.rsupport.board.member.domain.entity.Member;
 import com.rsupport.board.notice.api.dto.*;
 import com.rsupport.board.notice.domain.entity.Notice;
 import com.rsupport.board.notice.domain.entity.Attachment;
+import com.rsupport.board.notice.domain.event.NoticeChangedEvent;
 import com.rsupport.board.member.domain.repository.MemberRepository;
+import com.rsupport.board.member.infra.cache.MemberLookupCache;
+import com.rsupport.board.member.infra.cache.MemberSummary;
 import com.rsupport.board.notice.domain.repository.AttachmentRepository;
 import com.rsupport.board.notice.domain.repository.NoticeRepository;
-import com.rsupport.board.notice.infra.FileStorageService;
+import com.rsupport.board.notice.infra.AttachmentUploader;
+import com.rsupport.board.notice.infra.cache.NoticeDetailCache;
+import com.rsupport.board.notice.infra.cache.NoticeListCache;
+import com.rsupport.board.notice.infra.read.NoticeReadTracker;
+import com.rsupport.board.notice.infra.stats.NoticeViewStatRepository;
+import com.rsupport.board.notice.infra.stats.ViewStatGranularity;
+import com.rsupport.board.notice.infra.trending.TrendingNoticeStore;
+import com.rsupport.board.notice.infra.viewcount.UniqueViewerCounter;
+import com.rsupport.board.notice.infra.viewcount.ViewCountAccumulator;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.redis.core.ReactiveRedisOperations;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.util.CollectionUtils;
-import org.springframework.web.multipart.MultipartFile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -35,62 +46,88 @@ public class NoticeServiceImpl implements NoticeService {
     private final MemberRepository memberRepository;
     private final NoticeRepository noticeRepository;
     private final AttachmentRepository attachmentRepository;
-    private final FileStorageService fileStorageService;
-    private final RedisTemplate<String, Long> redisTemplate;
+    private final AttachmentUploader attachmentUploader;
+    private final TransactionOperations transactionOperations;
+    private final ViewCountAccumulator viewCountAccumulator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NoticeListCache noticeListCache;
+    private final NoticeDetailCache noticeDetailCache;
+    private final MemberLookupCache memberLookupCache;
+    private final TrendingNoticeStore trendingNoticeStore;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final NoticeReadTracker noticeReadTracker;
+    private final NoticeViewStatRepository noticeViewStatRepository;
 
     /**
      * 공지 등록 서비스 (create)
+     * - 첨부파일은 트랜잭션 밖에서 먼저 동시에 저장 -> DB 커넥션은 공지/첨부파일 행 저장하는 동안만 사용
+     * - 트랜잭션이 롤백되면 저장한 파일 삭제
      */
     @Override
-    @Transactional
-    @CacheEvict( // 새로운 공지 등록되면 캐싱해놨던 조회목록 초기화 해야함
-            value = "latestNotices", // 같은 캐시 이름
-            key = "'getNoticeList_0-20'", // 캐시 키 고정
-            beforeInvocation = false // 메서드가 성공한 뒤에 캐시 삭제
-    )
     public NoticeResponseDTO createNotice(NoticeCreateReqDTO req) {
         // 작성자 예외처리 (유저만 공지 등록 가능)
-        Member author = memberRepository.findById(req.getUserId())
-                .orElseThrow(()->new CustomExceptionHandler(ErrorCode.MEMBER_NOT_FOUND));
+        MemberSummary author = findMember(req.getUserId());
 
         // 시작일 < 종료일 예외처리
         if(req.getEndAt().isBefore(req.getStartAt()) || req.getEndAt().isEqual(req.getStartAt())) {
             throw new CustomExceptionHandler(ErrorCode.INVALID_DATE_RANGE);
         }
 
-        Notice notice = Notice.builder()
-                .member(author)
-                .title(req.getTitle())
-                .content(req.getContent())
-                .startAt(req.getStartAt())
-                .endAt(req.getEndAt())
-                .build();
-
-        // 첨부파일이 있을 경우
-        MultipartFile[] files = req.getFiles();
-        if (files != null && files.length > 0) {
-            for (MultipartFile file : files) {
-                if (!file.isEmpty()) {
-                    Attachment att = fileStorageService.store(file); // 파일저장 + Attachment 엔티티 반환
-                    notice.addAttachment(att);
-                }
-            }
+        // 첨부파일이 있을 경우 파일저장 + Attachment 엔티티 반환 (아직 DB 저장 전)
+        List<Attachment> attachments = attachmentUploader.storeAll(req.getFiles());
+
+        NoticeResponseDTO created;
+        try {
+            created = transactionOperations.execute(status -> {
+                // 존재 확인은 캐시로 했으므로 select 없이 참조만 (연관관계 FK 용)
+                Member authorRef = memberRepository.getReferenceById(author.getId());
+
+                Notice notice = Notice.builder()
+                        .member(authorRef)
+                        .title(req.getTitle())
+                        .content(req.getContent())
+                        .startAt(req.getStartAt())
+                        .endAt(req.getEndAt())
+                        .build();
+                attachments.forEach(notice::addAttachment);
+
+                Notice savedNotice = noticeRepository.save(notice);
+
+                // 커밋 후 검색 인덱스, 목록 캐시 등에 반영
+                eventPublisher.publishEvent(NoticeChangedEvent.created(savedNotice));
+
+                // 응답 DTO로 변환 (작성자는 참조(proxy)라 이름은 캐시값 사용)
+                return convertToBaseDTO(savedNotice, new AuthorInfoDTO(author.getId(), author.getName()));
+            });
+        }
+        catch (RuntimeException e) {
+            attachmentUploader.discard(attachments);
+            throw e;
         }
 
-        Notice savedNotice = noticeRepository.save(notice);
+        return withLiveViewCount(created);
+    }
 
-        // 응답 DTO로 변환
-        return convertToResDTO(savedNotice);
+    /**
+     * 회원 확인 (회원 조회 캐시 사용, 없으면 MEMBER_NOT_FOUND)
+     */
+    private MemberSummary findMember(Long userId) {
+        return memberLookupCache.find(userId)
+                .orElseThrow(()-> new CustomExceptionHandler(ErrorCode.MEMBER_NOT_FOUND));
     }
 
     /**
-     * 공지 -> response dto 로 변환
+     * 공지 -> response dto 로 변환 (조회수는 DB 값만, 상세 캐시에 저장하는 형태)
      */
-    private NoticeResponseDTO convertToResDTO(Notice notice) {
+    private NoticeResponseDTO convertToBaseDTO(Notice notice) {
         AuthorInfoDTO author = new AuthorInfoDTO(
                 notice.getMember().getId(),
                 notice.getMember().getName()
         );
+        return convertToBaseDTO(notice, author);
+    }
+
+    private NoticeResponseDTO convertToBaseDTO(Notice notice, AuthorInfoDTO author) {
 
         List<AttachmentInfoDTO> attachments = notice.getAttachments().stream()
                 .map(attachment -> new AttachmentInfoDTO(
@@ -101,10 +138,6 @@ public class NoticeServiceImpl implements NoticeService {
                 ))
                 .toList();
 
-        // 조회수는 db값 + redis 에 캐싱된 값
-         Long redisDelta = Optional.ofNullable(redisTemplate.opsForValue().get("notice:view:" + notice.getId())).orElse(0L);
-         long totalViewCount = notice.getViewCount() + redisDelta;
-
         return new NoticeResponseDTO(
                 notice.getId(),
                 notice.getTitle(),
@@ -113,27 +146,136 @@ public class NoticeServiceImpl implements NoticeService {
                 notice.getEndAt(),
                 notice.getCreatedAt(),
                 notice.getUpdatedAt(),
-                totalViewCount,
+                (long) notice.getViewCount(),
                 author,
-                attachments
+                attachments,
+                null
+        );
+    }
+
+    /**
+     * DB 조회수만 들어있는 dto -> 조회수에 redis 누적값을 더한 새 dto
+     * (캐시된 dto 는 공유 객체라 직접 수정하지 않고 복사)
+     */
+    private NoticeResponseDTO withLiveViewCount(NoticeResponseDTO base) {
+        long redisDelta = viewCountAccumulator.getLiveDelta(base.getId());
+
+        return new NoticeResponseDTO(
+                base.getId(),
+                base.getTitle(),
+                base.getContent(),
+                base.getStartAt(),
+                base.getEndAt(),
+                base.getCreatedAt(),
+                base.getUpdatedAt(),
+                base.getViewCount() + redisDelta,
+                base.getAuthor(),
+                base.getAttachments(),
+                base.getUniqueViewerCount()
         );
     }
 
     /**
      * 공지 목록 조회 서비스 (검색+페이지네이션)
+     * - 모든 검색조건/페이지 조합을 캐싱 (공지 등록/수정/삭제 시 generation 증가로 전체 무효화)
+     * - 캐시 hit 이면 db 커넥션을 잡지 않도록 트랜잭션 없이 조회
+     * - 조회수는 캐시/DB 값에 미반영 조회수를 페이지 단위로 한번에 더해서 응답 (상세 조회와 같은 값)
      */
     @Override
-    @Transactional
-    @Cacheable( // 캐시먼저 확인
-            value = "latestNotices",
-            key = "#root.methodName + '_' + #pageable.pageNumber + '-' + #pageable.pageSize",
-            condition = "#req.keyword == null && #req.fromDate == null && #req.toDate == null && #pageable.pageNumber == 0"
-    )
     public NoticeListResDTO getNoticeList(NoticeListReqDTO req, Pageable pageable) {
+        NoticeListResDTO cached = noticeListCache.get(req, pageable, () -> loadNoticeList(req, pageable));
+        return withLiveViewCounts(cached, pageable);
+    }
+
+    /**
+     * 목록 dto -> 조회수에 미반영 조회수를 더한 새 dto
+     * - 페이지의 공지 id 를 모아서 redis 조회 한번 (공지마다 조회 x)
+     * - 캐시된 dto 는 공유 객체라 직접 수정하지 않고 복사
+     * - 조회수 정렬이면 페이지 안에서 실시간 조회수로 다시 정렬 (페이지 경계는 DB 조회수 기준)
+     */
+    private NoticeListResDTO withLiveViewCounts(NoticeListResDTO base, Pageable pageable) {
+        List<NoticeListItemDTO> items = base.getNoticeList();
+        if (items == null || items.isEmpty()) {
+            return base;
+        }
+
+        Map<Long, Long> deltas = viewCountAccumulator.getLiveDeltas(
+                items.stream().map(NoticeListItemDTO::getId).toList()
+        );
+
+        List<NoticeListItemDTO> liveItems = new ArrayList<>(items.size());
+        for (NoticeListItemDTO item : items) {
+            long viewCount = item.getViewCount() + deltas.getOrDefault(item.getId(), 0L);
+            liveItems.add(new NoticeListItemDTO(
+                    item.getId(),
+                    item.getTitle(),
+                    item.getHasAttachment(),
+                    item.getCreatedAt(),
+                    item.getStartAt(),
+                    item.getEndAt(),
+                    (int) Math.min(viewCount, Integer.MAX_VALUE),
+                    item.getAuthor().getId(),
+                    item.getAuthor().getName()
+            ));
+        }
+
+        Sort.Order viewCountOrder = pageable.getSort().getOrderFor("viewCount");
+        if (viewCountOrder != null && pageable.getSort().iterator().next().equals(viewCountOrder)) {
+            Comparator<NoticeListItemDTO> byViewCount = Comparator.comparing(NoticeListItemDTO::getViewCount);
+            liveItems.sort(viewCountOrder.isDescending() ? byViewCount.reversed() : byViewCount); // 같은 조회수는 기존 순서 유지
+        }
+
+        return new NoticeListResDTO(liveItems, base.getPageInfo());
+    }
+
+    /**
+     * 캐시 miss 시 db 에서 목록 조회
+     */
+    private NoticeListResDTO loadNoticeList(NoticeListReqDTO req, Pageable pageable) {
+        // cursor 파라미터가 있으면 커서(keyset) 모드
+        if (req.getCursor() != null) {
+            return getNoticeListByCursor(req, pageable);
+        }
+
         Page<NoticeListItemDTO> searchedNoticeList = noticeRepository.findAllBySearchCondition(req, pageable);
         return convertToNoticeListDTO(searchedNoticeList);
     }
 
+    /**
+     * 커서 모드 목록 조회 (createdAt DESC, id DESC 순서만 지원)
+     * - 깊은 페이지도 offset 스캔 없이 조회
+     * - count 쿼리를 하지 않으므로 totalElements, totalPages 는 -1
+     */
+    private NoticeListResDTO getNoticeListByCursor(NoticeListReqDTO req, Pageable pageable) {
+        // 커서는 (createdAt, id) 기준이라 다른 정렬은 지원하지 않음
+        Sort sort = pageable.getSort();
+        Sort.Order createdAtOrder = sort.getOrderFor("createdAt");
+        boolean defaultSort = sort.isUnsorted()
+                || (createdAtOrder != null && createdAtOrder.isDescending() && sort.stream().count() == 1);
+        if (!defaultSort) {
+            throw new CustomExceptionHandler(ErrorCode.INVALID_CURSOR, "커서 모드는 최신 등록일순 정렬만 지원합니다.");
+        }
+
+        NoticeCursor cursor = NoticeCursor.decode(req.getCursor());
+        Slice<NoticeListItemDTO> slice = noticeRepository.findAllByCursor(req, cursor, pageable.getPageSize());
+
+        List<NoticeListItemDTO> content = slice.getContent();
+        String nextCursor = (slice.hasNext() && !content.isEmpty())
+                ? NoticeCursor.from(content.get(content.size() - 1)).encode()
+                : null;
+
+        NoticeListResDTO.PageInfo pageInfo = new NoticeListResDTO.PageInfo(
+                0,
+                pageable.getPageSize(),
+                -1L,
+                -1,
+                cursor == null,
+                !slice.hasNext(),
+                nextCursor
+        );
+        return new NoticeListResDTO(content, pageInfo);
+    }
+
     /**
      * Page<NoticeListItemDTO> -> NoticeListResDTO로 변환
      */
@@ -144,50 +286,138 @@ public class NoticeServiceImpl implements NoticeService {
                 page.getTotalElements(),
                 page.getTotalPages(),
                 page.isFirst(),
-                page.isLast()
+                page.isLast(),
+                null
         );
         return new NoticeListResDTO(page.getContent(), pageInfo);
     }
 
+    /**
+     * 인기 공지 조회 서비스
+     * - redis 의 감쇠 점수 순위에서 바로 조회 (DB 정렬 x)
+     */
+    @Override
+    public List<TrendingNoticeDTO> getTrendingNotices(int size) {
+        return trendingNoticeStore.findTop(size);
+    }
 
     /**
      * 공지 상세 조회 서비스 (read)
+     * - 공지 내용은 상세 캐시에서 조회 (캐시 hit 이면 공지 조회 쿼리 x)
+     * - 조회수만 매번 redis 누적값을 더해서 응답
      */
     @Override
-    @Transactional
     public NoticeResponseDTO getNotice(Long userId, Long noticeId) {
         // 작성자 예외처리 (유저만 공지 조회 가능)
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(()-> new CustomExceptionHandler(ErrorCode.MEMBER_NOT_FOUND));
+        findMember(userId);
+
+        // 공지 id 확인 (캐시에 없을 때만 db 조회)
+        NoticeResponseDTO cached = noticeDetailCache.get(noticeId, () -> {
+            Notice notice = noticeRepository.findWithMemberAndAttachmentsById(noticeId)
+                    .orElseThrow(()-> new CustomExceptionHandler(ErrorCode.NOTICE_NOT_FOUND));
+            return convertToBaseDTO(notice);
+        });
+
+        // 조회수 증가: 노드 로컬에 누적 (주기적으로 redis -> DB 반영)
+        viewCountAccumulator.increment(noticeId);
+        uniqueViewerCounter.record(noticeId, userId);
+        noticeReadTracker.markRead(noticeId, userId);
+
+        // 응답 DTO로 변환 (캐시된 DTO + 실시간 조회수 + 순 조회자 수)
+        NoticeResponseDTO res = withLiveViewCount(cached);
+        res.setUniqueViewerCount(uniqueViewerCounter.count(noticeId));
+        return res;
+    }
 
-        // 공지 id 확인
-        Notice notice = noticeRepository.findWithMemberAndAttachmentsById(noticeId)
-                .orElseThrow(()-> new CustomExceptionHandler(ErrorCode.NOTICE_NOT_FOUND));
+    /**
+     * 공지 조회 통계 서비스
+     * - 공지 확인은 상세 캐시 사용 (조회수 증가 x)
+     * - 시계열은 통계 테이블의 버킷 단위 롤업 값 (최근 버킷 수는 단위별 기본값)
+     */
+    @Override
+    public NoticeStatsDTO getNoticeStats(Long noticeId, ViewStatGranularity granularity) {
+        NoticeResponseDTO cached = noticeDetailCache.get(noticeId, () -> {
+            Notice notice = noticeRepository.findWithMemberAndAttachmentsById(noticeId)
+                    .orElseThrow(()-> new CustomExceptionHandler(ErrorCode.NOTICE_NOT_FOUND));
+            return convertToBaseDTO(notice);
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime to = granularity.truncate(now).plus(granularity.bucketSize());
+        LocalDateTime from = to.minus(granularity.bucketSize().multipliedBy(granularity.getDefaultBuckets()));
+        Map<LocalDateTime, Long> views = noticeViewStatRepository.findSeries(noticeId, granularity, from, to);
+
+        List<ViewBucketDTO> series = new ArrayList<>(granularity.getDefaultBuckets());
+        for (LocalDateTime bucket = from; bucket.isBefore(to); bucket = bucket.plus(granularity.bucketSize())) {
+            series.add(new ViewBucketDTO(bucket, views.getOrDefault(bucket, 0L)));
+        }
+
+        return new NoticeStatsDTO(
+                noticeId,
+                cached.getViewCount() + viewCountAccumulator.getLiveDelta(noticeId),
+                uniqueViewerCounter.count(noticeId),
+                noticeViewStatRepository.sumMinutes(noticeId, now.minusHours(24), now),
+                granularity.name(),
+                series
+        );
+    }
 
-        // 조회수 증가: redis INCR로 변경!!
-        String redisKey = "notice:view:" + noticeId;
-        //  redis에 키가 없으면 0에서 시작, 있으면 1씩 증가
-        redisTemplate.opsForValue().increment(redisKey, 1L);
-        
-        // 응답 DTO로 변환
-        return convertToResDTO(notice);
+    /**
+     * 공지 읽음 여부 조회 서비스
+     * - 메모리의 회원별 읽음 bitmap 으로 확인 (DB 조회 x)
+     */
+    @Override
+    public List<NoticeReadStatusDTO> getReadStatus(Long userId, List<Long> noticeIds) {
+        findMember(userId);
+
+        return noticeReadTracker.readStatus(userId, noticeIds).entrySet().stream()
+                .map(entry -> new NoticeReadStatusDTO(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * 안 읽은 공지 수 조회 서비스
+     * - 게시 중인 공지 bitmap 과 회원 읽음 bitmap 연산 (SQL 집계 x)
+     */
+    @Override
+    public UnreadCountDTO getUnreadCount(Long userId) {
+        findMember(userId);
+
+        return new UnreadCountDTO(userId, noticeReadTracker.unreadCount(userId));
     }
 
     /**
      * 공지 수정 서비스 (update)
+     * - 새 첨부파일은 트랜잭션 밖에서 먼저 동시에 저장 (등록과 같음), 롤백되면 저장한 파일 삭제
      */
     @Override
-    @Transactional
-    @CacheEvict( // 공지가 수정되면 캐싱해놨던 조회목록 초기화 해야함
-            value = "latestNotices", // 같은 캐시 이름
-            key = "'getNoticeList_0-20'", // 캐시 키 고정
-            beforeInvocation = false // 메서드가 성공한 뒤에 캐시 삭제
-    )
     public NoticeResponseDTO updateNotice(Long userId, Long noticeId, NoticeUpdateReqDTO req) {
         // 작성자 예외처리1 (회원여부)
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(()-> new CustomExceptionHandler(ErrorCode.MEMBER_NOT_FOUND));
+        findMember(userId);
 
+        // 요청만으로 알 수 있는 날짜 오류는 파일 저장 전에 확인 (나머지는 공지 조회 후 트랜잭션 안에서)
+        if (req.getStartAt() != null && req.getEndAt() != null && req.getStartAt().isAfter(req.getEndAt())) {
+            throw new CustomExceptionHandler(ErrorCode.INVALID_DATE_RANGE);
+        }
+
+        List<Attachment> newAttachments = attachmentUploader.storeAll(req.getNewFiles());
+
+        NoticeResponseDTO updated;
+        try {
+            updated = transactionOperations.execute(status -> applyUpdate(noticeId, req, newAttachments));
+        }
+        catch (RuntimeException e) {
+            attachmentUploader.discard(newAttachments);
+            throw e;
+        }
+
+        return withLiveViewCount(updated);
+    }
+
+    /**
+     * 공지 수정 내용 반영 (트랜잭션 안, 파일은 이미 저장된 상태)
+     */
+    private NoticeResponseDTO applyUpdate(Long noticeId, NoticeUpdateReqDTO req, List<Attachment> newAttachments) {
         // 수정할 공지 조회
         Notice notice = noticeRepository.findWithMemberAndAttachmentsById(noticeId)
                 .orElseThrow(()-> new CustomExceptionHandler(ErrorCode.NOTICE_NOT_FOUND));
@@ -242,35 +472,24 @@ public class NoticeServiceImpl implements NoticeService {
         }
 
         // 새로 추가된 파일이 있으면 추가해서 저장
-        MultipartFile[] newFiles = req.getNewFiles();
-        if (newFiles != null && newFiles.length > 0) {
-            for (MultipartFile file : newFiles) {
-                if (!file.isEmpty()) {
-                    Attachment savedAtt = fileStorageService.store(file);
-                    notice.addAttachment(savedAtt);
-                }
-            }
-        }
+        newAttachments.forEach(notice::addAttachment);
 
         // 변경된 notice를 저장
         Notice updatedNotice = noticeRepository.save(notice);
 
-        // 응답 DTO로 변환
-        return convertToResDTO(updatedNotice);
+        // 커밋 후 검색 인덱스, 목록 캐시 등에 반영
+        eventPublisher.publishEvent(NoticeChangedEvent.updated(updatedNotice));
+
+        // 응답 DTO로 변환 (연관 엔티티 접근이 있어서 트랜잭션 안에서)
+        return convertToBaseDTO(updatedNotice);
     }
 
     /**
      * 공지 삭제 조회 서비스 (delete)
      */
-    @CacheEvict( // 공지가 삭제되면 캐싱해놨던 조회목록 초기화 해야함
-            value = "latestNotices", // 같은 캐시 이름
-            key = "'getNoticeList_0-20'", // 캐시 키 고정
-            beforeInvocation = false // 메서드가 성공한 뒤에 캐시 삭제
-    )
     public void deleteNotice(Long userId, Long noticeId) {
         // 작성자 예외처리1 (회원여부)
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(()-> new CustomExceptionHandler(ErrorCode.MEMBER_NOT_FOUND));
+        findMember(userId);
 
         // 공지 조회 예외처리
         Notice notice = noticeRepository.findById(noticeId)
@@ -284,5 +503,8 @@ public class NoticeServiceImpl implements NoticeService {
         // 삭제
 //        attachmentRepository.deleteAllByNoticeId(noticeId);
         noticeRepository.delete(notice);
+
+        // 검색 인덱스, 목록 캐시 등에도 반영
+        eventPublisher.publishEvent(NoticeChangedEvent.deleted(noticeId));
     }
 }
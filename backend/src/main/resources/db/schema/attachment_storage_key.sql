@@ -0,0 +1,4 @@
+-- 첨부파일 저장소 키 컬럼 + 참조 수 확인용 인덱스 (Attachment.storageKey, StorageKey 참고)
+-- 기존 행의 키는 기동 후 AttachmentStorageKeyBackfiller 가 url 로 계산해서 채움
+ALTER TABLE attachment ADD COLUMN storage_key VARCHAR(191) NULL;
+CREATE INDEX idx_attachment_storage_key ON attachment (storage_key);
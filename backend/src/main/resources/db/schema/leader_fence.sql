@@ -0,0 +1,6 @@
+-- lease 별로 DB 에 쓴 적 있는 가장 큰 펜싱 토큰 (LeaderFence / LeaderFenceEntry)
+CREATE TABLE IF NOT EXISTS leader_fence (
+    name  VARCHAR(100) NOT NULL,
+    token BIGINT       NOT NULL,
+    PRIMARY KEY (name)
+);
@@ -0,0 +1,4 @@
+-- fulltext 검색 전략(notice.search.strategy=fulltext)용 notice(title, content) FULLTEXT 인덱스 (ngram parser)
+-- ngram 토큰 크기는 MySQL 서버 설정(ngram_token_size, 기본 2)을 따름
+-- 50만건 기준 수십초 걸림, 적용 전/중에는 검색이 LIKE 로 fallback 됨 (NoticeFullTextIndexInitializer)
+ALTER TABLE notice ADD FULLTEXT INDEX ft_notice_title_content (title, content) WITH PARSER ngram;
@@ -0,0 +1,7 @@
+-- 공지별 읽은 회원 bitmap (NoticeReadBitmapRepository / NoticeReadBitmapEntry)
+CREATE TABLE IF NOT EXISTS notice_read_bitmap (
+    notice_id  BIGINT      NOT NULL,
+    readers    BLOB        NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (notice_id)
+);
@@ -0,0 +1,9 @@
+-- 공지 조회수 통계 분(M)/시간(H)/일(D) 버킷 (NoticeViewStatRepository / NoticeViewStatEntry)
+CREATE TABLE IF NOT EXISTS notice_view_stat (
+    notice_id    BIGINT      NOT NULL,
+    granularity  CHAR(1)     NOT NULL,
+    bucket_start DATETIME(6) NOT NULL,
+    views        BIGINT      NOT NULL,
+    PRIMARY KEY (notice_id, granularity, bucket_start),
+    INDEX idx_notice_view_stat_bucket (granularity, bucket_start)
+);
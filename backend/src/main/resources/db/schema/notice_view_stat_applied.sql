@@ -0,0 +1,10 @@
+-- 통계에 반영한 (분, 세대) 표시 (NoticeViewStatRepository / NoticeViewStatAppliedEntry)
+CREATE TABLE IF NOT EXISTS notice_view_stat_applied (
+    bucket_start DATETIME(6) NOT NULL,
+    generation   BIGINT      NOT NULL,
+    applied_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (bucket_start, generation)
+);
+
+-- 예전 버전이 notice_view_stat 에 notice_id = -세대 로 넣은 반영 표시 행 정리
+DELETE FROM notice_view_stat WHERE notice_id < 0;
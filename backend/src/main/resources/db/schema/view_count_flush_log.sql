@@ -0,0 +1,9 @@
+-- 조회수 반영 기록 (멱등성 마커, ViewCountFlushLog / ViewCountFlushLogEntry)
+CREATE TABLE IF NOT EXISTS view_count_flush_log (
+    batch_id        BIGINT      NOT NULL,
+    first_notice_id BIGINT      NOT NULL,
+    last_notice_id  BIGINT      NOT NULL,
+    notice_count    INT         NOT NULL,
+    flushed_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (batch_id, first_notice_id)
+);
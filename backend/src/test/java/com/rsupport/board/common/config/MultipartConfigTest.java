@@ -0,0 +1,69 @@
+package com.rsupport.board.common.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 멀티파트 임시폴더 설정 단위테스트
+ */
+class MultipartConfigTest {
+    @TempDir
+    Path tempDir;
+
+    private final MultipartConfig multipartConfig = new MultipartConfig();
+
+    @Test
+    @DisplayName("1. location 미설정 -> upload.path/.incoming 절대경로로 설정하고 폴더 생성")
+    void multipartConfigElement_defaultsToIncomingUnderUploadPath() throws Exception {
+        // given
+        Path uploadPath = tempDir.resolve("uploads");
+
+        // when
+        MultipartConfigElement element = multipartConfig.multipartConfigElement(new MultipartProperties(), uploadPath.toString());
+
+        // then
+        Path incoming = uploadPath.resolve(MultipartConfig.INCOMING_DIR).toAbsolutePath().normalize();
+        assertThat(element.getLocation()).isEqualTo(incoming.toString());
+        assertThat(incoming).isDirectory();
+    }
+
+    @Test
+    @DisplayName("2. 상대경로 upload.path -> 작업 폴더 기준 절대경로 (tomcat 임시폴더 기준이 되지 않음)")
+    void multipartConfigElement_relativeUploadPath_resolvedToAbsolute() throws Exception {
+        // given
+        Path workingDir = Paths.get("").toAbsolutePath();
+        Path relative = workingDir.relativize(tempDir.resolve("relative-uploads").toAbsolutePath());
+
+        // when
+        MultipartConfigElement element = multipartConfig.multipartConfigElement(new MultipartProperties(), relative.toString());
+
+        // then
+        assertThat(Paths.get(element.getLocation())).isAbsolute();
+        assertThat(element.getLocation())
+                .isEqualTo(tempDir.resolve("relative-uploads").resolve(MultipartConfig.INCOMING_DIR).toAbsolutePath().normalize().toString());
+    }
+
+    @Test
+    @DisplayName("3. spring.servlet.multipart.location 직접 설정 -> 그 값을 그대로 사용, .incoming 폴더는 만들지 않음")
+    void multipartConfigElement_explicitLocation_kept() throws Exception {
+        // given
+        MultipartProperties properties = new MultipartProperties();
+        properties.setLocation("/var/tmp/board-multipart");
+        Path uploadPath = tempDir.resolve("uploads");
+
+        // when
+        MultipartConfigElement element = multipartConfig.multipartConfigElement(properties, uploadPath.toString());
+
+        // then
+        assertThat(element.getLocation()).isEqualTo("/var/tmp/board-multipart");
+        assertThat(uploadPath.resolve(MultipartConfig.INCOMING_DIR)).doesNotExist();
+    }
+}
@@ -0,0 +1,63 @@
+package com.rsupport.board.common.leader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 펜싱 토큰 확인 테스트 (H2, 테이블은 LeaderFenceEntry 로 생성)
+ */
+@DataJpaTest
+@Import(LeaderFence.class)
+@ActiveProfiles("test")
+class LeaderFenceTest {
+    @Autowired
+    private LeaderFence leaderFence;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("1. 처음 쓰는 lease, 같은 토큰, 더 큰 토큰 -> 통과하고 가장 큰 토큰을 기록")
+    void check_sameOrNewerToken_passes() {
+        // when
+        leaderFence.check("job", 3L);
+        leaderFence.check("job", 3L);
+        leaderFence.check("job", 5L);
+
+        // then
+        Long token = jdbcTemplate.queryForObject("SELECT token FROM leader_fence WHERE name = ?", Long.class, "job");
+        assertThat(token).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("2. 새 리더가 쓴 뒤 예전 리더의 토큰 -> 예외, 기록된 토큰은 그대로")
+    void check_staleToken_rejected() {
+        // given
+        leaderFence.check("job", 5L);
+
+        // when & then
+        assertThatThrownBy(() -> leaderFence.check("job", 4L))
+                .isInstanceOf(IllegalStateException.class);
+        Long token = jdbcTemplate.queryForObject("SELECT token FROM leader_fence WHERE name = ?", Long.class, "job");
+        assertThat(token).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("3. lease 가 없음(-1), 다른 lease 이름 -> 따로 확인")
+    void check_noLeaseOrOtherName() {
+        // given
+        leaderFence.check("job", 5L);
+
+        // when & then
+        assertThatThrownBy(() -> leaderFence.check("job", -1L))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatCode(() -> leaderFence.check("other", 1L)).doesNotThrowAnyException();
+    }
+}
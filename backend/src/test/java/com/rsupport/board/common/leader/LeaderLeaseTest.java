@@ -0,0 +1,80 @@
+package com.rsupport.board.common.leader;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 리더 lease 단위테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class LeaderLeaseTest {
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LeaderLease leaderLease;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        leaderLease = new LeaderLease(stringRedisTemplate, meterRegistry, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("1. lease 획득 -> 펜싱 토큰 반환, 보유 중에는 redis 를 다시 호출하지 않음")
+    void acquire_thenReuseHeldLease() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(7L);
+
+        // when
+        long first = leaderLease.acquire("job");
+        long second = leaderLease.acquire("job");
+
+        // then
+        assertThat(first).isEqualTo(7L);
+        assertThat(second).isEqualTo(7L);
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any());
+        assertThat(meterRegistry.counter("leader.lease.acquired", "lease", "job").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("2. 다른 노드가 리더 -> -1")
+    void acquire_otherLeader_returnsMinusOne() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(-1L);
+
+        // when, then
+        assertThat(leaderLease.acquire("job")).isEqualTo(-1L);
+        assertThat(leaderLease.currentToken("job")).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("3. 갱신 실패(다른 노드가 이어받음) -> lease 잃음, lost 메트릭 증가")
+    void renew_failed_losesLease() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenReturn(7L)  // 획득
+                .thenReturn(0L); // 갱신 실패
+        leaderLease.acquire("job");
+
+        // when
+        leaderLease.renew();
+
+        // then
+        assertThat(leaderLease.currentToken("job")).isEqualTo(-1L);
+        assertThat(meterRegistry.counter("leader.lease.lost", "lease", "job").count()).isEqualTo(1.0);
+    }
+}
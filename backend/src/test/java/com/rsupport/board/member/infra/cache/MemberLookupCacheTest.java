@@ -0,0 +1,149 @@
+package com.rsupport.board.member.infra.cache;
+
+import com.rsupport.board.member.domain.entity.Member;
+import com.rsupport.board.member.domain.repository.MemberRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 회원 조회 캐시(LRU + 블룸 필터) 단위테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class MemberLookupCacheTest {
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemberLookupCache memberLookupCache;
+    private Member sampleMember;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        memberLookupCache = new MemberLookupCache(
+                memberRepository, jdbcTemplate, stringRedisTemplate, meterRegistry, 100, Duration.ofMinutes(10)
+        );
+
+        sampleMember = Member.builder()
+                .id(1L)
+                .name("테스트유저")
+                .email("lookup-test@example.com")
+                .password("pwd123")
+                .build();
+    }
+
+    @Test
+    @DisplayName("1. 처음 조회는 DB(miss), 두번째 조회는 캐시(hit)")
+    void find_missThenHit() {
+        // given
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(sampleMember));
+
+        // when
+        Optional<MemberSummary> first = memberLookupCache.find(1L);
+        Optional<MemberSummary> second = memberLookupCache.find(1L);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second.get().getName()).isEqualTo("테스트유저");
+        verify(memberRepository, times(1)).findById(1L);
+        assertThat(counter("miss")).isEqualTo(1.0);
+        assertThat(counter("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("2. 블룸 필터 생성 후 없는 회원 id -> DB 조회 없이 거절")
+    void find_notInBloomFilter_rejectedWithoutQuery() throws Exception {
+        // given: DB 에 회원 id 1, 10000 만 있음
+        buildBloomFilter(1L, 10_000L);
+
+        // when
+        Optional<MemberSummary> result = memberLookupCache.find(9999L);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(memberRepository, never()).findById(anyLong());
+        assertThat(counter("rejected")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("3. 회원 변경(트랜잭션 밖) -> 캐시 삭제 후 다시 DB 조회, 다른 노드에 전파")
+    void onMemberChanged_invalidatesAndPublishes() {
+        // given
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(sampleMember));
+        memberLookupCache.find(1L);
+
+        // when
+        memberLookupCache.onMemberChanged(1L);
+        memberLookupCache.find(1L);
+
+        // then
+        verify(memberRepository, times(2)).findById(1L);
+        verify(stringRedisTemplate).convertAndSend(eq(MemberLookupCache.CHANGED_CHANNEL), endsWith("|1"));
+    }
+
+    @Test
+    @DisplayName("4. 필터 생성 이후 다른 노드에서 가입(전파 유실) -> 생성 시 최대 id 보다 크면 거절하지 않고 DB 확인")
+    void find_newerThanBloomFilter_checksDb() throws Exception {
+        // given: 필터 생성 시 회원 id 1 만 있었음
+        buildBloomFilter(1L);
+        Member joined = Member.builder()
+                .id(2L)
+                .name("새회원")
+                .email("joined@example.com")
+                .password("pwd123")
+                .build();
+        when(memberRepository.findById(2L)).thenReturn(Optional.of(joined));
+        when(memberRepository.findById(3L)).thenReturn(Optional.empty());
+
+        // when
+        Optional<MemberSummary> found = memberLookupCache.find(2L);
+        Optional<MemberSummary> missing = memberLookupCache.find(3L);
+
+        // then
+        assertThat(found).isPresent();
+        assertThat(found.get().getName()).isEqualTo("새회원");
+        assertThat(missing).isEmpty();
+        verify(memberRepository).findById(3L);
+        assertThat(counter("rejected")).isEqualTo(0.0);
+    }
+
+    private void buildBloomFilter(Long... memberIds) throws Exception {
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member", Long.class)).thenReturn((long) memberIds.length);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Long memberId : memberIds) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong(1)).thenReturn(memberId);
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(eq("SELECT id FROM member"), any(RowCallbackHandler.class));
+        memberLookupCache.rebuildBloomFilter();
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("member.lookup").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,220 @@
+package com.rsupport.board.notice.api.controller;
+
+import com.rsupport.board.common.exception.ErrorCode;
+import com.rsupport.board.member.domain.entity.Member;
+import com.rsupport.board.member.domain.repository.MemberRepository;
+import com.rsupport.board.notice.domain.entity.Attachment;
+import com.rsupport.board.notice.domain.entity.Notice;
+import com.rsupport.board.notice.domain.repository.AttachmentRepository;
+import com.rsupport.board.notice.domain.repository.NoticeRepository;
+import com.rsupport.board.notice.infra.StorageKey;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 첨부파일 다운로드 통합 테스트
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")  // application-test.properties 를 사용
+public class AttachmentController_downloadIntegrationTest {
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Value("${upload.path}")
+    private String uploadPath;
+
+    private Path sampleFile;
+    private String sampleUrl;
+    private final List<Path> extraFiles = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 저장소에 올라간 것처럼 업로드 폴더에 파일 생성
+        String storedFilename = UUID.randomUUID() + ".txt";
+        Path dir = Paths.get(uploadPath, "20250610");
+        Files.createDirectories(dir);
+        sampleFile = Files.writeString(dir.resolve(storedFilename), CONTENT, StandardCharsets.UTF_8);
+        sampleUrl = "/files/20250610/" + storedFilename;
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Files.deleteIfExists(sampleFile);
+        for (Path file : extraFiles) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("1. 파일 전체 다운로드 -> 200, ETag/Last-Modified/Accept-Ranges 포함")
+    void download_full() throws Exception {
+        mockMvc.perform(get(sampleUrl))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, String.valueOf(CONTENT.length())))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    @DisplayName("2. Range 요청 -> 206, 요청한 범위만 (이어받기, 마지막 N바이트)")
+    void download_range() throws Exception {
+        mockMvc.perform(get(sampleUrl).header(HttpHeaders.RANGE, "bytes=5-9"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-9/20"))
+                .andExpect(content().string("56789"));
+
+        mockMvc.perform(get(sampleUrl).header(HttpHeaders.RANGE, "bytes=15-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("fghij"));
+
+        mockMvc.perform(get(sampleUrl).header(HttpHeaders.RANGE, "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 17-19/20"))
+                .andExpect(content().string("hij"));
+    }
+
+    @Test
+    @DisplayName("3. 파일 크기를 벗어난 Range -> 416")
+    void download_rangeNotSatisfiable() throws Exception {
+        mockMvc.perform(get(sampleUrl).header(HttpHeaders.RANGE, "bytes=100-200"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */20"));
+    }
+
+    @Test
+    @DisplayName("4. 같은 ETag 로 다시 요청 -> 304")
+    void download_notModified() throws Exception {
+        MvcResult first = mockMvc.perform(get(sampleUrl))
+                .andExpect(status().isOk())
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(sampleUrl).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("5. 없는 파일, 잘못된 경로 -> 404 ATTACHMENT_NOT_FOUND")
+    void download_notFound() throws Exception {
+        mockMvc.perform(get("/files/20250610/" + UUID.randomUUID() + ".txt"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.exception.code").value(ErrorCode.ATTACHMENT_NOT_FOUND.getCode()));
+
+        mockMvc.perform(get("/files/2025..10/passwd"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.exception.code").value(ErrorCode.ATTACHMENT_NOT_FOUND.getCode()));
+    }
+
+    @Test
+    @DisplayName("6. html 등 허용 목록 밖 형식 -> octet-stream + attachment, 파일명은 원래 파일명 (RFC 5987)")
+    void download_unsafeType_forcedAttachment() throws Exception {
+        // given
+        String url = storedFile(".html", "<script>alert(1)</script>");
+        saveAttachment("공지 본문.html", url);
+
+        // when & then
+        MvcResult result = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                .andReturn();
+        String disposition = result.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION);
+        assertThat(disposition)
+                .startsWith("attachment")
+                .contains("filename*=UTF-8''%EA%B3%B5%EC%A7%80%20%EB%B3%B8%EB%AC%B8.html");
+
+        // svg 도 스크립트를 담을 수 있으므로 같은 처리
+        String svgUrl = storedFile(".svg", "<svg xmlns=\"http://www.w3.org/2000/svg\"/>");
+        mockMvc.perform(get(svgUrl))
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("attachment")));
+    }
+
+    @Test
+    @DisplayName("7. 이미지 등 허용 목록 형식 -> 원래 형식 + inline")
+    void download_safeType_inline() throws Exception {
+        // given
+        String url = storedFile(".png", "not-really-a-png");
+        saveAttachment("screenshot.png", url);
+
+        // when & then
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("inline")))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("screenshot.png")));
+    }
+
+    private String storedFile(String extension, String content) throws Exception {
+        String storedFilename = UUID.randomUUID() + extension;
+        Path file = Files.writeString(Paths.get(uploadPath, "20250610").resolve(storedFilename), content, StandardCharsets.UTF_8);
+        extraFiles.add(file);
+        return "/files/20250610/" + storedFilename;
+    }
+
+    private void saveAttachment(String filename, String url) {
+        Member member = memberRepository.save(Member.builder()
+                .name("다운로드")
+                .email(UUID.randomUUID() + "@example.com")
+                .password("pwd123")
+                .build());
+        Notice notice = Notice.builder()
+                .member(member)
+                .title("다운로드 테스트")
+                .content("내용")
+                .startAt(LocalDateTime.now().minusDays(1))
+                .endAt(LocalDateTime.now().plusDays(1))
+                .build();
+        notice.addAttachment(Attachment.builder()
+                .filename(filename)
+                .url(url)
+                .storageKey(StorageKey.fromUrl(url))
+                .uploadedAt(LocalDateTime.now())
+                .build());
+        noticeRepository.save(notice);
+    }
+}
@@ -7,6 +7,7 @@ import com.rsupport.board.notice.domain.entity.Attachment;
 import com.rsupport.board.notice.domain.entity.Notice;
 import com.rsupport.board.notice.domain.repository.AttachmentRepository;
 import com.rsupport.board.notice.domain.repository.NoticeRepository;
+import com.rsupport.board.notice.infra.cache.NoticeDetailCache;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -45,6 +46,9 @@ public class NoticeController_getIntegrationTest {
     @Autowired
     private AttachmentRepository attachmentRepository;
 
+    @Autowired
+    private NoticeDetailCache noticeDetailCache;
+
     private Member sampleMember;
     private Notice sampleNotice;
     private Attachment sampleAtt1, sampleAtt2;
@@ -91,6 +95,9 @@ public class NoticeController_getIntegrationTest {
         sampleNotice.addAttachment(sampleAtt2);
 
         sampleNotice = noticeRepository.save(sampleNotice);
+
+        // 서비스를 거치지 않고 데이터를 넣으므로 (이전 실행에서 남은) 상세 캐시도 직접 삭제
+        noticeDetailCache.evict(sampleNotice.getId());
     }
 
     @Test
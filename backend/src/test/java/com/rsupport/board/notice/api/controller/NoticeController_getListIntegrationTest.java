@@ -6,6 +6,7 @@ import com.rsupport.board.notice.domain.entity.Attachment;
 import com.rsupport.board.notice.domain.entity.Notice;
 import com.rsupport.board.notice.domain.repository.AttachmentRepository;
 import com.rsupport.board.notice.domain.repository.NoticeRepository;
+import com.rsupport.board.notice.infra.cache.NoticeListCache;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -43,6 +44,9 @@ class NoticeController_getListIntegrationTest {
     @Autowired
     private AttachmentRepository attachmentRepository;
 
+    @Autowired
+    private NoticeListCache noticeListCache;
+
     private Member sampleMember;
 
     @BeforeEach
@@ -52,6 +56,9 @@ class NoticeController_getListIntegrationTest {
         noticeRepository.deleteAll();
         memberRepository.deleteAll();
 
+        // 서비스를 거치지 않고 데이터를 넣으므로 목록 캐시도 직접 무효화
+        noticeListCache.invalidateAll();
+
         // 테스트용 유저 생성
         Member m = Member.builder()
                 .name("테스트유저")
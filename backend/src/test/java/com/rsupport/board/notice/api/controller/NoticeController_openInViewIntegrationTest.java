@@ -0,0 +1,148 @@
+package com.rsupport.board.notice.api.controller;
+
+import com.rsupport.board.member.domain.entity.Member;
+import com.rsupport.board.member.domain.repository.MemberRepository;
+import com.rsupport.board.notice.domain.entity.Attachment;
+import com.rsupport.board.notice.domain.entity.Notice;
+import com.rsupport.board.notice.domain.repository.AttachmentRepository;
+import com.rsupport.board.notice.domain.repository.NoticeRepository;
+import com.rsupport.board.notice.infra.cache.NoticeDetailCache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * spring.jpa.open-in-view=false 통합 테스트
+ *
+ * - 테스트 트랜잭션(@Transactional) 없이 요청해서, 서비스의 트랜잭션 밖 경로(상세, 목록, 삭제)가
+ *   지연로딩(작성자, 첨부파일)으로 LazyInitializationException 을 내지 않는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class NoticeController_openInViewIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private NoticeDetailCache noticeDetailCache;
+
+    private Member sampleMember;
+    private Notice sampleNotice;
+    private Attachment sampleAtt;
+
+    @BeforeEach
+    void setUp() {
+        // DB 초기화: 저장된 데이터 미리 삭제
+        attachmentRepository.deleteAll();
+        noticeRepository.deleteAll();
+        memberRepository.deleteAll();
+
+        sampleMember = memberRepository.save(Member.builder()
+                .name("테스트유저")
+                .email("osiv@example.com")
+                .password("pwd123")
+                .build());
+
+        LocalDateTime now = LocalDateTime.now();
+        sampleNotice = Notice.testBuilder()
+                .member(sampleMember)
+                .title("open-in-view 테스트")
+                .content("open-in-view 테스트 내용")
+                .startAt(now.minusDays(1))
+                .endAt(now.plusDays(1))
+                .viewCount(0)
+                .build();
+        sampleAtt = Attachment.builder()
+                .filename("attach1.png")
+                .url("/uploads/attach1.png")
+                .uploadedAt(now.minusHours(1))
+                .build();
+        sampleNotice.addAttachment(sampleAtt);
+        sampleNotice = noticeRepository.save(sampleNotice);
+
+        // 서비스를 거치지 않고 데이터를 넣으므로 상세 캐시도 직접 삭제
+        noticeDetailCache.evict(sampleNotice.getId());
+    }
+
+    @Test
+    @DisplayName("1. open-in-view 꺼짐 -> 요청 단위 EntityManager 인터셉터가 등록되지 않음")
+    void openInView_disabled() {
+        assertThat(applicationContext.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("2. 상세 조회 (캐시 miss -> hit) -> 작성자, 첨부파일까지 응답")
+    void getNotice_withoutOpenInView() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(
+                            get("/v1/notices/{noticeId}", sampleNotice.getId())
+                                    .param("userId", String.valueOf(sampleMember.getId()))
+                                    .accept(MediaType.APPLICATION_JSON)
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("success"))
+                    .andExpect(jsonPath("$.data.author.name").value("테스트유저"))
+                    .andExpect(jsonPath("$.data.attachments.length()").value(1))
+                    .andExpect(jsonPath("$.data.attachments[0].filename").value("attach1.png"));
+        }
+    }
+
+    @Test
+    @DisplayName("3. 목록 조회 -> 작성자, 첨부파일 유무까지 응답")
+    void getNoticeList_withoutOpenInView() throws Exception {
+        mockMvc.perform(
+                        get("/v1/notices")
+                                .param("keyword", "open-in-view")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.noticeList.length()").value(1))
+                .andExpect(jsonPath("$.data.noticeList[0].author.name").value("테스트유저"))
+                .andExpect(jsonPath("$.data.noticeList[0].hasAttachment").value(true));
+    }
+
+    @Test
+    @DisplayName("4. 삭제 -> 작성자 확인, 첨부파일 cascade 삭제까지 성공")
+    void deleteNotice_withoutOpenInView() throws Exception {
+        mockMvc.perform(
+                        delete("/v1/notices/{noticeId}", sampleNotice.getId())
+                                .param("userId", String.valueOf(sampleMember.getId()))
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"));
+
+        assertThat(noticeRepository.findById(sampleNotice.getId())).isEmpty();
+        assertThat(attachmentRepository.findById(sampleAtt.getId())).isEmpty();
+    }
+}
@@ -5,6 +5,7 @@ import com.rsupport.board.member.domain.entity.Member;
 import com.rsupport.board.member.domain.repository.MemberRepository;
 import com.rsupport.board.notice.domain.entity.Attachment;
 import com.rsupport.board.notice.domain.entity.Notice;
+import com.rsupport.board.notice.infra.StorageKey;
 
 import com.rsupport.board.notice.domain.repository.AttachmentRepository;
 import com.rsupport.board.notice.domain.repository.NoticeRepository;
@@ -71,4 +72,42 @@ class AttachmentRepositoryTest {
         assertThat(found.getNotice().getId()).isEqualTo(n.getId());
         assertThat(found.getUploadedAt()).isNotNull();
     }
+
+    @Test
+    @DisplayName("storage_key 기준 참조 수 -> 확장자만 다른 url 도 같은 키로 집계")
+    void countByStorageKey() {
+        // given
+        Member m = memberRepo.save(Member.builder()
+                .name("테스트")
+                .email("key@example.com")
+                .password("pwd123")
+                .build());
+        Notice n = Notice.builder()
+                .member(m)
+                .title("제목제목")
+                .content("내용")
+                .startAt(LocalDateTime.now())
+                .endAt(LocalDateTime.now().plusDays(1))
+                .build();
+        String hash = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+        n.addAttachment(attachment("a.txt", "/files/sha256/" + hash + ".txt"));
+        n.addAttachment(attachment("a.md", "/files/sha256/" + hash + ".md"));
+        n.addAttachment(attachment("b.txt", "/files/20250101/b.txt"));
+        noticeRepo.saveAndFlush(n);
+
+        // when & then
+        assertThat(attachmentRepo.countByStorageKey("sha256/" + hash)).isEqualTo(2);
+        assertThat(attachmentRepo.countByStorageKey("20250101/b.txt")).isEqualTo(1);
+        assertThat(attachmentRepo.countByStorageKey("20250101/none.txt")).isZero();
+        assertThat(attachmentRepo.findFirstByStorageKeyAndUrl("sha256/" + hash, "/files/sha256/" + hash + ".md"))
+                .get().extracting(Attachment::getFilename).isEqualTo("a.md");
+    }
+
+    private Attachment attachment(String filename, String url) {
+        return Attachment.testBuilder()
+                .filename(filename)
+                .url(url)
+                .storageKey(StorageKey.fromUrl(url))
+                .build();
+    }
 }
@@ -0,0 +1,207 @@
+package com.rsupport.board.notice.domain.repository;
+
+import com.rsupport.board.common.config.JpaAuditingConfig;
+import com.rsupport.board.member.domain.entity.Member;
+import com.rsupport.board.member.domain.repository.MemberRepository;
+import com.rsupport.board.notice.api.dto.NoticeCursor;
+import com.rsupport.board.notice.api.dto.NoticeListItemDTO;
+import com.rsupport.board.notice.api.dto.NoticeListReqDTO;
+import com.rsupport.board.notice.domain.entity.Attachment;
+import com.rsupport.board.notice.domain.entity.Notice;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공지 목록 조회 쿼리 테스트
+ *
+ * - LIKE 검색: 제목 OR 내용 조건 하나 + 별도 count 쿼리
+ * - 커서 조회: (createdAt, id) seek 조건 + 첨부파일 조인 distinct
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@ActiveProfiles("test")
+class NoticeRepositoryImplTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 10, 12, 0);
+    private static final Sort BY_START_AT = Sort.by("startAt").ascending();
+
+    @Autowired
+    private NoticeRepository noticeRepo;
+
+    @Autowired
+    private MemberRepository memberRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Notice serverTitle;   // 제목에 "점검", 첨부파일 2개
+    private Notice serverContent; // 내용에만 "점검"
+    private Notice vacation;      // 키워드 없음
+    private Notice scheduled;     // 제목에 "점검", 게시 기간이 늦음
+    private Notice english;       // 영문 대문자 제목
+
+    @BeforeEach
+    void setUp() {
+        Member m = memberRepo.save(Member.builder()
+                .name("테스트")
+                .email("search@example.com")
+                .password("pw")
+                .build());
+
+        serverTitle = notice(m, "서버 점검 안내", "새벽에 작업합니다", BASE.minusDays(3), BASE.plusDays(1));
+        serverTitle.addAttachment(Attachment.testBuilder().filename("a.txt").url("/upload/a.txt").build());
+        serverTitle.addAttachment(Attachment.testBuilder().filename("b.txt").url("/upload/b.txt").build());
+        noticeRepo.saveAndFlush(serverTitle);
+
+        serverContent = noticeRepo.save(notice(m, "이용 안내", "서버 점검 때문에 접속이 안 됩니다", BASE.minusDays(2), BASE.plusDays(2)));
+        vacation = noticeRepo.save(notice(m, "휴가 일정", "여름 휴가 일정 공유", BASE.minusDays(1), BASE.plusDays(3)));
+        scheduled = noticeRepo.save(notice(m, "정기 점검 공지", "다음 달 일정", BASE.plusDays(10), BASE.plusDays(20)));
+        english = noticeRepo.saveAndFlush(notice(m, "SERVER Maintenance", "english notice", BASE.minusDays(5), BASE.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("1. 커서 조회 -> createdAt 이 같은 공지가 페이지 경계에 걸려도 id 로 이어 읽어서 빠지거나 중복되지 않음")
+    void findAllByCursor_tiedCreatedAt_noSkipNoDuplicate() {
+        // given: serverTitle(첨부파일 2개), serverContent, vacation 의 createdAt 이 같음
+        setCreatedAt(english, BASE.plusHours(1));
+        setCreatedAt(serverTitle, BASE);
+        setCreatedAt(serverContent, BASE);
+        setCreatedAt(vacation, BASE);
+        setCreatedAt(scheduled, BASE.minusHours(1));
+
+        // when: 2건씩 마지막 페이지까지 넘김
+        List<List<Long>> pages = new ArrayList<>();
+        NoticeCursor cursor = null;
+        Slice<NoticeListItemDTO> slice;
+        do {
+            slice = noticeRepo.findAllByCursor(request(null, null), cursor, 2);
+            pages.add(slice.getContent().stream().map(NoticeListItemDTO::getId).toList());
+            cursor = NoticeCursor.from(slice.getContent().get(slice.getNumberOfElements() - 1));
+        } while (slice.hasNext());
+
+        // then: (createdAt DESC, id DESC), 같은 시각 3건이 1, 2 페이지에 나뉘어도 한번씩만
+        assertThat(pages).containsExactly(
+                List.of(english.getId(), vacation.getId()),
+                List.of(serverContent.getId(), serverTitle.getId()),
+                List.of(scheduled.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("2. 제목만 검색 -> 제목에 키워드가 있는 공지만, 내용에만 있는 공지는 제외")
+    void findAllBySearchCondition_titleOnly() {
+        // when
+        Page<NoticeListItemDTO> page = noticeRepo.findAllBySearchCondition(request("점검", true), PageRequest.of(0, 10, BY_START_AT));
+
+        // then
+        assertThat(page.getContent()).extracting(NoticeListItemDTO::getId)
+                .containsExactly(serverTitle.getId(), scheduled.getId());
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("3. 제목+내용 검색 -> 어느 쪽이든 키워드가 있으면 포함, 첨부파일이 여러 개여도 한 행 (hasAttachment=true)")
+    void findAllBySearchCondition_titleOrContent() {
+        // when
+        Page<NoticeListItemDTO> page = noticeRepo.findAllBySearchCondition(request("점검", null), PageRequest.of(0, 10, BY_START_AT));
+
+        // then
+        assertThat(page.getContent()).extracting(NoticeListItemDTO::getId)
+                .containsExactly(serverTitle.getId(), serverContent.getId(), scheduled.getId());
+        assertThat(page.getContent()).extracting(NoticeListItemDTO::getHasAttachment)
+                .containsExactly(true, false, false);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("4. 대소문자 무시 -> 소문자 키워드로 대문자 제목/내용 검색")
+    void findAllBySearchCondition_ignoreCase() {
+        // when
+        Page<NoticeListItemDTO> titleOnly = noticeRepo.findAllBySearchCondition(request("server", true), PageRequest.of(0, 10));
+        Page<NoticeListItemDTO> content = noticeRepo.findAllBySearchCondition(request("ENGLISH", false), PageRequest.of(0, 10));
+
+        // then
+        assertThat(titleOnly.getContent()).extracting(NoticeListItemDTO::getId).containsExactly(english.getId());
+        assertThat(content.getContent()).extracting(NoticeListItemDTO::getId).containsExactly(english.getId());
+    }
+
+    @Test
+    @DisplayName("5. 페이징 -> 요청한 페이지만 조회, 첨부파일 조인과 상관없이 전체 건수/페이지 수 정확")
+    void findAllBySearchCondition_pagingAndCount() {
+        // when
+        Page<NoticeListItemDTO> first = noticeRepo.findAllBySearchCondition(request("점검", null), PageRequest.of(0, 2, BY_START_AT));
+        Page<NoticeListItemDTO> last = noticeRepo.findAllBySearchCondition(request("점검", null), PageRequest.of(1, 2, BY_START_AT));
+        Page<NoticeListItemDTO> beyond = noticeRepo.findAllBySearchCondition(request("점검", null), PageRequest.of(5, 2, BY_START_AT));
+
+        // then
+        assertThat(first.getContent()).extracting(NoticeListItemDTO::getId)
+                .containsExactly(serverTitle.getId(), serverContent.getId());
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(first.getTotalPages()).isEqualTo(2);
+
+        assertThat(last.getContent()).extracting(NoticeListItemDTO::getId).containsExactly(scheduled.getId());
+        assertThat(last.getTotalElements()).isEqualTo(3);
+        assertThat(last.isLast()).isTrue();
+
+        assertThat(beyond.getContent()).isEmpty();
+        assertThat(beyond.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("6. 키워드 없음 -> 전체 공지, 키워드 + 기간 -> 두 조건 모두 만족하는 공지만")
+    void findAllBySearchCondition_noKeywordAndDateRange() {
+        // given
+        NoticeListReqDTO ranged = request("점검", null);
+        ranged.setFromDate(BASE.minusDays(2).toLocalDate()); // 게시 시작일 >= 6/8 00:00
+        ranged.setToDate(BASE.plusDays(2).toLocalDate());    // 게시 종료일 <= 6/12 23:59:59
+
+        // when
+        Page<NoticeListItemDTO> all = noticeRepo.findAllBySearchCondition(request(" ", null), PageRequest.of(0, 10, BY_START_AT));
+        Page<NoticeListItemDTO> range = noticeRepo.findAllBySearchCondition(ranged, PageRequest.of(0, 10, BY_START_AT));
+
+        // then
+        assertThat(all.getContent()).extracting(NoticeListItemDTO::getId)
+                .containsExactly(english.getId(), serverTitle.getId(), serverContent.getId(), vacation.getId(), scheduled.getId());
+        assertThat(all.getTotalElements()).isEqualTo(5);
+        assertThat(range.getContent()).extracting(NoticeListItemDTO::getId).containsExactly(serverContent.getId());
+    }
+
+    // createdAt 은 auditing 이 저장 시각으로 덮어쓰므로 저장 후 직접 수정
+    private void setCreatedAt(Notice n, LocalDateTime createdAt) {
+        jdbcTemplate.update("UPDATE notice SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAt), n.getId());
+    }
+
+    private Notice notice(Member m, String title, String content, LocalDateTime startAt, LocalDateTime endAt) {
+        return Notice.builder()
+                .member(m)
+                .title(title)
+                .content(content)
+                .startAt(startAt)
+                .endAt(endAt)
+                .build();
+    }
+
+    private NoticeListReqDTO request(String keyword, Boolean titleOnly) {
+        NoticeListReqDTO req = new NoticeListReqDTO();
+        req.setKeyword(keyword);
+        req.setTitleOnly(titleOnly);
+        return req;
+    }
+}
@@ -0,0 +1,85 @@
+package com.rsupport.board.notice.domain.repository;
+
+import com.rsupport.board.common.config.JpaAuditingConfig;
+import com.rsupport.board.member.domain.entity.Member;
+import com.rsupport.board.member.domain.repository.MemberRepository;
+import com.rsupport.board.notice.api.dto.NoticeListItemDTO;
+import com.rsupport.board.notice.api.dto.NoticeListReqDTO;
+import com.rsupport.board.notice.domain.entity.Notice;
+import com.rsupport.board.notice.infra.search.NoticeFullTextIndexInitializer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * fulltext 전략인데 FULLTEXT 인덱스가 아직 준비되지 않은 경우 (H2 에는 MATCH ... AGAINST 가 없어서 LIKE 로 가야 성공)
+ */
+@DataJpaTest(properties = "notice.search.strategy=fulltext")
+@Import(JpaAuditingConfig.class)
+@ActiveProfiles("test")
+class NoticeRepositoryImpl_fullTextFallbackTest {
+    @Autowired
+    private NoticeRepository noticeRepo;
+
+    @Autowired
+    private MemberRepository memberRepo;
+
+    @MockBean
+    private NoticeFullTextIndexInitializer fullTextIndexInitializer;
+
+    private Notice titleMatched;
+    private Notice contentMatched;
+
+    @BeforeEach
+    void setUp() {
+        Member m = memberRepo.save(Member.builder()
+                .name("테스트")
+                .email("fallback@example.com")
+                .password("pw")
+                .build());
+
+        titleMatched = noticeRepo.save(notice(m, "서버 점검 안내", "새벽에 작업합니다"));
+        contentMatched = noticeRepo.save(notice(m, "이용 안내", "서버 점검 때문에 접속이 안 됩니다"));
+        noticeRepo.save(notice(m, "휴가 일정", "여름 휴가 일정 공유"));
+    }
+
+    @Test
+    @DisplayName("1. 인덱스 생성 전 키워드 검색 -> MATCH ... AGAINST 대신 LIKE 로 조회")
+    void findAllBySearchCondition_indexNotReady_fallsBackToLike() {
+        // given
+        when(fullTextIndexInitializer.isReady()).thenReturn(false);
+        NoticeListReqDTO req = new NoticeListReqDTO();
+        req.setKeyword("점검");
+
+        // when
+        Page<NoticeListItemDTO> page = noticeRepo.findAllBySearchCondition(req, PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(NoticeListItemDTO::getId)
+                .containsExactlyInAnyOrder(titleMatched.getId(), contentMatched.getId());
+    }
+
+    private Notice notice(Member m, String title, String content) {
+        return Notice.builder()
+                .member(m)
+                .title(title)
+                .content(content)
+                .startAt(LocalDateTime.now())
+                .endAt(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.rsupport.board.notice.domain.repository;
+
+import com.rsupport.board.common.config.JpaAuditingConfig;
+import com.rsupport.board.member.domain.entity.Member;
+import com.rsupport.board.member.domain.repository.MemberRepository;
+import com.rsupport.board.notice.api.dto.NoticeListItemDTO;
+import com.rsupport.board.notice.api.dto.NoticeListReqDTO;
+import com.rsupport.board.notice.domain.entity.Notice;
+import com.rsupport.board.notice.infra.search.NoticeFullTextIndexInitializer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * fulltext 전략 공지 목록 검색 테스트 (MySQL 컨테이너, function('match_against') 실제 실행)
+ *
+ * - H2 에는 MATCH ... AGAINST 가 없어서 MySQL 컨테이너로 실행, docker 가 없으면 건너뜀
+ * - InnoDB FULLTEXT 인덱스는 커밋된 행만 검색되므로 테스트 트랜잭션 없이 저장하고 끝나면 삭제
+ */
+@DataJpaTest(properties = "notice.search.strategy=fulltext")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfig.class, NoticeFullTextIndexInitializer.class})
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NoticeRepositoryImpl_fullTextTest {
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+    }
+
+    @Autowired
+    private NoticeRepository noticeRepo;
+
+    @Autowired
+    private MemberRepository memberRepo;
+
+    @Autowired
+    private NoticeFullTextIndexInitializer fullTextIndexInitializer;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Notice titleMatched;
+    private Notice contentMatched;
+
+    @BeforeEach
+    void setUp() {
+        // 운영과 같은 스키마 스크립트로 인덱스 생성 (컨테이너당 한번)
+        if (!fullTextIndexInitializer.isReady()) {
+            new ResourceDatabasePopulator(new ClassPathResource("db/schema/notice_fulltext_index.sql")).execute(dataSource);
+            fullTextIndexInitializer.checkIndex();
+        }
+        assertThat(fullTextIndexInitializer.isReady()).isTrue();
+
+        Member m = memberRepo.save(Member.builder()
+                .name("테스트")
+                .email("fulltext@example.com")
+                .password("pw")
+                .build());
+
+        // 저장 순서상 contentMatched 가 더 최근 (기본 정렬 createdAt DESC 라면 먼저 나옴)
+        titleMatched = noticeRepo.save(notice(m, "서버 점검 안내", "새벽에 작업합니다"));
+        contentMatched = noticeRepo.save(notice(m, "이용 안내", "서버 점검 때문에 접속이 안 됩니다"));
+        noticeRepo.save(notice(m, "휴가 일정", "여름 휴가 일정 공유"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        noticeRepo.deleteAll();
+        memberRepo.deleteAll();
+    }
+
+    @Test
+    @DisplayName("1. 제목+내용 검색 -> 키워드가 있는 공지만, 제목에 키워드가 있는 공지가 먼저")
+    void findAllBySearchCondition_matchAgainst_titleMatchedFirst() {
+        // when
+        Page<NoticeListItemDTO> page = noticeRepo.findAllBySearchCondition(request("점검", null), PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(NoticeListItemDTO::getId)
+                .containsExactly(titleMatched.getId(), contentMatched.getId());
+    }
+
+    @Test
+    @DisplayName("2. 제목만 검색 -> 내용에만 키워드가 있는 공지는 제외")
+    void findAllBySearchCondition_matchAgainst_titleOnly() {
+        // when
+        Page<NoticeListItemDTO> page = noticeRepo.findAllBySearchCondition(request("점검", true), PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.getContent()).extracting(NoticeListItemDTO::getId).containsExactly(titleMatched.getId());
+    }
+
+    @Test
+    @DisplayName("3. 페이징 -> 요청한 페이지만 조회, 전체 건수는 count 쿼리로")
+    void findAllBySearchCondition_matchAgainst_paging() {
+        // when
+        Page<NoticeListItemDTO> page = noticeRepo.findAllBySearchCondition(request("안내", null), PageRequest.of(0, 1));
+
+        // then
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("4. boolean mode 연산자가 들어간 키워드 -> 구문으로 검색해서 오류 없이 결과 없음")
+    void findAllBySearchCondition_matchAgainst_operatorsEscaped() {
+        // when
+        Page<NoticeListItemDTO> page = noticeRepo.findAllBySearchCondition(request("+점검 -\"휴가", null), PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.getContent()).isEmpty();
+    }
+
+    private Notice notice(Member m, String title, String content) {
+        return Notice.builder()
+                .member(m)
+                .title(title)
+                .content(content)
+                .startAt(LocalDateTime.now())
+                .endAt(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+
+    private NoticeListReqDTO request(String keyword, Boolean titleOnly) {
+        NoticeListReqDTO req = new NoticeListReqDTO();
+        req.setKeyword(keyword);
+        req.setTitleOnly(titleOnly);
+        return req;
+    }
+}
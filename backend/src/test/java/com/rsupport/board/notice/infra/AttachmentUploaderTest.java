@@ -0,0 +1,96 @@
+package com.rsupport.board.notice.infra;
+
+import com.rsupport.board.notice.domain.entity.Attachment;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 첨부파일 동시 저장 단위테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class AttachmentUploaderTest {
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private AttachmentUploader attachmentUploader;
+
+    @BeforeEach
+    void setUp() {
+        // 스레드 없이 바로 실행
+        attachmentUploader = new AttachmentUploader(fileStorageService, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("1. 빈 파일은 제외하고 요청 순서대로 저장 결과 반환")
+    void storeAll_skipsEmptyAndKeepsOrder() {
+        // given
+        MultipartFile file1 = mock(MultipartFile.class);
+        MultipartFile empty = mock(MultipartFile.class);
+        MultipartFile file2 = mock(MultipartFile.class);
+        when(empty.isEmpty()).thenReturn(true);
+
+        Attachment att1 = attachment("a.png");
+        Attachment att2 = attachment("b.pdf");
+        when(fileStorageService.store(file1)).thenReturn(att1);
+        when(fileStorageService.store(file2)).thenReturn(att2);
+
+        // when
+        List<Attachment> stored = attachmentUploader.storeAll(new MultipartFile[]{file1, empty, file2});
+
+        // then
+        assertThat(stored).containsExactly(att1, att2);
+        verify(fileStorageService, never()).store(empty);
+        assertThat(attachmentUploader.storeAll(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("2. 하나라도 저장 실패 -> 저장된 파일은 삭제하고 원래 예외 전달")
+    void storeAll_failure_discardsStored() {
+        // given
+        MultipartFile file1 = mock(MultipartFile.class);
+        MultipartFile broken = mock(MultipartFile.class);
+
+        Attachment att1 = attachment("a.png");
+        when(fileStorageService.store(file1)).thenReturn(att1);
+        when(fileStorageService.store(broken)).thenThrow(new RuntimeException("파일 저장에 실패했습니다: broken"));
+
+        // when+then
+        assertThatThrownBy(() -> attachmentUploader.storeAll(new MultipartFile[]{file1, broken}))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("broken");
+        verify(fileStorageService, times(1)).delete(att1.getUrl());
+    }
+
+    @Test
+    @DisplayName("3. 저장 취소(discard) 중 삭제 실패 -> 나머지 파일도 계속 삭제")
+    void discard_continuesOnFailure() {
+        // given
+        Attachment att1 = attachment("a.png");
+        Attachment att2 = attachment("b.pdf");
+        doThrow(new IllegalStateException("io")).when(fileStorageService).delete(att1.getUrl());
+
+        // when
+        attachmentUploader.discard(List.of(att1, att2));
+
+        // then
+        verify(fileStorageService, times(1)).delete(att2.getUrl());
+    }
+
+    private Attachment attachment(String filename) {
+        return Attachment.builder()
+                .filename(filename)
+                .url("/files/20250615/" + filename)
+                .build();
+    }
+}
@@ -0,0 +1,187 @@
+package com.rsupport.board.notice.infra;
+
+import com.rsupport.board.notice.domain.entity.Attachment;
+import com.rsupport.board.notice.domain.repository.AttachmentRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 내용 기준(SHA-256) 파일 저장 단위테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ContentAddressedFileStorageImplTest {
+    // "hello" 의 SHA-256
+    private static final String HELLO_HASH = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @TempDir
+    Path uploadRoot;
+
+    private ContentAddressedFileStorageImpl storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new ContentAddressedFileStorageImpl(attachmentRepository, uploadRoot.toString(), Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("1. 같은 내용을 두 번 저장 -> 파일은 하나, url 은 해시 기준 (확장자만 다름)")
+    void store_SameContent_StoredOnce() throws Exception {
+        // when
+        Attachment first = storage.store(new MockMultipartFile("files", "a.TXT", "text/plain", bytes("hello")));
+        Attachment second = storage.store("b.md", new ByteArrayInputStream(bytes("hello")));
+
+        // then
+        assertThat(first.getUrl()).isEqualTo("/files/sha256/" + HELLO_HASH + ".txt");
+        assertThat(second.getUrl()).isEqualTo("/files/sha256/" + HELLO_HASH + ".md");
+        assertThat(first.getFilename()).isEqualTo("a.TXT");
+
+        try (Stream<Path> files = Files.walk(uploadRoot.resolve(ContentAddressedFileStorageImpl.BLOB_DIR))) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+        // 임시파일은 남지 않음
+        try (Stream<Path> incoming = Files.list(uploadRoot.resolve(".incoming"))) {
+            assertThat(incoming.count()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("2. url 로 파일 찾기 -> ETag 는 해시, 잘못된 url 은 empty")
+    void resolve_ReturnsBlobWithHashEtag() {
+        // given
+        Attachment stored = storage.store("a.txt", new ByteArrayInputStream(bytes("hello")));
+
+        // when
+        StoredFile file = storage.resolve(stored.getUrl()).orElseThrow();
+
+        // then
+        assertThat(file.getEtag()).isEqualTo("\"" + HELLO_HASH + "\"");
+        assertThat(file.getPath()).exists();
+        assertThat(storage.resolve("/files/sha256/../../etc/passwd")).isEmpty();
+        assertThat(storage.resolve("/files/sha256/" + "0".repeat(64) + ".txt")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("3. 삭제 -> 참조가 남아있거나 유예기간 안이면 유지, 둘 다 아니면 삭제")
+    void delete_ChecksReferencesAndGrace() throws Exception {
+        // given
+        Attachment stored = storage.store("a.txt", new ByteArrayInputStream(bytes("hello")));
+        Path blob = storage.resolve(stored.getUrl()).orElseThrow().getPath();
+        String storageKey = "sha256/" + HELLO_HASH;
+
+        // 다른 첨부파일이 참조 중 -> 유지
+        when(attachmentRepository.countByStorageKey(storageKey)).thenReturn(1L);
+        storage.delete(stored.getUrl());
+        assertThat(blob).exists();
+
+        // 참조 없음 + 방금 쓴 파일 -> 유지
+        when(attachmentRepository.countByStorageKey(storageKey)).thenReturn(0L);
+        storage.delete(stored.getUrl());
+        assertThat(blob).exists();
+
+        // 참조 없음 + 유예기간 지남 -> 삭제
+        Files.setLastModifiedTime(blob, FileTime.fromMillis(System.currentTimeMillis() - Duration.ofHours(2).toMillis()));
+        storage.delete(stored.getUrl());
+        assertThat(blob).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("4. 삭제 중 다시 참조됨(임시 이름으로 옮긴 뒤 재확인) -> 원래 위치로 복구")
+    void deleteIfUnreferenced_ReferencedDuringDelete_Restores() throws Exception {
+        // given
+        Path blob = oldBlob();
+        Path trashDir = uploadRoot.resolve(".incoming");
+        AtomicInteger checks = new AtomicInteger();
+
+        // when: 첫 확인은 참조 없음, 옮긴 뒤 재확인 때는 참조 있음 (그 사이 같은 내용 업로드가 커밋됨)
+        long reclaimed = ContentAddressedFileStorageImpl.deleteIfUnreferenced(blob, trashDir, threshold(),
+                () -> checks.incrementAndGet() > 1);
+
+        // then
+        assertThat(reclaimed).isEqualTo(-1);
+        assertThat(blob).exists().hasContent("hello");
+        try (Stream<Path> trash = Files.list(trashDir)) {
+            assertThat(trash.count()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("5. 삭제 중 같은 내용이 새로 저장됨 -> 새 파일 유지, 옮겨둔 파일만 삭제")
+    void deleteIfUnreferenced_RepublishedDuringDelete_KeepsNewBlob() throws Exception {
+        // given
+        Path blob = oldBlob();
+        Path trashDir = uploadRoot.resolve(".incoming");
+
+        // when: 옮긴 뒤 재확인 시점에 업로드가 같은 경로에 새 파일을 만들고 참조함
+        long reclaimed = ContentAddressedFileStorageImpl.deleteIfUnreferenced(blob, trashDir, threshold(), () -> {
+            if (Files.exists(blob)) {
+                return false;
+            }
+            try {
+                Files.writeString(blob, "hello");
+            }
+            catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return true;
+        });
+
+        // then
+        assertThat(reclaimed).isEqualTo(-1);
+        assertThat(blob).exists();
+        try (Stream<Path> trash = Files.list(trashDir)) {
+            assertThat(trash.count()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("6. 삭제 직전 업로드가 수정시각을 갱신 -> 유지")
+    void deleteIfUnreferenced_TouchedBeforeDelete_Keeps() throws Exception {
+        // given
+        Path blob = oldBlob();
+        Files.setLastModifiedTime(blob, FileTime.fromMillis(System.currentTimeMillis()));
+
+        // when
+        long reclaimed = ContentAddressedFileStorageImpl.deleteIfUnreferenced(blob, uploadRoot.resolve(".incoming"), threshold(), () -> false);
+
+        // then
+        assertThat(reclaimed).isEqualTo(-1);
+        assertThat(blob).exists();
+    }
+
+    private Path oldBlob() throws Exception {
+        Attachment stored = storage.store("a.txt", new ByteArrayInputStream(bytes("hello")));
+        Path blob = storage.resolve(stored.getUrl()).orElseThrow().getPath();
+        Files.setLastModifiedTime(blob, FileTime.fromMillis(System.currentTimeMillis() - Duration.ofHours(2).toMillis()));
+        return blob;
+    }
+
+    private long threshold() {
+        return System.currentTimeMillis() - Duration.ofHours(1).toMillis();
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,116 @@
+package com.rsupport.board.notice.infra;
+
+import com.rsupport.board.notice.domain.entity.Attachment;
+import com.rsupport.board.notice.domain.repository.AttachmentRepository;
+
+import org.apache.catalina.core.ApplicationPart;
+import org.apache.tomcat.util.http.fileupload.disk.DiskFileItem;
+import org.apache.tomcat.util.http.fileupload.util.FileItemHeadersImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.support.StandardMultipartHttpServletRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 로컬 파일 저장 단위테스트 (업로드 임시파일 -> 최종 위치로 rename)
+ */
+@ExtendWith(MockitoExtension.class)
+class LocalFileStorageImplTest {
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @TempDir
+    Path uploadRoot;
+
+    private LocalFileStorageImpl storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalFileStorageImpl(attachmentRepository);
+        ReflectionTestUtils.setField(storage, "uploadRootPath", uploadRoot.toString());
+    }
+
+    @Test
+    @DisplayName("1. 컨테이너가 디스크에 받은 업로드 파일 -> 복사 없이 같은 파일을 최종 위치로 옮김 (임시파일 남지 않음)")
+    void store_multipart_movesSpooledFile() throws Exception {
+        // given: tomcat 이 file-size-threshold=0 으로 upload.path/.incoming 에 받아둔 상태
+        Path incoming = Files.createDirectories(uploadRoot.resolve(".incoming"));
+        MultipartFile file = spooledMultipartFile(incoming, "report.PDF", "hello");
+        Path spooled = singleFile(incoming);
+        Object spooledKey = Files.readAttributes(spooled, BasicFileAttributes.class).fileKey();
+
+        // when
+        Attachment attachment = storage.store(file);
+
+        // then
+        assertThat(attachment.getFilename()).isEqualTo("report.PDF");
+        assertThat(attachment.getUrl()).matches("^/files/\\d{8}/[0-9a-f-]{36}\\.PDF$");
+        Path stored = storage.resolve(attachment.getUrl()).orElseThrow().getPath();
+        assertThat(stored).hasContent("hello");
+        assertThat(spooled).doesNotExist();
+        try (Stream<Path> left = Files.list(incoming)) {
+            assertThat(left.count()).isZero();
+        }
+
+        // 같은 inode 면 복사가 아니라 rename (fileKey 를 지원하는 파일시스템에서만 확인)
+        assumeTrue(spooledKey != null);
+        assertThat(Files.readAttributes(stored, BasicFileAttributes.class).fileKey()).isEqualTo(spooledKey);
+    }
+
+    @Test
+    @DisplayName("2. 스트림 저장 -> 날짜 폴더에 uuid 파일명으로 저장, url/storageKey 반환")
+    void store_stream_writesToDateFolder() {
+        // when
+        Attachment attachment = storage.store("notes.txt", new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(attachment.getUrl()).matches("^/files/\\d{8}/[0-9a-f-]{36}\\.txt$");
+        assertThat(attachment.getStorageKey()).isEqualTo(StorageKey.fromUrl(attachment.getUrl()));
+        assertThat(storage.resolve(attachment.getUrl()).orElseThrow().getPath()).hasContent("content");
+    }
+
+    /**
+     * 실제 요청과 같은 경로: tomcat DiskFileItem(임시파일) -> ApplicationPart -> 스프링 StandardMultipartFile
+     */
+    private MultipartFile spooledMultipartFile(Path incoming, String filename, String content) throws IOException {
+        DiskFileItem fileItem = new DiskFileItem("files", "application/octet-stream", false, filename, 0, incoming.toFile());
+        FileItemHeadersImpl headers = new FileItemHeadersImpl();
+        headers.addHeader("Content-Disposition", "form-data; name=\"files\"; filename=\"" + filename + "\"");
+        fileItem.setHeaders(headers);
+        try (OutputStream out = fileItem.getOutputStream()) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/notices");
+        request.setContentType("multipart/form-data; boundary=test");
+        request.addPart(new ApplicationPart(fileItem, incoming.toFile()));
+        return new StandardMultipartHttpServletRequest(request).getFile("files");
+    }
+
+    private Path singleFile(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.reduce((a, b) -> {
+                throw new IllegalStateException("임시파일이 여러 개");
+            }).orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.rsupport.board.notice.infra;
+
+import com.rsupport.board.notice.domain.repository.AttachmentRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 참조 없는 업로드 파일 정리 단위테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class OrphanFileCollectorTest {
+    private static final String BLOB_HASH = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+    private static final String ORPHAN_HASH = "486ea46224d1bb4fb680f34f7c9ad96a8f24ec88be73ea8e5a6c65260e9cb8a7";
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @TempDir
+    Path uploadRoot;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("1. 날짜 폴더: 참조 없고 오래된 파일만 삭제 (참조 중, 예전 /uploads url 참조, 최근 파일은 유지)")
+    void collect_datedFiles() throws Exception {
+        // given
+        Path orphan = oldFile("20250101/orphan.txt", "12345");
+        Path referenced = oldFile("20250101/keep.txt", "abc");
+        Path legacy = oldFile("20250102/legacy.png", "abc");
+        Path recent = Files.writeString(uploadRoot.resolve("20250101/recent.txt"), "abc");
+        Path unknown = oldFile("2025/01/01/unknown.txt", "abc"); // 저장소가 만드는 위치가 아님
+
+        when(attachmentRepository.findUrlsAfter(eq(0L), any())).thenReturn(List.of(
+                row(1L, "/files/20250101/keep.txt"),
+                row(2L, "/uploads/20250102/legacy.png")
+        ));
+
+        // when
+        collector(false).collect();
+
+        // then
+        assertThat(orphan).doesNotExist();
+        assertThat(referenced).exists();
+        assertThat(legacy).exists();
+        assertThat(recent).exists();
+        assertThat(unknown).exists();
+        assertThat(reclaimed("upload.gc.reclaimed.files", false)).isEqualTo(1);
+        assertThat(reclaimed("upload.gc.reclaimed.bytes", false)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("2. 해시 저장소 + 임시파일: 다른 확장자로 참조 중인 파일은 유지, 참조 없는 파일/오래된 임시파일 삭제")
+    void collect_blobsAndIncoming() throws Exception {
+        // given
+        Path blob = oldFile(blobPath(BLOB_HASH), "hello");
+        Path orphanBlob = oldFile(blobPath(ORPHAN_HASH), "bye");
+        Path stalePart = oldFile(".incoming/upload.part", "partial");
+
+        when(attachmentRepository.findUrlsAfter(eq(0L), any())).thenReturn(List.of(
+                row(1L, "/files/sha256/" + BLOB_HASH + ".png")
+        ));
+
+        // when
+        collector(false).collect();
+
+        // then
+        assertThat(blob).exists();
+        assertThat(orphanBlob).doesNotExist();
+        assertThat(stalePart).doesNotExist();
+        assertThat(reclaimed("upload.gc.reclaimed.files", false)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("3. dry-run -> 파일은 그대로, 삭제 대상만 메트릭에 기록")
+    void collect_dryRun() throws Exception {
+        // given
+        Path orphan = oldFile("20250101/orphan.txt", "12345");
+        when(attachmentRepository.findUrlsAfter(eq(0L), any())).thenReturn(List.of());
+
+        // when
+        collector(true).collect();
+
+        // then
+        assertThat(orphan).exists();
+        assertThat(reclaimed("upload.gc.reclaimed.files", true)).isEqualTo(1);
+        assertThat(reclaimed("upload.gc.reclaimed.bytes", true)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("4. 실행당 최대 파일 수 -> 단위(날짜 폴더) 중간에서 멈추고 다음 실행에서 이어서 확인")
+    void collect_maxFilesPerRun_resumesWithinUnit() throws Exception {
+        // given: 한 폴더에 참조 중 3개 + 참조 없음 3개, 실행당 2개까지
+        List<Path> orphans = List.of(
+                oldFile("20250101/orphan1.txt", "a"), oldFile("20250101/orphan2.txt", "b"), oldFile("20250101/orphan3.txt", "c"));
+        List<Path> kept = List.of(
+                oldFile("20250101/keep1.txt", "a"), oldFile("20250101/keep2.txt", "b"), oldFile("20250101/keep3.txt", "c"));
+        when(attachmentRepository.findUrlsAfter(eq(0L), any())).thenReturn(List.of(
+                row(1L, "/files/20250101/keep1.txt"),
+                row(2L, "/files/20250101/keep2.txt"),
+                row(3L, "/files/20250101/keep3.txt")
+        ));
+        OrphanFileCollector collector = new OrphanFileCollector(attachmentRepository, meterRegistry, new SyncTaskExecutor(),
+                uploadRoot.toString(), Duration.ofHours(1), false, 2, 1000, 0);
+
+        // when & then: 한 번에 2개까지만 확인 -> 3번이면 폴더 전체 확인
+        double before = 0;
+        for (int run = 0; run < 3; run++) {
+            collector.collect();
+            double reclaimed = reclaimed("upload.gc.reclaimed.files", false);
+            assertThat(reclaimed - before).isLessThanOrEqualTo(2);
+            before = reclaimed;
+        }
+        assertThat(orphans).allSatisfy(orphan -> assertThat(orphan).doesNotExist());
+        assertThat(kept).allSatisfy(file -> assertThat(file).exists());
+        assertThat(reclaimed("upload.gc.reclaimed.files", false)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("5. .incoming: 삭제 중(옮긴 지 얼마 안 된) 파일은 유지, 오래전에 옮겨진 채 남은 파일은 삭제")
+    void collect_incomingTrash() throws Exception {
+        // given: 옮겨도 수정시각은 그대로라서 둘 다 오래된 파일
+        long now = System.currentTimeMillis();
+        Path inUse = oldFile(".incoming/" + BLOB_HASH + ".trash-" + now + "-" + UUID.randomUUID(), "hello");
+        Path leftover = oldFile(".incoming/" + ORPHAN_HASH + ".trash-" + (now - Duration.ofHours(3).toMillis()) + "-" + UUID.randomUUID(), "bye");
+
+        // when
+        collector(false).collect();
+
+        // then
+        assertThat(inUse).exists();
+        assertThat(leftover).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("6. 스케줄 실행 -> 전용 스레드로 넘겨서 정리, 이전 실행이 진행 중이라 거절되면 건너뜀")
+    void trigger_runsOnGcExecutor() throws Exception {
+        // given
+        Path orphan = oldFile("20250101/orphan.txt", "12345");
+        when(attachmentRepository.findUrlsAfter(eq(0L), any())).thenReturn(List.of());
+        TaskExecutor busy = task -> {
+            throw new TaskRejectedException("진행 중");
+        };
+
+        // when
+        assertThatCode(() -> new OrphanFileCollector(attachmentRepository, meterRegistry, busy, uploadRoot.toString(),
+                Duration.ofHours(1), false, 10_000, 1000, 0).trigger()).doesNotThrowAnyException();
+        boolean skipped = Files.exists(orphan);
+        collector(false).trigger();
+
+        // then
+        assertThat(skipped).isTrue();
+        assertThat(orphan).doesNotExist();
+    }
+
+    private OrphanFileCollector collector(boolean dryRun) {
+        // 속도 제한 없이
+        return new OrphanFileCollector(attachmentRepository, meterRegistry, new SyncTaskExecutor(),
+                uploadRoot.toString(), Duration.ofHours(1), dryRun, 10_000, 1000, 0);
+    }
+
+    private Path oldFile(String relative, String content) throws Exception {
+        Path file = uploadRoot.resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - Duration.ofHours(2).toMillis()));
+        return file;
+    }
+
+    private String blobPath(String hash) {
+        return "sha256/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+    }
+
+    private double reclaimed(String name, boolean dryRun) {
+        return meterRegistry.get(name).tag("dry-run", String.valueOf(dryRun)).counter().count();
+    }
+
+    private AttachmentRepository.UrlView row(Long id, String url) {
+        return new AttachmentRepository.UrlView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getUrl() {
+                return url;
+            }
+
+            @Override
+            public String getStorageKey() {
+                return StorageKey.fromUrl(url);
+            }
+        };
+    }
+}
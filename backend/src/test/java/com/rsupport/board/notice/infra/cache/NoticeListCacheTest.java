@@ -0,0 +1,611 @@
+package com.rsupport.board.notice.infra.cache;
+
+import com.rsupport.board.common.cache.CachedValue;
+import com.rsupport.board.member.domain.entity.Member;
+import com.rsupport.board.member.infra.cache.MemberLookupCache;
+import com.rsupport.board.member.infra.cache.MemberSummary;
+import com.rsupport.board.notice.api.dto.NoticeCursor;
+import com.rsupport.board.notice.api.dto.NoticeListItemDTO;
+import com.rsupport.board.notice.api.dto.NoticeListReqDTO;
+import com.rsupport.board.notice.api.dto.NoticeListResDTO;
+import com.rsupport.board.notice.domain.entity.Notice;
+import com.rsupport.board.notice.domain.event.NoticeChangedEvent;
+import com.rsupport.board.notice.domain.repository.NoticeRepository;
+import com.rsupport.board.notice.infra.viewcount.ViewCountFlushHistory;
+import com.rsupport.board.notice.infra.viewcount.ViewCountFlushRecord;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 공지 목록 캐시(generation 방식) 단위테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NoticeListCacheTest {
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private RedisTemplate<String, Long> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Long> valueOperations;
+
+    @Mock
+    private NoticeRepository noticeRepository;
+
+    @Mock
+    private MemberLookupCache memberLookupCache;
+
+    @Mock
+    private ViewCountFlushHistory viewCountFlushHistory;
+
+    private NoticeListCache noticeListCache;
+
+    private NoticeListReqDTO sampleReq;
+    private Pageable samplePageable;
+
+    @BeforeEach
+    void setUp() {
+        sampleReq = new NoticeListReqDTO();
+        sampleReq.setKeyword("공지");
+        samplePageable = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        // 백그라운드 갱신은 호출 스레드에서 바로 실행, TTL 5분 (jitter 없음)
+        noticeListCache = new NoticeListCache(cacheManager, redisTemplate, noticeRepository, memberLookupCache,
+                viewCountFlushHistory, Runnable::run, Duration.ofMinutes(5), Duration.ZERO, 1.0);
+    }
+
+    @Test
+    @DisplayName("1. 같은 의미의 검색조건 -> 같은 캐시 키 (키워드 공백, 기본 정렬 정규화)")
+    void buildKey_EquivalentRequests_ReturnsSameKey() {
+        // given
+        NoticeListReqDTO paddedReq = new NoticeListReqDTO();
+        paddedReq.setKeyword("  공지 ");
+        Pageable unsorted = PageRequest.of(1, 10);
+
+        // when
+        String key1 = NoticeListCache.buildKey(3L, sampleReq, samplePageable);
+        String key2 = NoticeListCache.buildKey(3L, paddedReq, unsorted);
+
+        // then
+        assertThat(key1).isEqualTo(key2);
+        assertThat(key1).startsWith("g3|");
+    }
+
+    @Test
+    @DisplayName("2. generation 이 바뀌면 -> 다른 캐시 키")
+    void buildKey_DifferentGeneration_ReturnsDifferentKey() {
+        String before = NoticeListCache.buildKey(3L, sampleReq, samplePageable);
+        String after = NoticeListCache.buildKey(4L, sampleReq, samplePageable);
+
+        assertThat(before).isNotEqualTo(after);
+    }
+
+    @Test
+    @DisplayName("3. 캐시 hit -> loader 호출 x, 캐시 miss -> loader 결과 저장")
+    void get_HitAndMiss() {
+        // given
+        when(cacheManager.getCache(NoticeListCache.CACHE_NAME)).thenReturn(cache);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("notice:list:generation")).thenReturn(7L);
+
+        String key = NoticeListCache.buildKey(7L, sampleReq, samplePageable);
+        NoticeListResDTO cached = new NoticeListResDTO();
+        NoticeListResDTO loaded = new NoticeListResDTO();
+        long farFromExpiry = System.currentTimeMillis() + Duration.ofMinutes(5).toMillis();
+        @SuppressWarnings("unchecked")
+        Supplier<NoticeListResDTO> loader = mock(Supplier.class);
+
+        // when: hit
+        when(cache.get(key, CachedValue.class)).thenReturn(new CachedValue<>(cached, 10L, farFromExpiry, 0L));
+        NoticeListResDTO hit = noticeListCache.get(sampleReq, samplePageable, loader);
+
+        // then
+        assertThat(hit).isSameAs(cached);
+        verify(loader, never()).get();
+
+        // when: miss
+        when(cache.get(key, CachedValue.class)).thenReturn(null);
+        when(loader.get()).thenReturn(loaded);
+        NoticeListResDTO miss = noticeListCache.get(sampleReq, samplePageable, loader);
+
+        // then
+        assertThat(miss).isSameAs(loaded);
+        ArgumentCaptor<CachedValue> captor = ArgumentCaptor.forClass(CachedValue.class);
+        verify(cache).put(eq(key), captor.capture());
+        assertThat(captor.getValue().getValue()).isSameAs(loaded);
+        assertThat(captor.getValue().getExpiresAt()).isGreaterThan(System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("4. 전체 무효화 -> generation INCR 한 번 + 다른 노드에 새 generation 전파")
+    void invalidateAll_IncrementsGeneration() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("notice:list:generation")).thenReturn(8L);
+
+        // when
+        noticeListCache.invalidateAll();
+
+        // then
+        verify(redisTemplate).convertAndSend(NoticeListCache.GENERATION_CHANNEL, 8L);
+        verifyNoInteractions(cacheManager);
+
+        // 이후 조회는 redis 를 다시 읽지 않고 로컬 generation 사용
+        assertThat(noticeListCache.currentGeneration()).isEqualTo(8L);
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("5. 공지 등록 -> 이전 generation 첫 페이지 맨 앞에 추가, 마지막 제거, totalElements +1 해서 새 키로 저장")
+    void onNoticeChanged_Created_PatchesFirstPage() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("notice:list:generation")).thenReturn(8L);
+        when(cacheManager.getCache(NoticeListCache.CACHE_NAME)).thenReturn(cache);
+
+        NoticeListReqDTO defaultReq = new NoticeListReqDTO();
+        NoticeListResDTO previous = firstPage(20, 25L);
+        when(cache.get(NoticeListCache.buildKey(7L, defaultReq, NoticeListCache.FIRST_PAGE), CachedValue.class))
+                .thenReturn(cachedValue(previous));
+        when(memberLookupCache.find(1L)).thenReturn(Optional.of(new MemberSummary(1L, "작성자")));
+        Member author = mock(Member.class);
+        when(author.getId()).thenReturn(1L);
+
+        Notice created = Notice.testBuilder()
+                .id(100L)
+                .title("새 공지")
+                .content("내용")
+                .member(author)
+                .createdAt(LocalDateTime.of(2025, 6, 11, 0, 0))
+                .startAt(LocalDateTime.of(2025, 6, 11, 0, 0))
+                .endAt(LocalDateTime.of(2025, 6, 20, 0, 0))
+                .build();
+
+        // when
+        noticeListCache.onNoticeChanged(NoticeChangedEvent.created(created));
+
+        // then
+        ArgumentCaptor<CachedValue> captor = ArgumentCaptor.forClass(CachedValue.class);
+        verify(cache).put(eq(NoticeListCache.buildKey(8L, defaultReq, NoticeListCache.FIRST_PAGE)), captor.capture());
+        NoticeListResDTO patched = (NoticeListResDTO) captor.getValue().getValue();
+        assertThat(patched.getNoticeList()).hasSize(20);
+        assertThat(patched.getNoticeList().get(0).getId()).isEqualTo(100L);
+        assertThat(patched.getNoticeList().get(0).getViewCount()).isZero();
+        assertThat(patched.getNoticeList().get(19).getId()).isEqualTo(19L); // 기존 마지막(20번) 제거
+        assertThat(patched.getPageInfo().getTotalElements()).isEqualTo(26L);
+        assertThat(patched.getPageInfo().getTotalPages()).isEqualTo(2);
+        // 공유 객체인 이전 캐시값은 그대로
+        assertThat(previous.getNoticeList()).hasSize(20);
+        assertThat(previous.getPageInfo().getTotalElements()).isEqualTo(25L);
+    }
+
+    @Test
+    @DisplayName("6. 첫 페이지 공지 삭제 -> 빼고 다음 한 건만 DB 에서 채움, totalElements -1")
+    void onNoticeChanged_Deleted_RemovesAndBackfills() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("notice:list:generation")).thenReturn(8L);
+        when(cacheManager.getCache(NoticeListCache.CACHE_NAME)).thenReturn(cache);
+
+        NoticeListReqDTO defaultReq = new NoticeListReqDTO();
+        when(cache.get(NoticeListCache.buildKey(7L, defaultReq, NoticeListCache.FIRST_PAGE), CachedValue.class))
+                .thenReturn(cachedValue(firstPage(20, 25L)));
+        NoticeListItemDTO next = item(21L);
+        when(noticeRepository.findAllByCursor(any(NoticeListReqDTO.class), any(NoticeCursor.class), eq(1)))
+                .thenReturn(new SliceImpl<>(List.of(next)));
+
+        // when
+        noticeListCache.onNoticeChanged(NoticeChangedEvent.deleted(5L));
+
+        // then
+        ArgumentCaptor<CachedValue> captor = ArgumentCaptor.forClass(CachedValue.class);
+        verify(cache).put(eq(NoticeListCache.buildKey(8L, defaultReq, NoticeListCache.FIRST_PAGE)), captor.capture());
+        NoticeListResDTO patched = (NoticeListResDTO) captor.getValue().getValue();
+        assertThat(patched.getNoticeList()).hasSize(20);
+        assertThat(patched.getNoticeList()).extracting(NoticeListItemDTO::getId).doesNotContain(5L);
+        assertThat(patched.getNoticeList().get(19).getId()).isEqualTo(21L);
+        assertThat(patched.getPageInfo().getTotalElements()).isEqualTo(24L);
+    }
+
+    @Test
+    @DisplayName("7. 이전 generation 첫 페이지가 캐시에 없으면 -> 고치지 않고 다음 조회에서 DB 로 채움")
+    void onNoticeChanged_NoPreviousPage_SkipsPatch() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("notice:list:generation")).thenReturn(8L);
+        when(cacheManager.getCache(NoticeListCache.CACHE_NAME)).thenReturn(cache);
+
+        // when
+        noticeListCache.onNoticeChanged(NoticeChangedEvent.deleted(5L));
+
+        // then
+        verify(cache, never()).put(anyString(), any());
+        verifyNoInteractions(noticeRepository);
+    }
+
+    @Test
+    @DisplayName("8. 같은 키 동시 조회 (캐시 miss) -> loader 는 한 번만 실행, 나머지는 결과 공유")
+    void get_ConcurrentMiss_LoadsOnce() throws Exception {
+        // given
+        when(cacheManager.getCache(NoticeListCache.CACHE_NAME)).thenReturn(cache);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("notice:list:generation")).thenReturn(7L);
+        when(cache.get(anyString(), eq(CachedValue.class))).thenReturn(null);
+
+        NoticeListResDTO loaded = new NoticeListResDTO();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loadCount = new AtomicInteger();
+        Supplier<NoticeListResDTO> loader = () -> {
+            loadCount.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return loaded;
+        };
+
+        // when: 첫 요청이 DB 조회 중일 때 같은 키로 두 요청 더
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<NoticeListResDTO> first = executor.submit(() -> noticeListCache.get(sampleReq, samplePageable, loader));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<NoticeListResDTO> second = executor.submit(() -> noticeListCache.get(sampleReq, samplePageable, loader));
+            Future<NoticeListResDTO> third = executor.submit(() -> noticeListCache.get(sampleReq, samplePageable, loader));
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(loaded);
+            assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(loaded);
+            assertThat(third.get(5, TimeUnit.SECONDS)).isSameAs(loaded);
+            assertThat(loadCount.get()).isEqualTo(1);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("9. 만료 직전 키 조회 -> 기존 값으로 응답하고 백그라운드에서 미리 갱신")
+    void get_NearExpiry_RefreshesAhead() {
+        // given
+        when(cacheManager.getCache(NoticeListCache.CACHE_NAME)).thenReturn(cache);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("notice:list:generation")).thenReturn(7L);
+
+        String key = NoticeListCache.buildKey(7L, sampleReq, samplePageable);
+        NoticeListResDTO stale = new NoticeListResDTO();
+        NoticeListResDTO refreshed = new NoticeListResDTO();
+        // 이미 만료 시각이 지난 값 -> 항상 갱신 대상
+        when(cache.get(key, CachedValue.class)).thenReturn(new CachedValue<>(stale, 50L, System.currentTimeMillis() - 1, 0L));
+
+        // when
+        NoticeListResDTO result = noticeListCache.get(sampleReq, samplePageable, () -> refreshed);
+
+        // then
+        assertThat(result).isSameAs(stale);
+        ArgumentCaptor<CachedValue> captor = ArgumentCaptor.forClass(CachedValue.class);
+        verify(cache).put(eq(key), captor.capture());
+        assertThat(captor.getValue().getValue()).isSameAs(refreshed);
+    }
+
+    @Test
+    @DisplayName("10. 만료까지 충분히 남은 키 -> 미리 갱신하지 않음")
+    void get_FarFromExpiry_NoRefresh() {
+        CachedValue<NoticeListResDTO> fresh =
+                new CachedValue<>(new NoticeListResDTO(), 50L, System.currentTimeMillis() + Duration.ofMinutes(5).toMillis(), 0L);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(fresh.shouldRefreshEarly(System.currentTimeMillis(), 1.0)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("11. 캐시된 뒤 조회수가 DB 에 반영됨 -> generation 은 그대로, 반영 전에 읽은 값에 공지별 반영분만 더해서 응답")
+    void get_FlushedAfterLoad_AddsFlushedViewCounts() {
+        // given: 1분 전에 읽은 첫 페이지, 10초 전에 반영 시작
+        NoticeListReqDTO defaultReq = new NoticeListReqDTO();
+        NoticeListResDTO cachedPage = firstPage(20, 25L);
+        stubFirstPage(defaultReq, cachedValue(cachedPage));
+        long now = System.currentTimeMillis();
+        stubFlushed(new ViewCountFlushRecord(now - 10_000, now - 9_000, Map.of(3L, 5L, 100L, 7L)));
+        @SuppressWarnings("unchecked")
+        Supplier<NoticeListResDTO> loader = mock(Supplier.class);
+
+        // when
+        NoticeListResDTO result = noticeListCache.get(defaultReq, NoticeListCache.FIRST_PAGE, loader);
+
+        // then
+        assertThat(result.getNoticeList()).hasSize(20);
+        assertThat(result.getNoticeList().get(2).getViewCount()).isEqualTo(15); // 10 + 5
+        assertThat(result.getNoticeList().get(3).getViewCount()).isEqualTo(10);
+        assertThat(result.getPageInfo().getTotalElements()).isEqualTo(25L);
+        // 공유 객체인 캐시값은 그대로, 무효화/다시 읽기 x
+        assertThat(cachedPage.getNoticeList().get(2).getViewCount()).isEqualTo(10);
+        verify(loader, never()).get();
+        verify(valueOperations, never()).increment(anyString());
+        verify(cache, never()).put(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("12. 조회수 반영이 끝난 뒤에 읽은 값 -> 이미 반영된 값이라 더하지 않음")
+    void get_LoadedAfterFlush_ReturnsAsIs() {
+        // given
+        NoticeListReqDTO defaultReq = new NoticeListReqDTO();
+        long now = System.currentTimeMillis();
+        CachedValue<NoticeListResDTO> cached = cachedValue(firstPage(20, 25L), now - 5_000);
+        stubFirstPage(defaultReq, cached);
+        stubFlushed(new ViewCountFlushRecord(now - 60_000, now - 59_000, Map.of(3L, 5L)));
+
+        // when
+        NoticeListResDTO result = noticeListCache.get(defaultReq, NoticeListCache.FIRST_PAGE, () -> fail("다시 읽으면 안 됨"));
+
+        // then
+        assertThat(result).isSameAs(cached.getValue());
+    }
+
+    @Test
+    @DisplayName("13. 조회수 반영 도중에 읽은 값 (페이지 공지가 반영 대상) -> 반영분이 들어있는지 알 수 없으므로 그 키만 다시 읽음")
+    void get_LoadedDuringFlush_Reloads() {
+        // given
+        NoticeListReqDTO defaultReq = new NoticeListReqDTO();
+        long now = System.currentTimeMillis();
+        stubFirstPage(defaultReq, cachedValue(firstPage(20, 25L), now - 10_000));
+        stubFlushed(new ViewCountFlushRecord(now - 10_500, now - 9_500, Map.of(3L, 5L)));
+        NoticeListResDTO reloaded = firstPage(20, 25L);
+
+        // when
+        NoticeListResDTO result = noticeListCache.get(defaultReq, NoticeListCache.FIRST_PAGE, () -> reloaded);
+
+        // then
+        assertThat(result).isSameAs(reloaded);
+        verify(cache).put(eq(NoticeListCache.buildKey(7L, defaultReq, NoticeListCache.FIRST_PAGE)), any(CachedValue.class));
+        verify(valueOperations, never()).increment(anyString());
+    }
+
+    @Test
+    @DisplayName("14. 첫 페이지에 없는 공지 삭제, 삭제 전에 읽은 값 -> 아이템은 그대로, totalElements 만 -1")
+    void onNoticeChanged_DeletedNotOnPage_LoadedBefore_DecrementsTotal() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("notice:list:generation")).thenReturn(8L);
+        when(cacheManager.getCache(NoticeListCache.CACHE_NAME)).thenReturn(cache);
+
+        NoticeListReqDTO defaultReq = new NoticeListReqDTO();
+        when(cache.get(NoticeListCache.buildKey(7L, defaultReq, NoticeListCache.FIRST_PAGE), CachedValue.class))
+                .thenReturn(cachedValue(firstPage(20, 25L)));
+
+        // when
+        noticeListCache.onNoticeChanged(NoticeChangedEvent.deleted(23L));
+
+        // then
+        ArgumentCaptor<CachedValue> captor = ArgumentCaptor.forClass(CachedValue.class);
+        verify(cache).put(eq(NoticeListCache.buildKey(8L, defaultReq, NoticeListCache.FIRST_PAGE)), captor.capture());
+        NoticeListResDTO patched = (NoticeListResDTO) captor.getValue().getValue();
+        assertThat(patched.getNoticeList()).extracting(NoticeListItemDTO::getId)
+                .containsExactlyElementsOf(firstPage(20, 25L).getNoticeList().stream().map(NoticeListItemDTO::getId).toList());
+        assertThat(patched.getPageInfo().getTotalElements()).isEqualTo(24L);
+        verifyNoInteractions(noticeRepository);
+    }
+
+    @Test
+    @DisplayName("15. 첫 페이지에 없는 공지 삭제, 삭제 이후에 다시 읽은 값 -> 이미 빠진 건수라 고치지 않음")
+    void onNoticeChanged_DeletedNotOnPage_ReloadedAfter_SkipsPatch() {
+        // given: 삭제 커밋 이후(다른 노드가 이전 generation 키로) DB 에서 다시 읽어서 저장한 첫 페이지
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("notice:list:generation")).thenReturn(8L);
+        when(cacheManager.getCache(NoticeListCache.CACHE_NAME)).thenReturn(cache);
+
+        NoticeChangedEvent deleted = NoticeChangedEvent.deleted(23L);
+        when(cache.get(NoticeListCache.buildKey(7L, new NoticeListReqDTO(), NoticeListCache.FIRST_PAGE), CachedValue.class))
+                .thenReturn(cachedValue(firstPage(20, 24L), deleted.getOccurredAt() + 100));
+
+        // when
+        noticeListCache.onNoticeChanged(deleted);
+
+        // then
+        verify(cache, never()).put(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("16. 공지 수정 후 다시 읽은 첫 페이지 -> 같은 값으로 교체 (조회수, 작성자, 등록일, totalElements 유지)")
+    void onNoticeChanged_UpdatedReloadedAfter_IsIdempotent() {
+        // given: 수정 커밋 이후 DB 에서 다시 읽어서 이미 새 제목이 들어있는 첫 페이지
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("notice:list:generation")).thenReturn(8L);
+        when(cacheManager.getCache(NoticeListCache.CACHE_NAME)).thenReturn(cache);
+
+        Member author = mock(Member.class);
+        when(author.getId()).thenReturn(1L);
+        LocalDateTime createdAt = item(3L).getCreatedAt();
+        Notice updated = Notice.testBuilder()
+                .id(3L)
+                .title("수정된 제목")
+                .content("내용")
+                .member(author)
+                .createdAt(createdAt)
+                .startAt(createdAt)
+                .endAt(createdAt.plusDays(7))
+                .build();
+        NoticeChangedEvent event = NoticeChangedEvent.updated(updated);
+
+        NoticeListResDTO reloaded = firstPage(20, 25L);
+        reloaded.getNoticeList().set(2, new NoticeListItemDTO(3L, "수정된 제목", false, createdAt, createdAt,
+                createdAt.plusDays(7), 42, 1L, "작성자"));
+        NoticeListReqDTO defaultReq = new NoticeListReqDTO();
+        when(cache.get(NoticeListCache.buildKey(7L, defaultReq, NoticeListCache.FIRST_PAGE), CachedValue.class))
+                .thenReturn(cachedValue(reloaded, event.getOccurredAt() + 100));
+
+        // when
+        noticeListCache.onNoticeChanged(event);
+
+        // then
+        ArgumentCaptor<CachedValue> captor = ArgumentCaptor.forClass(CachedValue.class);
+        verify(cache).put(eq(NoticeListCache.buildKey(8L, defaultReq, NoticeListCache.FIRST_PAGE)), captor.capture());
+        NoticeListResDTO patched = (NoticeListResDTO) captor.getValue().getValue();
+        NoticeListItemDTO item = patched.getNoticeList().get(2);
+        assertThat(item.getTitle()).isEqualTo("수정된 제목");
+        assertThat(item.getViewCount()).isEqualTo(42);
+        assertThat(item.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(item.getAuthor().getName()).isEqualTo("작성자");
+        assertThat(patched.getNoticeList()).hasSize(20);
+        assertThat(patched.getPageInfo().getTotalElements()).isEqualTo(25L);
+    }
+
+    @Test
+    @DisplayName("17. 주기 동기화로 읽은 값이 pub/sub 으로 먼저 받은 값보다 작으면 -> 로컬 generation 유지 (뒤로 가지 않음)")
+    void syncGeneration_NeverGoesBackwards() {
+        // given: 동기화가 9 를 읽는 사이 다른 노드가 10 으로 올리고 메세지가 먼저 도착
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("notice:list:generation")).thenReturn(9L);
+        noticeListCache.onMessage(generationMessage(10L), null);
+
+        // when
+        noticeListCache.syncGeneration();
+
+        // then
+        assertThat(noticeListCache.currentGeneration()).isEqualTo(10L);
+
+        // 순서가 바뀐 메세지도 무시
+        noticeListCache.onMessage(generationMessage(8L), null);
+        assertThat(noticeListCache.currentGeneration()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("18. redis 초기화로 generation 이 없어짐 -> 로컬 값 + 1 로 다시 채우고 다른 노드에 전파")
+    void syncGeneration_RedisReset_ReseedsAboveLocal() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("notice:list:generation")).thenReturn(null);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("notice:list:generation")), eq(11L))).thenReturn(11L);
+        noticeListCache.onMessage(generationMessage(10L), null);
+
+        // when
+        noticeListCache.syncGeneration();
+
+        // then
+        verify(redisTemplate).convertAndSend(NoticeListCache.GENERATION_CHANNEL, 11L);
+        assertThat(noticeListCache.currentGeneration()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("19. redis 초기화 후 INCR 이 1 부터 다시 시작 -> 이전 generation 키와 겹치지 않도록 로컬 값 위로 올림")
+    void invalidateAll_AfterRedisReset_RaisesAboveLocal() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("notice:list:generation")).thenReturn(1L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("notice:list:generation")), eq(11L))).thenReturn(11L);
+        noticeListCache.onMessage(generationMessage(10L), null);
+
+        // when
+        noticeListCache.invalidateAll();
+
+        // then
+        verify(redisTemplate).convertAndSend(NoticeListCache.GENERATION_CHANNEL, 11L);
+        assertThat(noticeListCache.currentGeneration()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("20. 보관 중인 반영 기록보다 오래 전에 읽은 값 -> 보정할 수 없으므로 다시 읽음")
+    void get_OlderThanFlushHistory_Reloads() {
+        // given
+        NoticeListReqDTO defaultReq = new NoticeListReqDTO();
+        stubFirstPage(defaultReq, cachedValue(firstPage(20, 25L)));
+        when(viewCountFlushHistory.covers(anyLong(), anyLong())).thenReturn(false);
+        NoticeListResDTO reloaded = firstPage(20, 25L);
+
+        // when
+        NoticeListResDTO result = noticeListCache.get(defaultReq, NoticeListCache.FIRST_PAGE, () -> reloaded);
+
+        // then
+        assertThat(result).isSameAs(reloaded);
+        verify(viewCountFlushHistory, never()).getRecent();
+    }
+
+    // generation 7 의 기본 첫 페이지 캐시
+    private void stubFirstPage(NoticeListReqDTO defaultReq, CachedValue<NoticeListResDTO> cached) {
+        when(cacheManager.getCache(NoticeListCache.CACHE_NAME)).thenReturn(cache);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("notice:list:generation")).thenReturn(7L);
+        when(cache.get(NoticeListCache.buildKey(7L, defaultReq, NoticeListCache.FIRST_PAGE), CachedValue.class))
+                .thenReturn(cached);
+    }
+
+    private void stubFlushed(ViewCountFlushRecord... records) {
+        when(viewCountFlushHistory.covers(anyLong(), anyLong())).thenReturn(true);
+        when(viewCountFlushHistory.getRecent()).thenReturn(List.of(records));
+    }
+
+    private Message generationMessage(long generation) {
+        return new DefaultMessage(NoticeListCache.GENERATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                String.valueOf(generation).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 1분 전에 DB 에서 읽은 값
+    private CachedValue<NoticeListResDTO> cachedValue(NoticeListResDTO value) {
+        return cachedValue(value, System.currentTimeMillis() - Duration.ofMinutes(1).toMillis());
+    }
+
+    private CachedValue<NoticeListResDTO> cachedValue(NoticeListResDTO value, long loadedAt) {
+        return new CachedValue<>(value, 10L, System.currentTimeMillis() + Duration.ofMinutes(5).toMillis(), loadedAt);
+    }
+
+    // id 1~size 인 첫 페이지 (id 가 작을수록 최신)
+    private NoticeListResDTO firstPage(int size, long totalElements) {
+        List<NoticeListItemDTO> items = new ArrayList<>();
+        for (long id = 1; id <= size; id++) {
+            items.add(item(id));
+        }
+        int totalPages = (int) ((totalElements + 19) / 20);
+        return new NoticeListResDTO(items,
+                new NoticeListResDTO.PageInfo(0, 20, totalElements, totalPages, true, totalPages <= 1, null));
+    }
+
+    private NoticeListItemDTO item(long id) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 6, 10, 0, 0).minusMinutes(id);
+        return new NoticeListItemDTO(id, "공지" + id, false, createdAt, createdAt, createdAt.plusDays(7),
+                10, 1L, "작성자");
+    }
+}
@@ -0,0 +1,230 @@
+package com.rsupport.board.notice.infra.read;
+
+import com.rsupport.board.notice.domain.entity.Notice;
+import com.rsupport.board.notice.domain.event.NoticeChangedEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 공지 읽음 여부 단위테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NoticeReadTrackerTest {
+    @Mock
+    private NoticeReadBitmapRepository readBitmapRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private NoticeReadTracker noticeReadTracker;
+
+    @BeforeEach
+    void setUp() {
+        noticeReadTracker = new NoticeReadTracker(readBitmapRepository, jdbcTemplate, stringRedisTemplate,
+                DataSize.ofMegabytes(1));
+
+        // 게시 중인 공지 1, 2, 3
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= 3; id++) {
+            Notice notice = Notice.testBuilder()
+                    .id(id)
+                    .title("공지" + id)
+                    .content("내용")
+                    .startAt(now.minusDays(1))
+                    .endAt(now.plusDays(1))
+                    .build();
+            noticeReadTracker.onNoticeChanged(NoticeChangedEvent.created(notice));
+        }
+    }
+
+    @Test
+    @DisplayName("1. 읽은 공지만 true, 안 읽은 공지 수 = 게시 중인 공지 - 읽은 공지")
+    void markRead_thenStatusAndUnreadCount() {
+        // given
+        noticeReadTracker.markRead(1L, 10L);
+        noticeReadTracker.markRead(1L, 10L); // 재조회
+        noticeReadTracker.markRead(2L, 20L); // 다른 회원
+
+        // when+then
+        assertThat(noticeReadTracker.readStatus(10L, List.of(1L, 2L, 3L)))
+                .containsEntry(1L, true)
+                .containsEntry(2L, false)
+                .containsEntry(3L, false);
+        assertThat(noticeReadTracker.unreadCount(10L)).isEqualTo(2L);
+        assertThat(noticeReadTracker.unreadCount(30L)).isEqualTo(3L); // 아무것도 안 읽은 회원
+    }
+
+    @Test
+    @DisplayName("2. 공지 삭제 -> 게시 중인 공지, 읽음 기록에서 제외")
+    void deletedNotice_removedFromCounts() {
+        // given
+        noticeReadTracker.markRead(1L, 10L);
+
+        // when
+        noticeReadTracker.onNoticeChanged(NoticeChangedEvent.deleted(1L));
+
+        // then
+        assertThat(noticeReadTracker.readStatus(10L, List.of(1L))).containsEntry(1L, false);
+        assertThat(noticeReadTracker.unreadCount(10L)).isEqualTo(2L);
+        verify(readBitmapRepository).delete(1L);
+        verify(stringRedisTemplate).convertAndSend(eq(NoticeReadTracker.DELETED_CHANNEL), endsWith("|1"));
+    }
+
+    @Test
+    @DisplayName("3. DB 저장 실패 -> 새로 읽은 회원 유지, 다음 주기에 다시 저장")
+    void flush_failure_retriesNextTime() {
+        // given
+        noticeReadTracker.markRead(1L, 10L);
+        when(readBitmapRepository.merge(eq(1L), any(RoaringBitmap.class)))
+                .thenThrow(new DuplicateKeyException("동시 insert"))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+
+        // when
+        noticeReadTracker.flush();
+        noticeReadTracker.flush();
+
+        // then
+        ArgumentCaptor<RoaringBitmap> captor = ArgumentCaptor.forClass(RoaringBitmap.class);
+        verify(readBitmapRepository, times(2)).merge(eq(1L), captor.capture());
+        assertThat(captor.getAllValues().get(1).contains(10)).isTrue();
+
+        noticeReadTracker.flush(); // 저장할 게 없으면 호출 x
+        verify(readBitmapRepository, times(2)).merge(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("4. 다른 노드의 삭제 메세지 -> 메모리에서 삭제, 자기 노드 메세지는 무시")
+    void deletedOnOtherNode_removedLocally() {
+        // given
+        noticeReadTracker.markRead(1L, 10L);
+        noticeReadTracker.markRead(2L, 10L);
+
+        // when
+        noticeReadTracker.onMessage(message("other-node|1"), null);
+
+        // then
+        assertThat(noticeReadTracker.readStatus(10L, List.of(1L, 2L)))
+                .containsEntry(1L, false)
+                .containsEntry(2L, true);
+        assertThat(noticeReadTracker.unreadCount(10L)).isEqualTo(1L); // 게시 중 2, 3 중 3
+        verify(readBitmapRepository, never()).delete(anyLong()); // DB 는 삭제한 노드가 처리
+
+        // 삭제된 공지의 새로 읽은 회원은 저장하지 않음
+        noticeReadTracker.flush();
+        verify(readBitmapRepository, never()).merge(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("5. 삭제 메세지를 놓쳤는데 저장 시 공지가 없음(null) -> 메모리에서 삭제, 다시 저장하지 않음")
+    void flush_noticeDeleted_removedLocally() {
+        // given
+        noticeReadTracker.markRead(1L, 10L);
+        when(readBitmapRepository.merge(eq(1L), any(RoaringBitmap.class))).thenReturn(null);
+
+        // when
+        noticeReadTracker.flush();
+        noticeReadTracker.flush();
+
+        // then
+        assertThat(noticeReadTracker.readStatus(10L, List.of(1L))).containsEntry(1L, false);
+        verify(readBitmapRepository, times(1)).merge(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("6. 게시 중인 공지 갱신 중에 등록/삭제 -> 조회 결과로 덮어쓰지 않고 변경 유지")
+    void refreshActiveNotices_keepsChangesDuringRefresh() throws Exception {
+        // given: DB 조회는 1, 2, 3 을 반환, 조회 중에 4 등록 + 2 삭제가 커밋됨
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(1L, 2L, 3L);
+        doAnswer(invocation -> {
+            LocalDateTime now = LocalDateTime.now();
+            noticeReadTracker.onNoticeChanged(NoticeChangedEvent.created(Notice.testBuilder()
+                    .id(4L)
+                    .title("공지4")
+                    .content("내용")
+                    .startAt(now.minusDays(1))
+                    .endAt(now.plusDays(1))
+                    .build()));
+            noticeReadTracker.onNoticeChanged(NoticeChangedEvent.deleted(2L));
+
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < 3; i++) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(), any());
+
+        // when
+        noticeReadTracker.refreshActiveNotices();
+
+        // then: 1, 3, 4
+        assertThat(noticeReadTracker.unreadCount(10L)).isEqualTo(3L);
+        noticeReadTracker.markRead(4L, 10L);
+        assertThat(noticeReadTracker.unreadCount(10L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("7. 캐시에 없는 공지 -> DB 에서 한번에 로딩 후 캐시, 이미 읽은 회원은 다시 저장하지 않음")
+    void notCached_loadedOnDemand() {
+        // given: 다른 노드에서 회원 10 이 공지 1 을 읽어서 저장된 상태
+        when(readBitmapRepository.findByNoticeIds(anyCollection())).thenReturn(Map.of(1L, RoaringBitmap.bitmapOf(10)));
+
+        // when
+        Map<Long, Boolean> status = noticeReadTracker.readStatus(10L, List.of(1L, 2L));
+        noticeReadTracker.markRead(1L, 10L);
+        noticeReadTracker.flush();
+
+        // then
+        assertThat(status).containsEntry(1L, true).containsEntry(2L, false);
+        assertThat(noticeReadTracker.unreadCount(10L)).isEqualTo(2L); // 3 만 새로 로딩
+        verify(readBitmapRepository, times(2)).findByNoticeIds(anyCollection());
+        verify(readBitmapRepository, never()).merge(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("8. 종료 -> 아직 저장 안 된 읽음을 DB 에 저장")
+    void drainOnShutdown_flushesPending() {
+        // given
+        noticeReadTracker.markRead(1L, 10L);
+        when(readBitmapRepository.merge(eq(1L), any(RoaringBitmap.class))).thenAnswer(invocation -> invocation.getArgument(1));
+
+        // when
+        noticeReadTracker.drainOnShutdown();
+
+        // then
+        ArgumentCaptor<RoaringBitmap> captor = ArgumentCaptor.forClass(RoaringBitmap.class);
+        verify(readBitmapRepository).merge(eq(1L), captor.capture());
+        assertThat(captor.getValue().contains(10)).isTrue();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(NoticeReadTracker.DELETED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
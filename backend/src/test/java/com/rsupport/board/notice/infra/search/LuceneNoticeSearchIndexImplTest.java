@@ -0,0 +1,162 @@
+package com.rsupport.board.notice.infra.search;
+
+import com.rsupport.board.notice.api.dto.NoticeListReqDTO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * lucene 공지 검색 인덱스 단위테스트 (임시 폴더에 인덱스 생성)
+ */
+class LuceneNoticeSearchIndexImplTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 10, 12, 0);
+
+    @TempDir
+    Path indexDir;
+
+    private LuceneNoticeSearchIndexImpl index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = new LuceneNoticeSearchIndexImpl();
+        ReflectionTestUtils.setField(index, "indexPath", indexDir.toString());
+        index.open();
+
+        // 1: 제목에 키워드, 2: 내용에만 키워드, 3: 키워드 없음, 4: 제목에 키워드 (게시 기간이 늦음)
+        index.indexAll(List.of(
+                document(1L, "서버 점검 안내", "새벽에 작업합니다", BASE.minusDays(3), BASE.minusDays(1), BASE.plusDays(1)),
+                document(2L, "이용 안내", "서버 점검 때문에 접속이 안 됩니다", BASE.minusDays(2), BASE.minusDays(1), BASE.plusDays(1)),
+                document(3L, "휴가 일정", "여름 휴가 일정 공유", BASE.minusDays(1), BASE.minusDays(1), BASE.plusDays(1)),
+                document(4L, "정기 점검 공지", "다음 달 일정", BASE, BASE.plusDays(10), BASE.plusDays(20))
+        ));
+        index.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("1. 제목+내용 검색 -> 어느 쪽이든 키워드가 있으면 검색, 기본 정렬은 createdAt DESC")
+    void search_titleAndContent() {
+        // when
+        NoticeSearchHits hits = search(request("점검", null), PageRequest.of(0, 10)).orElseThrow();
+
+        // then
+        assertThat(hits.getTotalHits()).isEqualTo(3);
+        assertThat(hits.getIds()).containsExactly(4L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("2. 제목만 검색 -> 내용에만 키워드가 있는 공지는 제외")
+    void search_titleOnly() {
+        // when
+        NoticeSearchHits hits = search(request("점검", true), PageRequest.of(0, 10)).orElseThrow();
+
+        // then
+        assertThat(hits.getIds()).containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("3. 기간 검색 -> fromDate 는 게시 시작일, toDate 는 게시 종료일 기준")
+    void search_dateFilters() {
+        // given
+        NoticeListReqDTO from = request("점검", null);
+        from.setFromDate(BASE.plusDays(5).toLocalDate());
+        NoticeListReqDTO to = request("점검", null);
+        to.setToDate(BASE.plusDays(5).toLocalDate());
+        NoticeListReqDTO sameDay = request("점검", null);
+        sameDay.setToDate(BASE.plusDays(1).toLocalDate()); // 종료일 당일 23:59:59 까지 포함
+
+        // when & then
+        assertThat(search(from, PageRequest.of(0, 10)).orElseThrow().getIds()).containsExactly(4L);
+        assertThat(search(to, PageRequest.of(0, 10)).orElseThrow().getIds()).containsExactly(2L, 1L);
+        assertThat(search(sameDay, PageRequest.of(0, 10)).orElseThrow().getIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("4. 정렬 -> createdAt ASC 지원, 그 외 정렬은 empty (LIKE 검색으로 fallback)")
+    void search_sortFallback() {
+        // when
+        Optional<NoticeSearchHits> asc = search(request("점검", null), PageRequest.of(0, 10, Sort.by("createdAt").ascending()));
+        Optional<NoticeSearchHits> byViewCount = search(request("점검", null), PageRequest.of(0, 10, Sort.by("viewCount").descending()));
+        Optional<NoticeSearchHits> multiple = search(request("점검", null), PageRequest.of(0, 10, Sort.by("createdAt", "id")));
+
+        // then
+        assertThat(asc).isPresent();
+        assertThat(asc.get().getIds()).containsExactly(1L, 2L, 4L);
+        assertThat(byViewCount).isEmpty();
+        assertThat(multiple).isEmpty();
+    }
+
+    @Test
+    @DisplayName("5. 페이징 -> 요청한 페이지의 id 만, 전체 건수는 그대로 (범위를 넘으면 빈 목록)")
+    void search_paging() {
+        // when
+        NoticeSearchHits first = search(request("점검", null), PageRequest.of(0, 2)).orElseThrow();
+        NoticeSearchHits second = search(request("점검", null), PageRequest.of(1, 2)).orElseThrow();
+        NoticeSearchHits beyond = search(request("점검", null), PageRequest.of(5, 2)).orElseThrow();
+
+        // then
+        assertThat(first.getIds()).containsExactly(4L, 2L);
+        assertThat(second.getIds()).containsExactly(1L);
+        assertThat(second.getTotalHits()).isEqualTo(3);
+        assertThat(beyond.getIds()).isEmpty();
+        assertThat(beyond.getTotalHits()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("6. 키워드 없음, 토큰이 남지 않는 키워드, 재색인 중 -> empty")
+    void search_notHandled() {
+        // when & then
+        assertThat(search(request(" ", null), PageRequest.of(0, 10))).isEmpty();
+        assertThat(search(request("!!!", null), PageRequest.of(0, 10))).isEmpty();
+
+        index.setReady(false);
+        assertThat(search(request("점검", null), PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("7. 수정(같은 id 다시 색인), 삭제 -> refresh 후 검색에 반영")
+    void indexAndDelete_reflectedAfterRefresh() throws Exception {
+        // when
+        index.index(document(3L, "휴가 중 점검", "여름 휴가 일정 공유", BASE.minusDays(1), BASE.minusDays(1), BASE.plusDays(1)));
+        index.delete(4L);
+        index.refresh();
+
+        // then
+        assertThat(search(request("점검", null), PageRequest.of(0, 10)).orElseThrow().getIds()).containsExactly(3L, 2L, 1L);
+        index.commit(); // 버퍼에 있는 삭제까지 반영된 문서 수
+        assertThat(index.count()).isEqualTo(3);
+    }
+
+    private Optional<NoticeSearchHits> search(NoticeListReqDTO req, PageRequest pageable) {
+        return index.search(req, pageable);
+    }
+
+    private NoticeListReqDTO request(String keyword, Boolean titleOnly) {
+        NoticeListReqDTO req = new NoticeListReqDTO();
+        req.setKeyword(keyword);
+        req.setTitleOnly(titleOnly);
+        return req;
+    }
+
+    private NoticeSearchDocument document(Long id, String title, String content,
+                                          LocalDateTime createdAt, LocalDateTime startAt, LocalDateTime endAt) {
+        return new NoticeSearchDocument(id, title, content, createdAt, startAt, endAt);
+    }
+}
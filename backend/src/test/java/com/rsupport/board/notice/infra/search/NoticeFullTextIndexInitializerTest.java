@@ -0,0 +1,93 @@
+package com.rsupport.board.notice.infra.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * FULLTEXT 인덱스 확인 단위테스트 (인덱스가 있을 때만 ready, DDL 실행 x)
+ */
+@ExtendWith(MockitoExtension.class)
+class NoticeFullTextIndexInitializerTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private NoticeFullTextIndexInitializer initializer;
+
+    @Test
+    @DisplayName("1. 인덱스가 있음 -> ready, 이후 확인은 DB 조회 x")
+    void checkIndex_exists() {
+        // given
+        stubIndexCount(1);
+
+        // when
+        initializer.checkIndex();
+        initializer.checkIndex();
+
+        // then
+        assertThat(initializer.isReady()).isTrue();
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Integer.class), eq(NoticeFullTextIndexInitializer.INDEX_NAME));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("2. 인덱스가 없음 -> 생성하지 않고 ready 아님 (LIKE 검색 유지)")
+    void checkIndex_missing() {
+        // given
+        stubIndexCount(0);
+
+        // when
+        initializer.checkIndex();
+
+        // then
+        assertThat(initializer.isReady()).isFalse();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("3. 확인 실패 -> ready 아님, 예외는 삼킴")
+    void checkIndex_failed() {
+        // given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(NoticeFullTextIndexInitializer.INDEX_NAME)))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        assertThatCode(() -> initializer.checkIndex()).doesNotThrowAnyException();
+
+        // then
+        assertThat(initializer.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("4. 기동 후 스크립트 적용 -> 다음 확인에서 ready")
+    void checkIndex_appliedLater() {
+        // given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(NoticeFullTextIndexInitializer.INDEX_NAME)))
+                .thenReturn(0, 1);
+
+        // when
+        initializer.checkIndex();
+        boolean readyBefore = initializer.isReady();
+        initializer.checkIndex();
+
+        // then
+        assertThat(readyBefore).isFalse();
+        assertThat(initializer.isReady()).isTrue();
+    }
+
+    private void stubIndexCount(int count) {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(NoticeFullTextIndexInitializer.INDEX_NAME)))
+                .thenReturn(count);
+    }
+}
@@ -0,0 +1,71 @@
+package com.rsupport.board.notice.infra.search;
+
+import com.rsupport.board.notice.domain.event.NoticeChangedEvent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 공지 검색 인덱스 변경 반영 단위테스트 (로컬 반영 + 다른 노드 전파)
+ */
+@ExtendWith(MockitoExtension.class)
+class NoticeSearchIndexEventListenerTest {
+    @Mock
+    private NoticeSearchIndex noticeSearchIndex;
+
+    @Mock
+    private NoticeSearchIndexRebuilder noticeSearchIndexRebuilder;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @InjectMocks
+    private NoticeSearchIndexEventListener listener;
+
+    @Test
+    @DisplayName("1. 공지 삭제 -> 로컬 인덱스에서 삭제 후 다른 노드에 알림, 자기 노드 메세지는 무시")
+    void onNoticeChanged_appliesLocallyAndPublishes() {
+        // when
+        listener.onNoticeChanged(NoticeChangedEvent.deleted(1L));
+
+        // then
+        verify(noticeSearchIndex).delete(1L);
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(NoticeSearchIndexEventListener.CHANGED_CHANNEL), body.capture());
+        assertThat(body.getValue()).endsWith("|1");
+
+        listener.onMessage(message(body.getValue()), null);
+        verify(noticeSearchIndexRebuilder, never()).reindex(anyLong());
+    }
+
+    @Test
+    @DisplayName("2. 다른 노드의 변경 메세지 -> DB 에서 다시 읽어서 반영 (재색인 중이면 기록)")
+    void onMessage_otherNode_reindexesFromDb() {
+        // when
+        listener.onMessage(message("other-node|7"), null);
+        listener.onMessage(message("broken"), null);
+
+        // then
+        verify(noticeSearchIndexRebuilder).recordChange(7L);
+        verify(noticeSearchIndexRebuilder).reindex(7L);
+        verifyNoMoreInteractions(noticeSearchIndexRebuilder);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(NoticeSearchIndexEventListener.CHANGED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
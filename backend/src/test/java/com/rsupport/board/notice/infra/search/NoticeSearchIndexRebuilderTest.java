@@ -0,0 +1,150 @@
+package com.rsupport.board.notice.infra.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+/**
+ * 공지 검색 인덱스 재색인 단위테스트 (재색인 중 변경된 공지 재반영)
+ */
+@ExtendWith(MockitoExtension.class)
+class NoticeSearchIndexRebuilderTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 10, 12, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private NoticeSearchIndex noticeSearchIndex;
+
+    @InjectMocks
+    private NoticeSearchIndexRebuilder rebuilder;
+
+    @Test
+    @DisplayName("1. 배치를 읽은 뒤 삭제/수정된 공지 -> 전체 색인 후 DB 기준으로 다시 반영하고 ready")
+    @SuppressWarnings("unchecked")
+    void rebuild_replaysChangesDuringRebuild() {
+        // given
+        NoticeSearchDocument stale1 = document(1L, "예전 제목");
+        NoticeSearchDocument stale2 = document(2L, "삭제될 공지");
+        NoticeSearchDocument current1 = document(1L, "수정된 제목");
+        when(jdbcTemplate.query(startsWith("SELECT"), any(RowMapper.class), eq(0L), eq(1_000)))
+                .thenReturn(List.of(stale1, stale2));
+        when(jdbcTemplate.query(startsWith("SELECT"), any(RowMapper.class), eq(2L), eq(1_000)))
+                .thenReturn(List.of());
+        when(jdbcTemplate.query(startsWith("SELECT"), any(RowMapper.class), eq(1L)))
+                .thenReturn(List.of(current1));
+        when(jdbcTemplate.query(startsWith("SELECT"), any(RowMapper.class), eq(2L)))
+                .thenReturn(List.of());
+        // 배치를 읽은 뒤 1 은 수정, 2 는 삭제 이벤트가 먼저 반영됨 -> 재색인 배치가 예전 내용으로 덮어씀
+        doAnswer(invocation -> {
+            rebuilder.recordChange(1L);
+            rebuilder.recordChange(2L);
+            return null;
+        }).when(noticeSearchIndex).indexAll(List.of(stale1, stale2));
+
+        // when
+        rebuilder.rebuild();
+
+        // then
+        InOrder inOrder = inOrder(noticeSearchIndex);
+        inOrder.verify(noticeSearchIndex).setReady(false);
+        inOrder.verify(noticeSearchIndex).clear();
+        inOrder.verify(noticeSearchIndex).indexAll(List.of(stale1, stale2));
+        inOrder.verify(noticeSearchIndex).setReady(true);
+        verify(noticeSearchIndex).index(current1);
+        verify(noticeSearchIndex).delete(2L);
+    }
+
+    @Test
+    @DisplayName("2. 재반영 중에 또 변경 -> 변경이 없을 때까지 다시 읽어서 반영")
+    @SuppressWarnings("unchecked")
+    void rebuild_replaysUntilNoMoreChanges() {
+        // given
+        NoticeSearchDocument stale = document(1L, "예전 제목");
+        NoticeSearchDocument second = document(1L, "두번째 제목");
+        NoticeSearchDocument third = document(1L, "세번째 제목");
+        when(jdbcTemplate.query(startsWith("SELECT"), any(RowMapper.class), eq(0L), eq(1_000)))
+                .thenReturn(List.of(stale));
+        when(jdbcTemplate.query(startsWith("SELECT"), any(RowMapper.class), eq(1L), eq(1_000)))
+                .thenReturn(List.of());
+        when(jdbcTemplate.query(startsWith("SELECT"), any(RowMapper.class), eq(1L)))
+                .thenReturn(List.of(second), List.of(third));
+        doAnswer(invocation -> {
+            rebuilder.recordChange(1L);
+            return null;
+        }).when(noticeSearchIndex).indexAll(List.of(stale));
+        doAnswer(invocation -> { // 다시 읽은 직후 또 수정됨
+            rebuilder.recordChange(1L);
+            return null;
+        }).when(noticeSearchIndex).index(second);
+
+        // when
+        rebuilder.rebuild();
+
+        // then
+        InOrder inOrder = inOrder(noticeSearchIndex);
+        inOrder.verify(noticeSearchIndex).index(second);
+        inOrder.verify(noticeSearchIndex).index(third);
+        inOrder.verify(noticeSearchIndex).setReady(true);
+    }
+
+    @Test
+    @DisplayName("3. 재색인 중이 아닐 때 변경 -> 기록하지 않음 (다음 재색인에서 다시 읽지 않음)")
+    @SuppressWarnings("unchecked")
+    void recordChange_notRebuilding_ignored() {
+        // given
+        rebuilder.recordChange(1L);
+        when(jdbcTemplate.query(startsWith("SELECT"), any(RowMapper.class), eq(0L), eq(1_000)))
+                .thenReturn(List.of());
+
+        // when
+        rebuilder.rebuild();
+
+        // then
+        verify(jdbcTemplate, never()).query(startsWith("SELECT"), any(RowMapper.class), eq(1L));
+        verify(noticeSearchIndex, never()).index(any());
+        verify(noticeSearchIndex).setReady(true);
+    }
+
+    @Test
+    @DisplayName("4. 재색인 실패 -> ready 는 false 로 두고 대기 후 재시도, 성공하면 ready")
+    @SuppressWarnings("unchecked")
+    void rebuildUntilSucceeded_retriesAfterFailure() {
+        // given
+        ReflectionTestUtils.setField(rebuilder, "retryInitialBackoff", Duration.ofMillis(1));
+        ReflectionTestUtils.setField(rebuilder, "retryMaxBackoff", Duration.ofMillis(2));
+        when(jdbcTemplate.query(startsWith("SELECT"), any(RowMapper.class), eq(0L), eq(1_000)))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(List.of());
+
+        // when
+        rebuilder.rebuildUntilSucceeded();
+
+        // then
+        verify(noticeSearchIndex, times(3)).setReady(false);
+        verify(noticeSearchIndex, times(1)).setReady(true);
+    }
+
+    private NoticeSearchDocument document(Long id, String title) {
+        return new NoticeSearchDocument(id, title, "내용", BASE, BASE, BASE.plusDays(1));
+    }
+}
@@ -0,0 +1,132 @@
+package com.rsupport.board.notice.infra.stats;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회수 통계 저장소 테스트 (H2, 테이블은 NoticeViewStatEntry 로 생성)
+ */
+@DataJpaTest
+@Import(NoticeViewStatRepository.class)
+@ActiveProfiles("test")
+class NoticeViewStatRepositoryTest {
+    private static final LocalDateTime MINUTE = LocalDateTime.of(2025, 6, 10, 12, 30);
+    private static final LocalDateTime HOUR = LocalDateTime.of(2025, 6, 10, 12, 0);
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 6, 10, 0, 0);
+
+    @Autowired
+    private NoticeViewStatRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("1. 분 버킷 반영 -> 분/시간/일 버킷에 같은 조회수")
+    void applyMinute_rollsUp() {
+        // when
+        boolean applied = repository.applyMinute(MINUTE, 1L, Map.of(1L, 3L, 2L, 5L));
+
+        // then
+        assertThat(applied).isTrue();
+        assertThat(repository.findSeries(1L, ViewStatGranularity.MINUTE, MINUTE, MINUTE.plusMinutes(1)))
+                .containsExactly(Map.entry(MINUTE, 3L));
+        assertThat(repository.findSeries(2L, ViewStatGranularity.HOUR, HOUR, HOUR.plusHours(1)))
+                .containsExactly(Map.entry(HOUR, 5L));
+        assertThat(repository.findSeries(2L, ViewStatGranularity.DAY, DAY, DAY.plusDays(1)))
+                .containsExactly(Map.entry(DAY, 5L));
+    }
+
+    @Test
+    @DisplayName("2. 같은 (분, 세대) 다시 반영 (redis 삭제 전에 죽은 경우) -> false, 중복으로 더해지지 않음")
+    void applyMinute_sameGeneration_idempotent() {
+        // given
+        repository.applyMinute(MINUTE, 1L, Map.of(1L, 3L));
+
+        // when
+        boolean applied = repository.applyMinute(MINUTE, 1L, Map.of(1L, 3L));
+
+        // then
+        assertThat(applied).isFalse();
+        assertThat(repository.sumMinutes(1L, MINUTE, MINUTE.plusMinutes(1))).isEqualTo(3L);
+        assertThat(repository.findSeries(1L, ViewStatGranularity.HOUR, HOUR, HOUR.plusHours(1)))
+                .containsExactly(Map.entry(HOUR, 3L));
+    }
+
+    @Test
+    @DisplayName("3. 같은 분의 다음 세대 (늦게 들어온 조회) -> 기존 행은 더하고, 없는 공지는 insert")
+    void applyMinute_nextGeneration_addsToExistingRows() {
+        // given
+        repository.applyMinute(MINUTE, 1L, Map.of(1L, 3L));
+
+        // when
+        boolean applied = repository.applyMinute(MINUTE, 2L, Map.of(1L, 2L, 7L, 4L));
+
+        // then
+        assertThat(applied).isTrue();
+        assertThat(repository.findSeries(1L, ViewStatGranularity.MINUTE, MINUTE, MINUTE.plusMinutes(1)))
+                .containsExactly(Map.entry(MINUTE, 5L));
+        assertThat(repository.findSeries(1L, ViewStatGranularity.DAY, DAY, DAY.plusDays(1)))
+                .containsExactly(Map.entry(DAY, 5L));
+        assertThat(repository.findSeries(7L, ViewStatGranularity.HOUR, HOUR, HOUR.plusHours(1)))
+                .containsExactly(Map.entry(HOUR, 4L));
+    }
+
+    @Test
+    @DisplayName("4. 같은 시간의 여러 분 -> 시간 버킷은 합계, 분 버킷은 분마다")
+    void applyMinute_multipleMinutes_sumsHour() {
+        // given
+        repository.applyMinute(MINUTE, 1L, Map.of(1L, 3L));
+        repository.applyMinute(MINUTE.plusMinutes(5), 1L, Map.of(1L, 4L));
+
+        // when
+        Map<LocalDateTime, Long> minutes = repository.findSeries(1L, ViewStatGranularity.MINUTE, HOUR, HOUR.plusHours(1));
+        Map<LocalDateTime, Long> hours = repository.findSeries(1L, ViewStatGranularity.HOUR, HOUR, HOUR.plusHours(1));
+
+        // then
+        assertThat(minutes).containsExactly(Map.entry(MINUTE, 3L), Map.entry(MINUTE.plusMinutes(5), 4L));
+        assertThat(hours).containsExactly(Map.entry(HOUR, 7L));
+        assertThat(repository.sumMinutes(1L, HOUR, HOUR.plusHours(1))).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("5. 보관 기간 정리 -> 해당 단위의 기준 이전 버킷만 삭제")
+    void deleteOlderThan() {
+        // given
+        repository.applyMinute(MINUTE, 1L, Map.of(1L, 3L));
+        repository.applyMinute(MINUTE.plusMinutes(10), 1L, Map.of(1L, 4L));
+
+        // when
+        repository.deleteOlderThan(ViewStatGranularity.MINUTE, MINUTE.plusMinutes(1));
+
+        // then
+        assertThat(repository.findSeries(1L, ViewStatGranularity.MINUTE, HOUR, HOUR.plusHours(1)))
+                .containsExactly(Map.entry(MINUTE.plusMinutes(10), 4L));
+        assertThat(repository.findSeries(1L, ViewStatGranularity.HOUR, HOUR, HOUR.plusHours(1)))
+                .containsExactly(Map.entry(HOUR, 7L));
+    }
+
+    @Test
+    @DisplayName("6. 반영 표시는 통계 버킷과 별도 테이블 -> 통계에 안 섞이고, 보관 기간 정리 후에는 같은 세대를 다시 반영할 수 있음")
+    void appliedMarkers_separateTable() {
+        // given
+        repository.applyMinute(MINUTE, 1L, Map.of(1L, 3L));
+
+        // when
+        int deleted = repository.deleteAppliedOlderThan(MINUTE.plusMinutes(1));
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notice_view_stat WHERE notice_id < 0", Integer.class)).isZero();
+        assertThat(repository.applyMinute(MINUTE, 1L, Map.of(1L, 3L))).isTrue();
+    }
+}
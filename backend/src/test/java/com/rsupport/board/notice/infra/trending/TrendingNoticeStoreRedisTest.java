@@ -0,0 +1,173 @@
+package com.rsupport.board.notice.infra.trending;
+
+import com.rsupport.board.notice.api.dto.TrendingNoticeDTO;
+import com.rsupport.board.notice.domain.entity.Notice;
+import com.rsupport.board.notice.domain.event.NoticeChangedEvent;
+import com.rsupport.board.notice.domain.repository.NoticeRepository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 인기 공지 저장소 lua 스크립트 테스트 (redis 컨테이너, docker 가 없으면 건너뜀)
+ *
+ * - 시간은 landmark 를 과거로 옮겨서 흉내냄 (반감기만큼 전 = 가중치 2배 / 현재 점수 절반)
+ * - 실행 사이에 초가 바뀔 수 있어서 점수는 근사값으로 비교
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TrendingNoticeStoreRedisTest {
+    private static final Duration HALF_LIFE = Duration.ofHours(6);
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private TrendingNoticeStore store;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.delete(List.of(
+                TrendingNoticeStore.SCORE_KEY, TrendingNoticeStore.META_KEY, TrendingNoticeStore.LANDMARK_KEY));
+        store = new TrendingNoticeStore(stringRedisTemplate, mock(NoticeRepository.class), HALF_LIFE, 10_000);
+    }
+
+    @Test
+    @DisplayName("1. landmark 가 없을 때 조회수 반영 -> landmark 를 현재로 잡고 조회수 그대로 누적")
+    void record_withoutLandmark_startsAtNow() {
+        // when
+        store.record(Map.of(1L, 3L, 2L, 1L));
+        store.record(Map.of(1L, 2L));
+
+        // then
+        long landmark = Long.parseLong(stringRedisTemplate.opsForValue().get(TrendingNoticeStore.LANDMARK_KEY));
+        assertThat(landmark).isCloseTo(nowSeconds(), within(2L));
+        assertThat(score(1L)).isCloseTo(5.0, within(0.01));
+        assertThat(score(2L)).isCloseTo(1.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("2. 반감기 전 조회 4건 vs 지금 조회 3건 -> 지금 조회가 2배 가중치로 저장되고 순위/점수도 그 기준")
+    void record_newerViewsWeighMore() {
+        // given
+        setLandmark(nowSeconds() - HALF_LIFE.toSeconds());
+        stringRedisTemplate.opsForZSet().add(TrendingNoticeStore.SCORE_KEY, "1", 4.0); // landmark 시점 조회 4건
+        publish(1L);
+        publish(2L);
+
+        // when
+        store.record(Map.of(2L, 3L));
+        List<TrendingNoticeDTO> top = store.findTop(10);
+
+        // then
+        assertThat(score(2L)).isCloseTo(6.0, within(0.01));
+        assertThat(top).extracting(TrendingNoticeDTO::getId).containsExactly(2L, 1L);
+        assertThat(top.get(0).getScore()).isCloseTo(3.0, within(0.01));
+        assertThat(top.get(1).getScore()).isCloseTo(2.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("3. rescale -> landmark 를 현재로 옮기고 점수 축소, 최소 점수보다 작아진 공지는 삭제")
+    void rescale_movesLandmarkAndShrinksScores() {
+        // given
+        setLandmark(nowSeconds() - HALF_LIFE.toSeconds());
+        stringRedisTemplate.opsForZSet().add(TrendingNoticeStore.SCORE_KEY, "1", 4.0);
+        stringRedisTemplate.opsForZSet().add(TrendingNoticeStore.SCORE_KEY, "2", 0.015); // 절반이면 0.0075 < 0.01
+
+        // when
+        store.rescale();
+
+        // then
+        long landmark = Long.parseLong(stringRedisTemplate.opsForValue().get(TrendingNoticeStore.LANDMARK_KEY));
+        assertThat(landmark).isCloseTo(nowSeconds(), within(2L));
+        assertThat(score(1L)).isCloseTo(2.0, within(0.01));
+        assertThat(score(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("4. rescale 시 max-size 초과 -> 점수가 낮은 공지부터 삭제")
+    void rescale_trimsToMaxSize() {
+        // given
+        store = new TrendingNoticeStore(stringRedisTemplate, mock(NoticeRepository.class), HALF_LIFE, 2);
+        setLandmark(nowSeconds());
+        stringRedisTemplate.opsForZSet().add(TrendingNoticeStore.SCORE_KEY, "1", 5.0);
+        stringRedisTemplate.opsForZSet().add(TrendingNoticeStore.SCORE_KEY, "2", 3.0);
+        stringRedisTemplate.opsForZSet().add(TrendingNoticeStore.SCORE_KEY, "3", 1.0);
+
+        // when
+        store.rescale();
+
+        // then
+        assertThat(stringRedisTemplate.opsForZSet().zCard(TrendingNoticeStore.SCORE_KEY)).isEqualTo(2L);
+        assertThat(score(3L)).isNull();
+        assertThat(score(1L)).isCloseTo(5.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("5. landmark 가 없을 때 rescale -> landmark 만 현재로 잡고 점수는 그대로")
+    void rescale_withoutLandmark_onlySetsLandmark() {
+        // given
+        stringRedisTemplate.opsForZSet().add(TrendingNoticeStore.SCORE_KEY, "1", 0.001);
+
+        // when
+        store.rescale();
+
+        // then
+        assertThat(stringRedisTemplate.opsForValue().get(TrendingNoticeStore.LANDMARK_KEY)).isNotNull();
+        assertThat(score(1L)).isEqualTo(0.001);
+    }
+
+    private void publish(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        Notice notice = Notice.testBuilder()
+                .id(id)
+                .title("공지" + id)
+                .content("내용")
+                .startAt(now.minusDays(1))
+                .endAt(now.plusDays(1))
+                .build();
+        store.onNoticeChanged(NoticeChangedEvent.created(notice));
+    }
+
+    private void setLandmark(long seconds) {
+        stringRedisTemplate.opsForValue().set(TrendingNoticeStore.LANDMARK_KEY, String.valueOf(seconds));
+    }
+
+    private Double score(Long id) {
+        return stringRedisTemplate.opsForZSet().score(TrendingNoticeStore.SCORE_KEY, String.valueOf(id));
+    }
+
+    private long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
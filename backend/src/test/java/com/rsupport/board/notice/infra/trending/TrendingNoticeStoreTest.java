@@ -0,0 +1,221 @@
+package com.rsupport.board.notice.infra.trending;
+
+import com.rsupport.board.notice.api.dto.TrendingNoticeDTO;
+import com.rsupport.board.notice.domain.entity.Notice;
+import com.rsupport.board.notice.domain.event.NoticeChangedEvent;
+import com.rsupport.board.notice.domain.repository.NoticeRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 인기 공지 저장소 단위테스트 (redis mock, 순위 조회 필터/라운드, meta 갱신)
+ * lua 스크립트와 감쇠 계산은 TrendingNoticeStoreRedisTest 에서 실제 redis 로 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class TrendingNoticeStoreTest {
+    private static final Duration HALF_LIFE = Duration.ofHours(6);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private NoticeRepository noticeRepository;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private TrendingNoticeStore store;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        store = new TrendingNoticeStore(stringRedisTemplate, noticeRepository, HALF_LIFE, 10_000);
+    }
+
+    @Test
+    @DisplayName("1. 순위 조회 -> 게시 종료/삭제된 공지는 순위에서 삭제, 게시 전 공지는 건너뛰고 다음 라운드에서 채움")
+    void findTop_filtersDisplayWindow_andFetchesNextRound() {
+        // given
+        stubOperations();
+        when(valueOperations.get(TrendingNoticeStore.LANDMARK_KEY)).thenReturn(null); // 감쇠 없음
+        // 1라운드(size*2 = 4건): 2 게시 종료, 3 게시 전, 4 삭제됨(meta, DB 모두 없음), 1 게시 중(meta 없음 -> DB)
+        when(zSetOperations.reverseRangeWithScores(TrendingNoticeStore.SCORE_KEY, 0, 3))
+                .thenReturn(ranked("2", 40.0, "3", 30.0, "4", 20.0, "1", 10.0));
+        when(hashOperations.multiGet(TrendingNoticeStore.META_KEY, List.<Object>of("2", "3", "4", "1")))
+                .thenReturn(Arrays.asList(meta(now.minusDays(3), now.minusDays(1), "종료"),
+                        meta(now.plusDays(1), now.plusDays(2), "예약"), null, null));
+        when(noticeRepository.findAllById(List.of(4L, 1L))).thenReturn(List.of(notice(1L, "게시중|제목")));
+        // 2라운드: 5 게시 중 -> size 를 채우고 멈춤 (6 은 결과에 안 들어감)
+        when(zSetOperations.reverseRangeWithScores(TrendingNoticeStore.SCORE_KEY, 4, 7))
+                .thenReturn(ranked("5", 8.0, "6", 6.0));
+        when(hashOperations.multiGet(TrendingNoticeStore.META_KEY, List.<Object>of("5", "6")))
+                .thenReturn(Arrays.asList(meta(now.minusDays(1), now.plusDays(1), "다섯"),
+                        meta(now.minusDays(1), now.plusDays(1), "여섯")));
+
+        // when
+        List<TrendingNoticeDTO> top = store.findTop(2);
+
+        // then
+        assertThat(top).extracting(TrendingNoticeDTO::getId).containsExactly(1L, 5L);
+        assertThat(top).extracting(TrendingNoticeDTO::getScore).containsExactly(10.0, 8.0);
+        assertThat(top.get(0).getTitle()).isEqualTo("게시중|제목"); // 구분자가 들어간 제목도 그대로
+
+        verify(hashOperations).putAll(eq(TrendingNoticeStore.META_KEY), argThat((Map<String, String> loaded) ->
+                loaded.keySet().equals(Set.of("1")) && loaded.get("1").endsWith("|게시중|제목")));
+        verify(zSetOperations).remove(TrendingNoticeStore.SCORE_KEY, "2");
+        verify(zSetOperations).remove(TrendingNoticeStore.SCORE_KEY, "4");
+        verify(zSetOperations, never()).remove(TrendingNoticeStore.SCORE_KEY, "3");
+        verify(hashOperations).delete(TrendingNoticeStore.META_KEY, "2");
+        verify(hashOperations).delete(TrendingNoticeStore.META_KEY, "4");
+    }
+
+    @Test
+    @DisplayName("2. 점수 -> 저장된 점수 * e^(-λ(now - landmark)), 반감기만큼 지나면 절반")
+    void findTop_appliesDecaySinceLandmark() {
+        // given
+        stubOperations();
+        long landmark = System.currentTimeMillis() / 1000 - HALF_LIFE.toSeconds();
+        when(valueOperations.get(TrendingNoticeStore.LANDMARK_KEY)).thenReturn(String.valueOf(landmark));
+        when(zSetOperations.reverseRangeWithScores(TrendingNoticeStore.SCORE_KEY, 0, 1))
+                .thenReturn(ranked("1", 10.0));
+        when(hashOperations.multiGet(TrendingNoticeStore.META_KEY, List.<Object>of("1")))
+                .thenReturn(Arrays.asList(meta(now.minusDays(1), now.plusDays(1), "제목")));
+
+        // when
+        List<TrendingNoticeDTO> top = store.findTop(1);
+
+        // then
+        assertThat(top).hasSize(1);
+        assertThat(top.get(0).getScore()).isCloseTo(5.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("3. 상위가 계속 게시 전 공지 -> 최대 5라운드까지만 조회하고 빈 결과")
+    void findTop_stopsAfterMaxRounds() {
+        // given
+        stubOperations();
+        when(valueOperations.get(TrendingNoticeStore.LANDMARK_KEY)).thenReturn(null);
+        when(zSetOperations.reverseRangeWithScores(eq(TrendingNoticeStore.SCORE_KEY), anyLong(), anyLong()))
+                .thenAnswer(invocation -> ranked("1", 2.0, "2", 1.0));
+        when(hashOperations.multiGet(eq(TrendingNoticeStore.META_KEY), anyCollection()))
+                .thenAnswer(invocation -> Arrays.asList(meta(now.plusDays(1), now.plusDays(2), "예약1"),
+                        meta(now.plusDays(1), now.plusDays(2), "예약2")));
+
+        // when
+        List<TrendingNoticeDTO> top = store.findTop(1);
+
+        // then
+        assertThat(top).isEmpty();
+        verify(zSetOperations, times(5)).reverseRangeWithScores(eq(TrendingNoticeStore.SCORE_KEY), anyLong(), anyLong());
+        verify(zSetOperations).reverseRangeWithScores(TrendingNoticeStore.SCORE_KEY, 8, 9);
+    }
+
+    @Test
+    @DisplayName("4. 순위가 비어 있음 -> 빈 결과, 다음 라운드 조회 안 함")
+    void findTop_empty() {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRangeWithScores(TrendingNoticeStore.SCORE_KEY, 0, 19)).thenReturn(Set.of());
+
+        // when & then
+        assertThat(store.findTop(10)).isEmpty();
+        verify(zSetOperations, times(1)).reverseRangeWithScores(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("5. 조회수 반영 -> record 스크립트에 now, λ, (id, 조회수) 쌍 전달, 빈 map 이면 호출 안 함")
+    @SuppressWarnings("unchecked")
+    void record_passesPairsToScript() {
+        // when
+        store.record(Map.of());
+        store.record(Map.of(7L, 3L));
+
+        // then
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+                eq(List.of(TrendingNoticeStore.SCORE_KEY, TrendingNoticeStore.LANDMARK_KEY)),
+                anyString(), eq(String.valueOf(Math.log(2) / HALF_LIFE.toSeconds())), eq("7"), eq("3"));
+    }
+
+    @Test
+    @DisplayName("6. 공지 수정 커밋 -> meta 갱신, 삭제 커밋 -> 순위/meta 삭제, redis 실패는 삼킴")
+    void onNoticeChanged_updatesMetaOrRemoves() {
+        // given
+        when(stringRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        Notice updated = notice(1L, "수정된 제목");
+
+        // when
+        store.onNoticeChanged(NoticeChangedEvent.updated(updated));
+        store.onNoticeChanged(NoticeChangedEvent.deleted(2L));
+        doThrow(new RedisConnectionFailureException("down")).when(zSetOperations).remove(TrendingNoticeStore.SCORE_KEY, "3");
+        assertThatCode(() -> store.onNoticeChanged(NoticeChangedEvent.deleted(3L))).doesNotThrowAnyException();
+
+        // then
+        verify(hashOperations).put(TrendingNoticeStore.META_KEY, "1",
+                meta(updated.getStartAt(), updated.getEndAt(), "수정된 제목"));
+        verify(zSetOperations).remove(TrendingNoticeStore.SCORE_KEY, "2");
+        verify(hashOperations).delete(TrendingNoticeStore.META_KEY, "2");
+    }
+
+    private void stubOperations() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(stringRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+    }
+
+    // (id, 점수) 쌍 -> 점수 높은순 결과 (reverseRangeWithScores 와 같은 순서)
+    private Set<ZSetOperations.TypedTuple<String>> ranked(Object... idAndScores) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+        for (int i = 0; i < idAndScores.length; i += 2) {
+            tuples.add(new DefaultTypedTuple<>((String) idAndScores[i], (Double) idAndScores[i + 1]));
+        }
+        return tuples;
+    }
+
+    private String meta(LocalDateTime startAt, LocalDateTime endAt, String title) {
+        return startAt + "|" + endAt + "|" + title;
+    }
+
+    private Notice notice(Long id, String title) {
+        return Notice.testBuilder()
+                .id(id)
+                .title(title)
+                .content("내용")
+                .startAt(now.minusDays(1))
+                .endAt(now.plusDays(1))
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.rsupport.board.notice.infra.viewcount;
+
+import com.rsupport.board.notice.domain.entity.Notice;
+import com.rsupport.board.notice.domain.event.NoticeChangedEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 순 조회자 수 단위테스트 (로컬 pending -> 파이프라인 PFADD+EXPIRE, PFCOUNT 캐시, 삭제)
+ */
+@ExtendWith(MockitoExtension.class)
+class UniqueViewerCounterTest {
+    private static final Duration TTL = Duration.ofDays(90);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private StringRedisConnection connection;
+
+    @Mock
+    private HyperLogLogOperations<String, String> hyperLogLogOperations;
+
+    private UniqueViewerCounter uniqueViewerCounter;
+
+    @BeforeEach
+    void setUp() {
+        uniqueViewerCounter = new UniqueViewerCounter(stringRedisTemplate, TTL);
+    }
+
+    @Test
+    @DisplayName("1. 조회는 메모리에만 기록, flush 때 공지별 PFADD+EXPIRE 를 파이프라인 한번으로 (같은 회원은 한번만)")
+    void record_thenFlush_pipelinesPfAddAndExpire() {
+        // given
+        stubPipeline();
+        uniqueViewerCounter.record(1L, 10L);
+        uniqueViewerCounter.record(1L, 10L); // 재조회
+        uniqueViewerCounter.record(1L, 20L);
+        uniqueViewerCounter.record(2L, 10L);
+        verifyNoInteractions(stringRedisTemplate);
+
+        // when
+        uniqueViewerCounter.flush();
+        uniqueViewerCounter.flush(); // 기록이 없으면 redis 호출 x
+
+        // then
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        assertThat(pfAddedMembers("notice:uv:1")).containsExactlyInAnyOrder("10", "20");
+        assertThat(pfAddedMembers("notice:uv:2")).containsExactly("10");
+        verify(connection).expire("notice:uv:1", TTL.toSeconds());
+        verify(connection).expire("notice:uv:2", TTL.toSeconds());
+    }
+
+    @Test
+    @DisplayName("2. redis 반영 실패 -> 기록을 되돌려두고 다음 flush 에서 새 기록과 합쳐서 재시도")
+    void flush_failure_restoresPending() {
+        // given
+        doThrow(new RedisConnectionFailureException("down"))
+                .doAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection))
+                .when(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+        uniqueViewerCounter.record(1L, 10L);
+
+        // when
+        uniqueViewerCounter.flush();
+        uniqueViewerCounter.record(1L, 30L); // 실패 후 새 조회
+        uniqueViewerCounter.flush();
+
+        // then
+        verify(stringRedisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+        assertThat(pfAddedMembers("notice:uv:1")).containsExactlyInAnyOrder("10", "30");
+    }
+
+    @Test
+    @DisplayName("3. 순 조회자 수 -> PFCOUNT 결과를 로컬 캐싱, 해당 공지를 flush 하면 캐시 무효화")
+    void count_cachedUntilFlush() {
+        // given
+        stubPipeline();
+        when(stringRedisTemplate.opsForHyperLogLog()).thenReturn(hyperLogLogOperations);
+        when(hyperLogLogOperations.size("notice:uv:1")).thenReturn(5L, 6L);
+
+        // when & then
+        assertThat(uniqueViewerCounter.count(1L)).isEqualTo(5L);
+        assertThat(uniqueViewerCounter.count(1L)).isEqualTo(5L); // 캐시
+        verify(hyperLogLogOperations, times(1)).size("notice:uv:1");
+
+        uniqueViewerCounter.record(1L, 30L);
+        uniqueViewerCounter.flush();
+        assertThat(uniqueViewerCounter.count(1L)).isEqualTo(6L);
+        verify(hyperLogLogOperations, times(2)).size("notice:uv:1");
+    }
+
+    @Test
+    @DisplayName("4. 공지 삭제 커밋 -> 순 조회자 키 삭제 (실패는 삼킴), 등록/수정은 무시")
+    void onNoticeChanged_deleted_removesKey() {
+        // given
+        Notice notice = Notice.testBuilder()
+                .id(3L)
+                .title("제목")
+                .content("내용")
+                .startAt(LocalDateTime.now())
+                .endAt(LocalDateTime.now().plusDays(1))
+                .build();
+        when(stringRedisTemplate.delete("notice:uv:2")).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        uniqueViewerCounter.onNoticeChanged(NoticeChangedEvent.updated(notice));
+        uniqueViewerCounter.onNoticeChanged(NoticeChangedEvent.deleted(1L));
+        assertThatCode(() -> uniqueViewerCounter.onNoticeChanged(NoticeChangedEvent.deleted(2L)))
+                .doesNotThrowAnyException();
+
+        // then
+        verify(stringRedisTemplate).delete("notice:uv:1");
+        verify(stringRedisTemplate, never()).delete("notice:uv:3");
+    }
+
+    @Test
+    @DisplayName("5. 종료 시 -> 남은 기록을 flush")
+    void drainOnShutdown_flushesPending() {
+        // given
+        stubPipeline();
+        uniqueViewerCounter.record(1L, 10L);
+
+        // when
+        uniqueViewerCounter.drainOnShutdown();
+
+        // then
+        assertThat(pfAddedMembers("notice:uv:1")).containsExactly("10");
+    }
+
+    // 파이프라인 콜백을 mock 커넥션으로 바로 실행
+    private void stubPipeline() {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+                    return List.of();
+                });
+    }
+
+    // 해당 키로 PFADD 한 회원 id 들 (여러번이면 마지막)
+    private List<String> pfAddedMembers(String key) {
+        ArgumentCaptor<String[]> members = ArgumentCaptor.forClass(String[].class);
+        verify(connection, atLeastOnce()).pfAdd(eq(key), members.capture());
+        return List.of(members.getValue());
+    }
+}
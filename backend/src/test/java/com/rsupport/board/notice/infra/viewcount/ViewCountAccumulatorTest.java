@@ -0,0 +1,167 @@
+package com.rsupport.board.notice.infra.viewcount;
+
+import com.rsupport.board.notice.infra.trending.TrendingNoticeStore;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 노드 로컬 조회수 누적기 단위테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ViewCountAccumulatorTest {
+    @Mock
+    private ViewCountStore viewCountStore;
+
+    @Mock
+    private TrendingNoticeStore trendingNoticeStore;
+
+    private ViewCountAccumulator viewCountAccumulator;
+
+    @BeforeEach
+    void setUp() {
+        viewCountAccumulator = new ViewCountAccumulator(viewCountStore, trendingNoticeStore);
+    }
+
+    @Test
+    @DisplayName("1. 조회는 메모리에만 누적, flush 때 공지별 합계를 한번에 redis 반영")
+    void increment_thenFlush_sendsOneBatch() {
+        // given
+        viewCountAccumulator.increment(1L);
+        viewCountAccumulator.increment(1L);
+        viewCountAccumulator.increment(2L);
+        verifyNoInteractions(viewCountStore);
+
+        // when
+        viewCountAccumulator.flush();
+        viewCountAccumulator.flush(); // 누적값이 없으면 redis 호출 x
+
+        // then
+        verify(viewCountStore, times(1)).incrementAll(Map.of(1L, 2L, 2L, 1L));
+        verify(trendingNoticeStore, times(1)).record(Map.of(1L, 2L, 2L, 1L)); // 인기 공지 점수도 같이 반영
+    }
+
+    @Test
+    @DisplayName("2. redis 반영 실패 -> 누적값 유지, 다음 flush 에 재시도")
+    void flush_redisFailure_keepsCounts() {
+        // given
+        viewCountAccumulator.increment(1L);
+        doThrow(new RedisConnectionFailureException("down"))
+                .doNothing()
+                .when(viewCountStore).incrementAll(anyMap());
+
+        // when
+        viewCountAccumulator.flush();
+        viewCountAccumulator.increment(1L);
+        viewCountAccumulator.flush();
+
+        // then
+        verify(viewCountStore, times(2)).incrementAll(anyMap());
+        verify(viewCountStore).incrementAll(Map.of(1L, 2L));
+        verify(trendingNoticeStore, times(1)).record(anyMap()); // redis 반영에 성공한 경우만
+    }
+
+    @Test
+    @DisplayName("3. 실시간 조회수 = redis 미반영 조회수 + 로컬 누적값")
+    void getLiveDelta_sumsRedisAndLocal() {
+        // given
+        when(viewCountStore.getPendingDelta(1L)).thenReturn(10L);
+        viewCountAccumulator.increment(1L);
+
+        // when+then
+        assertThat(viewCountAccumulator.getLiveDelta(1L)).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("4. 오래 조회가 없는 공지는 맵에서 정리, 다시 조회되면 새로 누적")
+    void flush_evictsIdleCounters() {
+        // given: 조회가 없으면 바로 정리되도록
+        ViewCountAccumulator accumulator = new ViewCountAccumulator(viewCountStore, trendingNoticeStore, Duration.ZERO, Duration.ofHours(1));
+        accumulator.increment(1L);
+        accumulator.flush(); // 1 반영
+
+        // when
+        accumulator.flush(); // 조회 없음 -> 정리
+        accumulator.increment(1L);
+        accumulator.flush();
+
+        // then
+        verify(viewCountStore, times(2)).incrementAll(Map.of(1L, 1L));
+        assertThat(accumulator.trackedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("5. 동시에 조회 + flush(조회 없는 공지 계속 정리) -> 누락/중복 없이 전부 반영")
+    void concurrentIncrementAndFlush_noLostViews() throws Exception {
+        // given: 매 flush 마다 정리가 일어나도록 가장 공격적인 설정
+        ViewCountAccumulator accumulator = new ViewCountAccumulator(viewCountStore, trendingNoticeStore, Duration.ZERO, Duration.ofHours(1));
+        Map<Long, Long> flushed = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            Map<Long, Long> deltas = invocation.getArgument(0);
+            deltas.forEach((noticeId, delta) -> flushed.merge(noticeId, delta, Long::sum));
+            return null;
+        }).when(viewCountStore).incrementAll(anyMap());
+
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    // 공지마다 조회가 몰렸다 끊겼다 하도록 (끊긴 사이 정리됨)
+                    accumulator.increment((long) ((i / 500 + seed) % 4) + 1);
+                    if (i % 100 == 0) {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                accumulator.flush();
+            }
+        });
+        flusher.start();
+
+        // when
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        flusher.join();
+        executor.shutdown();
+        accumulator.flush();
+
+        // then
+        long total = flushed.values().stream().mapToLong(Long::longValue).sum();
+        assertThat(total).isEqualTo((long) threads * perThread);
+    }
+}
@@ -0,0 +1,107 @@
+package com.rsupport.board.notice.infra.viewcount;
+
+import com.rsupport.board.notice.domain.event.ViewCountFlushedEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 최근 조회수 반영 기록 단위테스트 (반영 기록 저장/전파, 노드 로컬 동기화)
+ */
+@ExtendWith(MockitoExtension.class)
+class ViewCountFlushHistoryTest {
+    // 목록 캐시 TTL 5분 + jitter 30초 + 여유 1분
+    private static final Duration RETENTION = Duration.ofSeconds(390);
+
+    @Mock
+    private ViewCountStore viewCountStore;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private ViewCountFlushHistory viewCountFlushHistory;
+
+    @BeforeEach
+    void setUp() {
+        viewCountFlushHistory = new ViewCountFlushHistory(viewCountStore, stringRedisTemplate,
+                Duration.ofMinutes(5), Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("1. 조회수 DB 반영 -> 시작/종료 시각과 공지별 조회수를 보관 기간으로 저장하고 다른 노드에 알림")
+    void onViewCountFlushed_RecordsAndPublishes() {
+        // given
+        long startedAt = System.currentTimeMillis() - 2_000;
+
+        // when
+        viewCountFlushHistory.onViewCountFlushed(new ViewCountFlushedEvent(Map.of(1L, 3L), startedAt));
+
+        // then
+        ArgumentCaptor<ViewCountFlushRecord> captor = ArgumentCaptor.forClass(ViewCountFlushRecord.class);
+        verify(viewCountStore).recordFlushed(captor.capture(), eq(RETENTION));
+        assertThat(captor.getValue().getStartedAt()).isEqualTo(startedAt);
+        assertThat(captor.getValue().getFinishedAt()).isGreaterThan(startedAt);
+        assertThat(captor.getValue().getDeltas()).containsExactly(entry(1L, 3L));
+        verify(stringRedisTemplate).convertAndSend(ViewCountFlushHistory.FLUSHED_CHANNEL, String.valueOf(startedAt));
+    }
+
+    @Test
+    @DisplayName("2. 동기화 -> 로컬에 없는 기록만 가져오고, 보관 기간이 지난 기록은 버림")
+    void sync_FetchesOnlyUnknownAndPrunesExpired() {
+        // given
+        long now = System.currentTimeMillis();
+        ViewCountFlushRecord expired = new ViewCountFlushRecord(now - 500_000, now - 499_000, Map.of(1L, 1L));
+        ViewCountFlushRecord old = new ViewCountFlushRecord(now - 60_000, now - 59_000, Map.of(1L, 1L));
+        ViewCountFlushRecord recent = new ViewCountFlushRecord(now - 1_000, now - 500, Map.of(2L, 2L));
+        when(viewCountStore.findFlushedSince(anyLong(), anySet()))
+                .thenReturn(List.of(expired, old))
+                .thenReturn(List.of(recent));
+
+        // when
+        viewCountFlushHistory.sync();
+        viewCountFlushHistory.sync();
+
+        // then: 두번째 동기화는 이미 받은 기록을 제외하고 요청
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<Long>> known = ArgumentCaptor.forClass(Set.class);
+        verify(viewCountStore, times(2)).findFlushedSince(anyLong(), known.capture());
+        assertThat(known.getValue()).contains(old.getStartedAt()).doesNotContain(expired.getStartedAt());
+        assertThat(viewCountFlushHistory.getRecent()).containsExactlyInAnyOrder(old, recent);
+    }
+
+    @Test
+    @DisplayName("3. 보정 가능 여부 -> 동기화 전이거나 보관 기간보다 오래 전에 읽은 값이면 false, 동기화 실패는 삼킴")
+    void covers_RequiresSyncAndRetention() {
+        // given
+        long now = System.currentTimeMillis();
+        assertThat(viewCountFlushHistory.covers(now, 1_000)).isFalse();
+        when(viewCountStore.findFlushedSince(anyLong(), anySet()))
+                .thenReturn(List.of())
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        viewCountFlushHistory.sync();
+        assertThatCode(() -> viewCountFlushHistory.sync()).doesNotThrowAnyException();
+
+        // then
+        assertThat(viewCountFlushHistory.covers(now - 60_000, 1_000)).isTrue();
+        assertThat(viewCountFlushHistory.covers(now - RETENTION.toMillis() - 5_000, 1_000)).isFalse();
+        assertThat(viewCountFlushHistory.covers(0L, 1_000)).isFalse();
+    }
+}
@@ -0,0 +1,160 @@
+package com.rsupport.board.notice.infra.viewcount;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 조회수 저장소 lua 스크립트 테스트 (redis 컨테이너, docker 가 없으면 건너뜀)
+ *
+ * - 반영 중에 죽은 상황은 ack 없이 다시 drain/claimMinute 해서 흉내냄
+ * - 분 버킷은 분이 바뀌어도 흔들리지 않도록 고정된 분 키에 직접 씀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ViewCountStoreRedisTest {
+    private static final long MINUTE = 29_000_000L;
+    private static final String MINUTE_KEY = ViewCountStore.MINUTE_KEY_PREFIX + MINUTE;
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private ViewCountStore store;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = stringRedisTemplate.keys("{notice:view}:*");
+        if (keys != null && !keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+        store = new ViewCountStore(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("1. 반영할 게 없을 때 drain -> null, 누적 후 drain -> pending 을 inflight 로 옮기고 배치 id 부여")
+    void drain_movesPendingToInflight() {
+        // given
+        assertThat(store.drain()).isNull();
+        store.incrementAll(Map.of(1L, 3L, 2L, 1L));
+
+        // when
+        ViewCountBatch batch = store.drain();
+
+        // then
+        assertThat(batch.getBatchId()).isPositive();
+        assertThat(batch.getDeltas()).containsOnly(entry(1L, 3L), entry(2L, 1L));
+        assertThat(stringRedisTemplate.hasKey(ViewCountStore.PENDING_KEY)).isFalse();
+        assertThat(stringRedisTemplate.opsForHash().get(ViewCountStore.INFLIGHT_KEY, ViewCountStore.BATCH_FIELD))
+                .isEqualTo(String.valueOf(batch.getBatchId()));
+
+        // 반영 중에도 조회수는 줄어 보이지 않음 (inflight 포함)
+        assertThat(store.getPendingDeltas(List.of(1L, 2L, 3L))).containsOnly(entry(1L, 3L), entry(2L, 1L));
+    }
+
+    @Test
+    @DisplayName("2. ack 없이 다시 drain (반영 중 죽음) -> 같은 배치 id 와 같은 조회수, 그 사이 조회는 pending 에 남음")
+    void drain_withInflightLeft_returnsSameBatch() {
+        // given
+        store.incrementAll(Map.of(1L, 3L));
+        ViewCountBatch first = store.drain();
+        store.incrementAll(Map.of(1L, 2L, 3L, 4L));
+
+        // when
+        ViewCountBatch second = store.drain();
+
+        // then
+        assertThat(second.getBatchId()).isEqualTo(first.getBatchId());
+        assertThat(second.getDeltas()).containsOnly(entry(1L, 3L));
+        assertThat(stringRedisTemplate.<String, String>opsForHash().entries(ViewCountStore.PENDING_KEY))
+                .containsOnly(entry("1", "2"), entry("3", "4"));
+        assertThat(store.getPendingDeltas(List.of(1L, 3L))).containsOnly(entry(1L, 5L), entry(3L, 4L));
+    }
+
+    @Test
+    @DisplayName("3. ack -> inflight 삭제, 다음 drain 은 새 pending 을 새 배치 id 로 가져감 / 일부 ack 는 해당 공지만 삭제")
+    void ack_clearsInflight() {
+        // given
+        store.incrementAll(Map.of(1L, 3L, 2L, 1L));
+        ViewCountBatch first = store.drain();
+        store.incrementAll(Map.of(3L, 4L));
+
+        // when: 일부만 반영 완료
+        store.ack(List.of(1L));
+
+        // then: 나머지는 같은 배치로 다시 반환
+        ViewCountBatch retried = store.drain();
+        assertThat(retried.getBatchId()).isEqualTo(first.getBatchId());
+        assertThat(retried.getDeltas()).containsOnly(entry(2L, 1L));
+
+        // when: 전체 반영 완료
+        store.ack();
+
+        // then
+        assertThat(stringRedisTemplate.hasKey(ViewCountStore.INFLIGHT_KEY)).isFalse();
+        ViewCountBatch next = store.drain();
+        assertThat(next.getBatchId()).isNotEqualTo(first.getBatchId());
+        assertThat(next.getDeltas()).containsOnly(entry(3L, 4L));
+        store.ack();
+        assertThat(store.drain()).isNull();
+    }
+
+    @Test
+    @DisplayName("4. 분 버킷 claim -> 세대 1, ack 없이 다시 claim 하면 같은 세대, 늦은 조회가 있으면 ackMinute false 후 세대 2")
+    void claimMinute_assignsGenerations() {
+        // given
+        stringRedisTemplate.opsForHash().increment(MINUTE_KEY, "1", 3L);
+        stringRedisTemplate.opsForSet().add(ViewCountStore.MINUTES_KEY, String.valueOf(MINUTE));
+
+        // when
+        ViewCountBatch first = store.claimMinute(MINUTE);
+        ViewCountBatch retried = store.claimMinute(MINUTE);
+
+        // then
+        assertThat(first.getBatchId()).isEqualTo(1L);
+        assertThat(first.getDeltas()).containsOnly(entry(1L, 3L));
+        assertThat(retried.getBatchId()).isEqualTo(1L);
+        assertThat(retried.getDeltas()).containsOnly(entry(1L, 3L));
+
+        // when: 가져간 뒤 늦은 조회가 같은 분에 쌓임
+        stringRedisTemplate.opsForHash().increment(MINUTE_KEY, "1", 2L);
+
+        // then: 목록에 남기고 다음 세대로 다시 반영
+        assertThat(store.ackMinute(MINUTE)).isFalse();
+        assertThat(store.findMinutesBefore(MINUTE + 1)).containsExactly(MINUTE);
+        ViewCountBatch late = store.claimMinute(MINUTE);
+        assertThat(late.getBatchId()).isEqualTo(2L);
+        assertThat(late.getDeltas()).containsOnly(entry(1L, 2L));
+
+        assertThat(store.ackMinute(MINUTE)).isTrue();
+        assertThat(store.findMinutesBefore(MINUTE + 1)).isEmpty();
+        assertThat(store.claimMinute(MINUTE)).isNull();
+    }
+}
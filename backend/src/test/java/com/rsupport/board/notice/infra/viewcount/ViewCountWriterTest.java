@@ -0,0 +1,105 @@
+package com.rsupport.board.notice.infra.viewcount;
+
+import com.rsupport.board.common.leader.LeaderFence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 조회수 DB 반영 단위테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ViewCountWriterTest {
+    private static final String LEASE = "view-count-flush";
+    private static final long TOKEN = 7L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ViewCountFlushLog flushLog;
+
+    @Mock
+    private LeaderFence leaderFence;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ViewCountWriter viewCountWriter;
+
+    @BeforeEach
+    void setUp() {
+        viewCountWriter = new ViewCountWriter(jdbcTemplate, flushLog, leaderFence, transactionManager, new SimpleMeterRegistry(), 2);
+    }
+
+    @Test
+    @DisplayName("1. id 오름차순 청크 단위로 반영, 청크마다 반영 기록을 남김")
+    void write_chunksInIdOrder_recordsMarker() {
+        // given
+        ViewCountBatch batch = new ViewCountBatch(100L, Map.of(3L, 1L, 1L, 5L, 2L, 2L));
+        when(flushLog.findCommittedRanges(100L)).thenReturn(List.of());
+        List<List<Long>> committed = new ArrayList<>();
+
+        // when
+        viewCountWriter.write(batch, LEASE, TOKEN, committed::add);
+
+        // then
+        assertThat(committed).containsExactly(List.of(1L, 2L), List.of(3L));
+        verify(flushLog).record(100L, 1L, 2L, 2);
+        verify(flushLog).record(100L, 3L, 3L, 1);
+        verify(leaderFence, times(2)).check(LEASE, TOKEN);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("2. 같은 배치를 다시 반영 -> 이미 커밋된 범위는 UPDATE 없이 ack 만")
+    void write_replay_skipsCommittedRanges() {
+        // given: 이전 실행에서 [1, 2] 청크는 커밋까지 끝남
+        ViewCountBatch batch = new ViewCountBatch(100L, Map.of(1L, 5L, 2L, 2L, 3L, 1L));
+        when(flushLog.findCommittedRanges(100L)).thenReturn(List.<long[]>of(new long[]{1L, 2L}));
+        List<List<Long>> committed = new ArrayList<>();
+
+        // when
+        viewCountWriter.write(batch, LEASE, TOKEN, committed::add);
+
+        // then
+        assertThat(committed).containsExactly(List.of(1L, 2L), List.of(3L));
+        verify(flushLog, never()).record(eq(100L), eq(1L), anyLong(), anyInt());
+        verify(flushLog).record(100L, 3L, 3L, 1);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("3. 반영 중 lease 를 잃고 새 리더가 이미 씀 -> 펜싱 토큰 확인에서 중단, UPDATE/ack 없음")
+    void write_staleFencingToken_aborts() {
+        // given
+        ViewCountBatch batch = new ViewCountBatch(100L, Map.of(1L, 5L));
+        when(flushLog.findCommittedRanges(100L)).thenReturn(List.of());
+        doThrow(new IllegalStateException("lease 가 다른 노드로 넘어갔습니다"))
+                .when(leaderFence).check(LEASE, TOKEN);
+        List<List<Long>> committed = new ArrayList<>();
+
+        // when & then
+        assertThatThrownBy(() -> viewCountWriter.write(batch, LEASE, TOKEN, committed::add))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(committed).isEmpty();
+        verify(flushLog, never()).record(anyLong(), anyLong(), anyLong(), anyInt());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+}
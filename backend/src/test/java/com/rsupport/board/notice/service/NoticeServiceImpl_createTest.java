@@ -4,13 +4,16 @@ import com.rsupport.board.common.exception.CustomExceptionHandler;
 import com.rsupport.board.common.exception.ErrorCode;
 import com.rsupport.board.member.domain.entity.Member;
 import com.rsupport.board.member.domain.repository.MemberRepository;
+import com.rsupport.board.member.infra.cache.MemberLookupCache;
+import com.rsupport.board.member.infra.cache.MemberSummary;
 import com.rsupport.board.notice.api.dto.AttachmentInfoDTO;
 import com.rsupport.board.notice.api.dto.NoticeCreateReqDTO;
 import com.rsupport.board.notice.api.dto.NoticeResponseDTO;
 import com.rsupport.board.notice.domain.entity.Attachment;
 import com.rsupport.board.notice.domain.entity.Notice;
 import com.rsupport.board.notice.domain.repository.NoticeRepository;
-import com.rsupport.board.notice.infra.FileStorageService;
+import com.rsupport.board.notice.infra.AttachmentUploader;
+import com.rsupport.board.notice.infra.viewcount.ViewCountAccumulator;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,11 +23,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -38,18 +43,24 @@ class NoticeServiceImpl_createTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberLookupCache memberLookupCache;
+
     @Mock
     private NoticeRepository noticeRepository;
 
     @Mock
-    private FileStorageService fileStorageService;
+    private AttachmentUploader attachmentUploader;
+
+    @Mock
+    private TransactionOperations transactionOperations;
 
-    @Mock private RedisTemplate<String, Long> redisTemplate;
-    @Mock private ValueOperations<String, Long> valueOperations;
+    @Mock private ViewCountAccumulator viewCountAccumulator;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     // Note: @InjectMocks
     // Mockito가 NoticeServiceImpl 생성자를 찾아서
-    // memberRepository, noticeRepository, fileStorageService mock객체를 주입하여 인스턴스 생성
+    // memberRepository, noticeRepository, attachmentUploader mock객체를 주입하여 인스턴스 생성
     @InjectMocks
     private NoticeServiceImpl noticeService;
 
@@ -69,6 +80,12 @@ class NoticeServiceImpl_createTest {
                 .email("create-test@example.com")
                 .password("pwd123")
                 .build();
+
+        // 트랜잭션은 콜백을 바로 실행 (예외로 끝나는 테스트에서는 호출되지 않을 수 있어서 lenient)
+        lenient().when(transactionOperations.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
     }
 
     @Test
@@ -85,11 +102,11 @@ class NoticeServiceImpl_createTest {
                 .build();
 
         // 생성한 샘플 유저를 반환하도록 세팅
-        when(memberRepository.findById(SAMPLE_USER_ID)).thenReturn(Optional.of(sampleMember));
+        when(memberLookupCache.find(SAMPLE_USER_ID)).thenReturn(Optional.of(MemberSummary.from(sampleMember)));
+        when(memberRepository.getReferenceById(SAMPLE_USER_ID)).thenReturn(sampleMember);
 
-        // redis npe 에러 방지
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(anyString())).thenReturn(0L);  // 조회수 기본값을 리턴
+        // 미반영 조회수 기본값
+        when(viewCountAccumulator.getLiveDelta(anyLong())).thenReturn(0L);
         
         // 서비스 로직이 Notice를 저장한 뒤 id=100L이 붙었다고 세팅
         when(noticeRepository.save(any(Notice.class))).thenAnswer(invocation -> {
@@ -103,7 +120,7 @@ class NoticeServiceImpl_createTest {
 
         // then
         // 작성자 조회 검증
-        verify(memberRepository, times(1)).findById(SAMPLE_USER_ID);
+        verify(memberLookupCache, times(1)).find(SAMPLE_USER_ID);
 
         // noticeRepository.save(...) 호출 여부 검증
         ArgumentCaptor<Notice> noticeCaptor = ArgumentCaptor.forClass(Notice.class);
@@ -134,10 +151,7 @@ class NoticeServiceImpl_createTest {
         // given
         // 더미 MultipartFile 2개 생성
         MultipartFile file1 = mock(MultipartFile.class);
-        when(file1.isEmpty()).thenReturn(false);
-
         MultipartFile file2 = mock(MultipartFile.class);
-        when(file2.isEmpty()).thenReturn(false);
 
         NoticeCreateReqDTO req = NoticeCreateReqDTO.builder()
                 .userId(SAMPLE_USER_ID)
@@ -148,29 +162,23 @@ class NoticeServiceImpl_createTest {
                 .files(new MultipartFile[]{file1, file2})
                 .build();
 
-        when(memberRepository.findById(SAMPLE_USER_ID)).thenReturn(Optional.of(sampleMember));
-
-        // note: thenAnswer
-        // FileStorageService.store(...)가 호출될 때마다 다른 Attachment를 반환하도록 세팅
-        when(fileStorageService.store(file1)).thenAnswer(invocation -> {
-            Attachment a = Attachment.testBuilder()
-                    .id(11L)
-                    .filename("testImg1.png")
-                    .url("/uploads/testImg1.png")
-                    .uploadedAt(now.plusMinutes(1))
-                    .build();
-            return a;
-        });
+        when(memberLookupCache.find(SAMPLE_USER_ID)).thenReturn(Optional.of(MemberSummary.from(sampleMember)));
+        when(memberRepository.getReferenceById(SAMPLE_USER_ID)).thenReturn(sampleMember);
 
-        when(fileStorageService.store(file2)).thenAnswer(invocation -> {
-            Attachment a = Attachment.testBuilder()
-                    .id(12L)
-                    .filename("testDoc1.pdf")
-                    .url("/uploads/testDoc1.pdf")
-                    .uploadedAt(now.plusMinutes(2))
-                    .build();
-            return a;
-        });
+        // 파일 저장 결과로 Attachment 2개를 요청 순서대로 반환하도록 세팅
+        Attachment att1 = Attachment.testBuilder()
+                .id(11L)
+                .filename("testImg1.png")
+                .url("/uploads/testImg1.png")
+                .uploadedAt(now.plusMinutes(1))
+                .build();
+        Attachment att2 = Attachment.testBuilder()
+                .id(12L)
+                .filename("testDoc1.pdf")
+                .url("/uploads/testDoc1.pdf")
+                .uploadedAt(now.plusMinutes(2))
+                .build();
+        when(attachmentUploader.storeAll(req.getFiles())).thenReturn(List.of(att1, att2));
 
         // 서비스 로직이 Notice를 저장한 뒤 id=200L이 붙었다고 세팅
         when(noticeRepository.save(any(Notice.class))).thenAnswer(invocation -> {
@@ -179,20 +187,18 @@ class NoticeServiceImpl_createTest {
             return n;
         });
 
-        // redis npe 에러 방지
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(anyString())).thenReturn(0L);  // 조회수 기본값을 리턴
+        // 미반영 조회수 기본값
+        when(viewCountAccumulator.getLiveDelta(anyLong())).thenReturn(0L);
 
         // when
         NoticeResponseDTO responseDTO = noticeService.createNotice(req);
 
         // then
         // 작성자 조회 검증
-        verify(memberRepository, times(1)).findById(SAMPLE_USER_ID);
+        verify(memberLookupCache, times(1)).find(SAMPLE_USER_ID);
 
-        // 파일 저장 서비스가 2번 호출되었는지 검증
-        verify(fileStorageService, times(1)).store(file1);
-        verify(fileStorageService, times(1)).store(file2);
+        // 파일 저장은 한번에 요청 (트랜잭션 밖에서 동시에 저장)
+        verify(attachmentUploader, times(1)).storeAll(req.getFiles());
 
         // noticeRepository.save(...) 호출 여부 검증
         ArgumentCaptor<Notice> noticeCaptor = ArgumentCaptor.forClass(Notice.class);
@@ -256,7 +262,7 @@ class NoticeServiceImpl_createTest {
                 .build();
 
         // 유저 조회 시 빈 값을 반환하도록 세팅
-        when(memberRepository.findById(99L)).thenReturn(Optional.empty());
+        when(memberLookupCache.find(99L)).thenReturn(Optional.empty());
 
         // when+then
         assertThatThrownBy(() -> noticeService.createNotice(req))
@@ -278,7 +284,7 @@ class NoticeServiceImpl_createTest {
                 .files(null)
                 .build();
 
-        when(memberRepository.findById(SAMPLE_USER_ID)).thenReturn(Optional.of(sampleMember));
+        when(memberLookupCache.find(SAMPLE_USER_ID)).thenReturn(Optional.of(MemberSummary.from(sampleMember)));
 
         // when+then
         assertThatThrownBy(() -> noticeService.createNotice(req))
@@ -286,4 +292,38 @@ class NoticeServiceImpl_createTest {
                 .extracting("errorCode") // 에러코드 가져와서
                 .isEqualTo(ErrorCode.INVALID_DATE_RANGE); // INVALID_DATE_RANGE 인지 확인..
     }
+
+    @Test
+    @DisplayName("5. 파일 저장 후 공지 저장(트랜잭션) 실패 -> 저장한 파일 삭제 후 예외 그대로 전달")
+    void createNotice_transactionFails_discardsStoredFiles() {
+        // given
+        MultipartFile file1 = mock(MultipartFile.class);
+        NoticeCreateReqDTO req = NoticeCreateReqDTO.builder()
+                .userId(SAMPLE_USER_ID)
+                .title("공지생성 테스트5 - 저장 실패")
+                .content("트랜잭션 롤백 시 파일 삭제 테스트")
+                .startAt(now)
+                .endAt(end)
+                .files(new MultipartFile[]{file1})
+                .build();
+
+        Attachment stored = Attachment.testBuilder()
+                .filename("testImg1.png")
+                .url("/files/20250615/stored.png")
+                .build();
+
+        when(memberLookupCache.find(SAMPLE_USER_ID)).thenReturn(Optional.of(MemberSummary.from(sampleMember)));
+        when(memberRepository.getReferenceById(SAMPLE_USER_ID)).thenReturn(sampleMember);
+        when(attachmentUploader.storeAll(req.getFiles())).thenReturn(List.of(stored));
+        when(noticeRepository.save(any(Notice.class))).thenThrow(new IllegalStateException("db down"));
+
+        // when+then
+        assertThatThrownBy(() -> noticeService.createNotice(req))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("db down");
+
+        // 저장했던 파일 삭제(보상), 이벤트는 발행되지 않음
+        verify(attachmentUploader, times(1)).discard(List.of(stored));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
 }
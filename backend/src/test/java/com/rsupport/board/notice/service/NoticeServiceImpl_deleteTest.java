@@ -4,7 +4,10 @@ import com.rsupport.board.common.exception.CustomExceptionHandler;
 import com.rsupport.board.common.exception.ErrorCode;
 import com.rsupport.board.member.domain.entity.Member;
 import com.rsupport.board.member.domain.repository.MemberRepository;
+import com.rsupport.board.member.infra.cache.MemberLookupCache;
+import com.rsupport.board.member.infra.cache.MemberSummary;
 import com.rsupport.board.notice.domain.entity.Notice;
+import com.rsupport.board.notice.domain.event.NoticeChangedEvent;
 import com.rsupport.board.notice.domain.repository.NoticeRepository;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -29,8 +33,12 @@ public class NoticeServiceImpl_deleteTest {
     @Mock
     MemberRepository memberRepository;
 
+    @Mock
+    MemberLookupCache memberLookupCache;
+
     @Mock
     NoticeRepository noticeRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     NoticeServiceImpl noticeService;
@@ -68,7 +76,7 @@ public class NoticeServiceImpl_deleteTest {
     @DisplayName("1. 삭제요청자==작성자, 공지가 존재 -> 삭제 성공")
     void deleteNotice_success() {
         // given
-        when(memberRepository.findById(SAMPLE_USER_ID)).thenReturn(Optional.of(sampleMember));
+        when(memberLookupCache.find(SAMPLE_USER_ID)).thenReturn(Optional.of(MemberSummary.from(sampleMember)));
         when(noticeRepository.findById(SAMPLE_NOTICE_ID)).thenReturn(Optional.of(sampleNotice));
 
         // when
@@ -77,6 +85,8 @@ public class NoticeServiceImpl_deleteTest {
         // then
         // NoticeRepository.delete(notice) 호출 검증
         verify(noticeRepository, times(1)).delete(sampleNotice);
+        // 검색 인덱스 등에 반영할 삭제 이벤트 발행 검증
+        verify(eventPublisher, times(1)).publishEvent(any(NoticeChangedEvent.class));
     }
 
     @Test
@@ -84,7 +94,7 @@ public class NoticeServiceImpl_deleteTest {
     void deleteNotice_memberNotFound_throwsException() {
         // given
         Long nonExistingUserId = 2L; // 존재하지 않는 유저id -> empty 반환하도록 세팅
-        when(memberRepository.findById(nonExistingUserId)).thenReturn(Optional.empty());
+        when(memberLookupCache.find(nonExistingUserId)).thenReturn(Optional.empty());
 
         // when+then
         // 에러코드 검증
@@ -102,7 +112,7 @@ public class NoticeServiceImpl_deleteTest {
     @DisplayName("3. 존재하지 않는 공지 -> NOTICE_NOT_FOUND 예외 발생")
     void deleteNotice_noticeNotFound_throwsException() {
         // given
-        when(memberRepository.findById(SAMPLE_USER_ID)).thenReturn(Optional.of(sampleMember));
+        when(memberLookupCache.find(SAMPLE_USER_ID)).thenReturn(Optional.of(MemberSummary.from(sampleMember)));
 
         Long nonExistingNoticeId = 101L;
         when(noticeRepository.findById(nonExistingNoticeId)).thenReturn(Optional.empty());
@@ -123,13 +133,13 @@ public class NoticeServiceImpl_deleteTest {
         // given
         // 샘플과 다른 유저를 반환하도록 세팅
         Long otherUserId = 777L; // 실제 작성자 ID는 1L
-        when(memberRepository.findById(otherUserId)).thenReturn(
-                Optional.of(Member.builder()
+        when(memberLookupCache.find(otherUserId)).thenReturn(
+                Optional.of(MemberSummary.from(Member.builder()
                         .id(otherUserId)
                         .name("다른 테스트유저")
                         .email("delete-test2@example.com")
                         .password("pwd123")
-                        .build()
+                        .build())
                 )
         );
         when(noticeRepository.findById(SAMPLE_NOTICE_ID)).thenReturn(Optional.of(sampleNotice));
@@ -1,9 +1,14 @@
 package com.rsupport.board.notice.service;
 
+import com.rsupport.board.common.exception.CustomExceptionHandler;
+import com.rsupport.board.common.exception.ErrorCode;
+import com.rsupport.board.notice.api.dto.NoticeCursor;
 import com.rsupport.board.notice.api.dto.NoticeListItemDTO;
 import com.rsupport.board.notice.api.dto.NoticeListReqDTO;
 import com.rsupport.board.notice.api.dto.NoticeListResDTO;
 import com.rsupport.board.notice.domain.repository.NoticeRepository;
+import com.rsupport.board.notice.infra.cache.NoticeListCache;
+import com.rsupport.board.notice.infra.viewcount.ViewCountAccumulator;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +24,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +38,12 @@ class NoticeServiceImpl_getListTest {
     @Mock
     private NoticeRepository noticeRepository;
 
+    @Mock
+    private NoticeListCache noticeListCache;
+
+    @Mock
+    private ViewCountAccumulator viewCountAccumulator;
+
     @InjectMocks
     private NoticeServiceImpl noticeService;
 
@@ -63,6 +76,10 @@ class NoticeServiceImpl_getListTest {
 
         // 기본 Pageable 설정 (첫 페이지:0, 페이지 크기:10, createdAt 내림차순)
         samplePageable = PageRequest.of(0,10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        // 캐시는 항상 miss -> 실제 조회(loader) 실행
+        when(noticeListCache.get(any(NoticeListReqDTO.class), any(Pageable.class), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<NoticeListResDTO>>getArgument(2).get());
     }
 
     @Test
@@ -165,4 +182,97 @@ class NoticeServiceImpl_getListTest {
         assertThat(pageInfo.getPageNumber()).isEqualTo(0);
         assertThat(pageInfo.getPageSize()).isEqualTo(10);
     }
+
+    @Test
+    @DisplayName("3. [커서 모드] 다음 페이지가 있을 때 -> 마지막 아이템 기준 nextCursor 반환, count 쿼리 x")
+    void getNoticeList_CursorMode_ReturnsNextCursor() {
+        // given
+        sampleReq.setCursor(""); // 빈 커서 = 첫 페이지
+        NoticeListItemDTO item1 = buildReq(
+                100L, "첫번째 공지", true,
+                LocalDateTime.of(2025, 5, 10, 9, 0, 0),
+                LocalDateTime.of(2025, 5, 10, 9, 0, 0),
+                LocalDateTime.of(2025, 5, 15, 9, 0, 0),
+                5, 1L, "작성자A"
+        );
+        NoticeListItemDTO item2 = buildReq(
+                101L, "두번째 공지", false,
+                LocalDateTime.of(2025, 5, 5, 14, 30, 0),
+                LocalDateTime.of(2025, 5, 5, 14, 30, 0),
+                LocalDateTime.of(2025, 5, 7, 14, 30, 0),
+                2, 2L, "작성자B"
+        );
+        Slice<NoticeListItemDTO> fakeSlice = new SliceImpl<>(List.of(item1, item2), PageRequest.of(0, 10), true);
+        when(noticeRepository.findAllByCursor(sampleReq, null, 10)).thenReturn(fakeSlice);
+
+        // when
+        NoticeListResDTO resultDto = noticeService.getNoticeList(sampleReq, samplePageable);
+
+        // then
+        // 오프셋 조회는 호출되지 않아야 함
+        verify(noticeRepository, never()).findAllBySearchCondition(any(), any());
+
+        NoticeListResDTO.PageInfo pageInfo = resultDto.getPageInfo();
+        assertThat(resultDto.getNoticeList()).hasSize(2);
+        assertThat(pageInfo.isFirst()).isTrue();
+        assertThat(pageInfo.isLast()).isFalse();
+        assertThat(pageInfo.getTotalElements()).isEqualTo(-1L);
+
+        // nextCursor 는 마지막 아이템(item2)의 (createdAt, id)
+        NoticeCursor next = NoticeCursor.decode(pageInfo.getNextCursor());
+        assertThat(next.getId()).isEqualTo(101L);
+        assertThat(next.getCreatedAt()).isEqualTo(LocalDateTime.of(2025, 5, 5, 14, 30, 0));
+    }
+
+    @Test
+    @DisplayName("4. [커서 모드] 등록일 내림차순이 아닌 정렬 -> INVALID_CURSOR 예외 발생")
+    void getNoticeList_CursorModeWithOtherSort_ThrowsException() {
+        // given
+        sampleReq.setCursor("");
+        Pageable viewCountSort = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "viewCount"));
+
+        // when+then
+        assertThatThrownBy(() -> noticeService.getNoticeList(sampleReq, viewCountSort))
+                .isInstanceOf(CustomExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+
+        verify(noticeRepository, never()).findAllByCursor(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("5. 미반영 조회수를 페이지 단위로 한번에 더하고, 조회수 정렬이면 페이지 안에서 다시 정렬")
+    void getNoticeList_ViewCountSort_AppliesLiveDeltas() {
+        // given
+        Pageable viewCountSort = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "viewCount"));
+        NoticeListItemDTO item1 = buildReq(
+                100L, "첫번째 공지", true,
+                LocalDateTime.of(2025, 5, 10, 9, 0, 0),
+                LocalDateTime.of(2025, 5, 10, 9, 0, 0),
+                LocalDateTime.of(2025, 5, 15, 9, 0, 0),
+                5, 1L, "작성자A"
+        );
+        NoticeListItemDTO item2 = buildReq(
+                101L, "두번째 공지", false,
+                LocalDateTime.of(2025, 5, 5, 14, 30, 0),
+                LocalDateTime.of(2025, 5, 5, 14, 30, 0),
+                LocalDateTime.of(2025, 5, 7, 14, 30, 0),
+                2, 2L, "작성자B"
+        );
+        Page<NoticeListItemDTO> fakePage = new PageImpl<>(List.of(item1, item2), viewCountSort, 2L);
+        when(noticeRepository.findAllBySearchCondition(sampleReq, viewCountSort)).thenReturn(fakePage);
+        when(viewCountAccumulator.getLiveDeltas(List.of(100L, 101L))).thenReturn(Map.of(101L, 10L));
+
+        // when
+        NoticeListResDTO resultDto = noticeService.getNoticeList(sampleReq, viewCountSort);
+
+        // then
+        List<NoticeListItemDTO> returnedList = resultDto.getNoticeList();
+        assertThat(returnedList).extracting(NoticeListItemDTO::getId).containsExactly(101L, 100L);
+        assertThat(returnedList).extracting(NoticeListItemDTO::getViewCount).containsExactly(12, 5);
+        verify(viewCountAccumulator, times(1)).getLiveDeltas(anyList());
+
+        // 캐시에 들어간 원본 dto 는 그대로
+        assertThat(item2.getViewCount()).isEqualTo(2);
+    }
 }
@@ -0,0 +1,155 @@
+package com.rsupport.board.notice.service;
+
+import com.rsupport.board.common.exception.CustomExceptionHandler;
+import com.rsupport.board.common.exception.ErrorCode;
+import com.rsupport.board.member.domain.entity.Member;
+import com.rsupport.board.notice.api.dto.NoticeResponseDTO;
+import com.rsupport.board.notice.api.dto.NoticeStatsDTO;
+import com.rsupport.board.notice.api.dto.ViewBucketDTO;
+import com.rsupport.board.notice.domain.entity.Notice;
+import com.rsupport.board.notice.domain.repository.NoticeRepository;
+import com.rsupport.board.notice.infra.cache.NoticeDetailCache;
+import com.rsupport.board.notice.infra.stats.NoticeViewStatRepository;
+import com.rsupport.board.notice.infra.stats.ViewStatGranularity;
+import com.rsupport.board.notice.infra.viewcount.UniqueViewerCounter;
+import com.rsupport.board.notice.infra.viewcount.ViewCountAccumulator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 공지 조회 통계 서비스 단위테스트 (버킷 시계열 0 채우기)
+ */
+@ExtendWith(MockitoExtension.class)
+public class NoticeServiceImpl_getStatsTest {
+    @Mock
+    private NoticeRepository noticeRepository;
+
+    @Mock
+    private NoticeDetailCache noticeDetailCache;
+
+    @Mock
+    private ViewCountAccumulator viewCountAccumulator;
+
+    @Mock
+    private UniqueViewerCounter uniqueViewerCounter;
+
+    @Mock
+    private NoticeViewStatRepository noticeViewStatRepository;
+
+    @InjectMocks
+    private NoticeServiceImpl noticeService;
+
+    private Notice sampleNotice;
+    private final Long SAMPLE_NOTICE_ID = 100L;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime baseTime = LocalDateTime.of(2025, 6, 10, 12, 0, 0);
+        Member member = Member.builder()
+                .id(1L)
+                .name("테스트유저")
+                .email("stats-test@example.com")
+                .password("pwd123")
+                .build();
+        sampleNotice = Notice.testBuilder()
+                .id(SAMPLE_NOTICE_ID)
+                .title("통계테스트")
+                .content("통계테스트 내용")
+                .startAt(baseTime.minusDays(1))
+                .endAt(baseTime.plusDays(1))
+                .viewCount(10)
+                .member(member)
+                .createdAt(baseTime.minusDays(2))
+                .updatedAt(baseTime.minusDays(2))
+                .build();
+
+        // 상세 캐시는 항상 miss -> 실제 조회(loader) 실행
+        lenient().when(noticeDetailCache.get(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<NoticeResponseDTO>>getArgument(1).get());
+    }
+
+    @Test
+    @DisplayName("1. 시간 단위 -> 최근 24개 버킷, 조회가 없는 버킷은 0, 오래된 순")
+    void getNoticeStats_hour_zeroFilled() {
+        // given
+        when(noticeRepository.findWithMemberAndAttachmentsById(SAMPLE_NOTICE_ID)).thenReturn(Optional.of(sampleNotice));
+        when(viewCountAccumulator.getLiveDelta(SAMPLE_NOTICE_ID)).thenReturn(2L);
+        when(uniqueViewerCounter.count(SAMPLE_NOTICE_ID)).thenReturn(4L);
+        when(noticeViewStatRepository.sumMinutes(eq(SAMPLE_NOTICE_ID), any(), any())).thenReturn(9L);
+        // 조회 범위의 세번째, 마지막 버킷에만 조회수
+        when(noticeViewStatRepository.findSeries(eq(SAMPLE_NOTICE_ID), eq(ViewStatGranularity.HOUR), any(), any()))
+                .thenAnswer(invocation -> {
+                    LocalDateTime from = invocation.getArgument(2);
+                    LocalDateTime to = invocation.getArgument(3);
+                    return Map.of(from.plusHours(2), 5L, to.minusHours(1), 4L);
+                });
+
+        // when
+        NoticeStatsDTO stats = noticeService.getNoticeStats(SAMPLE_NOTICE_ID, ViewStatGranularity.HOUR);
+
+        // then
+        assertThat(stats.getViewCount()).isEqualTo(12L); // 10 + 미반영 2
+        assertThat(stats.getUniqueViewerCount()).isEqualTo(4L);
+        assertThat(stats.getLast24hViews()).isEqualTo(9L);
+        assertThat(stats.getGranularity()).isEqualTo("HOUR");
+
+        assertThat(stats.getSeries()).hasSize(24);
+        for (int i = 1; i < stats.getSeries().size(); i++) {
+            assertThat(stats.getSeries().get(i).getBucketStart())
+                    .isEqualTo(stats.getSeries().get(i - 1).getBucketStart().plusHours(1));
+        }
+        assertThat(stats.getSeries()).extracting(ViewBucketDTO::getViews)
+                .containsOnly(0L, 5L, 4L)
+                .filteredOn(views -> views == 0L).hasSize(22);
+        assertThat(stats.getSeries().get(2).getViews()).isEqualTo(5L);
+        assertThat(stats.getSeries().get(23).getViews()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("2. 조회 기록 없음 -> 단위별 기본 버킷 수만큼 전부 0")
+    void getNoticeStats_noViews_allZero() {
+        // given
+        when(noticeRepository.findWithMemberAndAttachmentsById(SAMPLE_NOTICE_ID)).thenReturn(Optional.of(sampleNotice));
+        when(noticeViewStatRepository.findSeries(eq(SAMPLE_NOTICE_ID), eq(ViewStatGranularity.MINUTE), any(), any()))
+                .thenReturn(Map.of());
+
+        // when
+        NoticeStatsDTO stats = noticeService.getNoticeStats(SAMPLE_NOTICE_ID, ViewStatGranularity.MINUTE);
+
+        // then
+        assertThat(stats.getSeries()).hasSize(ViewStatGranularity.MINUTE.getDefaultBuckets());
+        assertThat(stats.getSeries()).extracting(ViewBucketDTO::getViews).containsOnly(0L);
+        assertThat(stats.getLast24hViews()).isZero();
+    }
+
+    @Test
+    @DisplayName("3. 존재하지 않는 noticeId -> NOTICE_NOT_FOUND 예외, 통계 조회 안 함")
+    void getNoticeStats_noticeNotFound() {
+        // given
+        when(noticeRepository.findWithMemberAndAttachmentsById(SAMPLE_NOTICE_ID)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> noticeService.getNoticeStats(SAMPLE_NOTICE_ID, ViewStatGranularity.DAY))
+                .isInstanceOf(CustomExceptionHandler.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOTICE_NOT_FOUND);
+        verifyNoInteractions(noticeViewStatRepository);
+    }
+}
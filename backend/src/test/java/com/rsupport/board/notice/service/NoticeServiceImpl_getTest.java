@@ -4,10 +4,16 @@ import com.rsupport.board.common.exception.CustomExceptionHandler;
 import com.rsupport.board.common.exception.ErrorCode;
 import com.rsupport.board.member.domain.entity.Member;
 import com.rsupport.board.member.domain.repository.MemberRepository;
+import com.rsupport.board.member.infra.cache.MemberLookupCache;
+import com.rsupport.board.member.infra.cache.MemberSummary;
 import com.rsupport.board.notice.api.dto.NoticeResponseDTO;
 import com.rsupport.board.notice.domain.entity.Attachment;
 import com.rsupport.board.notice.domain.entity.Notice;
 import com.rsupport.board.notice.domain.repository.NoticeRepository;
+import com.rsupport.board.notice.infra.cache.NoticeDetailCache;
+import com.rsupport.board.notice.infra.read.NoticeReadTracker;
+import com.rsupport.board.notice.infra.viewcount.UniqueViewerCounter;
+import com.rsupport.board.notice.infra.viewcount.ViewCountAccumulator;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,11 +23,11 @@ import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -34,14 +40,24 @@ public class NoticeServiceImpl_getTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberLookupCache memberLookupCache;
+
     @Mock
     private NoticeRepository noticeRepository;
 
     @Mock
-    private RedisTemplate<String, Long> redisTemplate;
+    private ViewCountAccumulator viewCountAccumulator;
 
     @Mock
-    private ValueOperations<String, Long> valueOperations;
+    private NoticeDetailCache noticeDetailCache;
+
+    @Mock
+    private UniqueViewerCounter uniqueViewerCounter;
+
+    @Mock
+    private NoticeReadTracker noticeReadTracker;
+
     @InjectMocks
     private NoticeServiceImpl noticeService;
 
@@ -80,6 +96,10 @@ public class NoticeServiceImpl_getTest {
                 .uploadedAt(baseTime.minusDays(1))
                 .build();
         sampleNotice.addAttachment(att);
+
+        // 상세 캐시는 항상 miss -> 실제 조회(loader) 실행
+        lenient().when(noticeDetailCache.get(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<NoticeResponseDTO>>getArgument(1).get());
     }
 
     @Test
@@ -87,26 +107,22 @@ public class NoticeServiceImpl_getTest {
     void getNotice_withOutRedisDelta_success() {
         // given
         // 호출 시 생성해둔 샘플 데이터 반환
-        when(memberRepository.findById(SAMPLE_USER_ID)).thenReturn(Optional.of(sampleMember));
+        when(memberLookupCache.find(SAMPLE_USER_ID)).thenReturn(Optional.of(MemberSummary.from(sampleMember)));
         when(noticeRepository.findWithMemberAndAttachmentsById(SAMPLE_NOTICE_ID)).thenReturn(Optional.of(sampleNotice));
 
-        String redisKey = "notice:view:" + SAMPLE_NOTICE_ID;
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.increment(redisKey, 1L)).thenReturn(1L); // 증가했으니 redis에 0+1 (key,1)
-        when(valueOperations.get(redisKey)).thenReturn(1L);
+        when(viewCountAccumulator.getLiveDelta(SAMPLE_NOTICE_ID)).thenReturn(1L); // 증가 후 미반영 조회수 0+1
 
         // when
         NoticeResponseDTO dto = noticeService.getNotice(SAMPLE_USER_ID, SAMPLE_NOTICE_ID);
 
         // then
         // 메서드 호출 검증
-        verify(memberRepository, times(1)).findById(SAMPLE_USER_ID);
+        verify(memberLookupCache, times(1)).find(SAMPLE_USER_ID);
 
-        // redis opsForValue -> increment -> get 순서로 호출됐는지 확인
-        InOrder inOrder = inOrder(redisTemplate, valueOperations);
-        inOrder.verify(redisTemplate).opsForValue();
-        inOrder.verify(valueOperations).increment(redisKey, 1L);
-        inOrder.verify(valueOperations).get(redisKey);
+        // 조회수 증가 -> 미반영 조회수 조회 순서로 호출됐는지 확인
+        InOrder inOrder = inOrder(viewCountAccumulator);
+        inOrder.verify(viewCountAccumulator).increment(SAMPLE_NOTICE_ID);
+        inOrder.verify(viewCountAccumulator).getLiveDelta(SAMPLE_NOTICE_ID);
 
         // 최종 응답 DTO 검증
         assertThat(dto).isNotNull();
@@ -124,26 +140,22 @@ public class NoticeServiceImpl_getTest {
     void getNotice_withRedisDelta_success() {
         // given
         // 호출 시 생성해둔 샘플 데이터 반환
-        when(memberRepository.findById(SAMPLE_USER_ID)).thenReturn(Optional.of(sampleMember));
+        when(memberLookupCache.find(SAMPLE_USER_ID)).thenReturn(Optional.of(MemberSummary.from(sampleMember)));
         when(noticeRepository.findWithMemberAndAttachmentsById(SAMPLE_NOTICE_ID)).thenReturn(Optional.of(sampleNotice));
 
-        String redisKey = "notice:view:" + SAMPLE_NOTICE_ID;
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.increment(redisKey, 1L)).thenReturn(4L); // 증가했으니 redis에 3+1 (key,4)
-        when(valueOperations.get(redisKey)).thenReturn(4L);
+        when(viewCountAccumulator.getLiveDelta(SAMPLE_NOTICE_ID)).thenReturn(4L); // 증가 후 미반영 조회수 3+1
 
         // when
         NoticeResponseDTO dto = noticeService.getNotice(SAMPLE_USER_ID, SAMPLE_NOTICE_ID);
 
         // then
         // 메서드 호출 검증
-        verify(memberRepository, times(1)).findById(SAMPLE_USER_ID);
+        verify(memberLookupCache, times(1)).find(SAMPLE_USER_ID);
 
-        // redis opsForValue -> increment -> get 순서로 호출됐는지 확인
-        InOrder inOrder = inOrder(redisTemplate, valueOperations);
-        inOrder.verify(redisTemplate).opsForValue();
-        inOrder.verify(valueOperations).increment(redisKey, 1L);
-        inOrder.verify(valueOperations).get(redisKey);
+        // 조회수 증가 -> 미반영 조회수 조회 순서로 호출됐는지 확인
+        InOrder inOrder = inOrder(viewCountAccumulator);
+        inOrder.verify(viewCountAccumulator).increment(SAMPLE_NOTICE_ID);
+        inOrder.verify(viewCountAccumulator).getLiveDelta(SAMPLE_NOTICE_ID);
 
         // 최종 응답 DTO 검증
         assertThat(dto).isNotNull();
@@ -161,7 +173,7 @@ public class NoticeServiceImpl_getTest {
     void getNotice_memberNotFound() {
         // given
         Long nonExistingUserId = 2L;
-        when(memberRepository.findById(nonExistingUserId)).thenReturn(Optional.empty());
+        when(memberLookupCache.find(nonExistingUserId)).thenReturn(Optional.empty());
 
         // when+then
         assertThatThrownBy(() -> noticeService.getNotice(nonExistingUserId, SAMPLE_NOTICE_ID))
@@ -171,7 +183,7 @@ public class NoticeServiceImpl_getTest {
 
         // 공지는 아예 조회되지 않아야함, redis 도 호출되지 않아야함
         verify(noticeRepository, never()).findWithMemberAndAttachmentsById(anyLong());
-        verify(redisTemplate, never()).opsForValue();
+        verifyNoInteractions(viewCountAccumulator);
 //        verify(noticeRepository, never()).incrementViewCountOnly(anyLong());
     }
 
@@ -180,7 +192,7 @@ public class NoticeServiceImpl_getTest {
     void getNotice_noticeNotFound() {
         // given
         Long NonExistingNoticeId = 101L;
-        when(memberRepository.findById(SAMPLE_USER_ID)).thenReturn(Optional.of(sampleMember));
+        when(memberLookupCache.find(SAMPLE_USER_ID)).thenReturn(Optional.of(MemberSummary.from(sampleMember)));
         when(noticeRepository.findWithMemberAndAttachmentsById(NonExistingNoticeId)).thenReturn(Optional.empty());
 
         // when+then
@@ -190,6 +202,39 @@ public class NoticeServiceImpl_getTest {
                 .isEqualTo(ErrorCode.NOTICE_NOT_FOUND);
 
         // redis 는 아예 호출되지 않아야함
-        verify(redisTemplate, never()).opsForValue();
+        verifyNoInteractions(viewCountAccumulator);
+    }
+
+    @Test
+    @DisplayName("5. 상세 캐시 hit -> 공지 조회 쿼리 없이 캐시값 + redis 누적 조회수 반환")
+    void getNotice_cacheHit_skipsNoticeQuery() {
+        // given
+        when(memberLookupCache.find(SAMPLE_USER_ID)).thenReturn(Optional.of(MemberSummary.from(sampleMember)));
+        NoticeResponseDTO cached = new NoticeResponseDTO(
+                SAMPLE_NOTICE_ID, "캐시된 공지", "캐시된 내용",
+                sampleNotice.getStartAt(), sampleNotice.getEndAt(),
+                sampleNotice.getCreatedAt(), sampleNotice.getUpdatedAt(),
+                5L, null, List.of(), null
+        );
+        when(noticeDetailCache.get(eq(SAMPLE_NOTICE_ID), any())).thenReturn(cached);
+
+        when(viewCountAccumulator.getLiveDelta(SAMPLE_NOTICE_ID)).thenReturn(2L);
+        when(uniqueViewerCounter.count(SAMPLE_NOTICE_ID)).thenReturn(3L);
+
+        // when
+        NoticeResponseDTO dto = noticeService.getNotice(SAMPLE_USER_ID, SAMPLE_NOTICE_ID);
+
+        // then
+        verify(noticeRepository, never()).findWithMemberAndAttachmentsById(anyLong());
+        verify(viewCountAccumulator).increment(SAMPLE_NOTICE_ID);
+        verify(uniqueViewerCounter).record(SAMPLE_NOTICE_ID, SAMPLE_USER_ID); // 조회한 회원 기록
+        verify(noticeReadTracker).markRead(SAMPLE_NOTICE_ID, SAMPLE_USER_ID); // 읽음 처리
+        assertThat(dto.getTitle()).isEqualTo("캐시된 공지");
+        assertThat(dto.getViewCount()).isEqualTo(7L); // 캐시된 DB 조회수 5 + redis 누적값 2
+        assertThat(dto.getUniqueViewerCount()).isEqualTo(3L);
+        assertThat(cached.getUniqueViewerCount()).isNull();
+
+        // 캐시된 객체는 수정되지 않아야 함
+        assertThat(cached.getViewCount()).isEqualTo(5L);
     }
 }
@@ -4,13 +4,16 @@ import com.rsupport.board.common.exception.CustomExceptionHandler;
 import com.rsupport.board.common.exception.ErrorCode;
 import com.rsupport.board.member.domain.entity.Member;
 import com.rsupport.board.member.domain.repository.MemberRepository;
+import com.rsupport.board.member.infra.cache.MemberLookupCache;
+import com.rsupport.board.member.infra.cache.MemberSummary;
 import com.rsupport.board.notice.api.dto.NoticeResponseDTO;
 import com.rsupport.board.notice.api.dto.NoticeUpdateReqDTO;
 import com.rsupport.board.notice.domain.entity.Attachment;
 import com.rsupport.board.notice.domain.entity.Notice;
 import com.rsupport.board.notice.domain.repository.AttachmentRepository;
 import com.rsupport.board.notice.domain.repository.NoticeRepository;
-import com.rsupport.board.notice.infra.FileStorageService;
+import com.rsupport.board.notice.infra.AttachmentUploader;
+import com.rsupport.board.notice.infra.viewcount.ViewCountAccumulator;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,8 +23,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.web.multipart.MultipartFile;
 
 import static org.assertj.core.api.Assertions.*;
@@ -39,6 +43,9 @@ public class NoticeServiceImpl_updateTest {
     @Mock
     MemberRepository memberRepository;
 
+    @Mock
+    MemberLookupCache memberLookupCache;
+
     @Mock
     NoticeRepository noticeRepository;
 
@@ -46,9 +53,12 @@ public class NoticeServiceImpl_updateTest {
     AttachmentRepository attachmentRepository;
 
     @Mock
-    FileStorageService fileStorageService;
-    @Mock private RedisTemplate<String, Long> redisTemplate;
-    @Mock private ValueOperations<String, Long> valueOperations;
+    AttachmentUploader attachmentUploader;
+
+    @Mock
+    TransactionOperations transactionOperations;
+    @Mock private ViewCountAccumulator viewCountAccumulator;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     NoticeServiceImpl noticeService;
@@ -98,6 +108,12 @@ public class NoticeServiceImpl_updateTest {
                 .build();
         sampleNotice.addAttachment(sampleAtt1);
         sampleNotice.addAttachment(sampleAtt2);
+
+        // 트랜잭션은 콜백을 바로 실행 (트랜잭션 전에 끝나는 테스트도 있어서 lenient)
+        lenient().when(transactionOperations.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
     }
 
     @Test
@@ -109,7 +125,6 @@ public class NoticeServiceImpl_updateTest {
 
         // 새로 추가할 파일 세팅
         MultipartFile newFile = mock(MultipartFile.class);
-        when(newFile.isEmpty()).thenReturn(false);
 //        when(newFile.getOriginalFilename()).thenReturn("new-image.jpg");
 
         // 수정 요청 DTO 세팅(제목, 내용, 날짜 범위, removeAttachmentIds, newFiles)
@@ -123,23 +138,20 @@ public class NoticeServiceImpl_updateTest {
         req.setNewFiles(new MultipartFile[]{ newFile });
 
         // 메서드 호출 시 샘플데이터 반환하도록 세팅
-        when(memberRepository.findById(SAMPLE_USER_ID)).thenReturn(Optional.of(sampleMember));
+        when(memberLookupCache.find(SAMPLE_USER_ID)).thenReturn(Optional.of(MemberSummary.from(sampleMember)));
         when(noticeRepository.findWithMemberAndAttachmentsById(SAMPLE_NOTICE_ID)).thenReturn(Optional.of(sampleNotice));
 
-        // fileStorageService.store(...) 호출 시 새로운 Attachment 하나 반환하게 세팅(== new file)
-        when(fileStorageService.store(newFile)).thenAnswer(invocation -> {
-            Attachment a = Attachment.testBuilder()
-                    .id(99L)
-                    .filename("new-image.jpg")
-                    .url("/uploads/new-image.jpg")
-                    .uploadedAt(now)
-                    .build();
-            return a;
-        });
+        // 파일 저장 결과로 새로운 Attachment 하나 반환하게 세팅(== new file)
+        Attachment newAtt = Attachment.testBuilder()
+                .id(99L)
+                .filename("new-image.jpg")
+                .url("/uploads/new-image.jpg")
+                .uploadedAt(now)
+                .build();
+        when(attachmentUploader.storeAll(req.getNewFiles())).thenReturn(List.of(newAtt));
 
-        // redis npe 에러 방지
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(anyString())).thenReturn(0L);  // 조회수 기본값을 리턴
+        // 미반영 조회수 기본값
+        when(viewCountAccumulator.getLiveDelta(anyLong())).thenReturn(0L);
 
         // noticeRepository.save(...) 호출 시 파라미터로 들어온 notice 그대로 반환하게 새팅
         when(noticeRepository.save(any(Notice.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -148,7 +160,7 @@ public class NoticeServiceImpl_updateTest {
         NoticeResponseDTO responseDTO = noticeService.updateNotice(SAMPLE_USER_ID, SAMPLE_NOTICE_ID, req);
 
         // then
-        verify(memberRepository, times(1)).findById(SAMPLE_USER_ID);
+        verify(memberLookupCache, times(1)).find(SAMPLE_USER_ID);
         verify(noticeRepository, times(1)).findWithMemberAndAttachmentsById(SAMPLE_NOTICE_ID);
 
         // 삭제요청한 파일id가 attachmentRepository.deleteAllByIdIn(...) 호출에 포함되었는지 확인
@@ -156,8 +168,8 @@ public class NoticeServiceImpl_updateTest {
         verify(attachmentRepository, times(1)).deleteAllByIdIn(removeCaptor.capture());
         assertThat(removeCaptor.getValue()).containsExactly(11L);
 
-        // fileStorageService.store(newFile) 호출 검증
-        verify(fileStorageService, times(1)).store(newFile);
+        // 새 파일 저장 호출 검증 (트랜잭션 밖에서 한번에)
+        verify(attachmentUploader, times(1)).storeAll(req.getNewFiles());
 
         // noticeRepository.save(...) 호출된 Notice 검증
         ArgumentCaptor<Notice> noticeCaptor = ArgumentCaptor.forClass(Notice.class);
@@ -195,8 +207,8 @@ public class NoticeServiceImpl_updateTest {
         req.setStartAt(now.plusDays(5));
         req.setEndAt(now.plusDays(2));
 
-        when(memberRepository.findById(SAMPLE_USER_ID)).thenReturn(Optional.of(sampleMember));
-        when(noticeRepository.findWithMemberAndAttachmentsById(SAMPLE_NOTICE_ID)).thenReturn(Optional.of(sampleNotice));
+        // 요청 날짜만으로 확인 가능 -> 공지 조회 없이 파일 저장 전에 실패
+        when(memberLookupCache.find(SAMPLE_USER_ID)).thenReturn(Optional.of(MemberSummary.from(sampleMember)));
 
         // when+then
         // 에러코드 확인
@@ -207,7 +219,7 @@ public class NoticeServiceImpl_updateTest {
 
         // 날짜 검증에서 걸리니까 파일삭제, 파일저장, 공지저장은 호출 안 됨
         verify(attachmentRepository, never()).deleteAllByIdIn(anyList());
-        verify(fileStorageService, never()).store(any());
+        verify(attachmentUploader, never()).storeAll(any());
         verify(noticeRepository, never()).save(any());
     }
 
@@ -220,7 +232,7 @@ public class NoticeServiceImpl_updateTest {
         // 존재하지 않는 파일id 삭제 요청 세팅
         req.setRemoveAttachmentIds(List.of(999L));
 
-        when(memberRepository.findById(SAMPLE_USER_ID)).thenReturn(Optional.of(sampleMember));
+        when(memberLookupCache.find(SAMPLE_USER_ID)).thenReturn(Optional.of(MemberSummary.from(sampleMember)));
         when(noticeRepository.findWithMemberAndAttachmentsById(SAMPLE_NOTICE_ID)).thenReturn(Optional.of(sampleNotice));
 
         // when+then
@@ -244,13 +256,13 @@ public class NoticeServiceImpl_updateTest {
         req.setUserId(otherUserId);
 
         // 샘플과 다른 유저를 반환하도록 세팅
-        when(memberRepository.findById(otherUserId)).thenReturn(
-                Optional.of(Member.builder()
+        when(memberLookupCache.find(otherUserId)).thenReturn(
+                Optional.of(MemberSummary.from(Member.builder()
                         .id(999L)
                         .name("타인")
                         .email("other@ex.com")
                         .password("pw")
-                        .build())
+                        .build()))
         );
         when(noticeRepository.findWithMemberAndAttachmentsById(SAMPLE_NOTICE_ID)).thenReturn(Optional.of(sampleNotice));
 
@@ -264,6 +276,8 @@ public class NoticeServiceImpl_updateTest {
         // 삭제/날짜 검증 전에 권한 검사에서 걸림 -> 삭제, 저장 등 호출 안함
         verify(attachmentRepository, never()).deleteAllByIdIn(anyList());
         verify(noticeRepository, never()).save(any());
+        // 트랜잭션 밖에서 먼저 저장한 파일은 삭제(보상)
+        verify(attachmentUploader, times(1)).discard(anyList());
     }
 
     @Test
@@ -274,7 +288,7 @@ public class NoticeServiceImpl_updateTest {
         NoticeUpdateReqDTO req = new NoticeUpdateReqDTO();
         req.setUserId(SAMPLE_USER_ID);
 
-        when(memberRepository.findById(SAMPLE_USER_ID)).thenReturn(Optional.of(sampleMember));
+        when(memberLookupCache.find(SAMPLE_USER_ID)).thenReturn(Optional.of(MemberSummary.from(sampleMember)));
         when(noticeRepository.findWithMemberAndAttachmentsById(nonExistingNoticeId)).thenReturn(Optional.empty());
 
         // when+then
@@ -297,7 +311,7 @@ public class NoticeServiceImpl_updateTest {
         NoticeUpdateReqDTO req = new NoticeUpdateReqDTO();
         req.setUserId(nonExistingUserId);
 
-        when(memberRepository.findById(nonExistingUserId)).thenReturn(Optional.empty());
+        when(memberLookupCache.find(nonExistingUserId)).thenReturn(Optional.empty());
 
         // when+then
         // 에러코드 확인